@@ -1,5 +1,8 @@
 package com.gentics.mesh.etc.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.doc.GenerateDocumentation;
@@ -11,14 +14,71 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_UUID_SIZE_ENV = "MESH_CACHE_UUID_SIZE";
+
+	public static final String MESH_CACHE_PRINCIPAL_SIZE_ENV = "MESH_CACHE_PRINCIPAL_SIZE";
+
+	public static final String MESH_CACHE_LINK_SIZE_ENV = "MESH_CACHE_LINK_SIZE";
+
+	public static final String MESH_CACHE_NAVIGATION_SIZE_ENV = "MESH_CACHE_NAVIGATION_SIZE";
+
+	public static final String MESH_CACHE_RESPONSE_SIZE_ENV = "MESH_CACHE_RESPONSE_SIZE";
+
+	public static final String MESH_CACHE_RESPONSE_EXCLUDED_PROJECTS_ENV = "MESH_CACHE_RESPONSE_EXCLUDED_PROJECTS";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_UUID_CACHE_SIZE = 50_000;
+
+	private static final long DEFAULT_PRINCIPAL_CACHE_SIZE = 10_000;
+
+	private static final long DEFAULT_RESPONSE_CACHE_SIZE = 0;
+
+	private static final long DEFAULT_LINK_CACHE_SIZE = 20_000;
+
+	private static final long DEFAULT_NAVIGATION_CACHE_SIZE = 20_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the cache which maps uuids to record ids. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_UUID_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_UUID_SIZE_ENV, description = "Override the uuid cache size.")
+	private long uuidCacheSize = DEFAULT_UUID_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the cache which holds the principals of authenticated users. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PRINCIPAL_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PRINCIPAL_SIZE_ENV, description = "Override the principal cache size.")
+	private long principalCacheSize = DEFAULT_PRINCIPAL_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the cache which holds rendered node responses. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_RESPONSE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_RESPONSE_SIZE_ENV, description = "Override the response cache size.")
+	private long responseCacheSize = DEFAULT_RESPONSE_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Names of the projects for which responses should not be cached.")
+	@EnvironmentVariable(name = MESH_CACHE_RESPONSE_EXCLUDED_PROJECTS_ENV, description = "Override the projects which are excluded from the response cache.")
+	private List<String> responseCacheExcludedProjects = new ArrayList<>();
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the cache which holds resolved mesh links. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_LINK_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_LINK_SIZE_ENV, description = "Override the link cache size.")
+	private long linkCacheSize = DEFAULT_LINK_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the cache which holds the children of nodes for navigation requests. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NAVIGATION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NAVIGATION_SIZE_ENV, description = "Override the navigation cache size.")
+	private long navigationCacheSize = DEFAULT_NAVIGATION_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +92,60 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getUuidCacheSize() {
+		return uuidCacheSize;
+	}
+
+	public CacheConfig setUuidCacheSize(long uuidCacheSize) {
+		this.uuidCacheSize = uuidCacheSize;
+		return this;
+	}
+
+	public long getPrincipalCacheSize() {
+		return principalCacheSize;
+	}
+
+	public CacheConfig setPrincipalCacheSize(long principalCacheSize) {
+		this.principalCacheSize = principalCacheSize;
+		return this;
+	}
+
+	public long getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
+	public CacheConfig setResponseCacheSize(long responseCacheSize) {
+		this.responseCacheSize = responseCacheSize;
+		return this;
+	}
+
+	public List<String> getResponseCacheExcludedProjects() {
+		return responseCacheExcludedProjects;
+	}
+
+	public CacheConfig setResponseCacheExcludedProjects(List<String> responseCacheExcludedProjects) {
+		this.responseCacheExcludedProjects = responseCacheExcludedProjects;
+		return this;
+	}
+
+	public long getLinkCacheSize() {
+		return linkCacheSize;
+	}
+
+	public CacheConfig setLinkCacheSize(long linkCacheSize) {
+		this.linkCacheSize = linkCacheSize;
+		return this;
+	}
+
+	public long getNavigationCacheSize() {
+		return navigationCacheSize;
+	}
+
+	public CacheConfig setNavigationCacheSize(long navigationCacheSize) {
+		this.navigationCacheSize = navigationCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
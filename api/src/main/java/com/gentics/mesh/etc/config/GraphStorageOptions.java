@@ -24,7 +24,16 @@ public class GraphStorageOptions implements Option {
 	public static final long DEFAULT_SYNC_WRITES_TIMEOUT = 60_000;
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
+	public static final int DEFAULT_TX_RETRY_MAX_DELAY = 1000;
+	public static final long DEFAULT_TX_RETRY_TIME_BUDGET = 0;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
+	public static final int DEFAULT_TX_READ_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+	public static final int DEFAULT_TX_WRITE_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+	public static final int DEFAULT_TX_QUEUE_SIZE = 10_000;
+	public static final int DEFAULT_POOL_MIN_SIZE = 16;
+	public static final int DEFAULT_POOL_MAX_SIZE = 100;
+	public static final long DEFAULT_BACKUP_RATE_LIMIT = 0;
+	public static final int DEFAULT_EXPORT_THREADS = 4;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
@@ -34,7 +43,18 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV = "MESH_GRAPH_SYNC_WRITES_TIMEOUT";
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV = "MESH_GRAPH_TX_RETRY_MAX_DELAY";
+	public static final String MESH_GRAPH_TX_RETRY_TIME_BUDGET_ENV = "MESH_GRAPH_TX_RETRY_TIME_BUDGET";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
+	public static final String MESH_GRAPH_TX_READ_POOL_SIZE_ENV = "MESH_GRAPH_TX_READ_POOL_SIZE";
+	public static final String MESH_GRAPH_TX_WRITE_POOL_SIZE_ENV = "MESH_GRAPH_TX_WRITE_POOL_SIZE";
+	public static final String MESH_GRAPH_TX_QUEUE_SIZE_ENV = "MESH_GRAPH_TX_QUEUE_SIZE";
+	public static final String MESH_GRAPH_POOL_MIN_SIZE_ENV = "MESH_GRAPH_POOL_MIN_SIZE";
+	public static final String MESH_GRAPH_POOL_MAX_SIZE_ENV = "MESH_GRAPH_POOL_MAX_SIZE";
+	public static final String MESH_GRAPH_READ_POOL_MIN_SIZE_ENV = "MESH_GRAPH_READ_POOL_MIN_SIZE";
+	public static final String MESH_GRAPH_READ_POOL_MAX_SIZE_ENV = "MESH_GRAPH_READ_POOL_MAX_SIZE";
+	public static final String MESH_GRAPH_BACKUP_RATE_LIMIT_ENV = "MESH_GRAPH_BACKUP_RATE_LIMIT";
+	public static final String MESH_GRAPH_EXPORT_THREADS_ENV = "MESH_GRAPH_EXPORT_THREADS";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -67,7 +87,7 @@ public class GraphStorageOptions implements Option {
 	private long synchronizeWritesTimeout = DEFAULT_SYNC_WRITES_TIMEOUT;
 
 	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_DELAY + "ms")
-	@JsonPropertyDescription("The delay in milliseconds when a transaction has to be retried.")
+	@JsonPropertyDescription("The base delay in milliseconds when a transaction has to be retried. The delay will be doubled for each retry and randomized.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_DELAY_ENV, description = "Override the transaction retry delay. Default: "
 		+ DEFAULT_TX_RETRY_DELAY)
 	private int txRetryDelay = DEFAULT_TX_RETRY_DELAY;
@@ -78,12 +98,77 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_RETRY_LIMIT)
 	private int txRetryLimit = DEFAULT_TX_RETRY_LIMIT;
 
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_MAX_DELAY + "ms")
+	@JsonPropertyDescription("The maximum delay in milliseconds between two tx retries.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV, description = "Override the maximum transaction retry delay. Default: "
+		+ DEFAULT_TX_RETRY_MAX_DELAY)
+	private int txRetryMaxDelay = DEFAULT_TX_RETRY_MAX_DELAY;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_TIME_BUDGET + "ms")
+	@JsonPropertyDescription("The time budget in milliseconds for tx retries. A transaction will no longer be retried once the budget or the tx retry limit has been exceeded. A value of zero disables the time budget.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_TIME_BUDGET_ENV, description = "Override the transaction retry time budget. Default: "
+		+ DEFAULT_TX_RETRY_TIME_BUDGET)
+	private long txRetryTimeBudget = DEFAULT_TX_RETRY_TIME_BUDGET;
+
 	@JsonProperty(defaultValue = DEFAULT_TX_COMMIT_TIMEOUT + " ms")
 	@JsonPropertyDescription("The transaction commit timeout in milliseconds. A timeout value of zero means that transaction commit operations will never timeout.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV, description = "Override the transaction commit timeout. Default: "
 		+ DEFAULT_TX_COMMIT_TIMEOUT)
 	private long txCommitTimeout = DEFAULT_TX_COMMIT_TIMEOUT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which will be used to execute asynchronous read transactions. Default: amount of CPU cores * 2")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_READ_POOL_SIZE_ENV, description = "Override the transaction read pool size.")
+	private int txReadPoolSize = DEFAULT_TX_READ_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which will be used to execute asynchronous write transactions. Default: amount of CPU cores")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_WRITE_POOL_SIZE_ENV, description = "Override the transaction write pool size.")
+	private int txWritePoolSize = DEFAULT_TX_WRITE_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of transactions which can be queued per transaction pool. Further transactions will be rejected. Default: "
+		+ DEFAULT_TX_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_QUEUE_SIZE_ENV, description = "Override the transaction queue size. Default: "
+		+ DEFAULT_TX_QUEUE_SIZE)
+	private int txQueueSize = DEFAULT_TX_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Minimum amount of database connections of the pool which is used for write transactions. Default: "
+		+ DEFAULT_POOL_MIN_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_POOL_MIN_SIZE_ENV, description = "Override the minimum size of the database connection pool.")
+	private int poolMinSize = DEFAULT_POOL_MIN_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of database connections of the pool which is used for write transactions. Default: "
+		+ DEFAULT_POOL_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_POOL_MAX_SIZE_ENV, description = "Override the maximum size of the database connection pool.")
+	private int poolMaxSize = DEFAULT_POOL_MAX_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Minimum amount of database connections of the pool which is used for read-only transactions. Default: "
+		+ DEFAULT_POOL_MIN_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_READ_POOL_MIN_SIZE_ENV, description = "Override the minimum size of the read database connection pool.")
+	private int readPoolMinSize = DEFAULT_POOL_MIN_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of database connections of the pool which is used for read-only transactions. Default: "
+		+ DEFAULT_POOL_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_READ_POOL_MAX_SIZE_ENV, description = "Override the maximum size of the read database connection pool.")
+	private int readPoolMaxSize = DEFAULT_POOL_MAX_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of bytes per second which will be written when creating a full backup. Incremental backups are written by the database itself and are not limited. A value of zero disables the limit. Default: "
+		+ DEFAULT_BACKUP_RATE_LIMIT)
+	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_RATE_LIMIT_ENV, description = "Override the backup rate limit.")
+	private long backupRateLimit = DEFAULT_BACKUP_RATE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which will be used to export and import the clusters of the graph database in parallel. Default: "
+		+ DEFAULT_EXPORT_THREADS)
+	@EnvironmentVariable(name = MESH_GRAPH_EXPORT_THREADS_ENV, description = "Override the amount of graph export and import threads.")
+	private int exportThreads = DEFAULT_EXPORT_THREADS;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -182,6 +267,24 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxRetryMaxDelay() {
+		return txRetryMaxDelay;
+	}
+
+	public GraphStorageOptions setTxRetryMaxDelay(int txRetryMaxDelay) {
+		this.txRetryMaxDelay = txRetryMaxDelay;
+		return this;
+	}
+
+	public long getTxRetryTimeBudget() {
+		return txRetryTimeBudget;
+	}
+
+	public GraphStorageOptions setTxRetryTimeBudget(long txRetryTimeBudget) {
+		this.txRetryTimeBudget = txRetryTimeBudget;
+		return this;
+	}
+
 	public long getTxCommitTimeout() {
 		return this.txCommitTimeout;
 	}
@@ -191,10 +294,107 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxReadPoolSize() {
+		return txReadPoolSize;
+	}
+
+	public GraphStorageOptions setTxReadPoolSize(int txReadPoolSize) {
+		this.txReadPoolSize = txReadPoolSize;
+		return this;
+	}
+
+	public int getTxWritePoolSize() {
+		return txWritePoolSize;
+	}
+
+	public GraphStorageOptions setTxWritePoolSize(int txWritePoolSize) {
+		this.txWritePoolSize = txWritePoolSize;
+		return this;
+	}
+
+	public int getTxQueueSize() {
+		return txQueueSize;
+	}
+
+	public GraphStorageOptions setTxQueueSize(int txQueueSize) {
+		this.txQueueSize = txQueueSize;
+		return this;
+	}
+
+	public int getPoolMinSize() {
+		return poolMinSize;
+	}
+
+	public GraphStorageOptions setPoolMinSize(int poolMinSize) {
+		this.poolMinSize = poolMinSize;
+		return this;
+	}
+
+	public int getPoolMaxSize() {
+		return poolMaxSize;
+	}
+
+	public GraphStorageOptions setPoolMaxSize(int poolMaxSize) {
+		this.poolMaxSize = poolMaxSize;
+		return this;
+	}
+
+	public int getReadPoolMinSize() {
+		return readPoolMinSize;
+	}
+
+	public GraphStorageOptions setReadPoolMinSize(int readPoolMinSize) {
+		this.readPoolMinSize = readPoolMinSize;
+		return this;
+	}
+
+	public int getReadPoolMaxSize() {
+		return readPoolMaxSize;
+	}
+
+	public GraphStorageOptions setReadPoolMaxSize(int readPoolMaxSize) {
+		this.readPoolMaxSize = readPoolMaxSize;
+		return this;
+	}
+
+	public long getBackupRateLimit() {
+		return backupRateLimit;
+	}
+
+	public GraphStorageOptions setBackupRateLimit(long backupRateLimit) {
+		this.backupRateLimit = backupRateLimit;
+		return this;
+	}
+
+	public int getExportThreads() {
+		return exportThreads;
+	}
+
+	public GraphStorageOptions setExportThreads(int exportThreads) {
+		this.exportThreads = exportThreads;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
 		}
+		if (getTxReadPoolSize() < 1 || getTxWritePoolSize() < 1) {
+			throw new IllegalArgumentException("The transaction pool sizes must be greater than zero.");
+		}
+		if (getTxQueueSize() < 1) {
+			throw new IllegalArgumentException("The transaction queue size must be greater than zero.");
+		}
+		if (getPoolMinSize() < 0 || getPoolMaxSize() < 1 || getPoolMinSize() > getPoolMaxSize()) {
+			throw new IllegalArgumentException("The database connection pool maximum size must be greater than zero and not smaller than the minimum size.");
+		}
+		if (getReadPoolMinSize() < 0 || getReadPoolMaxSize() < 1 || getReadPoolMinSize() > getReadPoolMaxSize()) {
+			throw new IllegalArgumentException(
+				"The read database connection pool maximum size must be greater than zero and not smaller than the minimum size.");
+		}
+		if (getExportThreads() < 1) {
+			throw new IllegalArgumentException("The amount of export threads must be greater than zero.");
+		}
 	}
 }
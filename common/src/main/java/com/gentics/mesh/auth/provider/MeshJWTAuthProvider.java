@@ -3,6 +3,7 @@ package com.gentics.mesh.auth.provider;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 
 import javax.inject.Inject;
@@ -14,6 +15,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.auth.AuthenticationResult;
+import com.gentics.mesh.cache.CachedPrincipal;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
@@ -53,6 +56,8 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 
 	private static final String API_KEY_TOKEN_CODE_FIELD_NAME = "jti";
 
+	private static final String ISSUED_AT_FIELD_NAME = "iat";
+
 	protected Database db;
 
 	private BCryptPasswordEncoder passwordEncoder;
@@ -61,12 +66,16 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 
 	private final MeshOptions meshOptions;
 
+	private final PrincipalCache principalCache;
+
 	@Inject
-	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot) {
+	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot,
+		PrincipalCache principalCache) {
 		this.meshOptions = meshOptions;
 		this.passwordEncoder = passwordEncoder;
 		this.db = database;
 		this.boot = boot;
+		this.principalCache = principalCache;
 
 		// Use the mesh JWT options in order to setup the JWTAuth provider
 		AuthenticationOptions options = meshOptions.getAuthenticationOptions();
@@ -260,8 +269,16 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	 * @throws Exception
 	 */
 	private User loadUserByJWT(JsonObject jwt) throws Exception {
+		String userUuid = jwt.getString(USERID_FIELD_NAME);
+		String tokenId = getTokenId(jwt);
+
+		// The principal of a previously authenticated token can be used without loading the user
+		CachedPrincipal principal = principalCache.getPrincipal(userUuid, tokenId);
+		if (principal != null) {
+			return boot.userRoot().frameMeshAuthUser(principal.getUserId(), userUuid);
+		}
+
 		try (Tx tx = db.tx()) {
-			String userUuid = jwt.getString(USERID_FIELD_NAME);
 			MeshAuthUser user = boot.userRoot().findMeshAuthUserByUuid(userUuid);
 			if (user == null) {
 				if (log.isDebugEnabled()) {
@@ -291,10 +308,26 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 				}
 			}
 
+			principalCache.store(userUuid, tokenId, new CachedPrincipal(user.id()));
 			return user;
 		}
 	}
 
+	/**
+	 * Return the id of the token. API keys are identified by their token code. Other tokens are identified by their issue timestamp.
+	 *
+	 * @param jwt
+	 *            Decoded JWT
+	 * @return Token id
+	 */
+	private String getTokenId(JsonObject jwt) {
+		String tokenCode = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
+		if (tokenCode != null) {
+			return tokenCode;
+		}
+		return String.valueOf(jwt.getValue(ISSUED_AT_FIELD_NAME));
+	}
+
 	/**
 	 * Handle the login action and set a token cookie if the credentials are valid.
 	 *
@@ -312,7 +345,7 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 			} else {
 				ac.addCookie(Cookie.cookie(MeshJWTAuthProvider.TOKEN_COOKIE_KEY, rh.result())
 					.setMaxAge(meshOptions.getAuthenticationOptions().getTokenExpirationTime()).setPath("/"));
-				ac.send(new TokenResponse(rh.result()).toJson());
+				ac.send(new TokenResponse(rh.result()), OK);
 			}
 		});
 	}
@@ -0,0 +1,61 @@
+package com.gentics.mesh.cache;
+
+import java.util.Set;
+
+/**
+ * Entry of the {@link LinkCache} which contains a rendered link and the uuids of the elements which the link depends upon.
+ */
+public final class CachedLink {
+
+	private final String link;
+
+	private final String projectUuid;
+
+	private final String branchUuid;
+
+	private final Set<String> nodeUuids;
+
+	public CachedLink(String link, String projectUuid, String branchUuid, Set<String> nodeUuids) {
+		this.link = link;
+		this.projectUuid = projectUuid;
+		this.branchUuid = branchUuid;
+		this.nodeUuids = nodeUuids;
+	}
+
+	/**
+	 * Return the rendered link.
+	 *
+	 * @return
+	 */
+	public String getLink() {
+		return link;
+	}
+
+	/**
+	 * Return the uuid of the project of the linked node.
+	 *
+	 * @return
+	 */
+	public String getProjectUuid() {
+		return projectUuid;
+	}
+
+	/**
+	 * Return the uuid of the branch which was used to render the link.
+	 *
+	 * @return
+	 */
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	/**
+	 * Return the uuids of the linked node and its ancestors.
+	 *
+	 * @return
+	 */
+	public Set<String> getNodeUuids() {
+		return nodeUuids;
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Child of a node which is stored in the {@link NavigationTreeCache}.
+ */
+public final class CachedNavigationChild {
+
+	private final Object id;
+
+	private final String uuid;
+
+	private final boolean container;
+
+	public CachedNavigationChild(Object id, String uuid, boolean container) {
+		this.id = id;
+		this.uuid = uuid;
+		this.container = container;
+	}
+
+	/**
+	 * Return the id of the vertex of the child node.
+	 *
+	 * @return
+	 */
+	public Object getId() {
+		return id;
+	}
+
+	/**
+	 * Return the uuid of the child node.
+	 *
+	 * @return
+	 */
+	public String getUuid() {
+		return uuid;
+	}
+
+	/**
+	 * Return whether the schema of the child node is a container schema.
+	 *
+	 * @return
+	 */
+	public boolean isContainer() {
+		return container;
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.gentics.mesh.cache;
+
+import java.util.List;
+
+/**
+ * Entry of the {@link NavigationTreeCache} which contains the ordered children of a node in a branch.
+ */
+public final class CachedNavigationChildren {
+
+	private final String projectUuid;
+
+	private final String branchUuid;
+
+	private final String parentUuid;
+
+	private final List<CachedNavigationChild> children;
+
+	public CachedNavigationChildren(String projectUuid, String branchUuid, String parentUuid, List<CachedNavigationChild> children) {
+		this.projectUuid = projectUuid;
+		this.branchUuid = branchUuid;
+		this.parentUuid = parentUuid;
+		this.children = children;
+	}
+
+	public String getProjectUuid() {
+		return projectUuid;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	public String getParentUuid() {
+		return parentUuid;
+	}
+
+	public List<CachedNavigationChild> getChildren() {
+		return children;
+	}
+
+}
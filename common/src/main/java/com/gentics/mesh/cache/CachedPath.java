@@ -0,0 +1,72 @@
+package com.gentics.mesh.cache;
+
+import java.util.Set;
+
+import com.gentics.mesh.path.Path;
+
+/**
+ * Entry of the {@link WebrootPathCache}. The entry contains the resolved path and the uuids of the elements which the path depends upon.
+ */
+public final class CachedPath {
+
+	private final Path path;
+
+	private final String projectUuid;
+
+	private final String branchUuid;
+
+	private final Set<String> nodeUuids;
+
+	public CachedPath(Path path, String projectUuid, String branchUuid, Set<String> nodeUuids) {
+		this.path = path;
+		this.projectUuid = projectUuid;
+		this.branchUuid = branchUuid;
+		this.nodeUuids = nodeUuids;
+	}
+
+	/**
+	 * Return the cached path.
+	 *
+	 * @return
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Return the uuid of the project for which the path was resolved.
+	 *
+	 * @return
+	 */
+	public String getProjectUuid() {
+		return projectUuid;
+	}
+
+	/**
+	 * Return the uuid of the branch for which the path was resolved.
+	 *
+	 * @return
+	 */
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	/**
+	 * Return the uuids of the nodes which provide the segments of the path.
+	 *
+	 * @return
+	 */
+	public Set<String> getNodeUuids() {
+		return nodeUuids;
+	}
+
+	/**
+	 * Check whether the path was fully resolved. Paths which could not be resolved may become resolvable by any change within the branch.
+	 *
+	 * @return
+	 */
+	public boolean isResolved() {
+		return path.isFullyResolved() && !path.isPrefixMismatch();
+	}
+
+}
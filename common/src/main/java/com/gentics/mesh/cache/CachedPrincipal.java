@@ -0,0 +1,23 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Entry of the {@link PrincipalCache} which contains the resolved information of an authenticated user.
+ */
+public final class CachedPrincipal {
+
+	private final Object userId;
+
+	public CachedPrincipal(Object userId) {
+		this.userId = userId;
+	}
+
+	/**
+	 * Return the vertex id of the user.
+	 * 
+	 * @return
+	 */
+	public Object getUserId() {
+		return userId;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.gentics.mesh.cache;
+
+import java.util.Collections;
+import java.util.Map;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Entry of the {@link ResponseCache} which contains the serialized body of a rendered response.
+ */
+public final class CachedResponse {
+
+	private final Buffer body;
+
+	private final String contentType;
+
+	private final String etag;
+
+	private final Map<String, String> headers;
+
+	public CachedResponse(Buffer body, String contentType, String etag) {
+		this(body, contentType, etag, Collections.emptyMap());
+	}
+
+	public CachedResponse(Buffer body, String contentType, String etag, Map<String, String> headers) {
+		this.body = body;
+		this.contentType = contentType;
+		this.etag = etag;
+		this.headers = headers;
+	}
+
+	/**
+	 * Return the serialized response body.
+	 * 
+	 * @return
+	 */
+	public Buffer getBody() {
+		return body;
+	}
+
+	/**
+	 * Return the content type of the serialized response body.
+	 * 
+	 * @return
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Return the weak etag of the response.
+	 * 
+	 * @return Etag or null if no etag was generated for the response
+	 */
+	public String getEtag() {
+		return etag;
+	}
+
+	/**
+	 * Return additional headers which need to be set when sending the response.
+	 * 
+	 * @return
+	 */
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.gentics.mesh.cache;
 
+import java.util.Collection;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -26,6 +28,21 @@ public interface EventAwareCache<K, V> {
 	 */
 	void invalidate(K key);
 
+	/**
+	 * Invalidate all cache entries with keys that match the predicate.
+	 * 
+	 * @param predicate
+	 */
+	void invalidate(Predicate<K> predicate);
+
+	/**
+	 * Invalidate all cache entries which were stored with the given dependency. The entries are looked up via an index and the cache will not be scanned.
+	 * 
+	 * @param dependency
+	 * @return Amount of invalidated entries
+	 */
+	long invalidateDependents(String dependency);
+
 	/**
 	 * Add the given entry to the cache.
 	 * 
@@ -34,6 +51,17 @@ public interface EventAwareCache<K, V> {
 	 */
 	void put(K key, V value);
 
+	/**
+	 * Add the given entry to the cache. The entry will be invalidated when any of the dependencies gets invalidated via
+	 * {@link #invalidateDependents(String)}.
+	 * 
+	 * @param key
+	 * @param value
+	 * @param dependencies
+	 *            Dependencies of the entry (e.g. uuids of the elements which were used to compute the value)
+	 */
+	void put(K key, V value, Collection<String> dependencies);
+
 	/**
 	 * Load the value from the cache.
 	 * 
@@ -0,0 +1,36 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for links which were rendered by the link replacer. Entries are tagged with the uuids of the linked node and its ancestors and will be
+ * invalidated when one of these nodes is changed.
+ */
+public interface LinkCache extends MeshCache<String, CachedLink> {
+
+	/**
+	 * Return the cached link.
+	 * 
+	 * @param key
+	 * @return Rendered link or null if the link has not been cached
+	 */
+	String getLink(String key);
+
+	/**
+	 * Return the current generation of the cache. The generation is incremented by every invalidating event and needs to be loaded before the link is
+	 * rendered.
+	 * 
+	 * @return
+	 */
+	long getGeneration();
+
+	/**
+	 * Store the rendered link in the cache. The link will not be stored if the generation changed since the link was rendered, since the link may
+	 * already be outdated.
+	 * 
+	 * @param key
+	 * @param generation
+	 *            Generation which was loaded before the link was rendered
+	 * @param link
+	 */
+	void store(String key, long generation, CachedLink link);
+
+}
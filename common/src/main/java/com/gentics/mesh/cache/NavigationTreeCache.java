@@ -0,0 +1,30 @@
+package com.gentics.mesh.cache;
+
+import java.util.List;
+
+/**
+ * Cache for the tree structure which is used to build navigation responses. The cache holds the ordered children of nodes per branch. Permissions are not
+ * part of the entries and must be checked when reading the children.
+ */
+public interface NavigationTreeCache extends MeshCache<String, CachedNavigationChildren> {
+
+	/**
+	 * Return the cached children of the node.
+	 * 
+	 * @param branchUuid
+	 * @param parentUuid
+	 * @return Children or null if the children have not been cached
+	 */
+	List<CachedNavigationChild> getChildren(String branchUuid, String parentUuid);
+
+	/**
+	 * Store the children of the node in the cache.
+	 * 
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param parentUuid
+	 * @param children
+	 */
+	void store(String projectUuid, String branchUuid, String parentUuid, List<CachedNavigationChild> children);
+
+}
@@ -2,34 +2,62 @@ package com.gentics.mesh.cache;
 
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 
-public interface PermissionCache extends MeshCache<String, Boolean> {
+public interface PermissionCache extends MeshCache<PermissionCacheKey, Boolean> {
 
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
-	 * 
+	 *
 	 * @param notify
 	 */
 	void clear(boolean notify);
 
 	/**
-	 * Check whether the element with the given id has the permission.
-	 * 
+	 * Return the cached result of the permission check.
+	 *
 	 * @param userId
 	 *            User id
 	 * @param permission
 	 * @param elementId
-	 * @return
+	 * @return Cached result or null if the result is not cached
 	 */
-	boolean hasPermission(Object userId, GraphPermission permission, Object elementId);
+	Boolean getPermission(Object userId, GraphPermission permission, Object elementId);
 
 	/**
-	 * Store the granting permission in the perm store.
-	 * 
+	 * Create the key for the permission check. The key contains the current generations of the user and the element. Keys should be created before the
+	 * permission is evaluated so that results which were evaluated while the permissions were changed will not be found.
+	 *
 	 * @param userId
 	 *            User id
 	 * @param permission
 	 * @param elementId
+	 * @return
+	 */
+	PermissionCacheKey createKey(Object userId, GraphPermission permission, Object elementId);
+
+	/**
+	 * Store the result of the permission check in the perm store. Granting and denying results are stored.
+	 *
+	 * @param key
+	 *            Key which was created before the permission was evaluated
+	 * @param granted
+	 */
+	void store(PermissionCacheKey key, boolean granted);
+
+	/**
+	 * Invalidate the stored permissions of the given users. This needs to be done whenever the roles of the users change. Other instances will be informed
+	 * as well. When invoked within a write transaction the permissions will be invalidated again once the transaction completes.
+	 *
+	 * @param userIds
+	 */
+	void invalidateUsers(Object... userIds);
+
+	/**
+	 * Invalidate the stored permissions on the given elements. This needs to be done whenever permissions on the elements are granted or revoked. Other
+	 * instances will be informed as well. When invoked within a write transaction the permissions will be invalidated again once the transaction
+	 * completes.
+	 *
+	 * @param elementIds
 	 */
-	void store(Object userId, GraphPermission permission, Object elementId);
+	void invalidateElements(Object... elementIds);
 
 }
@@ -0,0 +1,66 @@
+package com.gentics.mesh.cache;
+
+import java.util.Objects;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+
+/**
+ * Key for entries of the {@link PermissionCache}. The key contains the generations of the user and the element which were current when the entry was
+ * stored. Incrementing either generation makes the entry unreachable without the need to remove it from the cache.
+ */
+public final class PermissionCacheKey {
+
+	private final Object userId;
+
+	private final GraphPermission permission;
+
+	private final Object elementId;
+
+	private final long userGeneration;
+
+	private final long elementGeneration;
+
+	private final int hash;
+
+	public PermissionCacheKey(Object userId, GraphPermission permission, Object elementId, long userGeneration, long elementGeneration) {
+		this.userId = userId;
+		this.permission = permission;
+		this.elementId = elementId;
+		this.userGeneration = userGeneration;
+		this.elementGeneration = elementGeneration;
+		int h = userId.hashCode();
+		h = 31 * h + permission.ordinal();
+		h = 31 * h + elementId.hashCode();
+		h = 31 * h + Long.hashCode(userGeneration);
+		h = 31 * h + Long.hashCode(elementGeneration);
+		this.hash = h;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PermissionCacheKey)) {
+			return false;
+		}
+		PermissionCacheKey other = (PermissionCacheKey) obj;
+		return hash == other.hash
+			&& permission == other.permission
+			&& userGeneration == other.userGeneration
+			&& elementGeneration == other.elementGeneration
+			&& Objects.equals(userId, other.userId)
+			&& Objects.equals(elementId, other.elementId);
+	}
+
+	@Override
+	public String toString() {
+		return userId + "-" + permission.ordinal() + "-" + elementId + "@" + userGeneration + "/" + elementGeneration;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for the principals of authenticated users. The entries are keyed by the user uuid and the id of the token which was used to authenticate the
+ * user.
+ */
+public interface PrincipalCache extends MeshCache<String, CachedPrincipal> {
+
+	/**
+	 * Return the cached principal.
+	 * 
+	 * @param userUuid
+	 * @param tokenId
+	 *            Id of the token which was used for authentication
+	 * @return Cached principal or null if the principal is not cached
+	 */
+	CachedPrincipal getPrincipal(String userUuid, String tokenId);
+
+	/**
+	 * Store the principal in the cache.
+	 * 
+	 * @param userUuid
+	 * @param tokenId
+	 *            Id of the token which was used for authentication
+	 * @param principal
+	 */
+	void store(String userUuid, String tokenId, CachedPrincipal principal);
+
+	/**
+	 * Invalidate the cached principals of the user. Other instances will be informed as well. This needs to be done for changes which are not covered by
+	 * user events (e.g. changes of the API key).
+	 * 
+	 * @param userUuid
+	 */
+	void invalidateUser(String userUuid);
+
+}
@@ -0,0 +1,50 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.context.InternalActionContext;
+
+/**
+ * Cache for serialized node responses. The key of an entry contains all inputs of the response (element, branch, query parameters) and the roles hash
+ * of the requesting user. Thus users with the same roles will share the cached responses.
+ */
+public interface ResponseCache extends MeshCache<String, CachedResponse> {
+
+	/**
+	 * Check whether responses for the request may be cached. This method needs to be invoked within a transaction.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	boolean isCacheable(InternalActionContext ac);
+
+	/**
+	 * Create the cache key for the request. This method needs to be invoked within a transaction.
+	 * 
+	 * @param ac
+	 * @param scope
+	 *            Scope of the request (e.g. node, children, webroot)
+	 * @param id
+	 *            Identifier of the requested element (e.g. uuid or path)
+	 * @return
+	 */
+	String createKey(InternalActionContext ac, String scope, String id);
+
+	/**
+	 * Return the current generation of the responses of the project of the request. The generation needs to be loaded before the response is rendered.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	long getGeneration(InternalActionContext ac);
+
+	/**
+	 * Store the response in the cache. The response will not be stored if elements of the project were changed since the generation was loaded.
+	 * 
+	 * @param ac
+	 * @param key
+	 * @param generation
+	 *            Generation which was loaded before the response was rendered
+	 * @param response
+	 */
+	void store(InternalActionContext ac, String key, long generation, CachedResponse response);
+
+}
@@ -0,0 +1,24 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache which maps the uuid of a vertex to the record id of the vertex. The uuid of a vertex never changes and thus the entries only need to be removed
+ * once the vertex gets deleted.
+ */
+public interface UuidRecordIdCache extends MeshCache<String, Object> {
+
+	/**
+	 * Store the record id for the uuid.
+	 * 
+	 * @param uuid
+	 * @param recordId
+	 */
+	void store(String uuid, Object recordId);
+
+	/**
+	 * Remove the entry for the uuid. Stale entries must be invalidated by the caller.
+	 * 
+	 * @param uuid
+	 */
+	void invalidate(String uuid);
+
+}
@@ -5,7 +5,11 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.path.Path;
 
-public interface WebrootPathCache extends MeshCache<String, Path> {
+/**
+ * Cache for resolved webroot paths. Entries are tagged with the project, branch and node uuids of the path and will only be invalidated when one of these
+ * elements is affected by a change.
+ */
+public interface WebrootPathCache extends MeshCache<String, CachedPath> {
 
 	/**
 	 * Store a path in the cache.
@@ -2,11 +2,17 @@ package com.gentics.mesh.cache.impl;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.core.rest.MeshEvent;
@@ -14,11 +20,12 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
 import io.micrometer.core.instrument.Counter;
 import io.reactivex.Observable;
-import io.reactivex.functions.Predicate;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
@@ -33,6 +40,16 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	private final Cache<K, V> cache;
 
+	/**
+	 * Index of the keys of the entries which were stored with a dependency.
+	 */
+	private final Map<String, Set<K>> dependents = new ConcurrentHashMap<>();
+
+	/**
+	 * Dependencies of the stored entries.
+	 */
+	private final Map<K, Dependencies<V>> dependencies = new ConcurrentHashMap<>();
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
@@ -57,7 +74,19 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		// The writer is invoked atomically whenever an entry is removed. This keeps the dependency index in sync with evicted and expired entries.
+		this.cache = cacheBuilder.writer(new CacheWriter<K, V>() {
+			@Override
+			public void write(K key, V value) {
+			}
+
+			@Override
+			public void delete(K key, V value, RemovalCause cause) {
+				if (cause != RemovalCause.REPLACED) {
+					unregister(key, value);
+				}
+			}
+		}).build();
 		this.filter = filter;
 		this.onNext = onNext;
 		registerEventHandlers(events);
@@ -74,7 +103,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		EventBus eb = vertx.eventBus();
 		Observable<Message<JsonObject>> o = rxEventBus(eb, events);
 		if (filter != null) {
-			o = o.filter(filter);
+			o = o.filter(filter::test);
 		}
 
 		o.subscribe(event -> {
@@ -128,14 +157,103 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		cache.invalidate(key);
 	}
 
+	@Override
+	public void invalidate(Predicate<K> predicate) {
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating entries which match the predicate");
+		}
+		boolean removed = cache.asMap().keySet().removeIf(predicate);
+		if (removed && options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment();
+		}
+	}
+
+	@Override
+	public long invalidateDependents(String dependency) {
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating entries which depend on {" + dependency + "}");
+		}
+		Set<K> keys = dependents.remove(dependency);
+		if (keys == null) {
+			return 0;
+		}
+		long removed = 0;
+		for (K key : keys) {
+			if (cache.asMap().remove(key) != null) {
+				removed++;
+			}
+		}
+		if (removed > 0 && options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment(removed);
+		}
+		return removed;
+	}
+
 	@Override
 	public void put(K key, V value) {
+		put(key, value, Collections.emptySet());
+	}
+
+	@Override
+	public void put(K key, V value, Collection<String> keyDependencies) {
 		if (disabled) {
 			return;
 		}
+		Dependencies<V> previous;
+		if (keyDependencies.isEmpty()) {
+			previous = dependencies.remove(key);
+		} else {
+			for (String dependency : keyDependencies) {
+				dependents.compute(dependency, (d, keys) -> {
+					if (keys == null) {
+						keys = ConcurrentHashMap.newKeySet();
+					}
+					keys.add(key);
+					return keys;
+				});
+			}
+			previous = dependencies.put(key, new Dependencies<>(value, keyDependencies));
+		}
+		if (previous != null) {
+			unlink(key, previous.dependencies, keyDependencies);
+		}
 		cache.put(key, value);
 	}
 
+	/**
+	 * Remove the dependencies of the removed entry from the index.
+	 *
+	 * @param key
+	 * @param value
+	 *            Removed value. The dependencies of another value which was stored for the key in the meantime are kept.
+	 */
+	private void unregister(K key, V value) {
+		Dependencies<V> removed = dependencies.get(key);
+		if (removed != null && removed.value == value && dependencies.remove(key, removed)) {
+			unlink(key, removed.dependencies, Collections.emptySet());
+		}
+	}
+
+	/**
+	 * Remove the key from the index of the given dependencies.
+	 *
+	 * @param key
+	 * @param removedDependencies
+	 * @param keptDependencies
+	 *            Dependencies which are still valid for the key
+	 */
+	private void unlink(K key, Collection<String> removedDependencies, Collection<String> keptDependencies) {
+		for (String dependency : removedDependencies) {
+			if (keptDependencies.contains(dependency)) {
+				continue;
+			}
+			dependents.computeIfPresent(dependency, (d, keys) -> {
+				keys.remove(key);
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+	}
+
 	@Override
 	public V get(K key) {
 		if (disabled) {
@@ -176,6 +294,21 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		}
 	}
 
+	/**
+	 * Dependencies of a stored value.
+	 */
+	private static class Dependencies<V> {
+
+		private final V value;
+
+		private final Collection<String> dependencies;
+
+		Dependencies(V value, Collection<String> dependencies) {
+			this.value = value;
+			this.dependencies = dependencies;
+		}
+	}
+
 	public static class Builder<K, V> {
 		private boolean disabled = false;
 
@@ -2,14 +2,18 @@ package com.gentics.mesh.context;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.json.JsonFormat;
+import com.gentics.mesh.json.JsonUtil;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 
 /**
  * Abstract class for internal action context.
@@ -25,7 +29,7 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public void send(RestModel restModel, HttpResponseStatus status) {
-		send(restModel.toJson(), status);
+		send(toBuffer(restModel), status, getResponseFormat().getContentType());
 	}
 
 	@Override
@@ -61,6 +65,11 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 		if (bodyModel != null) {
 			return (T) bodyModel;
 		}
+		JsonFormat format = getRequestFormat();
+		if (format.isBinary()) {
+			Buffer body = getBody();
+			return (T) JsonUtil.readValue(body == null ? new byte[0] : body.getBytes(), classOfT, format);
+		}
 		return super.fromJson(classOfT);
 	}
 
@@ -10,6 +10,8 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.handler.VersionHandler;
+import com.gentics.mesh.json.JsonFormat;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ParameterProviderContext;
 import com.gentics.mesh.router.route.SecurityLoggingHandler;
 
@@ -17,6 +19,8 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.spi.logging.LogDelegate;
 import io.vertx.ext.web.Cookie;
 import io.vertx.ext.web.FileUpload;
@@ -104,6 +108,37 @@ public interface InternalActionContext extends ActionContext, ParameterProviderC
 	 */
 	MultiMap requestHeaders();
 
+	/**
+	 * Return the format of the request body which is specified by the <code>Content-Type</code> header.
+	 * 
+	 * @return Format of the request body or {@link JsonFormat#JSON} if no other format was specified
+	 */
+	default JsonFormat getRequestFormat() {
+		MultiMap headers = requestHeaders();
+		JsonFormat format = headers == null ? null : JsonFormat.fromContentType(headers.get(HttpHeaders.CONTENT_TYPE));
+		return format == null ? JsonFormat.JSON : format;
+	}
+
+	/**
+	 * Return the format which should be used for responses. The format is negotiated using the <code>Accept</code> header.
+	 * 
+	 * @return
+	 */
+	default JsonFormat getResponseFormat() {
+		MultiMap headers = requestHeaders();
+		return headers == null ? JsonFormat.JSON : JsonFormat.fromAcceptHeader(headers.get(HttpHeaders.ACCEPT));
+	}
+
+	/**
+	 * Serialize the given model into a buffer using the negotiated response format.
+	 * 
+	 * @param model
+	 * @return
+	 */
+	default Buffer toBuffer(RestModel model) {
+		return JsonUtil.toBuffer(model, getResponseFormat(), !getGenericParameters().getPretty());
+	}
+
 	/**
 	 * Adds a cookie to the response.
 	 * 
@@ -17,11 +17,14 @@ import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.http.MeshHeaders;
+import com.gentics.mesh.json.JsonFormat;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.router.ProjectsRouter;
 import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
@@ -79,6 +82,15 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 
 	@Override
 	public void send(String body, HttpResponseStatus status, String contentType) {
+		prepareResponse(status, contentType).end(body);
+	}
+
+	@Override
+	public void send(Buffer body, HttpResponseStatus status, String contentType) {
+		prepareResponse(status, contentType).end(body);
+	}
+
+	private HttpServerResponse prepareResponse(HttpResponseStatus status, String contentType) {
 		HttpServerResponse response = rc.response();
 		response.putHeader(CONTENT_TYPE, contentType);
 
@@ -86,7 +98,7 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		if (!response.headers().contains(CACHE_CONTROL)) {
 			response.putHeader(CACHE_CONTROL, "no-cache");
 		}
-		response.setStatusCode(status.code()).end(body);
+		return response.setStatusCode(status.code());
 	}
 
 	@Override
@@ -140,9 +152,19 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 
 	@Override
 	public String getBodyAsString() {
+		// Handlers which read the body as string always expect JSON
+		JsonFormat format = getRequestFormat();
+		if (format.isBinary()) {
+			return JsonUtil.toJson(rc.getBody().getBytes(), format);
+		}
 		return rc.getBodyAsString();
 	}
 
+	@Override
+	public Buffer getBody() {
+		return rc.getBody();
+	}
+
 	@Override
 	public Locale getLocale() {
 		return (Locale) data().computeIfAbsent(LOCALE_MAP_DATA_KEY, map -> {
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data;
 
+import java.util.Collections;
 import java.util.Set;
 
 import com.gentics.mesh.context.BulkActionContext;
@@ -52,6 +53,24 @@ public interface MeshVertex extends MeshElement, VertexFrame {
 	void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
 		Set<GraphPermission> permissionsToRevoke);
 
+	/**
+	 * Return the elements to which the permissions are applied as well when permissions are applied recursively to this element.
+	 * 
+	 * @return
+	 */
+	default Iterable<? extends MeshVertex> getPermissionChildren() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Check whether the permissions should also be applied recursively to the elements of {@link #getPermissionChildren()}.
+	 * 
+	 * @return
+	 */
+	default boolean isPermissionChildrenRecursive() {
+		return true;
+	}
+
 	/**
 	 * Tests if the {@link GraphPermission}s READ_PUBLISHED_PERM and READ_PUBLISHED can be set for this element.
 	 * @return
@@ -97,4 +97,19 @@ public interface Role extends MeshCoreVertex<RoleResponse, Role>, ReferenceableE
 	 */
 	boolean hasPermission(GraphPermission permission, MeshVertex element);
 
+	/**
+	 * Return the ordinal of the role. The ordinal is unique across all roles and is used as the bit index within the permission bitmaps.
+	 * 
+	 * @return Ordinal or null if no ordinal has been assigned to the role yet
+	 */
+	Integer getOrdinal();
+
+	/**
+	 * Set the ordinal of the role.
+	 * 
+	 * @param ordinal
+	 * @return Fluent API
+	 */
+	Role setOrdinal(int ordinal);
+
 }
@@ -76,6 +76,11 @@ public interface Tag extends MeshCoreVertex<TagResponse, Tag>, ReferenceableElem
 	 */
 	TraversalResult<? extends Node> getNodes(Branch branch);
 
+	/**
+	 * Increment the revisions of all nodes which were tagged by this tag. This is needed when the tag reference of the nodes changes.
+	 */
+	void incrementNodeRevisions();
+
 	/**
 	 * Return a page of nodes that are visible to the user and which are tagged by this tag. Use the paging and language information provided.
 	 * 
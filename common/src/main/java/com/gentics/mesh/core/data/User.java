@@ -4,8 +4,13 @@ import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.ElementType;
 import com.gentics.mesh.context.InternalActionContext;
@@ -19,6 +24,8 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.util.DateUtils;
+import com.gentics.mesh.util.StreamUtil;
+import com.tinkerpop.blueprints.Vertex;
 
 /**
  * The User Domain Model interface.
@@ -47,6 +54,11 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	String API_TOKEN_ISSUE_TIMESTAMP = "APITokenTimestamp";
 
+	/**
+	 * Amount of elements which are checked at once when filtering streams by permission {@value #PERMISSION_BATCH_SIZE}
+	 */
+	int PERMISSION_BATCH_SIZE = 100;
+
 	TypeInfo TYPE_INFO = new TypeInfo(ElementType.USER, USER_CREATED, USER_UPDATED, USER_DELETED);
 
 	@Override
@@ -297,6 +309,12 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	void updateShortcutEdges();
 
+	/**
+	 * Update the bitmap of the ordinals of the roles which are assigned to the user. The bitmap needs to be updated whenever the shortcut edges to
+	 * the roles change.
+	 */
+	void updateRoleBitmap();
+
 	/**
 	 * Disable the user.
 	 */
@@ -339,6 +357,39 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Return the ids of the elements on which the user has the given permission. The roles of the user are only resolved once for all elements.
+	 *
+	 * @param elementIds
+	 * @param permission
+	 * @return Ids of the permitted elements in the order of the given ids
+	 */
+	Set<Object> filterPermitted(Collection<Object> elementIds, GraphPermission permission);
+
+	/**
+	 * Filter the stream of vertices and only retain the vertices on which the user has the given permission. The permissions are checked in batches via
+	 * {@link #filterPermitted(Collection, GraphPermission)}.
+	 *
+	 * @param vertices
+	 * @param permission
+	 * @return
+	 */
+	default Stream<Vertex> filterPermitted(Stream<Vertex> vertices, GraphPermission permission) {
+		return StreamUtil.filterInBatches(vertices, PERMISSION_BATCH_SIZE, batch -> {
+			List<Object> ids = batch.stream().map(Vertex::getId).collect(Collectors.toList());
+			Set<Object> permitted = filterPermitted(ids, permission);
+			return vertex -> permitted.contains(vertex.getId());
+		});
+	}
+
+	/**
+	 * Return the permissions which the user got for the given vertices. The roles of the user are only resolved once for all vertices.
+	 *
+	 * @param vertices
+	 * @return Permissions of the user per vertex id
+	 */
+	Map<Object, Set<GraphPermission>> getPermissionsBulk(Collection<? extends MeshVertex> vertices);
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
@@ -1,10 +1,14 @@
 package com.gentics.mesh.core.data.job;
 
 import java.time.ZonedDateTime;
+import java.util.Set;
 
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -76,6 +80,21 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	Job enqueueVersionPurge(User user, Project project);
 
+	/**
+	 * Enqueue a job which recursively applies the permission changes of the role to the element and its children.
+	 * 
+	 * @param user
+	 * @param role
+	 *            Role for which the permissions should be updated
+	 * @param element
+	 *            Element from which the permission update should start
+	 * @param permissionsToGrant
+	 * @param permissionsToRevoke
+	 * @return
+	 */
+	Job enqueuePermissionUpdate(User user, Role role, MeshVertex element, Set<GraphPermission> permissionsToGrant,
+		Set<GraphPermission> permissionsToRevoke);
+
 	/**
 	 * Process all remaining jobs.
 	 */
@@ -284,6 +284,17 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	Stream<Node> getChildrenStream(InternalActionContext ac);
 
+	/**
+	 * Return the children for this node ordered by uuid. The stream starts after the child with the given uuid. Only fetches nodes from the provided branch
+	 * and also checks permissions.
+	 *
+	 * @param ac
+	 * @param after
+	 *            Uuid of the child after which the stream should start or null to start with the first child
+	 * @return Stream of children or null if the children can't be loaded in order
+	 */
+	Stream<Node> getChildrenStream(InternalActionContext ac, String after);
+
 	/**
 	 * Return the list of children for this node, that the given user has read permission for. Filter by the provides information.
 	 *
@@ -315,6 +326,27 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String branchUuid, Node parentNode);
 
+	/**
+	 * Return the revision of the node in the given branch. The revision is part of the etag of the node.
+	 *
+	 * @param branchUuid
+	 * @return Revision or 0 if the node has not been changed in the branch yet
+	 */
+	long getRevision(String branchUuid);
+
+	/**
+	 * Increment the revision of the node in the given branch. This must be done for every change which affects the response of the node (e.g. contents,
+	 * tags, publish state or children).
+	 *
+	 * @param branchUuid
+	 */
+	void incrementRevision(String branchUuid);
+
+	/**
+	 * Increment the revisions of the parent nodes of this node in all branches.
+	 */
+	void incrementParentRevisions();
+
 	/**
 	 * Create a child node in this node in the latest branch of the project.
 	 *
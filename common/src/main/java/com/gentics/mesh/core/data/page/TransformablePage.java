@@ -63,6 +63,8 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 	 * <li>Number of total elements (all pages)</li>
 	 * <li>All etags for all found elements</li>
 	 * <li>Number of the current page</li>
+	 * <li>Whether a next page exists and the cursor of the next page. The total count may not have been computed and thus not reflect new elements on
+	 * later pages.</li>
 	 * </ul>
 	 * 
 	 * @param ac
@@ -73,6 +75,8 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 		builder.append(getTotalElements());
 		builder.append(getNumber());
 		builder.append(getPerPage());
+		builder.append(hasNextPage());
+		builder.append(getNextCursor());
 		for (T element : this) {
 			builder.append("-");
 			builder.append(element.getETag(ac));
@@ -2,14 +2,21 @@ package com.gentics.mesh.core.data.page.impl;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.parameter.CountType;
 import com.gentics.mesh.parameter.PagingParameters;
 
 public abstract class AbstractDynamicPage<T> implements Page<T> {
@@ -37,6 +44,26 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Iterator<? extends T> visibleItems;
 
+	/**
+	 * Decoded cursor after which the page should start.
+	 */
+	protected String after;
+
+	/**
+	 * Function which returns the cursor key of an element. The function is only set if the page supports cursors.
+	 */
+	protected Function<T, String> cursorFunction;
+
+	/**
+	 * Type of the total count which should be computed.
+	 */
+	protected CountType countType;
+
+	/**
+	 * Supplier which estimates the total count via index statistics. The supplier is only set if the page can be estimated.
+	 */
+	protected LongSupplier estimator;
+
 	public AbstractDynamicPage(PagingParameters pagingInfo) {
 		if (pagingInfo.getPage() < 1) {
 			throw new GenericRestException(BAD_REQUEST, "error_page_parameter_must_be_positive", String.valueOf(pagingInfo.getPage()));
@@ -46,6 +73,7 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		}
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
+		this.countType = pagingInfo.getCount();
 
 		if (perPage == null) {
 			this.lowerBound = null;
@@ -55,6 +83,164 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 			this.lowerBound = (pageNumber - 1) * perPage;
 		}
 
+		this.after = decodeCursor(pagingInfo);
+	}
+
+	/**
+	 * Enable cursor based paging for the page. The page will start after the element of the specified cursor and the page number parameter will be
+	 * ignored. The implementation must only invoke this method if the elements are iterated in a stable order and the iteration starts after the cursor.
+	 * 
+	 * @param cursorFunction
+	 *            Function which returns the cursor key of an element
+	 */
+	protected void enableCursor(Function<T, String> cursorFunction) {
+		this.cursorFunction = cursorFunction;
+		if (after != null) {
+			this.pageNumber = 1;
+			if (lowerBound != null) {
+				this.lowerBound = 0L;
+			}
+		}
+	}
+
+	/**
+	 * Set the supplier which is used to estimate the total count when the estimated count was requested. The supplier should return -1 if no estimate can be
+	 * provided.
+	 * 
+	 * @param estimator
+	 */
+	public void setEstimator(LongSupplier estimator) {
+		this.estimator = estimator;
+	}
+
+	/**
+	 * Return the decoded cursor after which the page should start.
+	 * 
+	 * @return Cursor key or null if no cursor was specified
+	 */
+	public String getAfter() {
+		return after;
+	}
+
+	@Override
+	public String getNextCursor() {
+		if (cursorFunction == null || !hasNextPage() || elementsOfPage.isEmpty()) {
+			return null;
+		}
+		T last = elementsOfPage.get(elementsOfPage.size() - 1);
+		return encodeCursor(cursorFunction.apply(last));
+	}
+
+	/**
+	 * Encode the cursor key into an opaque cursor.
+	 * 
+	 * @param key
+	 * @return
+	 */
+	public static String encodeCursor(String key) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode the cursor of the given paging parameters.
+	 * 
+	 * @param pagingInfo
+	 * @return Cursor key or null if no cursor was specified
+	 */
+	public static String decodeCursor(PagingParameters pagingInfo) {
+		String cursor = pagingInfo.getAfter();
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		return decodeCursor(cursor);
+	}
+
+	/**
+	 * Decode the opaque cursor into the cursor key.
+	 * 
+	 * @param cursor
+	 * @return
+	 */
+	public static String decodeCursor(String cursor) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+		}
+	}
+
+	/**
+	 * Return the key by which the elements should be sorted.
+	 * 
+	 * @param pagingInfo
+	 * @return Sort key or null if the elements should be returned in the default order
+	 */
+	public static String getSortKey(PagingParameters pagingInfo) {
+		String sortBy = pagingInfo.getSortBy();
+		// Sorting by uuid is handled via the default order
+		if (sortBy == null || sortBy.isEmpty() || "uuid".equals(sortBy)) {
+			return null;
+		}
+		return sortBy;
+	}
+
+	/**
+	 * Check whether the elements should be sorted in descending order.
+	 * 
+	 * @param pagingInfo
+	 * @return
+	 */
+	public static boolean isDescending(PagingParameters pagingInfo) {
+		return pagingInfo.getOrder() == SortOrder.DESCENDING;
+	}
+
+	/**
+	 * Create the cursor key for an element of a sorted page. The key contains the sort value and the uuid of the element since the uuid is used to order
+	 * elements with the same sort value.
+	 * 
+	 * @param value
+	 *            Sort value of the element
+	 * @param uuid
+	 *            Uuid of the element
+	 * @return
+	 */
+	public static String toSortCursorKey(Object value, String uuid) {
+		if (value == null) {
+			return uuid + ":n";
+		} else if (value instanceof Long) {
+			return uuid + ":l" + value;
+		} else {
+			return uuid + ":s" + value;
+		}
+	}
+
+	/**
+	 * Parse the cursor key of an element of a sorted page.
+	 * 
+	 * @param key
+	 * @return List which contains the sort value and the uuid of the element
+	 */
+	public static List<Object> fromSortCursorKey(String key) {
+		int idx = key.indexOf(':');
+		if (idx < 1 || idx + 1 >= key.length()) {
+			throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_invalid", encodeCursor(key));
+		}
+		String uuid = key.substring(0, idx);
+		String value = key.substring(idx + 2);
+		switch (key.charAt(idx + 1)) {
+		case 'n':
+			return Arrays.asList(null, uuid);
+		case 'l':
+			try {
+				return Arrays.asList(Long.valueOf(value), uuid);
+			} catch (NumberFormatException e) {
+				throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_invalid", encodeCursor(key));
+			}
+		case 's':
+			return Arrays.asList(value, uuid);
+		default:
+			throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_invalid", encodeCursor(key));
+		}
 	}
 
 	@Override
@@ -70,7 +256,8 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 			if (perPage == null) {
 				totalPages = 1L;
 			} else if (perPage != 0) {
-				totalPages = (long) Math.ceil(getTotalElements() / (double) (perPage));
+				long totalElements = getTotalElements();
+				totalPages = totalElements < 0 ? -1 : (long) Math.ceil(totalElements / (double) (perPage));
 			}
 		}
 		return totalPages;
@@ -83,6 +270,18 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		if (countType == CountType.NONE) {
+			return -1;
+		}
+		if (countType == CountType.ESTIMATE && estimator != null) {
+			long estimate = estimator.getAsLong();
+			if (estimate >= 0) {
+				// The estimate must at least cover the elements which are known to exist
+				List<? extends T> elements = getWrappedList();
+				long known = elements.isEmpty() ? 0 : (lowerBound == null ? 0 : lowerBound) + elements.size() + (hasNextPage() ? 1 : 0);
+				return Math.max(estimate, known);
+			}
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.page.impl;
 import com.gentics.mesh.parameter.PagingParameters;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -28,6 +29,25 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 		init(stream.filter(filter));
 	}
 
+	/**
+	 * Creates a new page which supports cursors. The stream must return the elements in a stable order and must already start after the element of the
+	 * cursor which was specified via the paging parameters.
+	 *
+	 * @param stream
+	 *            a stream of elements to be paged
+	 * @param pagingInfo
+	 *            paging info the user requested
+	 * @param filter
+	 *            optional filter to be applied to the stream
+	 * @param cursorFunction
+	 *            function which returns the cursor key of an element
+	 */
+	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter, Function<T, String> cursorFunction) {
+		super(pagingInfo);
+		enableCursor(cursorFunction);
+		init(filter == null ? stream : stream.filter(filter));
+	}
+
 	private void init(Stream<? extends T> stream) {
 		AtomicLong pageCounter = new AtomicLong();
 		stream = stream
@@ -7,6 +7,7 @@ import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
@@ -14,6 +15,12 @@ import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Vertex;
 
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
@@ -21,17 +28,25 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.util.StreamUtil.toStream;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 /**
  * This page implementation will handle paging internally and on-demand. The internal paging will only iterate over as many items as the needed operation
  * requires. Loading the first page will thus only iterate over the elements of the first page. Loading the total count on the other hand requires the
  * implementation to iterate over all edges.
  *
+ * Pages of root vertices are loaded via the ordered out/in edge index of the root. The page can thus also be resumed after the element of a cursor
+ * without iterating over the elements of the previous pages. Sorted pages are loaded via the ordered sort index of the element type which is scoped by
+ * the root. Unsupported sort keys are ignored.
+ *
  * @param <T>
  */
 public class DynamicTransformablePageImpl<T extends TransformableElement<? extends RestModel>> extends AbstractDynamicPage<T>
 	implements TransformablePage<T> {
 
+	private static final Logger log = LoggerFactory.getLogger(DynamicTransformablePageImpl.class);
+
 	private User requestUser;
 
 	private Predicate<T> extraFilter;
@@ -79,7 +94,58 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	public DynamicTransformablePageImpl(User requestUser, RootVertex<? extends T> root, PagingParameters pagingInfo, GraphPermission perm,
 		Predicate<T> extraFilter, boolean frameExplicitly) {
 		this(requestUser, pagingInfo, extraFilter, frameExplicitly);
-		init(root.getPersistanceClass(), "e." + root.getRootLabel().toLowerCase() + "_out", root.id(), Direction.IN, root.getGraph(), perm);
+		String indexName = "e." + root.getRootLabel().toLowerCase();
+		String sortBy = getSortKey(pagingInfo);
+		if (sortBy == null || !initSorted(root, sortBy, isDescending(pagingInfo), perm)) {
+			initOrdered(root, indexName, perm);
+		}
+		setEstimator(() -> root.db().index().count(indexName + "_out", root.id()));
+	}
+
+	private void initOrdered(RootVertex<? extends T> root, String indexName, GraphPermission perm) {
+		Iterator<Entry<Object, Object>> entries;
+		try {
+			entries = root.db().index().rangeLookup(indexName + "_outin", root.id(), after);
+		} catch (IllegalArgumentException e) {
+			throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_invalid", encodeCursor(after));
+		}
+		if (entries != null) {
+			// The cursor of an element is the id of the element since the index is ordered by the ids of the in-bound vertices
+			enableCursor(element -> element.id().toString());
+			init(root.getPersistanceClass(), entries, root.getGraph(), perm);
+		} else {
+			init(root.getPersistanceClass(), indexName + "_out", root.id(), Direction.IN, root.getGraph(), perm);
+		}
+	}
+
+	/**
+	 * Initialize the page with the elements of the root in the order of the ordered sort index for the given key. The sort index is scoped by the uuids of the
+	 * roots and thus only contains the elements of the root.
+	 * 
+	 * @param root
+	 * @param sortBy
+	 * @param descending
+	 * @param perm
+	 * @return false if the elements can't be sorted by the key
+	 */
+	private boolean initSorted(RootVertex<? extends T> root, String sortBy, boolean descending, GraphPermission perm) {
+		String property = root.hasSortIndices() ? root.getSortProperty(sortBy) : null;
+		Iterator<Entry<List<Object>, Object>> entries = null;
+		if (property != null) {
+			entries = root.db().index().sortedLookup(root.getSortIndexName(sortBy), root.getUuid(), after == null ? null : fromSortCursorKey(after),
+				descending);
+		}
+		if (entries == null) {
+			log.warn("Sorting the elements of {" + root.getPersistanceClass().getSimpleName() + "} by {" + sortBy
+				+ "} is not supported. Falling back to the default order.");
+			return false;
+		}
+		enableCursor(element -> toSortCursorKey(element.property(property), element.getUuid()));
+
+		FramedGraph graph = root.getGraph();
+		Stream<Vertex> stream = toStream(entries).map(entry -> graph.getVertex(entry.getValue()));
+		applyPagingAndPermChecks(stream, root.getPersistanceClass(), perm);
+		return true;
 	}
 
 	/**
@@ -108,6 +174,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		GraphPermission perm, Predicate<T> extraFilter, boolean frameExplicitly) {
 		this(requestUser, pagingInfo, extraFilter, frameExplicitly);
 		init(clazz, indexName, indexKey, dir, Tx.getActive().getGraph(), perm);
+		setEstimator(() -> requestUser.db().index().count(indexName, indexKey));
 	}
 
 	/**
@@ -130,6 +197,12 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		init(clazz, traversal, perm);
 	}
 
+	private void init(Class<? extends T> clazz, Iterator<Entry<Object, Object>> entries, FramedGraph graph, GraphPermission perm) {
+		// The key of each entry is the id of the in-bound vertex
+		Stream<Vertex> stream = toStream(entries).map(entry -> graph.getVertex(entry.getKey()));
+		applyPagingAndPermChecks(stream, clazz, perm);
+	}
+
 	private void init(Class<? extends T> clazz, VertexTraversal<?, ?, ?> traversal, GraphPermission perm) {
 		// Iterate over all vertices that are managed by this root vertex
 		Stream<Vertex> stream = StreamSupport.stream(traversal.spliterator(), false).map(item -> {
@@ -149,9 +222,9 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		AtomicLong pageCounter = new AtomicLong();
 		FramedGraph graph = Tx.getActive().getGraph();
 
-		// Only handle elements which are visible to the user
+		// Only handle elements which are visible to the user. The permissions are checked in batches.
 		if (perm != null) {
-			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
+			stream = requestUser.filterPermitted(stream, perm);
 		}
 
 		Stream<T> framedStream;
@@ -51,4 +51,9 @@ public class WrappedPageImpl<T> implements Page<T> {
 		return wrappedPage.hasNextPage();
 	}
 
+	@Override
+	public String getNextCursor() {
+		return wrappedPage.getNextCursor();
+	}
+
 }
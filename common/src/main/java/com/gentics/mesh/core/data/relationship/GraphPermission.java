@@ -38,6 +38,7 @@ public enum GraphPermission {
 	}
 
 	private String propertyKey;
+	private String bitmapPropertyKey;
 	private Permission restPerm;
 
 	/**
@@ -49,6 +50,7 @@ public enum GraphPermission {
 	 */
 	GraphPermission(String propertyKey, Permission restPerm) {
 		this.propertyKey = propertyKey;
+		this.bitmapPropertyKey = propertyKey + "_bitmap";
 		this.restPerm = restPerm;
 	}
 
@@ -77,6 +79,16 @@ public enum GraphPermission {
 		return propertyKey;
 	}
 
+	/**
+	 * Return the key of the property which mirrors the roles of the permission as a bitmap of role ordinals. The property is only present if all
+	 * granting roles have an ordinal.
+	 * 
+	 * @return
+	 */
+	public String bitmapPropertyKey() {
+		return bitmapPropertyKey;
+	}
+
 	/**
 	 * Convert a key name back into a graph permission object.
 	 * 
@@ -121,6 +121,17 @@ public class GraphRelationships {
 	 */
 	public static final String BRANCH_PARENTS_KEY_PROPERTY = "branchParents";
 
+	/**
+	 * The value of this property is a set of strings containing the uuids of all root vertices which contain the element. The sort indices of the elements
+	 * are scoped by the root uuids.
+	 */
+	public static final String ROOTS_KEY_PROPERTY = "roots";
+
+	/**
+	 * Prefix of the properties which contain the revision of a node per branch. The branch uuid is appended to the prefix.
+	 */
+	public static final String REVISION_KEY_PROPERTY_PREFIX = "revision_";
+
 	// Jobs
 	public static final String HAS_JOB = "HAS_JOB";
 	public static final String HAS_TO_VERSION = "HAS_TO_VERSION";
@@ -1,8 +1,12 @@
 package com.gentics.mesh.core.data.root;
 
+import java.util.stream.Stream;
+
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 
 /**
@@ -42,4 +46,17 @@ public interface NodeRoot extends RootVertex<Node> {
 	 */
 	Node create(User user, SchemaContainerVersion container, Project project, String uuid);
 
+	/**
+	 * Return the nodes of the project ordered by uuid. The stream starts after the node with the given uuid. This also checks permissions.
+	 *
+	 * @param ac
+	 *            The context of the request
+	 * @param permission
+	 *            Needed permission
+	 * @param after
+	 *            Uuid of the node after which the stream should start or null to start with the first node
+	 * @return Stream of nodes or null if the nodes can't be loaded in order
+	 */
+	Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission permission, String after);
+
 }
@@ -52,4 +52,11 @@ public interface RoleRoot extends RootVertex<Role> {
 	 */
 	void removeRole(Role role);
 
+	/**
+	 * Reserve the next role ordinal. Ordinals will never be reused, even if the role gets deleted.
+	 * 
+	 * @return Reserved ordinal
+	 */
+	int nextOrdinal();
+
 }
@@ -1,6 +1,9 @@
 package com.gentics.mesh.core.data.root;
 
+import static com.gentics.mesh.core.data.CreatorTrackingVertex.CREATION_TIMESTAMP_PROPERTY_KEY;
+import static com.gentics.mesh.core.data.EditorTrackingVertex.LAST_EDIT_TIMESTAMP_PROPERTY_KEY;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ROOTS_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -29,6 +32,7 @@ import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.FramedTransactionalGraph;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -64,9 +68,9 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 
 		String idx = "e." + getRootLabel().toLowerCase() + "_out";
 		Spliterator<Edge> itemEdges = graph.getEdges(idx.toLowerCase(), id()).spliterator();
-		return StreamSupport.stream(itemEdges, false)
-			.map(edge -> edge.getVertex(Direction.IN))
-			.filter(vertex -> user.hasPermissionForId(vertex.getId(), permission))
+		Stream<Vertex> vertices = StreamSupport.stream(itemEdges, false)
+			.map(edge -> edge.getVertex(Direction.IN));
+		return user.filterPermitted(vertices, permission)
 			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
@@ -312,6 +316,9 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 			id()));
 		if (!edges.iterator().hasNext()) {
 			linkOut(item, getRootLabel());
+			if (hasSortIndices()) {
+				item.addToStringSetProperty(ROOTS_KEY_PROPERTY, getUuid());
+			}
 		}
 	}
 
@@ -322,6 +329,9 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 	 */
 	default void removeItem(T item) {
 		unlinkOut(item, getRootLabel());
+		if (hasSortIndices()) {
+			item.removeFromStringSetProperty(ROOTS_KEY_PROPERTY, getUuid());
+		}
 	}
 
 	/**
@@ -338,6 +348,46 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 	 */
 	Class<? extends T> getPersistanceClass();
 
+	/**
+	 * Check whether the persistance class provides the ordered sort indices which are scoped by the root uuids. The uuid of this root vertex is stored in
+	 * the roots property of the items in that case.
+	 * 
+	 * @return
+	 */
+	default boolean hasSortIndices() {
+		return false;
+	}
+
+	/**
+	 * Return the name of the element property which is used to sort the items by the given key. Sorted pages can only be loaded if the persistance class
+	 * also provides the ordered sort index for the key (see {@link #getSortIndexName(String)}).
+	 * 
+	 * @param sortBy
+	 *            Sort key (e.g. created, edited)
+	 * @return Name of the property or null if the items can't be sorted by the key
+	 */
+	default String getSortProperty(String sortBy) {
+		switch (sortBy) {
+		case "created":
+			return CREATION_TIMESTAMP_PROPERTY_KEY;
+		case "edited":
+			return LAST_EDIT_TIMESTAMP_PROPERTY_KEY;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Return the name of the ordered index which contains the root uuids, the sort property and the uuid of the elements of the persistance class.
+	 * 
+	 * @param sortBy
+	 *            Sort key
+	 * @return
+	 */
+	default String getSortIndexName(String sortBy) {
+		return getPersistanceClass().getSimpleName() + "_roots_sort_" + sortBy;
+	}
+
 	default long computeCount() {
 		return findAll().count();
 	}
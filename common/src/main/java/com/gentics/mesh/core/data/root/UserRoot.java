@@ -51,6 +51,18 @@ public interface UserRoot extends RootVertex<User> {
 	 */
 	MeshAuthUser findMeshAuthUserByUuid(String userUuid);
 
+	/**
+	 * Return the mesh auth user for the given vertex id. The vertex will not be loaded. This can be used to construct the user from a cached id without the
+	 * need of a transaction.
+	 * 
+	 * @param id
+	 *            Vertex id of the user
+	 * @param userUuid
+	 *            Uuid of the user
+	 * @return
+	 */
+	MeshAuthUser frameMeshAuthUser(Object id, String userUuid);
+
 	/**
 	 * Find the user with the given username.
 	 * 
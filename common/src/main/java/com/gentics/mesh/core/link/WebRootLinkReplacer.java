@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,6 +16,9 @@ import javax.inject.Singleton;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.cache.CachedLink;
+import com.gentics.mesh.cache.LinkCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -43,10 +48,13 @@ public class WebRootLinkReplacer {
 
 	private final MeshOptions options;
 
+	private final LinkCache linkCache;
+
 	@Inject
-	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options) {
+	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options, LinkCache linkCache) {
 		this.boot = boot;
 		this.options = options;
+		this.linkCache = linkCache;
 	}
 
 	/**
@@ -155,6 +163,21 @@ public class WebRootLinkReplacer {
 		String... languageTags) {
 		// Get rid of additional whitespaces
 		uuid = uuid.trim();
+
+		// Only use the cache within read-only transactions. Write transactions may have changed the path of the linked node which would not yet be
+		// reflected by the cache.
+		String cacheKey = null;
+		long cacheGeneration = 0;
+		Tx tx = Tx.get();
+		if (!linkCache.isDisabled() && tx != null && tx.isReadOnly()) {
+			cacheKey = createCacheKey(ac, branch, edgeType, uuid, type, languageTags);
+			String cachedLink = linkCache.getLink(cacheKey);
+			if (cachedLink != null) {
+				return cachedLink;
+			}
+			cacheGeneration = linkCache.getGeneration();
+		}
+
 		Node node = boot.meshRoot().findNodeByUuid(uuid);
 
 		// check for null
@@ -173,7 +196,50 @@ public class WebRootLinkReplacer {
 				throw error(BAD_REQUEST, "Cannot render link with type " + type);
 			}
 		}
-		return resolve(ac, branch, edgeType, node, type, languageTags);
+		String link = resolve(ac, branch, edgeType, node, type, languageTags);
+		if (cacheKey != null) {
+			linkCache.store(cacheKey, cacheGeneration, createCachedLink(node, branch, link));
+		}
+		return link;
+	}
+
+	/**
+	 * Create the key for the link cache.
+	 * 
+	 * @param ac
+	 * @param branch
+	 * @param edgeType
+	 * @param uuid
+	 * @param type
+	 * @param languageTags
+	 * @return
+	 */
+	private String createCacheKey(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, LinkType type,
+		String... languageTags) {
+		ContainerType containerType = edgeType == null ? ContainerType.DRAFT : edgeType;
+		return uuid + "-" + branch + "-" + containerType.getCode() + "-" + type.name() + "-" + ac.getApiVersion() + "-"
+			+ Arrays.toString(languageTags);
+	}
+
+	/**
+	 * Create the cache entry for the rendered link. The entry references the linked node and all its ancestors, since the link contains the path
+	 * segments of these nodes.
+	 * 
+	 * @param node
+	 * @param branchNameOrUuid
+	 * @param link
+	 * @return
+	 */
+	private CachedLink createCachedLink(Node node, String branchNameOrUuid, String link) {
+		Project project = node.getProject();
+		String branchUuid = project.findBranchOrLatest(branchNameOrUuid).getUuid();
+		Set<String> nodeUuids = new HashSet<>();
+		Node current = node;
+		while (current != null) {
+			nodeUuids.add(current.getUuid());
+			current = current.getParentNode(branchUuid);
+		}
+		return new CachedLink(link, project.getUuid(), branchUuid, nodeUuids);
 	}
 
 	/**
@@ -23,6 +23,8 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.madl.tx.TxAction;
 import com.gentics.madl.tx.TxAction0;
 import com.gentics.madl.tx.TxAction1;
+import com.gentics.mesh.cache.CachedResponse;
+import com.gentics.mesh.cache.ResponseCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
@@ -64,15 +66,18 @@ public class HandlerUtilities {
 
 	private final WriteLock writeLock;
 
+	private final ResponseCache responseCache;
+
 	@Inject
 	public HandlerUtilities(Database database, MeshOptions meshOptions, MetricsService metrics, Provider<EventQueueBatch> queueProvider,
-		Provider<BulkActionContext> bulkProvider, WriteLock writeLock) {
+		Provider<BulkActionContext> bulkProvider, WriteLock writeLock, ResponseCache responseCache) {
 		GraphStorageOptions storageOptions = meshOptions.getStorageOptions();
 		this.database = database;
 		this.metrics = metrics;
 		this.queueProvider = queueProvider;
 		this.bulkProvider = bulkProvider;
 		this.writeLock = writeLock;
+		this.responseCache = responseCache;
 	}
 
 	/**
@@ -96,21 +101,18 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void deleteElement(InternalActionContext ac, TxAction1<RootVertex<T>> handler,
 		String uuid) {
-		try (WriteLock lock = writeLock.lock(ac)) {
-			syncTx(ac, () -> {
-				RootVertex<T> root = handler.handle();
-				T element = root.loadObjectByUuid(ac, uuid, DELETE_PERM);
-
-				// Load the name and uuid of the element. We need this info after deletion.
-				String elementUuid = element.getUuid();
-				bulkableAction(bac -> {
-					bac.setRootCause(element.getTypeInfo().getType(), elementUuid, DELETE);
-					element.delete(bac);
-				});
-				log.info("Deleted element {" + elementUuid + "} for type {" + root.getClass().getSimpleName() + "}");
-			}, () -> ac.send(NO_CONTENT));
-		}
-
+		asyncWriteTx(ac, () -> {
+			RootVertex<T> root = handler.handle();
+			T element = root.loadObjectByUuid(ac, uuid, DELETE_PERM);
+
+			// Load the name and uuid of the element. We need this info after deletion.
+			String elementUuid = element.getUuid();
+			bulkableAction(bac -> {
+				bac.setRootCause(element.getTypeInfo().getType(), elementUuid, DELETE);
+				element.delete(bac);
+			});
+			log.info("Deleted element {" + elementUuid + "} for type {" + root.getClass().getSimpleName() + "}");
+		}, () -> ac.send(NO_CONTENT));
 	}
 
 	/**
@@ -139,42 +141,40 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void createOrUpdateElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler) {
-		try (WriteLock lock = writeLock.lock(ac)) {
-			AtomicBoolean created = new AtomicBoolean(false);
-			syncTx(ac, tx -> {
-				RootVertex<T> root = handler.handle();
-
-				// 1. Load the element from the root element using the given uuid (if not null)
-				T element = null;
-				if (uuid != null) {
-					if (!UUIDUtil.isUUID(uuid)) {
-						throw error(BAD_REQUEST, "error_illegal_uuid", uuid);
-					}
-					element = root.loadObjectByUuid(ac, uuid, UPDATE_PERM, false);
-				}
+		AtomicBoolean created = new AtomicBoolean(false);
+		asyncWriteTx(ac, tx -> {
+			RootVertex<T> root = handler.handle();
 
-				// Check whether we need to update a found element or whether we need to create a new one.
-				if (element != null) {
-					final T updateElement = element;
-					eventAction(batch -> {
-						return updateElement.update(ac, batch);
-					});
-					return updateElement.transformToRestSync(ac, 0);
-				} else {
-					T createdElement = eventAction(batch -> {
-						created.set(true);
-						return root.create(ac, batch, uuid);
-					});
-					RM model = createdElement.transformToRestSync(ac, 0);
-					String path = createdElement.getAPIPath(ac);
-					ResultInfo info = new ResultInfo(model);
-					info.setProperty("path", path);
-					createdElement.onCreated();
-					ac.setLocation(path);
-					return model;
+			// 1. Load the element from the root element using the given uuid (if not null)
+			T element = null;
+			if (uuid != null) {
+				if (!UUIDUtil.isUUID(uuid)) {
+					throw error(BAD_REQUEST, "error_illegal_uuid", uuid);
 				}
-			}, model -> ac.send(model, created.get() ? CREATED : OK));
-		}
+				element = root.loadObjectByUuid(ac, uuid, UPDATE_PERM, false);
+			}
+
+			// Check whether we need to update a found element or whether we need to create a new one.
+			if (element != null) {
+				final T updateElement = element;
+				eventAction(batch -> {
+					return updateElement.update(ac, batch);
+				});
+				return updateElement.transformToRestSync(ac, 0);
+			} else {
+				T createdElement = eventAction(batch -> {
+					created.set(true);
+					return root.create(ac, batch, uuid);
+				});
+				RM model = createdElement.transformToRestSync(ac, 0);
+				String path = createdElement.getAPIPath(ac);
+				ResultInfo info = new ResultInfo(model);
+				info.setProperty("path", path);
+				createdElement.onCreated();
+				ac.setLocation(path);
+				return model;
+			}
+		}, model -> ac.send(model, created.get() ? CREATED : OK));
 	}
 
 	/**
@@ -191,7 +191,7 @@ public class HandlerUtilities {
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler, GraphPermission perm) {
 
-		syncTx(ac, tx -> {
+		asyncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 			T element = root.loadObjectByUuid(ac, uuid, perm);
 
@@ -207,6 +207,111 @@ public class HandlerUtilities {
 		}, model -> ac.send(model, OK));
 	}
 
+	/**
+	 * Read the element and respond with the serialized element. The serialized response will be stored in the response cache and reused for requests
+	 * with the same parameters and roles.
+	 * 
+	 * @param ac
+	 * @param uuid
+	 *            Uuid of the element which should be loaded
+	 * @param handler
+	 *            Handler which provides the root vertex which should be used when loading the element
+	 * @param perm
+	 *            Permission which should be checked
+	 */
+	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readCachedElement(InternalActionContext ac, String uuid,
+		TxAction1<RootVertex<T>> handler, GraphPermission perm) {
+
+		asyncReadCachedTx(ac, "element", uuid, () -> {
+			RootVertex<T> root = handler.handle();
+			T element = root.loadObjectByUuid(ac, uuid, perm);
+
+			String etag = null;
+			if (ac.getGenericParameters().getETag()) {
+				etag = element.getETag(ac);
+				checkEtag(ac, etag);
+			}
+			return new CachedResponse(ac.toBuffer(element.transformToRestSync(ac, 0)), ac.getResponseFormat().getContentType(), etag);
+		}, response -> ac.send(response.getBody(), OK, response.getContentType()));
+	}
+
+	/**
+	 * Read a list of elements of the given root vertex and respond with the serialized list response. The serialized response will be stored in the
+	 * response cache and reused for requests with the same parameters and roles.
+	 * 
+	 * @param ac
+	 * @param handler
+	 *            Handler which provides the root vertex which should be used when loading the element
+	 */
+	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readCachedElementList(InternalActionContext ac,
+		TxAction1<RootVertex<T>> handler) {
+
+		asyncReadCachedTx(ac, "list", "", () -> {
+			RootVertex<T> root = handler.handle();
+
+			PagingParameters pagingInfo = ac.getPagingParameters();
+			TransformablePage<? extends T> page = root.findAll(ac, pagingInfo);
+
+			String etag = null;
+			if (ac.getGenericParameters().getETag()) {
+				etag = page.getETag(ac);
+				checkEtag(ac, etag);
+			}
+			return new CachedResponse(ac.toBuffer(page.transformToRestSync(ac, 0)), ac.getResponseFormat().getContentType(), etag);
+		}, response -> ac.send(response.getBody(), OK, response.getContentType()));
+	}
+
+	/**
+	 * Invoke the handler in a read-only transaction unless the response cache already contains the response for the request. Responses which are
+	 * returned by the handler will be stored in the cache.
+	 * 
+	 * @param ac
+	 * @param scope
+	 *            Scope of the request which is part of the cache key
+	 * @param id
+	 *            Identifier of the requested element which is part of the cache key
+	 * @param handler
+	 *            Handler which renders the response
+	 * @param action
+	 *            Action which sends the response
+	 */
+	public void asyncReadCachedTx(InternalActionContext ac, String scope, String id, TxAction1<CachedResponse> handler,
+		Consumer<CachedResponse> action) {
+		asyncReadTx(ac, tx -> {
+			String key = responseCache.isCacheable(ac) ? responseCache.createKey(ac, scope, id) : null;
+			long generation = 0;
+			if (key != null) {
+				CachedResponse cached = responseCache.get(key);
+				if (cached != null) {
+					checkEtag(ac, cached.getEtag());
+					return cached;
+				}
+				generation = responseCache.getGeneration(ac);
+			}
+			CachedResponse response = handler.handle();
+			if (key != null) {
+				responseCache.store(ac, key, generation, response);
+			}
+			return response;
+		}, action);
+	}
+
+	/**
+	 * Set the weak etag and fail with a {@link NotModifiedException} if the etag matches the requested etag.
+	 * 
+	 * @param ac
+	 * @param etag
+	 */
+	private void checkEtag(InternalActionContext ac, String etag) {
+		if (etag == null) {
+			return;
+		}
+		ac.setEtag(etag, true);
+		if (ac.matches(etag, true)) {
+			throw new NotModifiedException();
+		}
+	}
+
 	/**
 	 * Read a list of elements of the given root vertex and respond with a list response.
 	 * 
@@ -216,7 +321,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
 
-		rxSyncTx(ac, tx -> {
+		rxAsyncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 
 			PagingParameters pagingInfo = ac.getPagingParameters();
@@ -235,6 +340,67 @@ public class HandlerUtilities {
 		}, m -> ac.send(m, OK));
 	}
 
+	/**
+	 * Invoke the handler in a read-only transaction which will be executed by the read pool of the transaction executor. The result will be passed to
+	 * the given action. Null will be passed if the handler returned null.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public <RM> void asyncReadTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		database.txExecutor().read(() -> database.readTx(handler))
+			.subscribe(action::accept, ac::fail, () -> action.accept(null));
+	}
+
+	/**
+	 * Invoke the handler in a read-only transaction which will be executed by the read pool of the transaction executor. The emitted model will be
+	 * passed to the given action.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public <RM extends RestModel> void rxAsyncReadTx(InternalActionContext ac, TxAction<Single<RM>> handler, Consumer<RM> action) {
+		database.txExecutor().read(() -> database.readTx(handler))
+			.flatMapSingle(model -> model)
+			.subscribe(action::accept, ac::fail);
+	}
+
+	/**
+	 * Invoke the handler in a transaction which will be executed by the write pool of the transaction executor. The write lock will be acquired
+	 * within the executor thread. The result will be passed to the given action. Null will be passed if the handler returned null.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public <RM> void asyncWriteTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		database.txExecutor().write(() -> {
+			try (WriteLock lock = writeLock.lock(ac)) {
+				return database.tx(handler);
+			}
+		}).subscribe(action::accept, ac::fail, () -> action.accept(null));
+	}
+
+	/**
+	 * Invoke the handler in a transaction which will be executed by the write pool of the transaction executor. The write lock will be acquired
+	 * within the executor thread.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public void asyncWriteTx(InternalActionContext ac, TxAction0 handler, Runnable action) {
+		database.txExecutor().write(() -> {
+			try (WriteLock lock = writeLock.lock(ac)) {
+				database.tx(handler);
+			}
+			return null;
+		}).ignoreElement()
+			.subscribe(action::run, ac::fail);
+	}
+
 	public <RM> void syncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
 		try {
 			RM model = database.tx(handler);
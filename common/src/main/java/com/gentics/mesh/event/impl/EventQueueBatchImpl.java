@@ -75,7 +75,7 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
+			String json = JsonUtil.toJson(entry, true);
 			if (log.isTraceEnabled()) {
 				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
 			}
@@ -64,6 +64,13 @@ public interface MeshElement extends ElementFrame {
 		property(propertyKey, set);
 	}
 
+	default void removeFromStringSetProperty(String propertyKey, String value) {
+		Set<String> set = property(propertyKey);
+		if (set != null && set.remove(value)) {
+			property(propertyKey, set);
+		}
+	}
+
 	/**
 	 * Set the property.
 	 *
@@ -7,6 +7,7 @@ import org.apache.commons.io.FileUtils;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.ETag;
 
 import dagger.Lazy;
@@ -25,10 +26,15 @@ public abstract class AbstractDatabase implements Database {
 	protected String meshVersion;
 	protected String[] basePaths;
 
+	protected final MetricsService metrics;
+
 	private final Lazy<Vertx> vertx;
 
-	public AbstractDatabase(Lazy<Vertx> vertx) {
+	private TxExecutor txExecutor;
+
+	public AbstractDatabase(Lazy<Vertx> vertx, MetricsService metrics) {
 		this.vertx = vertx;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -51,6 +57,10 @@ public abstract class AbstractDatabase implements Database {
 		this.options = options;
 		this.meshVersion = meshVersion;
 		this.basePaths = basePaths;
+		if (txExecutor != null) {
+			txExecutor.shutdown();
+		}
+		this.txExecutor = new TxExecutor(options.getStorageOptions(), metrics);
 	}
 
 	@Override
@@ -90,4 +100,18 @@ public abstract class AbstractDatabase implements Database {
 		return vertx.get();
 	}
 
+	@Override
+	public TxExecutor txExecutor() {
+		return txExecutor;
+	}
+
+	/**
+	 * Shutdown the transaction executor pools.
+	 */
+	protected void stopTxExecutor() {
+		if (txExecutor != null) {
+			txExecutor.shutdown();
+		}
+	}
+
 }
@@ -3,9 +3,10 @@ package com.gentics.mesh.graphdb.spi;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
@@ -34,8 +35,8 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Function;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -46,6 +47,21 @@ public interface Database extends TxFactory {
 
 	Logger log = LoggerFactory.getLogger(Database.class);
 
+	/**
+	 * Name of the sub directory of the backup directory which contains the incremental backups.
+	 */
+	String INCREMENTAL_BACKUP_DIRECTORY = "incremental";
+
+	/**
+	 * Name of the manifest file which is stored in each export directory.
+	 */
+	String EXPORT_MANIFEST_FILENAME = "manifest.json";
+
+	/**
+	 * Extension of the single export files which were created by previous versions.
+	 */
+	String LEGACY_EXPORT_EXTENSION = ".gz";
+
 	/**
 	 * Stop the graph database.
 	 */
@@ -82,105 +98,42 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default Completable asyncTx(TxAction0 txHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Completable.create(sub -> {
-			vertx().executeBlocking(bc -> {
-				try {
-					tx(txHandler);
-					bc.complete();
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, done -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onComplete();
+		return txExecutor().write(() -> {
+			try {
+				tx(txHandler);
+				return null;
+			} catch (Exception e) {
+				if (log.isTraceEnabled()) {
+					log.trace("Error while handling no-transaction.", e);
 				}
-			});
-		});
+				throw e;
+			}
+		}).ignoreElement();
 	}
 
 	/**
-	 * Executes the given action in a worker pool thread and returns a single which can be subscribed to get the result.
+	 * Executes the given action in a transaction executor thread and returns a single which can be subscribed to get the result.
 	 * 
 	 * @param trxHandler
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction1<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Single.create(sub -> {
-			vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle();
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, (AsyncResult<T> done) -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onSuccess(done.result());
-				}
-			});
-		});
+		return asyncTx(tx -> trxHandler.handle());
 	}
 
 	/**
-	 * Executes a supplier in a transaction within the worker thread pool.
+	 * Executes a supplier in a transaction within the transaction executor.
 	 * If the supplier returns null, the maybe is completed, else the value is returned.
 	 * @param handler
 	 * @param <T>
 	 * @return
 	 */
 	default <T> Maybe<T> maybeTx(Function<Tx, T> handler) {
-		return new io.vertx.reactivex.core.Vertx(vertx()).rxExecuteBlocking(promise -> {
-			try {
-				promise.complete(tx(handler::apply));
-			} catch (Throwable e) {
-				promise.fail(e);
-			}
-		}, false);
+		return txExecutor().write(() -> tx(handler::apply));
 	}
 
 	/**
-	 * Executes a supplier in a transaction within the worker thread pool.
+	 * Executes a supplier in a transaction within the transaction executor.
 	 * If the supplier returns null, a {@link java.util.NoSuchElementException} is emitted.
 	 * @param handler
 	 * @param <T>
@@ -191,7 +144,7 @@ public interface Database extends TxFactory {
 	}
 
 	/**
-	 * Executes a supplier in a transaction within the worker thread pool.
+	 * Executes a supplier in a transaction within the transaction executor.
 	 * If the supplier returns null, a {@link java.util.NoSuchElementException} is emitted.
 	 * @param handler
 	 * @param <T>
@@ -208,47 +161,100 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Single.create(sub -> {
-			vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle(tx);
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
+		return asyncTx(trxHandler, false);
+	}
+
+	/**
+	 * Asynchronously execute the trxHandler within the scope of a read-only transaction.
+	 * 
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncReadTx(TxAction<Single<T>> trxHandler) {
+		return asyncTx(trxHandler, true);
+	}
+
+	/**
+	 * Asynchronously execute the trxHandler within the scope of a read-only transaction.
+	 * 
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncReadTx(TxAction1<Single<T>> trxHandler) {
+		return asyncReadTx(tx -> trxHandler.handle());
+	}
+
+	/**
+	 * Asynchronously execute the trxHandler within the scope of a transaction. Read-only transactions will be executed by the read pool of the
+	 * transaction executor.
+	 * 
+	 * @param trxHandler
+	 * @param readOnly
+	 *            Whether a read-only transaction should be used
+	 * @return
+	 */
+	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler, boolean readOnly) {
+		// Capturing the stacktrace of the caller is expensive. We only do this to enhance the timeout error information when debugging.
+		final Exception callerTrace = log.isDebugEnabled() ? new Exception("Transaction timeout exception") : null;
+
+		Callable<T> action = () -> {
+			try (Tx tx = readOnly ? readTx() : tx()) {
+				Single<T> result = trxHandler.handle(tx);
+				if (result == null) {
+					return null;
+				}
+				try {
+					return result.timeout(40, TimeUnit.SECONDS).blockingGet();
+				} catch (Exception e2) {
+					if (e2 instanceof TimeoutException) {
+						log.error("Timeout while processing result of transaction handler.", e2);
+						if (callerTrace != null) {
+							log.error("Calling transaction stacktrace.", callerTrace);
+							throw callerTrace;
 						}
 					}
-				} catch (Exception e) {
-					if (!(e instanceof GenericRestException)) {
-						log.error("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
+					throw e2;
 				}
-			}, false, (AsyncResult<T> done) -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onSuccess(done.result());
+			} catch (Exception e) {
+				if (!(e instanceof GenericRestException)) {
+					log.error("Error while handling no-transaction.", e);
 				}
-			});
+				throw e;
+			}
+		};
+		Maybe<T> result = readOnly ? txExecutor().read(action) : txExecutor().write(action);
+		return result.toSingle();
+	}
+
+	/**
+	 * Return a new read-only transaction. Read-only transactions will never be committed and fail when changes have been made within the
+	 * transaction. This object should be used within a try-with-resource block.
+	 * 
+	 * @return
+	 */
+	default Tx readTx() {
+		return tx();
+	}
+
+	/**
+	 * Execute the txHandler within the scope of a read-only transaction. Unlike {@link #tx(TxAction)} the handler will not be retried.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	default <T> T readTx(TxAction<T> txHandler) {
+		return tx(txHandler);
+	}
+
+	/**
+	 * Execute the txHandler within the scope of a read-only transaction.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	default <T> T readTx(TxAction1<T> txHandler) {
+		return readTx(tx -> {
+			return txHandler.handle();
 		});
 	}
 
@@ -278,15 +284,47 @@ public interface Database extends TxFactory {
 	 * @param outputDirectory
 	 * @throws IOException
 	 */
-	void exportGraph(String outputDirectory) throws IOException;
+	default void exportGraph(String outputDirectory) throws IOException {
+		exportGraph(outputDirectory, false, null);
+	}
+
+	/**
+	 * Create a database export. The clusters of the database will be exported in parallel.
+	 * 
+	 * @param outputDirectory
+	 *            Directory in which the export directory will be created
+	 * @param resume
+	 *            Whether the latest interrupted export should be continued
+	 * @param progressHandler
+	 *            Optional handler which will be invoked with progress information
+	 * @return Path of the export directory
+	 * @throws IOException
+	 */
+	String exportGraph(String outputDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException;
 
 	/**
 	 * Import an database export
 	 * 
-	 * @param importFile
+	 * @param exportDirectory
+	 * @throws IOException
+	 */
+	default void importGraph(String exportDirectory) throws IOException {
+		importGraph(exportDirectory, false, null);
+	}
+
+	/**
+	 * Import an database export. All vertices and edges will be replaced by the content of the export.
+	 * 
+	 * @param exportDirectory
+	 *            Directory which was created by {@link #exportGraph(String, boolean, Consumer)} or an export file of previous versions. The import of
+	 *            such a legacy file can neither be resumed nor report its progress.
+	 * @param resume
+	 *            Whether the interrupted import of the export should be continued
+	 * @param progressHandler
+	 *            Optional handler which will be invoked with progress information
 	 * @throws IOException
 	 */
-	void importGraph(String importFile) throws IOException;
+	void importGraph(String exportDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException;
 
 	/**
 	 * Create a database backup.
@@ -305,6 +343,24 @@ public interface Database extends TxFactory {
 	 */
 	void restoreGraph(String backupFile) throws IOException;
 
+	/**
+	 * Create an incremental database backup which only contains the changes since the last incremental backup. The first incremental backup will
+	 * contain all records. The backups will be stored in the {@value #INCREMENTAL_BACKUP_DIRECTORY} sub directory of the backup directory.
+	 * 
+	 * @param backupDirectory
+	 * @throws IOException
+	 * @return The path of the created backup file.
+	 */
+	String incrementalBackupGraph(String backupDirectory) throws IOException;
+
+	/**
+	 * Restore the database by replaying the chain of incremental backups in the given backup directory.
+	 * 
+	 * @param backupDirectory
+	 * @throws IOException
+	 */
+	void restoreIncrementalGraph(String backupDirectory) throws IOException;
+
 	/**
 	 * Utilize the index and locate the matching vertices.
 	 *
@@ -495,6 +551,13 @@ public interface Database extends TxFactory {
 
 	Vertx vertx();
 
+	/**
+	 * Return the executor which is used to run asynchronous transactions.
+	 * 
+	 * @return
+	 */
+	TxExecutor txExecutor();
+
 	/**
 	 * Update the cluster configuration.
 	 * 
@@ -0,0 +1,214 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.TX_READ_EXECUTION_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.TX_READ_QUEUE_SIZE;
+import static com.gentics.mesh.metric.SimpleMetric.TX_READ_QUEUE_WAIT;
+import static com.gentics.mesh.metric.SimpleMetric.TX_REJECTED;
+import static com.gentics.mesh.metric.SimpleMetric.TX_WRITE_EXECUTION_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.TX_WRITE_QUEUE_SIZE;
+import static com.gentics.mesh.metric.SimpleMetric.TX_WRITE_QUEUE_WAIT;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Maybe;
+import io.reactivex.MaybeEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Executor which runs blocking transaction code in dedicated thread pools. Read and write transactions use separate pools which are backed by bounded
+ * queues. Unlike the Vert.x worker pool the executor does not serialize the submitted actions per context.
+ * 
+ * Actions which are submitted from within a pool thread (e.g. nested asynchronous transactions) are executed directly on the calling thread. Queueing them
+ * would block the calling pool thread while it waits for the nested result and could exhaust the pool. Results are emitted after the action has finished
+ * and on the event loop of the subscriber if there is one. Transactions which are chained to a result are thus submitted to their own pool again.
+ */
+public class TxExecutor {
+
+	private static final Logger log = LoggerFactory.getLogger(TxExecutor.class);
+
+	private static final ThreadLocal<Boolean> EXECUTOR_THREAD = ThreadLocal.withInitial(() -> false);
+
+	private final GraphStorageOptions options;
+
+	private final MetricsService metrics;
+
+	private ThreadPoolExecutor readPool;
+
+	private ThreadPoolExecutor writePool;
+
+	private Timer readQueueTimer;
+
+	private Timer writeQueueTimer;
+
+	private Timer readExecutionTimer;
+
+	private Timer writeExecutionTimer;
+
+	private AtomicLong readQueueSize;
+
+	private AtomicLong writeQueueSize;
+
+	private Counter rejectedCounter;
+
+	public TxExecutor(GraphStorageOptions options, MetricsService metrics) {
+		this.options = options;
+		this.metrics = metrics;
+		if (metrics != null && metrics.isEnabled()) {
+			readQueueTimer = metrics.timer(TX_READ_QUEUE_WAIT);
+			writeQueueTimer = metrics.timer(TX_WRITE_QUEUE_WAIT);
+			readExecutionTimer = metrics.timer(TX_READ_EXECUTION_TIME);
+			writeExecutionTimer = metrics.timer(TX_WRITE_EXECUTION_TIME);
+			readQueueSize = metrics.longGauge(TX_READ_QUEUE_SIZE);
+			writeQueueSize = metrics.longGauge(TX_WRITE_QUEUE_SIZE);
+			rejectedCounter = metrics.counter(TX_REJECTED);
+		}
+	}
+
+	/**
+	 * Execute the given action in the read pool. The returned maybe will complete without a value if the action returned null.
+	 *
+	 * @param action
+	 * @return
+	 */
+	public <T> Maybe<T> read(Callable<T> action) {
+		return execute(getReadPool(), action, readQueueTimer, readExecutionTimer, readQueueSize);
+	}
+
+	/**
+	 * Execute the given action in the write pool. The returned maybe will complete without a value if the action returned null.
+	 *
+	 * @param action
+	 * @return
+	 */
+	public <T> Maybe<T> write(Callable<T> action) {
+		return execute(getWritePool(), action, writeQueueTimer, writeExecutionTimer, writeQueueSize);
+	}
+
+	/**
+	 * Check whether the current thread is a thread of one of the pools.
+	 * 
+	 * @return
+	 */
+	public static boolean isExecutorThread() {
+		return EXECUTOR_THREAD.get();
+	}
+
+	private <T> Maybe<T> execute(ThreadPoolExecutor pool, Callable<T> action, Timer queueTimer, Timer executionTimer, AtomicLong queueSize) {
+		if (isExecutorThread()) {
+			return Maybe.fromCallable(action);
+		}
+		return Maybe.create(sub -> {
+			// The result is emitted on the event loop of the caller so that subsequent actions don't occupy the pool thread. Worker contexts may
+			// block while waiting for the result and thus get the result directly from the pool thread.
+			Context current = Vertx.currentContext();
+			Context context = current != null && current.isEventLoopContext() ? current : null;
+			long queuedAt = System.nanoTime();
+			if (queueSize != null) {
+				queueSize.incrementAndGet();
+			}
+			try {
+				pool.execute(() -> {
+					long startedAt = System.nanoTime();
+					if (queueSize != null) {
+						queueSize.decrementAndGet();
+					}
+					if (queueTimer != null) {
+						queueTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+					}
+					T result = null;
+					Throwable error = null;
+					EXECUTOR_THREAD.set(true);
+					try {
+						result = action.call();
+					} catch (Throwable e) {
+						error = e;
+					} finally {
+						EXECUTOR_THREAD.set(false);
+						if (executionTimer != null) {
+							executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+						}
+					}
+					T emittedResult = result;
+					Throwable emittedError = error;
+					if (context == null) {
+						emit(sub, emittedResult, emittedError);
+					} else {
+						context.runOnContext(v -> emit(sub, emittedResult, emittedError));
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				if (queueSize != null) {
+					queueSize.decrementAndGet();
+				}
+				if (rejectedCounter != null) {
+					rejectedCounter.increment();
+				}
+				log.warn("Transaction queue is full. Rejecting transaction.");
+				sub.onError(error(SERVICE_UNAVAILABLE, "error_tx_queue_full"));
+			}
+		});
+	}
+
+	private static <T> void emit(MaybeEmitter<T> sub, T result, Throwable error) {
+		if (error != null) {
+			sub.onError(error);
+		} else if (result == null) {
+			sub.onComplete();
+		} else {
+			sub.onSuccess(result);
+		}
+	}
+
+	private synchronized ThreadPoolExecutor getReadPool() {
+		if (readPool == null || readPool.isShutdown()) {
+			readPool = createPool("mesh-tx-read-%d", options.getTxReadPoolSize());
+		}
+		return readPool;
+	}
+
+	private synchronized ThreadPoolExecutor getWritePool() {
+		if (writePool == null || writePool.isShutdown()) {
+			writePool = createPool("mesh-tx-write-%d", options.getTxWritePoolSize());
+		}
+		return writePool;
+	}
+
+	private ThreadPoolExecutor createPool(String nameFormat, int size) {
+		if (log.isDebugEnabled()) {
+			log.debug("Creating transaction pool {" + nameFormat + "} with {" + size + "} threads");
+		}
+		return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(options.getTxQueueSize()),
+			new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build());
+	}
+
+	/**
+	 * Shutdown the pools. Queued actions will still be processed. The pools will be re-created on the next invocation.
+	 */
+	public synchronized void shutdown() {
+		if (readPool != null) {
+			readPool.shutdown();
+			readPool = null;
+		}
+		if (writePool != null) {
+			writePool.shutdown();
+			writePool = null;
+		}
+	}
+
+}
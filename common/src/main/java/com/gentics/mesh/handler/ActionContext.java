@@ -9,6 +9,7 @@ import com.gentics.mesh.core.rest.error.GenericRestException;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 
 /**
  * Abstraction of the vertx-web routing context.
@@ -97,6 +98,18 @@ public interface ActionContext {
 	 */
 	void send(String body, HttpResponseStatus status, String contentType);
 
+	/**
+	 * Send the body buffer with the given status code and contentType. Implementations which are backed by a HTTP response should write the buffer directly
+	 * to the response.
+	 * 
+	 * @param body
+	 * @param status
+	 * @param contentType
+	 */
+	default void send(Buffer body, HttpResponseStatus status, String contentType) {
+		send(body.toString(), status, contentType);
+	}
+
 	/**
 	 * Return the i18n string for the given i18n key and the parameters. This method is a wrapper that will lookup the defined locale and return a matching i18n
 	 * translation.
@@ -148,6 +161,16 @@ public interface ActionContext {
 	 */
 	String getBodyAsString();
 
+	/**
+	 * Return the raw request body.
+	 * 
+	 * @return
+	 */
+	default Buffer getBody() {
+		String body = getBodyAsString();
+		return body == null ? null : Buffer.buffer(body);
+	}
+
 	/**
 	 * Return the current set locale.
 	 * 
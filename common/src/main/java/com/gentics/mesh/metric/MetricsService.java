@@ -1,10 +1,12 @@
 package com.gentics.mesh.metric;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 public interface MetricsService {
@@ -31,11 +33,50 @@ public interface MetricsService {
 		return getMetricRegistry().timer(metric.key());
 	}
 
+	/**
+	 * Return the timer for the given metric and tags.
+	 * 
+	 * @param metric
+	 * @param tags
+	 *            Tag key/value pairs
+	 * @return
+	 */
+	default Timer timer(Metric metric, String... tags) {
+		return getMetricRegistry().timer(metric.key(), tags);
+	}
+
 	default Counter counter(Metric metric) {
 		return getMetricRegistry().counter(metric.key());
 	}
 
+	/**
+	 * Return the counter for the given metric and tags.
+	 * 
+	 * @param metric
+	 * @param tags
+	 *            Tag key/value pairs
+	 * @return
+	 */
+	default Counter counter(Metric metric, String... tags) {
+		return getMetricRegistry().counter(metric.key(), tags);
+	}
+
 	default AtomicLong longGauge(Metric metric) {
 		return getMetricRegistry().gauge(metric.key(), new AtomicLong(0));
 	}
+
+	/**
+	 * Register a gauge for the given metric and tags which reads its value from the given object. The registry only keeps a weak reference to the
+	 * object.
+	 * 
+	 * @param metric
+	 * @param obj
+	 * @param valueFunction
+	 * @param tags
+	 *            Tag key/value pairs
+	 * @return The given object
+	 */
+	default <T> T gauge(Metric metric, T obj, ToDoubleFunction<T> valueFunction, String... tags) {
+		return getMetricRegistry().gauge(metric.key(), Tags.of(tags), obj, valueFunction);
+	}
 }
@@ -13,6 +13,34 @@ public enum SimpleMetric implements Metric {
 
 	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	TX_CONFLICT("tx_conflict", "Amount of transaction conflicts per vertex class. The class is added as the 'type' tag."),
+
+	TX_RETRY_EXCEEDED("tx_retry_exceeded", "Amount of transactions which failed because the retry time budget or limit has been exceeded."),
+
+	TX_READ_QUEUE_WAIT("tx_read_queue_wait", "Timer which tracks the time read transactions wait in the queue of the transaction executor."),
+
+	TX_WRITE_QUEUE_WAIT("tx_write_queue_wait", "Timer which tracks the time write transactions wait in the queue of the transaction executor."),
+
+	TX_READ_EXECUTION_TIME("tx_read_execution_time", "Timer which tracks the execution time of read transactions in the transaction executor."),
+
+	TX_WRITE_EXECUTION_TIME("tx_write_execution_time", "Timer which tracks the execution time of write transactions in the transaction executor."),
+
+	TX_READ_QUEUE_SIZE("tx_read_queue_size", "Amount of read transactions which are currently queued in the transaction executor."),
+
+	TX_WRITE_QUEUE_SIZE("tx_write_queue_size", "Amount of write transactions which are currently queued in the transaction executor."),
+
+	TX_REJECTED("tx_rejected", "Amount of transactions which were rejected because the queue of the transaction executor was full."),
+
+	TX_IDENTITY_MAP_HIT("tx_identity_map_hit", "Amount of vertex and frame lookups which were answered by the identity map of the transaction."),
+
+	TX_IDENTITY_MAP_MISS("tx_identity_map_miss", "Amount of vertex and frame lookups which had to be loaded from the graph."),
+
+	GRAPH_POOL_ACQUIRE_TIME("graph_pool_acquire_time", "Timer which tracks the time which is needed to acquire a connection from the database pool. The pool is added as the 'pool' tag."),
+
+	GRAPH_POOL_ACTIVE("graph_pool_active", "Amount of database connections which are currently in use. The pool is added as the 'pool' tag."),
+
+	GRAPH_POOL_IDLE("graph_pool_idle", "Amount of database connections which are currently idle in the pool. The pool is added as the 'pool' tag."),
+
 	GRAPH_ELEMENT_RELOAD("graph_element_reload", "Meter which tracks the reload operations on used vertices."),
 
 	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration.");
@@ -1,7 +1,9 @@
 package com.gentics.mesh.parameter;
 
 import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.impl.BackupParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.ExportParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
@@ -55,6 +57,14 @@ public interface ParameterProviderContext extends ActionContext {
 		return new DeleteParametersImpl(this);
 	}
 
+	default BackupParameters getBackupParameters() {
+		return new BackupParametersImpl(this);
+	}
+
+	default ExportParameters getExportParameters() {
+		return new ExportParametersImpl(this);
+	}
+
 	default SchemaUpdateParameters getSchemaUpdateParameters() {
 		return new SchemaUpdateParametersImpl(this);
 	}
@@ -0,0 +1,44 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.BackupParameters;
+
+public class BackupParametersImpl extends AbstractParameters implements BackupParameters {
+
+	public BackupParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public BackupParametersImpl() {
+	}
+
+	@Override
+	public String getName() {
+		return "Backup parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// incremental
+		QueryParameter incrementalParameter = new QueryParameter();
+		incrementalParameter.setDefaultValue("false");
+		incrementalParameter.setDescription(
+			"Specify whether an incremental backup should be used. Incremental backups only contain the changes since the last incremental backup. A restore will replay all incremental backups.");
+		incrementalParameter.setExample("true");
+		incrementalParameter.setRequired(false);
+		incrementalParameter.setType(ParamType.BOOLEAN);
+		parameters.put(INCREMENTAL_PARAMETER_KEY, incrementalParameter);
+
+		return parameters;
+	}
+
+}
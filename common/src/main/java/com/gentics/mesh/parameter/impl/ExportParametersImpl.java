@@ -0,0 +1,44 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.ExportParameters;
+
+public class ExportParametersImpl extends AbstractParameters implements ExportParameters {
+
+	public ExportParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public ExportParametersImpl() {
+	}
+
+	@Override
+	public String getName() {
+		return "Export parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// resume
+		QueryParameter resumeParameter = new QueryParameter();
+		resumeParameter.setDefaultValue("false");
+		resumeParameter.setDescription(
+			"Specify whether an interrupted export or import should be continued. Clusters which have already been processed will be skipped.");
+		resumeParameter.setExample("true");
+		resumeParameter.setRequired(false);
+		resumeParameter.setType(ParamType.BOOLEAN);
+		parameters.put(RESUME_PARAMETER_KEY, resumeParameter);
+
+		return parameters;
+	}
+
+}
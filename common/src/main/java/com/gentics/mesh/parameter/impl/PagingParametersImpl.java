@@ -6,12 +6,14 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.commons.lang3.EnumUtils;
 import org.raml.model.ParamType;
 import org.raml.model.parameter.QueryParameter;
 
 import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.CountType;
 import com.gentics.mesh.parameter.PagingParameters;
 
 /**
@@ -31,13 +33,23 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		if (perPage != null && perPage < 0) {
 			error(BAD_REQUEST, "error_invalid_paging_parameters");
 		}
+		String count = getParameter(COUNT_PARAMETER_KEY);
+		if (count != null && !EnumUtils.isValidEnum(CountType.class, count.toUpperCase())) {
+			error(BAD_REQUEST, "error_invalid_paging_parameters");
+		}
+		String order = getParameter(SORT_ORDER_PARAMETER_KEY);
+		if (order != null && getOrder() == null) {
+			error(BAD_REQUEST, "error_invalid_paging_parameters");
+		}
 	}
 
 	public PagingParametersImpl(long page, Long perPage, String sortBy, SortOrder order) {
 		super();
 		setPage(page);
 		setPerPage(perPage);
-		setSortOrder(order.toString());
+		if (order != null) {
+			setSortOrder(order.getSimpleName());
+		}
 		setOrderBy(sortBy);
 	}
 
@@ -67,7 +79,10 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 	 *            Per page count
 	 */
 	public PagingParametersImpl(int page, Long perPage) {
-		this(page, perPage, "uuid", SortOrder.ASCENDING);
+		super();
+		setPage(page);
+		setPerPage(perPage);
+		setOrderBy("uuid");
 	}
 
 	@Override
@@ -98,6 +113,43 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+			"Cursor of the element after which the page should start. The cursor of the next page is returned via the nextCursor property of the paging information. The page parameter will be ignored when a cursor is specified.");
+		afterParameter.setExample("IzE2OjEyMw");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
+
+		// count
+		QueryParameter countParameter = new QueryParameter();
+		countParameter.setDefaultValue("exact");
+		countParameter.setDescription(
+			"Type of the total count which should be computed for the page (none, exact or estimate). Set the parameter to none in order to skip the count or to estimate in order to use index statistics. The totalCount and pageCount properties will be -1 if no count was computed.");
+		countParameter.setExample("none");
+		countParameter.setRequired(false);
+		countParameter.setType(ParamType.STRING);
+		parameters.put(COUNT_PARAMETER_KEY, countParameter);
+
+		// sortBy
+		QueryParameter sortByParameter = new QueryParameter();
+		sortByParameter.setDescription(
+			"Key by which the elements should be sorted. Elements can be sorted by created and edited. Users, tags and schemas can also be sorted by name and nodes by displayName. The default order will be used if no key, uuid or an unsupported key is specified.");
+		sortByParameter.setExample("edited");
+		sortByParameter.setRequired(false);
+		sortByParameter.setType(ParamType.STRING);
+		parameters.put(SORT_BY_PARAMETER_KEY, sortByParameter);
+
+		// order
+		QueryParameter orderParameter = new QueryParameter();
+		orderParameter.setDefaultValue("asc");
+		orderParameter.setDescription("Sort order of the elements (asc or desc). The order is only applied if the sortBy parameter was specified.");
+		orderParameter.setExample("desc");
+		orderParameter.setRequired(false);
+		orderParameter.setType(ParamType.STRING);
+		parameters.put(SORT_ORDER_PARAMETER_KEY, orderParameter);
 		return parameters;
 	}
 
@@ -1,8 +1,10 @@
 package com.gentics.mesh.rest.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_CBOR;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_SMILE;
 import static io.vertx.core.http.HttpMethod.DELETE;
 import static io.vertx.core.http.HttpMethod.POST;
 import static io.vertx.core.http.HttpMethod.PUT;
@@ -147,6 +149,11 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 	public InternalEndpointRoute produces(String contentType) {
 		produces.add(contentType);
 		route.produces(contentType);
+		// JSON responses can also be negotiated in the binary formats
+		if (APPLICATION_JSON.equals(contentType)) {
+			route.produces(APPLICATION_SMILE);
+			route.produces(APPLICATION_CBOR);
+		}
 		return this;
 	}
 
@@ -154,6 +161,10 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 	public InternalEndpointRoute consumes(String contentType) {
 		consumes.add(contentType);
 		route.consumes(contentType);
+		if (APPLICATION_JSON.equals(contentType)) {
+			route.consumes(APPLICATION_SMILE);
+			route.consumes(APPLICATION_CBOR);
+		}
 		return this;
 	}
 
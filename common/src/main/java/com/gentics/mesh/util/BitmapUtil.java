@@ -0,0 +1,97 @@
+package com.gentics.mesh.util;
+
+import java.util.Arrays;
+
+/**
+ * Utility for compact bitmaps which are stored as byte arrays. The bitmaps are used to store role ordinals in graph element properties. Trailing zero
+ * bytes are removed so that equal bitmaps are always stored with the same length.
+ */
+public final class BitmapUtil {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private BitmapUtil() {
+	}
+
+	/**
+	 * Return an empty bitmap.
+	 * 
+	 * @return
+	 */
+	public static byte[] empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Return a bitmap in which the given bit is set. The given bitmap will not be modified.
+	 * 
+	 * @param bitmap
+	 *            Bitmap or null for an empty bitmap
+	 * @param index
+	 * @return
+	 */
+	public static byte[] set(byte[] bitmap, int index) {
+		if (index < 0) {
+			throw new IllegalArgumentException("The bit index {" + index + "} must not be negative");
+		}
+		int byteIndex = index >>> 3;
+		byte[] result = bitmap == null ? new byte[byteIndex + 1] : Arrays.copyOf(bitmap, Math.max(bitmap.length, byteIndex + 1));
+		result[byteIndex] |= 1 << (index & 7);
+		return result;
+	}
+
+	/**
+	 * Return a bitmap in which the given bit is cleared. The given bitmap will not be modified.
+	 * 
+	 * @param bitmap
+	 *            Bitmap or null for an empty bitmap
+	 * @param index
+	 * @return
+	 */
+	public static byte[] clear(byte[] bitmap, int index) {
+		int byteIndex = index >>> 3;
+		if (bitmap == null || index < 0 || byteIndex >= bitmap.length) {
+			return bitmap == null ? EMPTY : bitmap;
+		}
+		byte[] result = bitmap.clone();
+		result[byteIndex] &= ~(1 << (index & 7));
+		int length = result.length;
+		while (length > 0 && result[length - 1] == 0) {
+			length--;
+		}
+		return length == result.length ? result : Arrays.copyOf(result, length);
+	}
+
+	/**
+	 * Check whether the bit is set.
+	 * 
+	 * @param bitmap
+	 * @param index
+	 * @return
+	 */
+	public static boolean isSet(byte[] bitmap, int index) {
+		int byteIndex = index >>> 3;
+		return bitmap != null && index >= 0 && byteIndex < bitmap.length && (bitmap[byteIndex] & (1 << (index & 7))) != 0;
+	}
+
+	/**
+	 * Check whether both bitmaps have at least one bit in common.
+	 * 
+	 * @param a
+	 * @param b
+	 * @return
+	 */
+	public static boolean intersects(byte[] a, byte[] b) {
+		if (a == null || b == null) {
+			return false;
+		}
+		int length = Math.min(a.length, b.length);
+		for (int i = 0; i < length; i++) {
+			if ((a[i] & b[i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -1,10 +1,14 @@
 package com.gentics.mesh.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -130,4 +134,42 @@ public final class StreamUtil {
 			}
 		};
 	}
+
+	/**
+	 * Filters the items of the stream in batches. The items are lazily pulled from the stream and the filter function is invoked once for every batch of up
+	 * to {@code batchSize} items. The returned predicate is used to filter the items of the batch. The order of the items is retained.
+	 *
+	 * @param stream
+	 * @param batchSize
+	 * @param batchFilter
+	 *            Function which creates the filter for the given batch
+	 * @param <T>
+	 * @return
+	 */
+	public static <T> Stream<T> filterInBatches(Stream<T> stream, int batchSize, Function<List<T>, Predicate<T>> batchFilter) {
+		Iterator<T> source = stream.iterator();
+		return toStream(new Iterator<T>() {
+			Iterator<T> batch = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!batch.hasNext() && source.hasNext()) {
+					List<T> items = new ArrayList<>(batchSize);
+					while (items.size() < batchSize && source.hasNext()) {
+						items.add(source.next());
+					}
+					batch = items.stream().filter(batchFilter.apply(items)).iterator();
+				}
+				return batch.hasNext();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return batch.next();
+			}
+		});
+	}
 }
@@ -0,0 +1,118 @@
+package com.gentics.mesh.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.IntConsumer;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Output stream which limits the rate at which the data will be written to the wrapped stream. The writing thread will be blocked until the data can
+ * be written without exceeding the rate. Streams which share the same {@link RateLimiter} also share the rate.
+ */
+public class ThrottledOutputStream extends FilterOutputStream {
+
+	/**
+	 * Maximum amount of bytes which will be written at once. Smaller chunks keep the written data evenly distributed.
+	 */
+	private static final int CHUNK_SIZE = 8192;
+
+	private final IntConsumer limiter;
+
+	/**
+	 * Create a new stream.
+	 * 
+	 * @param out
+	 *            Wrapped stream
+	 * @param bytesPerSecond
+	 *            Maximum amount of bytes which will be written per second
+	 */
+	public ThrottledOutputStream(OutputStream out, long bytesPerSecond) {
+		this(out, createLimiter(bytesPerSecond));
+	}
+
+	/**
+	 * Create a new stream which uses the given limiter. A permit of the limiter corresponds to a single byte.
+	 * 
+	 * @param out
+	 *            Wrapped stream
+	 * @param limiter
+	 */
+	public ThrottledOutputStream(OutputStream out, RateLimiter limiter) {
+		this(out, (IntConsumer) limiter::acquire);
+	}
+
+	/**
+	 * Create a new stream which acquires the permits for the written bytes via the given function.
+	 * 
+	 * @param out
+	 * @param limiter
+	 *            Function which blocks until the given amount of bytes may be written
+	 */
+	ThrottledOutputStream(OutputStream out, IntConsumer limiter) {
+		super(out);
+		this.limiter = limiter;
+	}
+
+	/**
+	 * Create a limiter for the given rate.
+	 * 
+	 * @param bytesPerSecond
+	 * @return
+	 */
+	public static RateLimiter createLimiter(long bytesPerSecond) {
+		if (bytesPerSecond <= 0) {
+			throw new IllegalArgumentException("The rate must be greater than zero but was {" + bytesPerSecond + "}");
+		}
+		return RateLimiter.create(bytesPerSecond);
+	}
+
+	/**
+	 * Wrap the given stream if a rate has been specified.
+	 * 
+	 * @param out
+	 * @param bytesPerSecond
+	 *            Maximum amount of bytes which will be written per second. The stream will not be throttled if the value is zero or negative.
+	 * @return
+	 */
+	public static OutputStream wrap(OutputStream out, long bytesPerSecond) {
+		if (bytesPerSecond <= 0) {
+			return out;
+		}
+		return new ThrottledOutputStream(out, bytesPerSecond);
+	}
+
+	/**
+	 * Wrap the given stream if a limiter has been specified.
+	 * 
+	 * @param out
+	 * @param limiter
+	 *            Limiter to be used. The stream will not be throttled if the limiter is null.
+	 * @return
+	 */
+	public static OutputStream wrap(OutputStream out, RateLimiter limiter) {
+		if (limiter == null) {
+			return out;
+		}
+		return new ThrottledOutputStream(out, limiter);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		limiter.accept(1);
+		out.write(b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		int written = 0;
+		while (written < len) {
+			int chunk = Math.min(CHUNK_SIZE, len - written);
+			limiter.accept(chunk);
+			out.write(b, off + written, chunk);
+			written += chunk;
+		}
+	}
+
+}
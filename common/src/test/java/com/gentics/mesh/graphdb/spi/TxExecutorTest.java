@@ -0,0 +1,103 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+
+public class TxExecutorTest {
+
+	private TxExecutor executor;
+
+	@After
+	public void shutdown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testReadAndWrite() {
+		executor = new TxExecutor(new GraphStorageOptions(), null);
+		String readThread = executor.read(() -> Thread.currentThread().getName()).blockingGet();
+		String writeThread = executor.write(() -> Thread.currentThread().getName()).blockingGet();
+		assertThat(readThread).startsWith("mesh-tx-read-");
+		assertThat(writeThread).startsWith("mesh-tx-write-");
+	}
+
+	@Test
+	public void testNullResult() {
+		executor = new TxExecutor(new GraphStorageOptions(), null);
+		assertThat(executor.read(() -> null).isEmpty().blockingGet()).isTrue();
+	}
+
+	@Test
+	public void testError() {
+		executor = new TxExecutor(new GraphStorageOptions(), null);
+		try {
+			executor.write(() -> {
+				throw new IllegalStateException("test");
+			}).blockingGet();
+			fail("The error should have been emitted");
+		} catch (IllegalStateException e) {
+			assertEquals("test", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testNestedWrite() {
+		GraphStorageOptions options = new GraphStorageOptions().setTxWritePoolSize(1).setTxQueueSize(1);
+		executor = new TxExecutor(options, null);
+		String outerThread = executor.write(() -> {
+			// The nested action would otherwise wait for the only write thread which is blocked by this action
+			String innerThread = executor.write(() -> Thread.currentThread().getName()).timeout(5, TimeUnit.SECONDS).blockingGet();
+			assertEquals(Thread.currentThread().getName(), innerThread);
+			return innerThread;
+		}).blockingGet();
+		assertThat(outerThread).startsWith("mesh-tx-write-");
+		assertThat(TxExecutor.isExecutorThread()).isFalse();
+	}
+
+	@Test
+	public void testChainedWrite() {
+		executor = new TxExecutor(new GraphStorageOptions(), null);
+		// The result of the read is emitted after the read action finished. The chained write is thus executed by the write pool.
+		String writeThread = executor.read(() -> true)
+			.flatMap(result -> executor.write(() -> Thread.currentThread().getName()))
+			.timeout(5, TimeUnit.SECONDS)
+			.blockingGet();
+		assertThat(writeThread).startsWith("mesh-tx-write-");
+	}
+
+	@Test
+	public void testQueueFull() throws InterruptedException {
+		GraphStorageOptions options = new GraphStorageOptions().setTxWritePoolSize(1).setTxQueueSize(1);
+		executor = new TxExecutor(options, null);
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.write(() -> {
+			running.countDown();
+			return release.await(10, TimeUnit.SECONDS);
+		}).subscribe();
+		assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+		// Occupies the single queue slot
+		executor.write(() -> true).subscribe();
+		try {
+			executor.write(() -> true).blockingGet();
+			fail("The transaction should have been rejected");
+		} catch (GenericRestException e) {
+			assertEquals("error_tx_queue_full", e.getI18nKey());
+		} finally {
+			release.countDown();
+		}
+	}
+
+}
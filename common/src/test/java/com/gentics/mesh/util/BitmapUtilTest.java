@@ -0,0 +1,42 @@
+package com.gentics.mesh.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class BitmapUtilTest {
+
+	@Test
+	public void testSetAndClear() {
+		byte[] bitmap = BitmapUtil.set(null, 0);
+		bitmap = BitmapUtil.set(bitmap, 17);
+		assertThat(bitmap).hasSize(3);
+		assertThat(BitmapUtil.isSet(bitmap, 0)).isTrue();
+		assertThat(BitmapUtil.isSet(bitmap, 17)).isTrue();
+		assertThat(BitmapUtil.isSet(bitmap, 1)).isFalse();
+		assertThat(BitmapUtil.isSet(bitmap, 1000)).isFalse();
+
+		byte[] cleared = BitmapUtil.clear(bitmap, 17);
+		assertThat(cleared).hasSize(1);
+		assertThat(BitmapUtil.isSet(cleared, 17)).isFalse();
+		assertThat(BitmapUtil.isSet(bitmap, 17)).as("The original bitmap must not be modified").isTrue();
+
+		assertThat(BitmapUtil.clear(cleared, 0)).isEmpty();
+		assertThat(BitmapUtil.clear(null, 3)).isEmpty();
+	}
+
+	@Test
+	public void testIntersects() {
+		byte[] a = BitmapUtil.set(BitmapUtil.set(null, 3), 64);
+		byte[] b = BitmapUtil.set(null, 64);
+		byte[] c = BitmapUtil.set(null, 4);
+
+		assertThat(BitmapUtil.intersects(a, b)).isTrue();
+		assertThat(BitmapUtil.intersects(b, a)).isTrue();
+		assertThat(BitmapUtil.intersects(a, c)).isFalse();
+		assertThat(BitmapUtil.intersects(b, c)).isFalse();
+		assertThat(BitmapUtil.intersects(a, BitmapUtil.empty())).isFalse();
+		assertThat(BitmapUtil.intersects(a, null)).isFalse();
+	}
+
+}
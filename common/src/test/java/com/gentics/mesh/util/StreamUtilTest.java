@@ -3,6 +3,8 @@ package com.gentics.mesh.util;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.Test;
@@ -40,4 +42,28 @@ public class StreamUtilTest {
 		.map(AbstractMap.SimpleImmutableEntry::getKey))
 		.containsExactly("a", "b", "c", "d");
 	}
+
+	@Test
+	public void testFilterInBatches() {
+		List<Integer> batchSizes = new ArrayList<>();
+		Stream<Integer> stream = StreamUtil.filterInBatches(Stream.of(1, 2, 3, 4, 5, 6, 7), 3, batch -> {
+			batchSizes.add(batch.size());
+			return i -> i % 2 == 0;
+		});
+
+		assertThat(stream).containsExactly(2, 4, 6);
+		assertThat(batchSizes).containsExactly(3, 3, 1);
+	}
+
+	@Test
+	public void testFilterInBatchesIsLazy() {
+		List<Integer> batchSizes = new ArrayList<>();
+		Stream<Integer> stream = StreamUtil.filterInBatches(Stream.of(1, 2, 3, 4, 5, 6, 7), 2, batch -> {
+			batchSizes.add(batch.size());
+			return i -> true;
+		});
+
+		assertThat(stream.limit(3)).containsExactly(1, 2, 3);
+		assertThat(batchSizes).containsExactly(2, 2);
+	}
 }
@@ -0,0 +1,64 @@
+package com.gentics.mesh.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+public class ThrottledOutputStreamTest {
+
+	@Test
+	public void testWrite() throws IOException {
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		byte[] data = new byte[20_000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) i;
+		}
+		try (OutputStream out = ThrottledOutputStream.wrap(target, 1024 * 1024)) {
+			out.write(data);
+			out.write(42);
+		}
+		assertThat(target.size()).isEqualTo(data.length + 1);
+		assertThat(target.toByteArray()[data.length - 1]).isEqualTo(data[data.length - 1]);
+		assertThat(target.toByteArray()[data.length]).isEqualTo((byte) 42);
+	}
+
+	@Test
+	public void testThrottle() throws IOException {
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		List<Integer> permits = new ArrayList<>();
+		// Each permit must be acquired before the matching bytes are written
+		try (OutputStream out = new ThrottledOutputStream(target, chunk -> {
+			assertThat(target.size()).isEqualTo(permits.stream().mapToInt(Integer::intValue).sum());
+			permits.add(chunk);
+		})) {
+			out.write(new byte[20_000]);
+			out.write(42);
+		}
+		assertThat(permits).containsExactly(8192, 8192, 3616, 1);
+		assertThat(target.size()).isEqualTo(20_001);
+	}
+
+	@Test
+	public void testSharedLimiter() {
+		RateLimiter limiter = ThrottledOutputStream.createLimiter(1000);
+		assertThat(ThrottledOutputStream.wrap(new ByteArrayOutputStream(), limiter)).isInstanceOf(ThrottledOutputStream.class);
+		assertThat(limiter.getRate()).isEqualTo(1000);
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		assertThat(ThrottledOutputStream.wrap(target, (RateLimiter) null)).isSameAs(target);
+	}
+
+	@Test
+	public void testUnlimited() {
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		assertThat(ThrottledOutputStream.wrap(target, 0)).isSameAs(target);
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_LATEST_BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for links which were rendered by the link replacer.
+ *
+ * Node events only invalidate the links which point to the node or one of its descendants. Branch events invalidate the links which were rendered for
+ * the branch and project events invalidate the links of the project, since the name of the project and the latest branch are part of the links. Each
+ * event also increments the generation of the cache. Links which were rendered while the generation changed will not be stored.
+ */
+@Singleton
+public class LinkCacheImpl extends AbstractMeshCache<String, CachedLink> implements LinkCache {
+
+	private static final Logger log = LoggerFactory.getLogger(LinkCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		SCHEMA_MIGRATION_FINISHED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		PROJECT_LATEST_BRANCH_UPDATED };
+
+	private final AtomicLong generation;
+
+	@Inject
+	public LinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(factory, registry, options, new AtomicLong());
+	}
+
+	private LinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, AtomicLong generation) {
+		super(createCache(factory, options.getCacheConfig(), generation), registry, options.getCacheConfig().getLinkCacheSize());
+		this.generation = generation;
+	}
+
+	private static EventAwareCache<String, CachedLink> createCache(EventAwareCacheFactory factory, CacheConfig config, AtomicLong generation) {
+		return factory.<String, CachedLink>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Invalidating links due to received event from {" + event.address() + "}");
+				}
+				// Links which are currently rendered may already be outdated and must not be stored
+				generation.incrementAndGet();
+				invalidate(event, cache);
+			})
+			.name("link")
+			.maxSize(config.getLinkCacheSize())
+			.build();
+	}
+
+	/**
+	 * Invalidate the links which are affected by the event.
+	 *
+	 * @param event
+	 * @param cache
+	 */
+	private static void invalidate(Message<JsonObject> event, EventAwareCache<String, CachedLink> cache) {
+		JsonObject body = event.body();
+		String address = event.address();
+		String uuid = body == null ? null : body.getString("uuid");
+		if (body == null) {
+			cache.invalidate();
+		} else if (address.startsWith("mesh.node") && uuid != null) {
+			cache.invalidateDependents(uuid);
+		} else if ((BRANCH_UPDATED.address.equals(address) || BRANCH_DELETED.address.equals(address)) && uuid != null) {
+			cache.invalidateDependents(uuid);
+		} else if (SCHEMA_MIGRATION_FINISHED.address.equals(address) && body.getJsonObject("branch") != null
+			&& body.getJsonObject("branch").getString("uuid") != null) {
+			cache.invalidateDependents(body.getJsonObject("branch").getString("uuid"));
+		} else if ((PROJECT_UPDATED.address.equals(address) || PROJECT_DELETED.address.equals(address)) && uuid != null) {
+			cache.invalidateDependents(uuid);
+		} else if (PROJECT_LATEST_BRANCH_UPDATED.address.equals(address) && body.getJsonObject("project") != null
+			&& body.getJsonObject("project").getString("uuid") != null) {
+			cache.invalidateDependents(body.getJsonObject("project").getString("uuid"));
+		} else {
+			cache.invalidate();
+		}
+	}
+
+	@Override
+	public String getLink(String key) {
+		if (isDisabled()) {
+			return null;
+		}
+		CachedLink link = cache.get(key);
+		return link == null ? null : link.getLink();
+	}
+
+	@Override
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	@Override
+	public void store(String key, long loadedGeneration, CachedLink link) {
+		if (isDisabled() || generation.get() != loadedGeneration) {
+			return;
+		}
+		// The link is indexed by the uuids of its nodes and its scope so that events don't need to scan the cache
+		Set<String> dependencies = new HashSet<>(link.getNodeUuids());
+		dependencies.add(link.getProjectUuid());
+		dependencies.add(link.getBranchUuid());
+		cache.put(key, link, dependencies);
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for the children of nodes which are used to build navigation responses.
+ *
+ * The cache is maintained incrementally. Creating a node only invalidates the children of its parent node. Moving or deleting a node invalidates the
+ * children of the node and the entries in which the node is listed as a child. Branch migrations and deleted branches or projects invalidate the entries
+ * of the affected scope. Schema updates invalidate all entries since the container flag of the children may have changed.
+ */
+@Singleton
+public class NavigationTreeCacheImpl extends AbstractMeshCache<String, CachedNavigationChildren> implements NavigationTreeCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NavigationTreeCacheImpl.class);
+
+	/**
+	 * Prefix of the dependency which is only invalidated when the children of the parent node change. Changes of the parent node itself invalidate the
+	 * dependency on its uuid.
+	 */
+	private static final String PARENT = "parent:";
+
+	private static final MeshEvent EVENTS[] = {
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_DELETED,
+		NODE_MOVED,
+		BRANCH_DELETED,
+		BRANCH_MIGRATION_FINISHED,
+		PROJECT_DELETED,
+		SCHEMA_UPDATED,
+		GRAPH_RESTORE_FINISHED,
+		GRAPH_IMPORT_FINISHED,
+		REPAIR_FINISHED };
+
+	@Inject
+	public NavigationTreeCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getNavigationCacheSize());
+	}
+
+	private static EventAwareCache<String, CachedNavigationChildren> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, CachedNavigationChildren>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Invalidating navigation tree entries due to received event from {" + event.address() + "}");
+				}
+				invalidate(event, cache);
+			})
+			.name("navigation")
+			.maxSize(config.getNavigationCacheSize())
+			.build();
+	}
+
+	/**
+	 * Invalidate the entries which are affected by the event.
+	 *
+	 * @param event
+	 * @param cache
+	 */
+	private static void invalidate(Message<JsonObject> event, EventAwareCache<String, CachedNavigationChildren> cache) {
+		JsonObject body = event.body();
+		String address = event.address();
+		String uuid = body == null ? null : body.getString("uuid");
+		if (body == null) {
+			cache.invalidate();
+		} else if (NODE_CONTENT_CREATED.address.equals(address) && uuid != null) {
+			// A new node is added to the children of its parent
+			String branchUuid = body.getString("branchUuid");
+			String parentUuid = body.getString("parentNodeUuid");
+			if (parentUuid == null) {
+				cache.invalidate();
+			} else {
+				cache.invalidateDependents(uuid);
+				if (branchUuid == null) {
+					cache.invalidateDependents(PARENT + parentUuid);
+				} else {
+					cache.invalidate(createCacheKey(branchUuid, parentUuid));
+				}
+			}
+		} else if (NODE_MOVED.address.equals(address) && uuid != null) {
+			JsonObject target = body.getJsonObject("target");
+			String targetUuid = target == null ? null : target.getString("uuid");
+			if (targetUuid == null) {
+				cache.invalidate();
+			} else {
+				cache.invalidateDependents(uuid);
+				cache.invalidateDependents(PARENT + targetUuid);
+			}
+		} else if ((NODE_DELETED.address.equals(address) || NODE_CONTENT_DELETED.address.equals(address)) && uuid != null) {
+			cache.invalidateDependents(uuid);
+		} else if (BRANCH_DELETED.address.equals(address) && uuid != null) {
+			cache.invalidateDependents(uuid);
+		} else if (BRANCH_MIGRATION_FINISHED.address.equals(address) && body.getJsonObject("branch") != null
+			&& body.getJsonObject("branch").getString("uuid") != null) {
+			cache.invalidateDependents(body.getJsonObject("branch").getString("uuid"));
+		} else if (PROJECT_DELETED.address.equals(address) && uuid != null) {
+			cache.invalidateDependents(uuid);
+		} else {
+			cache.invalidate();
+		}
+	}
+
+	@Override
+	public List<CachedNavigationChild> getChildren(String branchUuid, String parentUuid) {
+		if (isDisabled()) {
+			return null;
+		}
+		CachedNavigationChildren entry = cache.get(createCacheKey(branchUuid, parentUuid));
+		return entry == null ? null : entry.getChildren();
+	}
+
+	@Override
+	public void store(String projectUuid, String branchUuid, String parentUuid, List<CachedNavigationChild> children) {
+		if (isDisabled()) {
+			return;
+		}
+		// The entry is indexed by the uuids of the children, the parent and its scope so that events don't need to scan the cache
+		Set<String> dependencies = new HashSet<>();
+		for (CachedNavigationChild child : children) {
+			dependencies.add(child.getUuid());
+		}
+		dependencies.add(parentUuid);
+		dependencies.add(PARENT + parentUuid);
+		dependencies.add(projectUuid);
+		dependencies.add(branchUuid);
+		cache.put(createCacheKey(branchUuid, parentUuid), new CachedNavigationChildren(projectUuid, branchUuid, parentUuid, children), dependencies);
+	}
+
+	private static String createCacheKey(String branchUuid, String parentUuid) {
+		return branchUuid + "-" + parentUuid;
+	}
+
+}
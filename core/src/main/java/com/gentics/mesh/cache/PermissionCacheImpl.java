@@ -3,47 +3,87 @@ package com.gentics.mesh.cache;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.etc.config.MeshOptions;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * Invalidation is handled via generations. Each user and each element is mapped to a generation stripe and the cache keys contain the generations which
+ * were current when the entries were stored. Changes to the roles of a user or the permissions of an element increment the generation of the affected
+ * stripe. Entries of older generations will no longer be found and eventually get evicted.
  */
 @Singleton
-public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
+public class PermissionCacheImpl extends AbstractMeshCache<PermissionCacheKey, Boolean> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	private static final String USERS_KEY = "users";
+
+	private static final String ELEMENTS_KEY = "elements";
+
+	/**
+	 * Amount of generation stripes for users. Must be a power of two.
+	 */
+	private static final int USER_STRIPES = 1024;
+
+	/**
+	 * Amount of generation stripes for elements. Must be a power of two.
+	 */
+	private static final int ELEMENT_STRIPES = 8192;
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
+	private final AtomicLongArray userGenerations;
+
+	private final AtomicLongArray elementGenerations;
+
 	private static final long CACHE_SIZE = 100_000;
 
 	@Inject
 	public PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory), registry, CACHE_SIZE);
+		this(factory, vertx, registry, options, new AtomicLongArray(USER_STRIPES), new AtomicLongArray(ELEMENT_STRIPES));
+	}
+
+	private PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options, AtomicLongArray userGenerations,
+		AtomicLongArray elementGenerations) {
+		super(createCache(factory, userGenerations, elementGenerations), registry, CACHE_SIZE);
 		this.vertx = vertx;
 		this.options = options;
+		this.userGenerations = userGenerations;
+		this.elementGenerations = elementGenerations;
 	}
 
-	private static EventAwareCache<String, Boolean> createCache(EventAwareCacheFactory factory) {
-		return factory.<String, Boolean>builder()
+	private static EventAwareCache<PermissionCacheKey, Boolean> createCache(EventAwareCacheFactory factory, AtomicLongArray userGenerations,
+		AtomicLongArray elementGenerations) {
+		return factory.<PermissionCacheKey, Boolean>builder()
 			.events(CLEAR_PERMISSION_STORE)
 			.action((event, cache) -> {
 				if (log.isDebugEnabled()) {
-					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+					log.debug("Updating permission store due to received event from {" + event.address() + "}");
+				}
+				JsonObject body = event.body();
+				if (body == null) {
+					cache.invalidate();
+				} else {
+					increment(userGenerations, body.getJsonArray(USERS_KEY));
+					increment(elementGenerations, body.getJsonArray(ELEMENTS_KEY));
 				}
-				cache.invalidate();
 			})
 			.expireAfter(30, ChronoUnit.MINUTES)
 			.maxSize(CACHE_SIZE)
@@ -52,37 +92,62 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	}
 
 	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
-	 * @param userId
-	 *            Vertex id of the user
-	 * @param permission
-	 *            Permission to check against
-	 * @param elementId
-	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
+	 * Increment the generations of the given stripes.
+	 *
+	 * @param generations
+	 * @param stripes
+	 */
+	private static void increment(AtomicLongArray generations, JsonArray stripes) {
+		if (generations == null || stripes == null) {
+			return;
+		}
+		for (int i = 0; i < stripes.size(); i++) {
+			generations.incrementAndGet(stripes.getInteger(i));
+		}
+	}
+
+	/**
+	 * Determine the generation stripe for the id. The hashcode of the id is used since it is stable across instances.
+	 *
+	 * @param id
+	 * @param stripes
+	 *            Amount of stripes
+	 * @return
 	 */
-	public boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = cache.get(key);
-		return cachedPerm != null && cachedPerm;
+	private static int stripe(Object id, int stripes) {
+		int h = id.hashCode();
+		return (h ^ (h >>> 16)) & (stripes - 1);
+	}
+
+	@Override
+	public PermissionCacheKey createKey(Object userId, GraphPermission permission, Object elementId) {
+		long userGeneration = userGenerations.get(stripe(userId, USER_STRIPES));
+		long elementGeneration = elementGenerations.get(stripe(elementId, ELEMENT_STRIPES));
+		return new PermissionCacheKey(userId, permission, elementId, userGeneration, elementGeneration);
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
+	 * Return the stored result of the permission check.
+	 *
 	 * @param userId
+	 *            Vertex id of the user
 	 * @param permission
+	 *            Permission to check against
 	 * @param elementId
-	 * @return
+	 *            Vertex id of the element to which permissions should be checked
+	 * @return Cached result or null if the permission check was not cached for the current generations
 	 */
-	private String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	@Override
+	public Boolean getPermission(Object userId, GraphPermission permission, Object elementId) {
+		if (isDisabled()) {
+			return null;
+		}
+		return cache.get(createKey(userId, permission, elementId));
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 */
 	@Override
@@ -92,7 +157,6 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		if (notify && options.getClusterOptions().isEnabled()) {
 			// Send the event to inform other to purge the stored permissions
 			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
-			// log.error("Can't distribute cache clear event. Maybe Vert.x is stopping / starting right now");
 		}
 	}
 
@@ -104,17 +168,73 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		clear(true);
 	}
 
+	@Override
+	public void invalidateUsers(Object... userIds) {
+		invalidate(USERS_KEY, userGenerations, USER_STRIPES, userIds);
+	}
+
+	@Override
+	public void invalidateElements(Object... elementIds) {
+		invalidate(ELEMENTS_KEY, elementGenerations, ELEMENT_STRIPES, elementIds);
+	}
+
 	/**
-	 * Store a granting permission in the cache.
-	 * 
-	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
-	 * @param permission
-	 *            Permission which is granted
-	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 * Increment the generations of the stripes of the given ids and notify other instances in the cluster. Within a write transaction the generations are
+	 * incremented again and the other instances are only notified once the transaction completes. Otherwise results which were evaluated by concurrent
+	 * transactions before the change was committed could still be stored for the new generations.
+	 *
+	 * @param key
+	 *            Key of the stripes within the event
+	 * @param generations
+	 * @param stripes
+	 * @param ids
 	 */
-	public void store(Object userId, GraphPermission permission, Object elementId) {
-		cache.put(createCacheKey(userId, permission, elementId), true);
+	private void invalidate(String key, AtomicLongArray generations, int stripes, Object... ids) {
+		if (ids.length == 0) {
+			return;
+		}
+		JsonArray changedStripes = new JsonArray();
+		for (Object id : ids) {
+			changedStripes.add(stripe(id, stripes));
+		}
+		// Invalidate right away so that the changing transaction does not use outdated entries
+		increment(generations, changedStripes);
+		Tx tx = Tx.getActive();
+		if (tx != null && !tx.isReadOnly()) {
+			tx.getGraph().afterCompletion(() -> publish(key, generations, changedStripes));
+		} else {
+			publish(key, null, changedStripes);
+		}
+	}
+
+	/**
+	 * Optionally increment the generations of the stripes and notify other instances in the cluster.
+	 *
+	 * @param key
+	 * @param generations
+	 *            Generations to increment or null
+	 * @param changedStripes
+	 */
+	private void publish(String key, AtomicLongArray generations, JsonArray changedStripes) {
+		increment(generations, changedStripes);
+		if (options.getClusterOptions().isEnabled()) {
+			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, new JsonObject().put(key, changedStripes));
+		}
+	}
+
+	/**
+	 * Store the result of a permission check in the cache.
+	 *
+	 * @param key
+	 *            Key which was created before the permission was evaluated
+	 * @param granted
+	 *            Whether the permission was granted
+	 */
+	@Override
+	public void store(PermissionCacheKey key, boolean granted) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(key, granted);
 	}
 }
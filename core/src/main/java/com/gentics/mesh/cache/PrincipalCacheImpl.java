@@ -0,0 +1,135 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PRINCIPAL_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Short-lived cache for the principals of authenticated users. The cache allows authenticating requests without loading the user within a transaction.
+ * Entries of a user are removed when the user gets updated or deleted. Changes to the group or role assignments will invalidate the whole cache since the
+ * affected users are not part of the events.
+ */
+@Singleton
+public class PrincipalCacheImpl extends AbstractMeshCache<String, CachedPrincipal> implements PrincipalCache {
+
+	private static final Logger log = LoggerFactory.getLogger(PrincipalCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		USER_UPDATED,
+		USER_DELETED,
+		GROUP_USER_ASSIGNED,
+		GROUP_USER_UNASSIGNED,
+		GROUP_ROLE_ASSIGNED,
+		GROUP_ROLE_UNASSIGNED,
+		GROUP_DELETED,
+		ROLE_DELETED,
+		CLEAR_PRINCIPAL_STORE };
+
+	private static final String KEY_SEPARATOR = "-";
+
+	private final Vertx vertx;
+
+	private final MeshOptions options;
+
+	@Inject
+	public PrincipalCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getPrincipalCacheSize());
+		this.vertx = vertx;
+		this.options = options;
+	}
+
+	private static EventAwareCache<String, CachedPrincipal> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, CachedPrincipal>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				String userUuid = getUserUuid(event);
+				if (log.isDebugEnabled()) {
+					log.debug("Invalidating principals of user {" + userUuid + "} due to received event from {" + event.address() + "}");
+				}
+				if (userUuid != null) {
+					String prefix = userUuid + KEY_SEPARATOR;
+					cache.invalidate(key -> key.startsWith(prefix));
+				} else {
+					cache.invalidate();
+				}
+			})
+			.expireAfter(5, ChronoUnit.MINUTES)
+			.maxSize(config.getPrincipalCacheSize())
+			.name("principal")
+			.build();
+	}
+
+	/**
+	 * Determine the uuid of the user which is affected by the event.
+	 *
+	 * @param event
+	 * @return Uuid of the user or null if the event may affect all users
+	 */
+	private static String getUserUuid(Message<JsonObject> event) {
+		JsonObject body = event.body();
+		if (body == null) {
+			return null;
+		}
+		String address = event.address();
+		if (GROUP_USER_ASSIGNED.address.equals(address) || GROUP_USER_UNASSIGNED.address.equals(address)) {
+			JsonObject user = body.getJsonObject("user");
+			return user == null ? null : user.getString("uuid");
+		}
+		if (USER_UPDATED.address.equals(address) || USER_DELETED.address.equals(address) || CLEAR_PRINCIPAL_STORE.address.equals(address)) {
+			return body.getString("uuid");
+		}
+		return null;
+	}
+
+	private static String createCacheKey(String userUuid, String tokenId) {
+		return userUuid + KEY_SEPARATOR + tokenId;
+	}
+
+	@Override
+	public CachedPrincipal getPrincipal(String userUuid, String tokenId) {
+		if (isDisabled()) {
+			return null;
+		}
+		return cache.get(createCacheKey(userUuid, tokenId));
+	}
+
+	@Override
+	public void store(String userUuid, String tokenId, CachedPrincipal principal) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(createCacheKey(userUuid, tokenId), principal);
+	}
+
+	@Override
+	public void invalidateUser(String userUuid) {
+		String prefix = userUuid + KEY_SEPARATOR;
+		cache.invalidate(key -> key.startsWith(prefix));
+		if (options.getClusterOptions().isEnabled()) {
+			vertx.eventBus().publish(CLEAR_PRINCIPAL_STORE.address, new JsonObject().put("uuid", userUuid));
+		}
+	}
+
+}
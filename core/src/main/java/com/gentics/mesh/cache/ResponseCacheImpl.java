@@ -0,0 +1,249 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.REPAIR_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Opt-in cache for serialized node responses.
+ *
+ * Rendered responses may contain information of other elements of the project (e.g. breadcrumbs, references or tags). Events of a project will thus
+ * invalidate all entries of the project. Events which may affect elements of all projects (e.g. permission or schema changes) invalidate the whole cache.
+ * Each event also increments a generation. Responses are only stored if the generation did not change while they were rendered, since the rendered
+ * response may otherwise contain data which was changed before the event was received.
+ */
+@Singleton
+public class ResponseCacheImpl extends AbstractMeshCache<String, CachedResponse> implements ResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ResponseCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		NODE_CREATED,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_TAGGED,
+		NODE_UNTAGGED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_REFERENCE_UPDATED,
+		TAG_UPDATED,
+		TAG_DELETED,
+		TAG_FAMILY_UPDATED,
+		TAG_FAMILY_DELETED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		BRANCH_MIGRATION_FINISHED,
+		SCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_MIGRATION_FINISHED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		SCHEMA_UPDATED,
+		MICROSCHEMA_UPDATED,
+		ROLE_PERMISSIONS_CHANGED,
+		USER_UPDATED,
+		USER_DELETED,
+		GRAPH_RESTORE_FINISHED,
+		GRAPH_IMPORT_FINISHED,
+		REPAIR_FINISHED };
+
+	private static final String KEY_SEPARATOR = "-";
+
+	private final List<String> excludedProjects;
+
+	private final Generations generations;
+
+	@Inject
+	public ResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(factory, registry, options, new Generations());
+	}
+
+	private ResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, Generations generations) {
+		super(createCache(factory, options.getCacheConfig(), generations), registry, options.getCacheConfig().getResponseCacheSize());
+		this.excludedProjects = options.getCacheConfig().getResponseCacheExcludedProjects();
+		this.generations = generations;
+	}
+
+	private static EventAwareCache<String, CachedResponse> createCache(EventAwareCacheFactory factory, CacheConfig config, Generations generations) {
+		return factory.<String, CachedResponse>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				String projectUuid = getProjectUuid(event);
+				if (log.isDebugEnabled()) {
+					log.debug("Invalidating responses of project {" + projectUuid + "} due to received event from {" + event.address() + "}");
+				}
+				// Responses which are currently rendered may already be outdated and must not be stored
+				generations.increment(projectUuid);
+				if (projectUuid != null) {
+					cache.invalidateDependents(projectUuid);
+				} else {
+					cache.invalidate();
+				}
+			})
+			.name("response")
+			.maxSize(config.getResponseCacheSize())
+			.build();
+	}
+
+	/**
+	 * Determine the uuid of the project which is affected by the event.
+	 *
+	 * @param event
+	 * @return Uuid of the project or null if the event may affect all projects
+	 */
+	private static String getProjectUuid(Message<JsonObject> event) {
+		JsonObject body = event.body();
+		if (body == null) {
+			return null;
+		}
+		String address = event.address();
+		if (PROJECT_UPDATED.address.equals(address) || PROJECT_DELETED.address.equals(address)) {
+			return body.getString("uuid");
+		}
+		if (ROLE_PERMISSIONS_CHANGED.address.equals(address)) {
+			return null;
+		}
+		JsonObject project = body.getJsonObject("project");
+		return project == null ? null : project.getString("uuid");
+	}
+
+	@Override
+	public boolean isCacheable(InternalActionContext ac) {
+		if (isDisabled()) {
+			return false;
+		}
+		Project project = ac.getProject();
+		if (project == null) {
+			return false;
+		}
+		return excludedProjects == null || !excludedProjects.contains(project.getName());
+	}
+
+	@Override
+	public String createKey(InternalActionContext ac, String scope, String id) {
+		StringBuilder key = new StringBuilder();
+		key.append(ac.getProject().getUuid());
+		key.append(KEY_SEPARATOR);
+		key.append(ac.getBranch().getUuid());
+		key.append(KEY_SEPARATOR);
+		key.append(scope);
+		key.append(KEY_SEPARATOR);
+		key.append(id);
+		key.append(KEY_SEPARATOR);
+		key.append(ac.getUser().getRolesHash());
+		key.append(KEY_SEPARATOR);
+		key.append(ac.getResponseFormat().name());
+		String query = ac.query();
+		if (query != null) {
+			key.append("?");
+			key.append(query);
+		}
+		return key.toString();
+	}
+
+	@Override
+	public long getGeneration(InternalActionContext ac) {
+		return generations.get(ac.getProject().getUuid());
+	}
+
+	@Override
+	public void store(InternalActionContext ac, String key, long generation, CachedResponse response) {
+		if (isDisabled()) {
+			return;
+		}
+		String projectUuid = ac.getProject().getUuid();
+		if (generations.get(projectUuid) != generation) {
+			if (log.isDebugEnabled()) {
+				log.debug("Not storing response {" + key + "} since the elements of the project were changed while the response was rendered");
+			}
+			return;
+		}
+		cache.put(key, response, Collections.singleton(projectUuid));
+	}
+
+	/**
+	 * Generations of the project responses. The generation of a project is incremented on every event which affects the project.
+	 */
+	private static class Generations {
+
+		private final AtomicLong global = new AtomicLong();
+
+		private final Map<String, AtomicLong> projects = new ConcurrentHashMap<>();
+
+		/**
+		 * Increment the generation of the project or the generations of all projects.
+		 *
+		 * @param projectUuid
+		 *            Uuid of the project or null to increment the generations of all projects
+		 */
+		void increment(String projectUuid) {
+			if (projectUuid == null) {
+				global.incrementAndGet();
+			} else {
+				projects.computeIfAbsent(projectUuid, uuid -> new AtomicLong()).incrementAndGet();
+			}
+		}
+
+		/**
+		 * Return the current generation of the project. The value changes whenever the project or all projects were affected by an event.
+		 *
+		 * @param projectUuid
+		 * @return
+		 */
+		long get(String projectUuid) {
+			AtomicLong project = projects.get(projectUuid);
+			return global.get() + (project == null ? 0 : project.get());
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache which is used to lookup the record id of a vertex by its uuid without accessing the uuid index. Entries will be removed when the
+ * vertex gets deleted. Deleted vertices which are not covered by an event are handled by the index handler which validates the cached record ids.
+ */
+@Singleton
+public class UuidRecordIdCacheImpl extends AbstractMeshCache<String, Object> implements UuidRecordIdCache {
+
+	private static final Logger log = LoggerFactory.getLogger(UuidRecordIdCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		USER_DELETED,
+		GROUP_DELETED,
+		ROLE_DELETED,
+		TAG_DELETED,
+		TAG_FAMILY_DELETED,
+		PROJECT_DELETED,
+		NODE_DELETED,
+		SCHEMA_DELETED,
+		MICROSCHEMA_DELETED,
+		BRANCH_DELETED };
+
+	@Inject
+	public UuidRecordIdCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getUuidCacheSize());
+	}
+
+	private static EventAwareCache<String, Object> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, Object>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				String uuid = event.body() == null ? null : event.body().getString("uuid");
+				if (log.isDebugEnabled()) {
+					log.debug("Removing uuid {" + uuid + "} from the record id cache due to received event from {" + event.address() + "}");
+				}
+				if (uuid != null) {
+					cache.invalidate(uuid);
+				} else {
+					cache.invalidate();
+				}
+			})
+			.name("uuid")
+			.maxSize(config.getUuidCacheSize())
+			.build();
+	}
+
+	@Override
+	public void store(String uuid, Object recordId) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(uuid, recordId);
+	}
+
+	@Override
+	public void invalidate(String uuid) {
+		cache.invalidate(uuid);
+	}
+
+}
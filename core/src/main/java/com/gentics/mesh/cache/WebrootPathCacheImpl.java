@@ -1,5 +1,7 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
@@ -8,32 +10,53 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
 
-import io.vertx.core.Vertx;
+import io.micrometer.core.instrument.Counter;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU webroot path cache which is used to quickly lookup cached paths.
+ *
+ * Each entry is tagged with the project, branch and node uuids of the resolved path. The tags are indexed so that events don't need to scan the cache.
+ * Node events will only invalidate the entries which contain the node and the entries of the branch which could not be resolved. Structural events (e.g.
+ * branch updates or schema migrations) invalidate the entries of the affected branch or project.
  */
 @Singleton
-public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implements WebrootPathCache {
+public class WebrootPathCacheImpl extends AbstractMeshCache<String, CachedPath> implements WebrootPathCache {
 
 	private static final Logger log = LoggerFactory.getLogger(WebrootPathCacheImpl.class);
 
+	private static final String CACHE_NAME = "webroot";
+
+	/**
+	 * Dependency of the entries which could not be resolved. The dependency is also combined with the project and branch uuid.
+	 */
+	private static final String UNRESOLVED = "unresolved:";
+
 	private static final MeshEvent EVENTS[] = {
 		CLEAR_PATH_STORE,
 		NODE_UPDATED,
@@ -43,27 +66,120 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		NODE_MOVED,
 		NODE_CONTENT_CREATED,
 		NODE_CONTENT_DELETED,
-		SCHEMA_MIGRATION_FINISHED };
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PROJECT_DELETED };
+
+	private static final MeshEvent NODE_EVENTS[] = {
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED };
 
 	@Inject
-	public WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getPathCacheSize());
+	public WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics) {
+		super(createCache(factory, options, metrics), registry, options.getCacheConfig().getPathCacheSize());
 	}
 
-	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config) {
-		return factory.<String, Path>builder()
+	private static EventAwareCache<String, CachedPath> createCache(EventAwareCacheFactory factory, MeshOptions options, MetricsService metrics) {
+		CacheConfig config = options.getCacheConfig();
+		ScopeCounters counters = new ScopeCounters(options, metrics);
+		return factory.<String, CachedPath>builder()
 			.events(EVENTS)
 			.action((event, cache) -> {
 				if (log.isDebugEnabled()) {
-					log.debug("Clearing path store due to received event from {" + event.address() + "}");
+					log.debug("Invalidating path store entries due to received event from {" + event.address() + "}");
 				}
-				cache.invalidate();
+				invalidate(event, cache, counters);
 			})
-			.name("webroot")
+			.name(CACHE_NAME)
 			.maxSize(config.getPathCacheSize())
 			.build();
 	}
 
+	/**
+	 * Invalidate the entries which are affected by the event.
+	 *
+	 * @param event
+	 * @param cache
+	 * @param counters
+	 */
+	private static void invalidate(Message<JsonObject> event, EventAwareCache<String, CachedPath> cache, ScopeCounters counters) {
+		JsonObject body = event.body();
+		String address = event.address();
+		String projectUuid = getProjectUuid(body);
+
+		if (body != null && isNodeEvent(address) && body.getString("uuid") != null) {
+			String nodeUuid = body.getString("uuid");
+			String branchUuid = body.getString("branchUuid");
+			// Paths which could not be resolved may be resolvable after any change of a node in the same branch
+			String scope = scope(projectUuid, branchUuid);
+			long removed = cache.invalidateDependents(nodeUuid);
+			removed += cache.invalidateDependents(scope == null ? UNRESOLVED : UNRESOLVED + scope);
+			counters.node.increment(removed);
+		} else if (body != null && SCHEMA_MIGRATION_FINISHED.address.equals(address) && body.getJsonObject("branch") != null) {
+			String branchUuid = body.getJsonObject("branch").getString("uuid");
+			invalidateScope(cache, counters.branch, scope(projectUuid, branchUuid));
+		} else if (body != null && (BRANCH_UPDATED.address.equals(address) || BRANCH_DELETED.address.equals(address)) && body.getString("uuid") != null) {
+			String branchUuid = body.getString("uuid");
+			invalidateScope(cache, counters.branch, branchUuid);
+		} else if (body != null && PROJECT_DELETED.address.equals(address) && body.getString("uuid") != null) {
+			String deletedProjectUuid = body.getString("uuid");
+			invalidateScope(cache, counters.project, deletedProjectUuid);
+		} else {
+			counters.all.increment(cache.size());
+			cache.invalidate();
+		}
+	}
+
+	/**
+	 * Invalidate the entries of the project or branch with the given uuid or all entries if no scope is given.
+	 *
+	 * @param cache
+	 * @param counter
+	 * @param scope
+	 */
+	private static void invalidateScope(EventAwareCache<String, CachedPath> cache, ScopeCounter counter, String scope) {
+		if (scope == null) {
+			counter.increment(cache.size());
+			cache.invalidate();
+		} else {
+			counter.increment(cache.invalidateDependents(scope));
+		}
+	}
+
+	/**
+	 * Return the narrowest scope of the event. Branch uuids are unique across projects.
+	 *
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @return Uuid of the branch or project or null if the event is not scoped
+	 */
+	private static String scope(String projectUuid, String branchUuid) {
+		return branchUuid != null ? branchUuid : projectUuid;
+	}
+
+	private static boolean isNodeEvent(String address) {
+		for (MeshEvent event : NODE_EVENTS) {
+			if (event.address.equals(address)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String getProjectUuid(JsonObject body) {
+		if (body == null) {
+			return null;
+		}
+		JsonObject project = body.getJsonObject("project");
+		return project == null ? null : project.getString("uuid");
+	}
+
 	@Override
 	public Path getPath(Project project, Branch branch, ContainerType type, String path) {
 		if (isDisabled()) {
@@ -73,7 +189,8 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 			return null;
 		}
 		String key = createCacheKey(project, branch, type, path);
-		return cache.get(key);
+		CachedPath entry = cache.get(key);
+		return entry == null ? null : entry.getPath();
 	}
 
 	@Override
@@ -81,12 +198,29 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		if (isDisabled()) {
 			return;
 		}
-		cache.put(createCacheKey(project, branch, type, path), resolvedPath);
+		Set<String> nodeUuids = new HashSet<>();
+		for (PathSegment segment : resolvedPath.getSegments()) {
+			NodeGraphFieldContainer container = segment.getContainer();
+			if (container != null) {
+				nodeUuids.add(container.getParentNode().getUuid());
+			}
+		}
+		CachedPath entry = new CachedPath(resolvedPath, project.getUuid(), branch.getUuid(), nodeUuids);
+		// The entry is indexed by the uuids of its nodes and its scope so that events don't need to scan the cache
+		Set<String> dependencies = new HashSet<>(nodeUuids);
+		dependencies.add(project.getUuid());
+		dependencies.add(branch.getUuid());
+		if (!entry.isResolved()) {
+			dependencies.add(UNRESOLVED);
+			dependencies.add(UNRESOLVED + project.getUuid());
+			dependencies.add(UNRESOLVED + branch.getUuid());
+		}
+		cache.put(createCacheKey(project, branch, type, path), entry, dependencies);
 	}
 
 	/**
 	 * Create the cache key.
-	 * 
+	 *
 	 * @param project
 	 * @param elementId
 	 * @return
@@ -95,4 +229,39 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		return project.id() + "-" + branch.id() + "-" + type.getCode() + "-" + path;
 	}
 
+	/**
+	 * Counters for the amount of entries which were invalidated per scope.
+	 */
+	private static class ScopeCounters {
+
+		private final ScopeCounter node;
+		private final ScopeCounter branch;
+		private final ScopeCounter project;
+		private final ScopeCounter all;
+
+		ScopeCounters(MeshOptions options, MetricsService metrics) {
+			node = new ScopeCounter(options, metrics, "node");
+			branch = new ScopeCounter(options, metrics, "branch");
+			project = new ScopeCounter(options, metrics, "project");
+			all = new ScopeCounter(options, metrics, "all");
+		}
+	}
+
+	private static class ScopeCounter {
+
+		private final MeshOptions options;
+		private final Counter counter;
+
+		ScopeCounter(MeshOptions options, MetricsService metrics, String scope) {
+			this.options = options;
+			this.counter = metrics.counter(new CachingMetric(CachingMetric.Event.CLEAR_SCOPE, CACHE_NAME), "scope", scope);
+		}
+
+		void increment(long amount) {
+			if (amount > 0 && options.getMonitoringOptions().isEnabled()) {
+				counter.increment(amount);
+			}
+		}
+	}
+
 }
@@ -6,6 +6,9 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.changelog.highlevel.change.AddNodeEditTimestamps;
+import com.gentics.mesh.changelog.highlevel.change.AddPermissionBitmaps;
+import com.gentics.mesh.changelog.highlevel.change.AddSortRoots;
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
 import com.gentics.mesh.core.data.changelog.HighLevelChange;
@@ -22,6 +25,15 @@ public class HighLevelChangesList {
 	@Inject
 	public ExtractPlainText plainText;
 
+	@Inject
+	public AddPermissionBitmaps permissionBitmaps;
+
+	@Inject
+	public AddNodeEditTimestamps nodeEditTimestamps;
+
+	@Inject
+	public AddSortRoots sortRoots;
+
 	@Inject
 	public HighLevelChangesList() {
 	}
@@ -29,7 +41,10 @@ public class HighLevelChangesList {
 	public List<HighLevelChange> getList() {
 		return Arrays.asList(
 			restructureWebroot,
-			plainText
+			plainText,
+			permissionBitmaps,
+			nodeEditTimestamps,
+			sortRoots
 		// ADD NEW CHANGES HERE!
 		);
 	}
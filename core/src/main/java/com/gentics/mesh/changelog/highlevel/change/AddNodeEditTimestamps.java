@@ -0,0 +1,81 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import static com.gentics.mesh.core.data.EditorTrackingVertex.LAST_EDIT_TIMESTAMP_PROPERTY_KEY;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.node.Node;
+import com.syncleus.ferma.FramedTransactionalGraph;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Vertex;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which stores the last edit timestamp of the contents of each node on the node. Nodes without the timestamp would otherwise not be listed when
+ * sorting nodes by their edit timestamp.
+ */
+@Singleton
+public class AddNodeEditTimestamps extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(AddNodeEditTimestamps.class);
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	@Inject
+	public AddNodeEditTimestamps(Lazy<BootstrapInitializer> boot) {
+		this.boot = boot;
+	}
+
+	@Override
+	public String getUuid() {
+		return "8E3B6D1F4C2A4B7D9E3B6D1F4C2A4B11";
+	}
+
+	@Override
+	public String getName() {
+		return "Add Node Edit Timestamps";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Stores the last edit timestamp of the contents of all nodes on the nodes.";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		long count = 0;
+		for (Project project : boot.get().projectRoot().findAll()) {
+			for (Node node : project.findNodes()) {
+				Long lastEdited = null;
+				for (Vertex container : node.getVertex().getVertices(Direction.OUT, HAS_FIELD_CONTAINER)) {
+					Long edited = container.getProperty(LAST_EDIT_TIMESTAMP_PROPERTY_KEY);
+					if (edited != null && (lastEdited == null || edited > lastEdited)) {
+						lastEdited = edited;
+					}
+				}
+				if (lastEdited == null) {
+					continue;
+				}
+				node.setProperty(LAST_EDIT_TIMESTAMP_PROPERTY_KEY, lastEdited);
+				count++;
+				if (count % 1000 == 0) {
+					log.info("Updated the edit timestamps of {" + count + "} nodes");
+					graph.commit();
+				}
+			}
+		}
+		log.info("Done updating the edit timestamps of {" + count + "} nodes");
+	}
+
+}
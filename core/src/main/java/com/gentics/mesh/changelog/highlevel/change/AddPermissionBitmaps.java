@@ -0,0 +1,119 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.data.root.RoleRoot;
+import com.gentics.mesh.util.BitmapUtil;
+import com.syncleus.ferma.FramedTransactionalGraph;
+import com.tinkerpop.blueprints.Vertex;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which assigns ordinals to all roles and adds the permission bitmaps to all users and elements. Elements without bitmaps would otherwise be
+ * checked via the slower role uuid sets.
+ */
+@Singleton
+public class AddPermissionBitmaps extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(AddPermissionBitmaps.class);
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	@Inject
+	public AddPermissionBitmaps(Lazy<BootstrapInitializer> boot) {
+		this.boot = boot;
+	}
+
+	@Override
+	public String getUuid() {
+		return "5A1C3E2B8F0D4E6B9C3E2B8F0D1E6B47";
+	}
+
+	@Override
+	public String getName() {
+		return "Add Permission Bitmaps";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Assigns ordinals to all roles and stores the granting roles of all elements and the roles of all users as bitmaps.";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		RoleRoot roleRoot = boot.get().roleRoot();
+		Map<String, Integer> ordinals = new HashMap<>();
+		for (Role role : roleRoot.findAll()) {
+			Integer ordinal = role.getOrdinal();
+			if (ordinal == null) {
+				ordinal = roleRoot.nextOrdinal();
+				role.setOrdinal(ordinal);
+			}
+			ordinals.put(role.getUuid(), ordinal);
+		}
+		graph.commit();
+
+		for (User user : boot.get().userRoot().findAll()) {
+			user.updateRoleBitmap();
+		}
+		graph.commit();
+
+		long count = 0;
+		for (Vertex vertex : graph.getVertices()) {
+			if (updateBitmaps(vertex, ordinals)) {
+				count++;
+				if (count % 1000 == 0) {
+					log.info("Updated the permission bitmaps of {" + count + "} elements");
+					graph.commit();
+				}
+			}
+		}
+		log.info("Done updating the permission bitmaps of {" + count + "} elements");
+	}
+
+	/**
+	 * Store the bitmaps for all permission properties of the vertex.
+	 * 
+	 * @param vertex
+	 * @param ordinals
+	 *            Ordinals of all roles
+	 * @return true if the vertex has permission properties
+	 */
+	private boolean updateBitmaps(Vertex vertex, Map<String, Integer> ordinals) {
+		boolean updated = false;
+		for (GraphPermission permission : GraphPermission.values()) {
+			Set<String> roleUuids = vertex.getProperty(permission.propertyKey());
+			if (roleUuids == null) {
+				continue;
+			}
+			byte[] bitmap = BitmapUtil.empty();
+			for (String roleUuid : roleUuids) {
+				// Roles which were deleted don't grant any permissions
+				Integer ordinal = ordinals.get(roleUuid);
+				if (ordinal != null) {
+					bitmap = BitmapUtil.set(bitmap, ordinal);
+				}
+			}
+			vertex.setProperty(permission.bitmapPropertyKey(), bitmap);
+			updated = true;
+		}
+		return updated;
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ROOTS_KEY_PROPERTY;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.TagFamily;
+import com.gentics.mesh.core.data.root.RootVertex;
+import com.gentics.mesh.graphdb.model.MeshElement;
+import com.syncleus.ferma.FramedTransactionalGraph;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which stores the uuids of the roots of all users, tags and schemas on the elements. Elements without the root uuids would otherwise not be
+ * listed when sorting the elements of a root via the scoped sort indices.
+ */
+@Singleton
+public class AddSortRoots extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(AddSortRoots.class);
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	@Inject
+	public AddSortRoots(Lazy<BootstrapInitializer> boot) {
+		this.boot = boot;
+	}
+
+	@Override
+	public String getUuid() {
+		return "3C7F1A9E5B2D4C8E8F1A9E5B2D4C8E29";
+	}
+
+	@Override
+	public String getName() {
+		return "Add Sort Roots";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Stores the uuids of the roots of all users, tags and schemas on the elements.";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		BootstrapInitializer boot = this.boot.get();
+		long count = addRoot(boot.userRoot(), graph, 0);
+		count = addRoot(boot.tagRoot(), graph, count);
+		count = addRoot(boot.schemaContainerRoot(), graph, count);
+		for (Project project : boot.projectRoot().findAll()) {
+			count = addRoot(project.getSchemaContainerRoot(), graph, count);
+			for (TagFamily tagFamily : project.getTagFamilyRoot().findAll()) {
+				count = addRoot(tagFamily, graph, count);
+			}
+		}
+		log.info("Done adding the roots to {" + count + "} elements");
+	}
+
+	/**
+	 * Add the uuid of the root to all elements of the root.
+	 *
+	 * @param root
+	 * @param graph
+	 * @param count
+	 *            Number of elements which have been updated so far
+	 * @return Updated number of elements
+	 */
+	private long addRoot(RootVertex<?> root, FramedTransactionalGraph graph, long count) {
+		for (MeshElement element : root.findAll()) {
+			element.addToStringSetProperty(ROOTS_KEY_PROPERTY, root.getUuid());
+			count++;
+			if (count % 1000 == 0) {
+				log.info("Added the roots to {" + count + "} elements");
+				graph.commit();
+			}
+		}
+		return count;
+	}
+
+}
@@ -1,9 +1,11 @@
 package com.gentics.mesh.context.impl;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -283,6 +285,20 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 				return true;
 			}
 
+			@Override
+			public Set<Object> filterPermitted(Collection<Object> elementIds, GraphPermission permission) {
+				return new LinkedHashSet<>(elementIds);
+			}
+
+			@Override
+			public Map<Object, Set<GraphPermission>> getPermissionsBulk(Collection<? extends MeshVertex> vertices) {
+				Map<Object, Set<GraphPermission>> permissions = new HashMap<>();
+				for (MeshVertex vertex : vertices) {
+					permissions.put(vertex.id(), getPermissions(vertex));
+				}
+				return permissions;
+			}
+
 			@Override
 			public boolean hasPermission(MeshVertex element, GraphPermission permission) {
 				return true;
@@ -317,6 +333,10 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 			public void updateShortcutEdges() {
 			}
 
+			@Override
+			public void updateRoleBitmap() {
+			}
+
 			@Override
 			public String getRolesHash() {
 				return null;
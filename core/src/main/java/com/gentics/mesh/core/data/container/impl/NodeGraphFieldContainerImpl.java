@@ -777,6 +777,12 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 		String nodeUuid = node.getUuid();
 		model.setUuid(nodeUuid);
 		model.setBranchUuid(branchUuid);
+		if (branchUuid != null) {
+			Node parentNode = node.getParentNode(branchUuid);
+			if (parentNode != null) {
+				model.setParentNodeUuid(parentNode.getUuid());
+			}
+		}
 		model.setLanguageTag(getLanguageTag());
 		model.setType(type);
 		SchemaContainerVersion version = getSchemaContainerVersion();
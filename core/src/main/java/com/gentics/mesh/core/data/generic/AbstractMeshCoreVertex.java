@@ -1,13 +1,21 @@
 package com.gentics.mesh.core.data.generic;
 
+import static com.gentics.mesh.core.data.CreatorTrackingVertex.CREATION_TIMESTAMP_PROPERTY_KEY;
+import static com.gentics.mesh.core.data.EditorTrackingVertex.LAST_EDIT_TIMESTAMP_PROPERTY_KEY;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ROOTS_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.madl.field.FieldType.LONG;
+import static com.gentics.mesh.madl.field.FieldType.STRING;
+import static com.gentics.mesh.madl.field.FieldType.STRING_SET;
+import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.gentics.madl.index.IndexHandler;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.CreatorTrackingVertex;
@@ -19,6 +27,7 @@ import com.gentics.mesh.core.data.ProjectElement;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.GenericRestResponse;
 import com.gentics.mesh.core.rest.common.PermissionInfo;
@@ -48,6 +57,39 @@ public abstract class AbstractMeshCoreVertex<T extends RestModel, R extends Mesh
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMeshCoreVertex.class);
 
+	/**
+	 * Create the ordered sort indices which are used to load sorted pages of the elements of the given class. The indices contain the uuids of the roots of
+	 * the elements, the sort value and the uuid of the elements and are named after the sort key (e.g. <code>UserImpl_roots_sort_created</code>). Roots
+	 * which store their uuid in the elements need to return true for {@link RootVertex#hasSortIndices()}.
+	 * 
+	 * @param index
+	 * @param clazz
+	 *            Class of the elements
+	 * @param nameProperty
+	 *            Property which contains the name of the elements
+	 */
+	public static void createSortIndices(IndexHandler index, Class<?> clazz, String nameProperty) {
+		index.createIndex(vertexIndex(clazz)
+			.withPostfix("roots_sort_created")
+			.withField(ROOTS_KEY_PROPERTY, STRING_SET)
+			.withField(CREATION_TIMESTAMP_PROPERTY_KEY, LONG)
+			.withField("uuid", STRING)
+			.ordered());
+
+		index.createIndex(vertexIndex(clazz)
+			.withPostfix("roots_sort_edited")
+			.withField(ROOTS_KEY_PROPERTY, STRING_SET)
+			.withField(LAST_EDIT_TIMESTAMP_PROPERTY_KEY, LONG)
+			.withField("uuid", STRING)
+			.ordered());
+
+		index.createIndex(vertexIndex(clazz)
+			.withPostfix("roots_sort_name")
+			.withField(ROOTS_KEY_PROPERTY, STRING_SET)
+			.withField(nameProperty, STRING)
+			.withField("uuid", STRING)
+			.ordered());
+	}
 
 	@Override
 	public PermissionInfo getRolePermissions(InternalActionContext ac, String roleUuid) {
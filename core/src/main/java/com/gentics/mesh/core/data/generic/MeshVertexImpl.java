@@ -110,6 +110,12 @@ public class MeshVertexImpl extends AbstractVertexFrame implements MeshVertex {
 	@Override
 	public void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
 		Set<GraphPermission> permissionsToRevoke) {
+		if (recursive) {
+			boolean childrenRecursive = isPermissionChildrenRecursive();
+			for (MeshVertex child : getPermissionChildren()) {
+				child.applyPermissions(batch, role, childrenRecursive, permissionsToGrant, permissionsToRevoke);
+			}
+		}
 		applyVertexPermissions(batch, role, permissionsToGrant, permissionsToRevoke);
 	}
 
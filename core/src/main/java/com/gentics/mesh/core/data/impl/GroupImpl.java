@@ -14,6 +14,8 @@ import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,7 +32,6 @@ import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
-import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.event.group.GroupRoleAssignModel;
 import com.gentics.mesh.core.rest.event.group.GroupUserAssignModel;
 import com.gentics.mesh.core.rest.group.GroupReference;
@@ -88,6 +89,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		user.updateRoleBitmap();
+		mesh().permissionCache().invalidateUsers(user.id());
 	}
 
 	@Override
@@ -96,7 +99,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(user.id());
 	}
 
 	@Override
@@ -109,9 +112,13 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		setUniqueLinkInTo(role, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			user.updateRoleBitmap();
+			userIds.add(user.id());
 		}
+		mesh().permissionCache().invalidateUsers(userIds.toArray());
 
 	}
 
@@ -120,10 +127,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			userIds.add(user.id());
 		}
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(userIds.toArray());
 	}
 
 	@Override
@@ -188,13 +197,15 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		Set<? extends User> affectedUsers = getUsers().stream().collect(Collectors.toSet());
 		getElement().remove();
+		List<Object> userIds = new ArrayList<>();
 		for (User user : affectedUsers) {
 			user.updateShortcutEdges();
+			userIds.add(user.id());
 			bac.add(user.onUpdated());
 			bac.inc();
 		}
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(userIds.toArray());
 	}
 
 	@Override
@@ -221,14 +232,13 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 	}
 
 	@Override
-	public void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
-		Set<GraphPermission> permissionsToRevoke) {
-		if (recursive) {
-			for (User user : getUsers()) {
-				user.applyPermissions(batch, role, false, permissionsToGrant, permissionsToRevoke);
-			}
-		}
-		super.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
+	public Iterable<? extends User> getPermissionChildren() {
+		return getUsers();
+	}
+
+	@Override
+	public boolean isPermissionChildrenRecursive() {
+		return false;
 	}
 
 	@Override
@@ -253,7 +263,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 	@Override
 	public Single<GroupResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -27,6 +27,23 @@ public class MeshAuthUserImpl extends UserImpl implements MeshAuthUser {
 
 	private String uuid;
 
+	/**
+	 * Create a new frame for the user with the given vertex id. The vertex will be loaded lazily within the transaction in which the frame is used.
+	 * 
+	 * @param id
+	 *            Vertex id of the user
+	 * @param uuid
+	 *            Uuid of the user
+	 * @return
+	 */
+	public static MeshAuthUserImpl create(Object id, String uuid) {
+		MeshAuthUserImpl user = new MeshAuthUserImpl();
+		user.init(null, null, id);
+		user.uuid = uuid;
+		user.setCachedUuid(uuid);
+		return user;
+	}
+
 	@Override
 	public String getUuid() {
 		// Cache the user uuid so that we can reuse it during the login process
@@ -2,13 +2,16 @@ package com.gentics.mesh.core.data.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_ROLE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ROLE;
 import static com.gentics.mesh.core.rest.error.Errors.conflict;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -38,6 +41,7 @@ import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
+import com.gentics.mesh.util.BitmapUtil;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Edge;
@@ -49,6 +53,8 @@ import io.reactivex.Single;
  */
 public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> implements Role {
 
+	public static final String ORDINAL_PROPERTY_KEY = "ordinal";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(RoleImpl.class, MeshVertexImpl.class);
 		index.createIndex(vertexIndex(RoleImpl.class)
@@ -71,6 +77,17 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 		property("name", name);
 	}
 
+	@Override
+	public Integer getOrdinal() {
+		return property(ORDINAL_PROPERTY_KEY);
+	}
+
+	@Override
+	public Role setOrdinal(int ordinal) {
+		property(ORDINAL_PROPERTY_KEY, ordinal);
+		return this;
+	}
+
 	@Override
 	public TraversalResult<? extends Group> getGroups() {
 		return out(HAS_ROLE, GroupImpl.class);
@@ -105,14 +122,30 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		boolean permissionGranted = false;
+		Integer ordinal = getOrdinal();
 		for (GraphPermission permission : permissions) {
 			Set<String> allowedRoles = vertex.property(permission.propertyKey());
+			byte[] bitmap = vertex.property(permission.bitmapPropertyKey());
+			// The bitmap can only be maintained if it already covers all granting roles
+			boolean mirrored = ordinal != null && (bitmap != null || allowedRoles == null || allowedRoles.isEmpty());
 			if (allowedRoles == null) {
 				vertex.property(permission.propertyKey(), Collections.singleton(getUuid()));
+				permissionGranted = true;
 			} else {
-				allowedRoles.add(getUuid());
+				permissionGranted = allowedRoles.add(getUuid()) || permissionGranted;
 				vertex.property(permission.propertyKey(), allowedRoles);
 			}
+			if (mirrored) {
+				vertex.property(permission.bitmapPropertyKey(), BitmapUtil.set(bitmap, ordinal));
+			} else if (bitmap != null) {
+				vertex.removeProperty(permission.bitmapPropertyKey());
+			}
+		}
+
+		// Denied permissions are cached as well and must be invalidated
+		if (permissionGranted) {
+			mesh().permissionCache().invalidateElements(vertex.id());
 		}
 	}
 
@@ -145,25 +178,37 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 	@Override
 	public void revokePermissions(MeshVertex vertex, GraphPermission... permissions) {
 		boolean permissionRevoked = false;
+		Integer ordinal = getOrdinal();
 		for (GraphPermission permission : permissions) {
 			Set<String> allowedRoles = vertex.property(permission.propertyKey());
 			if (allowedRoles != null) {
 				permissionRevoked = allowedRoles.remove(getUuid()) || permissionRevoked;
 				vertex.property(permission.propertyKey(), allowedRoles);
 			}
+			byte[] bitmap = vertex.property(permission.bitmapPropertyKey());
+			if (bitmap != null && ordinal != null) {
+				vertex.property(permission.bitmapPropertyKey(), BitmapUtil.clear(bitmap, ordinal));
+			}
 		}
 
 		if (permissionRevoked) {
-			mesh().permissionCache().clear();
+			mesh().permissionCache().invalidateElements(vertex.id());
 		}
 	}
 
 	@Override
 	public void delete(BulkActionContext bac) {
 		bac.add(onDeleted());
+		List<? extends User> affectedUsers = in(ASSIGNED_TO_ROLE, UserImpl.class).list();
 		getVertex().remove();
+		// The bit of the role must no longer grant permissions to the users
+		List<Object> userIds = new ArrayList<>();
+		for (User user : affectedUsers) {
+			user.updateRoleBitmap();
+			userIds.add(user.id());
+		}
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(userIds.toArray());
 	}
 
 	@Override
@@ -206,7 +251,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public Single<RoleResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
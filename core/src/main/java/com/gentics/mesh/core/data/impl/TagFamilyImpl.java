@@ -14,7 +14,6 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Set;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -30,7 +29,6 @@ import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
-import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.TagFamilyRoot;
 import com.gentics.mesh.core.data.root.impl.TagFamilyRootImpl;
 import com.gentics.mesh.core.rest.MeshEvent;
@@ -63,7 +61,7 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		// TODO why was the branch key omitted? TagEdgeImpl.BRANCH_UUID_KEY
 		index.createIndex(edgeIndex(HAS_TAG));
 		index.createIndex(edgeIndex(HAS_TAG));
-		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -206,6 +204,10 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		}
 		if (!getName().equals(newName)) {
 			this.setName(newName);
+			// The name of the tag family is part of the tag references of the nodes
+			for (Tag tag : findAll()) {
+				tag.incrementNodeRevisions();
+			}
 			batch.add(onUpdated());
 			return true;
 		}
@@ -213,14 +215,8 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 	}
 
 	@Override
-	public void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
-		Set<GraphPermission> permissionsToRevoke) {
-		if (recursive) {
-			for (Tag tag : findAll()) {
-				tag.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
-			}
-		}
-		super.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
+	public Iterable<? extends Tag> getPermissionChildren() {
+		return findAll();
 	}
 
 	@Override
@@ -247,7 +243,7 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 
 	@Override
 	public Single<TagFamilyResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -262,6 +258,19 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		return HAS_TAG;
 	}
 
+	@Override
+	public boolean hasSortIndices() {
+		return true;
+	}
+
+	@Override
+	public String getSortProperty(String sortBy) {
+		if ("name".equals(sortBy)) {
+			return TagImpl.TAG_VALUE_KEY;
+		}
+		return TagFamily.super.getSortProperty(sortBy);
+	}
+
 	@Override
 	public void addTag(Tag tag) {
 		addItem(tag);
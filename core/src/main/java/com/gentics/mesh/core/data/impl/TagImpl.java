@@ -69,6 +69,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(TagImpl.class, MeshVertexImpl.class);
+		createSortIndices(index, TagImpl.class, TAG_VALUE_KEY);
 	}
 
 	@Override
@@ -77,6 +78,15 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 		return new TraversalResult<>(it);
 	}
 
+	@Override
+	public void incrementNodeRevisions() {
+		for (Branch branch : getProject().getBranchRoot().findAll()) {
+			for (Node node : getNodes(branch)) {
+				node.incrementRevision(branch.getUuid());
+			}
+		}
+	}
+
 	@Override
 	public String getName() {
 		return property(TAG_VALUE_KEY);
@@ -161,6 +171,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 		for (Branch branch : getProject().getBranchRoot().findAll()) {
 			for (Node node : getNodes(branch)) {
 				bac.add(node.onTagged(this, branch, UNASSIGNED));
+				node.incrementRevision(branch.getUuid());
 			}
 		}
 		getElement().remove();
@@ -250,6 +261,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 				setEditor(ac.getUser());
 				setLastEditedTimestamp();
 				setName(newTagName);
+				incrementNodeRevisions();
 				batch.add(onUpdated());
 				return true;
 			}
@@ -283,7 +295,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 
 	@Override
 	public Single<TagResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -18,12 +18,17 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -32,6 +37,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.cache.PermissionCacheKey;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Group;
@@ -67,8 +73,8 @@ import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
+import com.gentics.mesh.util.BitmapUtil;
 import com.gentics.mesh.util.ETag;
-import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
@@ -103,9 +109,12 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	public static final String FORCE_PASSWORD_CHANGE_KEY = "forcePasswordChange";
 
+	public static final String ROLE_BITMAP_PROPERTY_KEY = "roleBitmap";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(UserImpl.class, MeshVertexImpl.class);
 		index.createIndex(edgeIndex(ASSIGNED_TO_ROLE).withOut());
+		createSortIndices(index, UserImpl.class, USERNAME_PROPERTY_KEY);
 	}
 
 	@Override
@@ -278,6 +287,22 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 				setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 			}
 		}
+		updateRoleBitmap();
+	}
+
+	@Override
+	public void updateRoleBitmap() {
+		byte[] bitmap = BitmapUtil.empty();
+		for (Role role : getRolesViaShortcut()) {
+			Integer ordinal = role.getOrdinal();
+			if (ordinal == null) {
+				// The bitmap can't be used if one of the roles has no ordinal
+				removeProperty(ROLE_BITMAP_PROPERTY_KEY);
+				return;
+			}
+			bitmap = BitmapUtil.set(bitmap, ordinal);
+		}
+		property(ROLE_BITMAP_PROPERTY_KEY, bitmap);
 	}
 
 	@Override
@@ -305,14 +330,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public Set<GraphPermission> getPermissions(MeshVertex vertex) {
-		Predicate<? super GraphPermission> isValidPermission = perm -> perm != READ_PUBLISHED_PERM && perm != PUBLISH_PERM
-			|| vertex.hasPublishPermissions();
-
-		return Stream.of(GraphPermission.values())
-			// Don't check for publish perms if it does not make sense for the vertex type
-			.filter(isValidPermission)
-			.filter(perm -> hasPermission(vertex, perm))
-			.collect(Collectors.toSet());
+		return getPermissionsBulk(Collections.singletonList(vertex)).get(vertex.id());
 	}
 
 	@Override
@@ -327,38 +345,133 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
-		PermissionCache permissionCache = mesh().permissionCache();
-		if (permissionCache.hasPermission(id(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			Vertex vertex = graph.getVertex(elementId);
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-
-				Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
-				boolean hasPermission = allowedRoles != null && allowedRoles.contains(role.<String>getProperty("uuid"));
-				if (hasPermission) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					permissionCache.store(id(), permission, elementId);
-					return true;
+		return new PermissionEvaluator().hasPermission(elementId, null, permission);
+	}
+
+	@Override
+	public Set<Object> filterPermitted(Collection<Object> elementIds, GraphPermission permission) {
+		PermissionEvaluator evaluator = new PermissionEvaluator();
+		Set<Object> permitted = new LinkedHashSet<>();
+		for (Object elementId : elementIds) {
+			if (evaluator.hasPermission(elementId, null, permission)) {
+				permitted.add(elementId);
+			}
+		}
+		return permitted;
+	}
+
+	@Override
+	public Map<Object, Set<GraphPermission>> getPermissionsBulk(Collection<? extends MeshVertex> vertices) {
+		PermissionEvaluator evaluator = new PermissionEvaluator();
+		Map<Object, Set<GraphPermission>> permissions = new HashMap<>();
+		for (MeshVertex vertex : vertices) {
+			// Don't check for publish perms if it does not make sense for the vertex type
+			GraphPermission[] possiblePermissions = vertex.hasPublishPermissions()
+				? GraphPermission.values()
+				: GraphPermission.basicPermissions();
+			Set<GraphPermission> granted = EnumSet.noneOf(GraphPermission.class);
+			for (GraphPermission permission : possiblePermissions) {
+				if (evaluator.hasPermission(vertex.id(), vertex.getElement(), permission)) {
+					granted.add(permission);
 				}
 			}
+			permissions.put(vertex.id(), granted);
+		}
+		return permissions;
+	}
+
+	/**
+	 * Evaluates permissions of the user on multiple elements. The role bitmap and the role uuids of the user are only loaded once and only if a check can't
+	 * be answered by the permission cache.
+	 */
+	private class PermissionEvaluator {
+
+		private final PermissionCache permissionCache = mesh().permissionCache();
+
+		private final Object userId = id();
+
+		private boolean roleBitmapLoaded = false;
+
+		private byte[] roleBitmap;
+
+		private Set<String> roleUuids;
+
+		/**
+		 * Check whether the user has the permission on the element.
+		 *
+		 * @param elementId
+		 * @param vertex
+		 *            Vertex of the element or null if the vertex should be loaded when needed
+		 * @param permission
+		 * @return
+		 */
+		boolean hasPermission(Object elementId, Vertex vertex, GraphPermission permission) {
+			// Create the key before the evaluation so that concurrent changes of the permissions invalidate the result
+			PermissionCacheKey key = permissionCache.createKey(userId, permission, elementId);
+			Boolean cachedPermission = permissionCache.get(key);
+			boolean hasPermission;
+			if (cachedPermission != null) {
+				hasPermission = cachedPermission;
+			} else {
+				if (vertex == null) {
+					vertex = getGraph().getVertex(elementId);
+				}
+				hasPermission = evaluate(vertex, permission);
+				// Denied permissions are stored as well. Changes to the roles of the user or the permissions of the element invalidate the entry.
+				permissionCache.store(key, hasPermission);
+			}
+			if (hasPermission) {
+				return true;
+			}
 			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
 			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
+				return hasPermission(elementId, vertex, READ_PERM);
 			} else {
 				return false;
 			}
 		}
 
+		private boolean evaluate(Vertex vertex, GraphPermission permission) {
+			if (!roleBitmapLoaded) {
+				roleBitmap = property(ROLE_BITMAP_PROPERTY_KEY);
+				roleBitmapLoaded = true;
+			}
+			byte[] elementBitmap = roleBitmap == null ? null : vertex.getProperty(permission.bitmapPropertyKey());
+			if (elementBitmap != null) {
+				return BitmapUtil.intersects(roleBitmap, elementBitmap);
+			}
+			return hasPermissionViaRoles(vertex, permission);
+		}
+
+		/**
+		 * Check the permission by comparing the uuids of the roles of the user with the role uuids which are stored in the element. This is used for
+		 * elements and users without permission bitmaps.
+		 *
+		 * @param vertex
+		 * @param permission
+		 * @return
+		 */
+		private boolean hasPermissionViaRoles(Vertex vertex, GraphPermission permission) {
+			Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
+			if (allowedRoles == null || allowedRoles.isEmpty()) {
+				return false;
+			}
+			if (roleUuids == null) {
+				// Find all roles that are assigned to the user by checking the
+				// shortcut edge from the index
+				roleUuids = new HashSet<>();
+				String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+				for (Edge roleEdge : getGraph().getEdges(idxKey.toLowerCase(), userId)) {
+					roleUuids.add(roleEdge.getVertex(Direction.IN).getProperty("uuid"));
+				}
+			}
+			for (String roleUuid : roleUuids) {
+				if (allowedRoles.contains(roleUuid)) {
+					return true;
+				}
+			}
+			return false;
+		}
 	}
 
 	@Override
@@ -512,7 +625,10 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		for (GraphPermission perm : GraphPermission.values()) {
 			String key = perm.propertyKey();
 			targetNode.property(key, sourceNode.property(key));
+			String bitmapKey = perm.bitmapPropertyKey();
+			targetNode.property(bitmapKey, sourceNode.property(bitmapKey));
 		}
+		mesh().permissionCache().invalidateElements(targetNode.id());
 		return this;
 	}
 
@@ -528,9 +644,12 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// }
 		// outE(HAS_USER).removeAll();
 		bac.add(onDeleted());
+		Object id = id();
+		String uuid = getUuid();
 		getElement().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(id);
+		mesh().principalCache().invalidateUser(uuid);
 	}
 
 	/**
@@ -684,7 +803,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public Single<UserResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -14,6 +14,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.Stack;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -26,12 +27,14 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.impl.AbstractRootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -53,7 +56,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(JobRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_JOB).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_JOB).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -177,6 +180,23 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return enqueueVersionPurge(user, project, null);
 	}
 
+	@Override
+	public Job enqueuePermissionUpdate(User user, Role role, MeshVertex element, Set<GraphPermission> permissionsToGrant,
+		Set<GraphPermission> permissionsToRevoke) {
+		PermissionUpdateJobImpl job = getGraph().addFramedVertex(PermissionUpdateJobImpl.class);
+		job.setType(JobType.permission);
+		job.setStatus(QUEUED);
+		job.setRoleUuid(role.getUuid());
+		job.setElementUuid(element.getUuid());
+		job.setPermissionsToGrant(permissionsToGrant);
+		job.setPermissionsToRevoke(permissionsToRevoke);
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued permission update job {" + job.getUuid() + "} for role {" + role.getUuid() + "} and element {" + element.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -0,0 +1,249 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.tinkerpop.blueprints.Vertex;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which applies a recursive permission update of a role. The elements are processed in chunks and each chunk is committed in a dedicated transaction.
+ * Elements which already reflect the requested permissions are skipped. A job which was interrupted can thus be executed again and will continue with the
+ * remaining elements.
+ */
+public class PermissionUpdateJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(PermissionUpdateJobImpl.class);
+
+	/**
+	 * Amount of elements which will be updated within a single transaction.
+	 */
+	public static final int CHUNK_SIZE = 1000;
+
+	private static final String ROLE_UUID_PROPERTY = "roleUuid";
+
+	private static final String ELEMENT_UUID_PROPERTY = "elementUuid";
+
+	private static final String GRANT_PROPERTY = "grant";
+
+	private static final String REVOKE_PROPERTY = "revoke";
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(PermissionUpdateJobImpl.class, MeshVertexImpl.class);
+	}
+
+	public String getRoleUuid() {
+		return property(ROLE_UUID_PROPERTY);
+	}
+
+	public void setRoleUuid(String uuid) {
+		property(ROLE_UUID_PROPERTY, uuid);
+	}
+
+	public String getElementUuid() {
+		return property(ELEMENT_UUID_PROPERTY);
+	}
+
+	public void setElementUuid(String uuid) {
+		property(ELEMENT_UUID_PROPERTY, uuid);
+	}
+
+	public Set<GraphPermission> getPermissionsToGrant() {
+		return toPermissions(property(GRANT_PROPERTY));
+	}
+
+	public void setPermissionsToGrant(Set<GraphPermission> permissions) {
+		property(GRANT_PROPERTY, toString(permissions));
+	}
+
+	public Set<GraphPermission> getPermissionsToRevoke() {
+		return toPermissions(property(REVOKE_PROPERTY));
+	}
+
+	public void setPermissionsToRevoke(Set<GraphPermission> permissions) {
+		property(REVOKE_PROPERTY, toString(permissions));
+	}
+
+	private static String toString(Set<GraphPermission> permissions) {
+		return permissions.stream().map(GraphPermission::name).collect(Collectors.joining(","));
+	}
+
+	private static Set<GraphPermission> toPermissions(String value) {
+		Set<GraphPermission> permissions = EnumSet.noneOf(GraphPermission.class);
+		if (!StringUtils.isEmpty(value)) {
+			for (String name : value.split(",")) {
+				permissions.add(GraphPermission.valueOf(name));
+			}
+		}
+		return permissions;
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		Map<String, String> props = response.getProperties();
+		props.put("roleUuid", getRoleUuid());
+		props.put("elementUuid", getElementUuid());
+		return response;
+	}
+
+	@Override
+	protected Completable processTask() {
+		return Completable.fromAction(() -> {
+			String roleUuid = db().tx(() -> getRoleUuid());
+			Set<GraphPermission> permissionsToGrant = db().tx(() -> getPermissionsToGrant());
+			Set<GraphPermission> permissionsToRevoke = db().tx(() -> getPermissionsToRevoke());
+
+			// The traversal is started from the targeted element. Each entry contains the vertex id and whether the children should be handled as well.
+			Deque<PendingElement> pending = new ArrayDeque<>();
+			db().tx(() -> {
+				setStatus(RUNNING);
+				setCompletionCount(0);
+				Iterator<Vertex> it = db().getVertices(MeshVertexImpl.class, new String[] { "uuid" }, new String[] { getElementUuid() });
+				if (it.hasNext()) {
+					pending.push(new PendingElement(it.next().getId(), true));
+				}
+			});
+
+			while (!pending.isEmpty()) {
+				// The chunk is taken from the stack before the transaction is started. The transaction may be retried and must not modify the stack.
+				List<PendingElement> chunk = new ArrayList<>(CHUNK_SIZE);
+				for (int i = 0; i < CHUNK_SIZE && !pending.isEmpty(); i++) {
+					chunk.add(pending.pop());
+				}
+				ChunkResult result = db().tx(() -> {
+					Role role = mesh().boot().roleRoot().findByUuid(roleUuid);
+					if (role == null) {
+						return null;
+					}
+					ChunkResult chunkResult = new ChunkResult(createBatch());
+					for (PendingElement entry : chunk) {
+						Vertex vertex = getGraph().getVertex(entry.id);
+						if (vertex == null) {
+							continue;
+						}
+						MeshVertex element = getGraph().frameElement(vertex, MeshVertexImpl.class);
+						if (entry.recursive) {
+							boolean childrenRecursive = element.isPermissionChildrenRecursive();
+							for (MeshVertex child : element.getPermissionChildren()) {
+								chunkResult.children.add(new PendingElement(child.id(), childrenRecursive));
+							}
+						}
+						if (needsUpdate(role, element, permissionsToGrant, permissionsToRevoke)) {
+							element.applyPermissions(chunkResult.batch, role, false, permissionsToGrant, permissionsToRevoke);
+							chunkResult.updated++;
+						}
+					}
+					setCompletionCount(getCompletionCount() + chunkResult.updated);
+					return chunkResult;
+				});
+				if (result == null) {
+					log.info("Role {" + roleUuid + "} of permission update job {" + getUuid() + "} was deleted. Stopping the update.");
+					break;
+				}
+				// The children and events of the chunk are only handled once the chunk has been committed. The search index will be updated in bulk.
+				for (PendingElement child : result.children) {
+					pending.push(child);
+				}
+				result.batch.dispatch();
+				if (log.isDebugEnabled()) {
+					log.debug("Permission update job {" + getUuid() + "} updated {" + result.updated + "} elements. {" + pending.size()
+						+ "} elements pending.");
+				}
+			}
+		}).doOnComplete(() -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(COMPLETED);
+				log.info("Permission update job {" + getUuid() + "} completed. Updated {" + getCompletionCount() + "} elements.");
+			});
+		}).doOnError(error -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(FAILED);
+				setError(error);
+				log.error("Permission update job {" + getUuid() + "} failed.", error);
+			});
+		});
+	}
+
+	/**
+	 * Check whether the permissions of the role on the element differ from the requested permissions.
+	 *
+	 * @param role
+	 * @param element
+	 * @param permissionsToGrant
+	 * @param permissionsToRevoke
+	 * @return
+	 */
+	private boolean needsUpdate(Role role, MeshVertex element, Set<GraphPermission> permissionsToGrant, Set<GraphPermission> permissionsToRevoke) {
+		for (GraphPermission permission : permissionsToGrant) {
+			if (!role.hasPermission(permission, element)) {
+				return true;
+			}
+		}
+		for (GraphPermission permission : permissionsToRevoke) {
+			if (role.hasPermission(permission, element)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Result of a committed chunk.
+	 */
+	private static class ChunkResult {
+
+		private final EventQueueBatch batch;
+
+		private final List<PendingElement> children = new ArrayList<>();
+
+		private long updated = 0;
+
+		ChunkResult(EventQueueBatch batch) {
+			this.batch = batch;
+		}
+	}
+
+	/**
+	 * Element which still needs to be processed.
+	 */
+	private static class PendingElement {
+
+		private final Object id;
+
+		private final boolean recursive;
+
+		PendingElement(Object id, boolean recursive) {
+			this.id = id;
+			this.recursive = recursive;
+		}
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.gentics.mesh.core.data.node.impl;
 
 import static com.gentics.mesh.core.data.BranchParentEntry.branchParentEntry;
+import static com.gentics.mesh.core.data.CreatorTrackingVertex.CREATION_TIMESTAMP_PROPERTY_KEY;
+import static com.gentics.mesh.core.data.EditorTrackingVertex.LAST_EDIT_TIMESTAMP_PROPERTY_KEY;
 import static com.gentics.mesh.core.data.GraphFieldContainerEdge.WEBROOT_INDEX_NAME;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
@@ -13,6 +15,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ROO
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PARENTS_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PROJECT_KEY_PROPERTY;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.REVISION_KEY_PROPERTY_PREFIX;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
@@ -25,6 +28,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.forVersion;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
+import static com.gentics.mesh.madl.field.FieldType.LONG;
 import static com.gentics.mesh.madl.field.FieldType.STRING;
 import static com.gentics.mesh.madl.field.FieldType.STRING_SET;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
@@ -36,19 +40,25 @@ import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,6 +67,8 @@ import org.apache.commons.lang3.NotImplementedException;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.cache.CachedNavigationChild;
+import com.gentics.mesh.cache.NavigationTreeCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -85,6 +97,7 @@ import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.data.node.field.impl.NodeGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.page.TransformablePage;
+import com.gentics.mesh.core.data.page.impl.AbstractDynamicPage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -162,6 +175,58 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Name of the index which contains the children of a node per branch.
+	 */
+	private static final String BRANCH_PARENTS_INDEX = NodeImpl.class.getSimpleName() + "_branch_parents";
+
+	/**
+	 * Name of the index which contains the nodes of a project.
+	 */
+	public static final String PROJECT_INDEX = NodeImpl.class.getSimpleName() + "_project";
+
+	/**
+	 * Name of the ordered index which contains the children of a node per branch ordered by uuid.
+	 */
+	private static final String BRANCH_PARENTS_UUID_INDEX = NodeImpl.class.getSimpleName() + "_branch_parents_uuid";
+
+	/**
+	 * Name of the ordered index which contains the nodes of a project ordered by uuid.
+	 */
+	public static final String PROJECT_UUID_INDEX = NodeImpl.class.getSimpleName() + "_project_uuid";
+
+	/**
+	 * Name prefix of the ordered indices which contain the children of a node per branch ordered by a sort key (e.g.
+	 * <code>NodeImpl_branch_parents_sort_edited</code>).
+	 */
+	private static final String BRANCH_PARENTS_SORT_INDEX = NodeImpl.class.getSimpleName() + "_branch_parents_sort";
+
+	/**
+	 * Name prefix of the ordered indices which contain the nodes of a project ordered by a sort key.
+	 */
+	public static final String PROJECT_SORT_INDEX = NodeImpl.class.getSimpleName() + "_project_sort";
+
+	/**
+	 * Compares sort keys which consist of the sort value and the uuid. Null values are sorted first.
+	 */
+	@SuppressWarnings("unchecked")
+	private static final Comparator<List<Object>> SORT_KEY_COMPARATOR = (a, b) -> {
+		for (int i = 0; i < a.size(); i++) {
+			Object valueA = a.get(i);
+			Object valueB = b.get(i);
+			int result;
+			if (valueA == null || valueB == null) {
+				result = valueA == valueB ? 0 : (valueA == null ? -1 : 1);
+			} else {
+				result = ((Comparable<Object>) valueA).compareTo(valueB);
+			}
+			if (result != 0) {
+				return result;
+			}
+		}
+		return 0;
+	};
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class)
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET)
@@ -193,6 +258,102 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("branch_parents")
 			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET));
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix("branch_parents_uuid")
+			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET)
+			.withField("uuid", STRING)
+			.ordered());
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix("project_uuid")
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.ordered());
+
+		for (String sortBy : Arrays.asList("created", "edited")) {
+			String property = getSortProperty(sortBy);
+			index.createIndex(vertexIndex(NodeImpl.class)
+				.withPostfix("branch_parents_sort_" + sortBy)
+				.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET)
+				.withField(property, LONG)
+				.withField("uuid", STRING)
+				.ordered());
+
+			index.createIndex(vertexIndex(NodeImpl.class)
+				.withPostfix("project_sort_" + sortBy)
+				.withField(PROJECT_KEY_PROPERTY, STRING)
+				.withField(property, LONG)
+				.withField("uuid", STRING)
+				.ordered());
+		}
+	}
+
+	/**
+	 * Return the name of the node property which is used to sort nodes by the given key via the sort indices.
+	 *
+	 * @param sortBy
+	 * @return Name of the property or null if no sort index exists for the key
+	 */
+	private static String getSortProperty(String sortBy) {
+		switch (sortBy) {
+		case "created":
+			return CREATION_TIMESTAMP_PROPERTY_KEY;
+		case "edited":
+			return LAST_EDIT_TIMESTAMP_PROPERTY_KEY;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Create a page of nodes which are sorted by the sort key of the paging parameters. Nodes are sorted by created and edited via the ordered sort index of
+	 * the scope. The display name depends on the language and branch of the contents and can't be indexed. Nodes are thus sorted by displayName in memory.
+	 *
+	 * @param ac
+	 * @param index
+	 * @param sortIndex
+	 *            Name prefix of the sort indices of the scope (e.g. {@link #PROJECT_SORT_INDEX})
+	 * @param scopeKey
+	 *            Key of the scope within the sort index
+	 * @param pagingInfo
+	 * @param visibleNodes
+	 *            Function which frames the given vertices and filters the nodes which are visible to the user
+	 * @param allVertices
+	 *            Supplier for all vertices of the scope which is used to sort in memory
+	 * @return Sorted page or null if nodes can't be sorted by the sort key
+	 */
+	public static DynamicTransformableStreamPageImpl<Node> createSortedPage(InternalActionContext ac, IndexHandler index, String sortIndex, Object scopeKey,
+		PagingParameters pagingInfo, Function<Stream<Vertex>, Stream<? extends Node>> visibleNodes, Supplier<Stream<Vertex>> allVertices) {
+		String sortBy = AbstractDynamicPage.getSortKey(pagingInfo);
+		boolean descending = AbstractDynamicPage.isDescending(pagingInfo);
+		String after = AbstractDynamicPage.decodeCursor(pagingInfo);
+		List<Object> afterKey = after == null ? null : AbstractDynamicPage.fromSortCursorKey(after);
+
+		if ("displayName".equals(sortBy)) {
+			Comparator<List<Object>> comparator = descending ? SORT_KEY_COMPARATOR.reversed() : SORT_KEY_COMPARATOR;
+			Stream<Node> nodes = visibleNodes.apply(allVertices.get())
+				.map(node -> new SimpleImmutableEntry<List<Object>, Node>(Arrays.<Object>asList(node.getDisplayName(ac), node.getUuid()), node))
+				.filter(entry -> afterKey == null || comparator.compare(entry.getKey(), afterKey) > 0)
+				.sorted((a, b) -> comparator.compare(a.getKey(), b.getKey()))
+				.map(Entry::getValue);
+			return new DynamicTransformableStreamPageImpl<>(nodes, pagingInfo, null,
+				node -> AbstractDynamicPage.toSortCursorKey(node.getDisplayName(ac), node.getUuid()));
+		}
+
+		String property = getSortProperty(sortBy);
+		Iterator<Entry<List<Object>, Object>> entries = null;
+		if (property != null) {
+			entries = index.sortedLookup(sortIndex + "_" + sortBy, scopeKey, afterKey, descending);
+		}
+		if (entries == null) {
+			log.warn("Sorting nodes by {" + sortBy + "} is not supported. Falling back to the default order.");
+			return null;
+		}
+		FramedGraph graph = Tx.get().getGraph();
+		Stream<Vertex> vertices = toStream(entries).map(entry -> graph.getVertex(entry.getValue()));
+		return new DynamicTransformableStreamPageImpl<>(visibleNodes.apply(vertices), pagingInfo, null,
+			node -> AbstractDynamicPage.toSortCursorKey(node.property(property), node.getUuid()));
 	}
 
 	@Override
@@ -431,6 +592,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// We need create a new container with no reference. So use the latest version available to use.
 			newContainer.setSchemaContainerVersion(branch.findLatestSchemaVersion(getSchemaContainer()));
 		}
+		// The node tracks the last edit of all its contents. This way nodes can be sorted by their edit timestamp via the sort indices.
+		property(LAST_EDIT_TIMESTAMP_PROPERTY_KEY, newContainer.getLastEditedTimestamp());
 		if (previous != null) {
 			// set the next version number
 			newContainer.setVersion(previous.getVersion().nextDraft());
@@ -472,6 +635,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setType(INITIAL);
 		}
 
+		incrementRevision(branchUuid);
 		return newContainer;
 	}
 
@@ -501,11 +665,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public void removeTag(Tag tag, Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).mark().inV().retain(tag).back().removeAll();
+		incrementRevision(branch.getUuid());
 	}
 
 	@Override
 	public void removeAllTags(Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
+		incrementRevision(branch.getUuid());
 	}
 
 	@Override
@@ -544,14 +710,39 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		);
 	}
 
+	/**
+	 * Return the children of the node in the given branch ordered by uuid.
+	 *
+	 * @param branchUuid
+	 * @param after
+	 *            Uuid of the child after which the iteration should start or null
+	 * @return Stream of children or null if the ordered index can't be used
+	 */
+	private Stream<Vertex> getOrderedUnframedChildren(String branchUuid, String after) {
+		Iterator<Entry<Object, Object>> entries = db().index().rangeLookup(BRANCH_PARENTS_UUID_INDEX, branchParentEntry(branchUuid, getUuid()).encode(),
+			after);
+		if (entries == null) {
+			return null;
+		}
+		return toStream(entries).map(entry -> getGraph().getVertex(entry.getValue()));
+	}
+
 	@Override
 	public Stream<Node> getChildrenStream(InternalActionContext ac) {
 		MeshAuthUser user = ac.getUser();
-		return toStream(getUnframedChildren(ac.getBranch().getUuid()))
-			.filter(node -> {
-				Object id = node.getId();
-				return user.hasPermissionForId(id, READ_PERM) || user.hasPermissionForId(id, READ_PUBLISHED_PERM);
-			}).map(node -> graph.frameElementExplicit(node, NodeImpl.class));
+		// The read published permission check falls back to the read permission
+		return user.filterPermitted(toStream(getUnframedChildren(ac.getBranch().getUuid())), READ_PUBLISHED_PERM)
+			.map(node -> graph.frameElementExplicit(node, NodeImpl.class));
+	}
+
+	@Override
+	public Stream<Node> getChildrenStream(InternalActionContext ac, String after) {
+		Stream<Vertex> children = getOrderedUnframedChildren(ac.getBranch().getUuid(), after);
+		if (children == null) {
+			return null;
+		}
+		return ac.getUser().filterPermitted(children, READ_PUBLISHED_PERM)
+			.map(node -> graph.frameElementExplicit(node, NodeImpl.class));
 	}
 
 	@Override
@@ -575,6 +766,47 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeParent(branchUuid);
 		addToStringSetProperty(PARENTS_KEY_PROPERTY, parentUuid);
 		addToStringSetProperty(BRANCH_PARENTS_KEY_PROPERTY, branchParentEntry(branchUuid, parentUuid).encode());
+		incrementRevision(branchUuid);
+		incrementRevisionOnCommit(parentUuid, branchUuid);
+	}
+
+	@Override
+	public long getRevision(String branchUuid) {
+		Long revision = property(REVISION_KEY_PROPERTY_PREFIX + branchUuid);
+		return revision == null ? 0 : revision;
+	}
+
+	@Override
+	public void incrementRevision(String branchUuid) {
+		property(REVISION_KEY_PROPERTY_PREFIX + branchUuid, getRevision(branchUuid) + 1);
+	}
+
+	@Override
+	public void incrementParentRevisions() {
+		Set<String> branchParents = property(BRANCH_PARENTS_KEY_PROPERTY);
+		if (branchParents != null) {
+			for (String entry : branchParents) {
+				BranchParentEntry parentEntry = BranchParentEntry.fromString(entry);
+				incrementRevisionOnCommit(parentEntry.getParentUuid(), parentEntry.getBranchUuid());
+			}
+		}
+	}
+
+	/**
+	 * Increment the revision of the given node right before the transaction is committed. Changes of children update the revision of their parent. The
+	 * revision of each parent is only incremented once per transaction and as late as possible, so that bulk changes don't rewrite the parent for every
+	 * child. Concurrent transactions which change children of the same parent will still conflict on the parent and be retried.
+	 *
+	 * @param nodeUuid
+	 * @param branchUuid
+	 */
+	private void incrementRevisionOnCommit(String nodeUuid, String branchUuid) {
+		Tx.get().getGraph().beforeCommit(REVISION_KEY_PROPERTY_PREFIX + branchUuid + "-" + nodeUuid, () -> {
+			Node node = db().index().findByUuid(NodeImpl.class, nodeUuid);
+			if (node != null) {
+				node.incrementRevision(branchUuid);
+			}
+		});
 	}
 
 	@Override
@@ -971,12 +1203,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (parameters.getMaxDepth() < 0) {
 			throw error(BAD_REQUEST, "navigation_error_invalid_max_depth");
 		}
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			// TODO assure that the schema version is correct
 			if (!getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
 			}
-			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), 0, ac.getBranch(getProject()).getUuid(), forVersion(ac
+			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), ac.getBranch(getProject()).getUuid(), forVersion(ac
 				.getVersioningParameters().getVersion()));
 			String etag = ETag.hash(etagKey);
 			ac.setEtag(etag, true);
@@ -1005,40 +1237,103 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	}
 
 	/**
-	 * Generate the etag key for the requested navigation.
+	 * Generate the etag key for the requested navigation. The tree is traversed depth-first via a stack, so deep trees don't exhaust the call stack.
 	 *
 	 * @param ac
 	 * @param node
 	 *            Current node to start building the navigation
 	 * @param maxDepth
 	 *            Maximum depth of navigation
-	 * @param level
-	 *            Current level of recursion
 	 * @param branchUuid
 	 *            Branch uuid used to extract selected tree structure
 	 * @param type
 	 * @return
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, int level, String branchUuid, ContainerType type) {
-		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
+	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, String branchUuid, ContainerType type) {
+		boolean includeAll = new NavigationParametersImpl(ac).isIncludeAll();
 		StringBuilder builder = new StringBuilder();
-		builder.append(node.getETag(ac));
+		Deque<NavigationEtagEntry> pending = new ArrayDeque<>();
+		pending.push(new NavigationEtagEntry(node, 0));
+		while (!pending.isEmpty()) {
+			NavigationEtagEntry entry = pending.pop();
+			builder.append(entry.node.getETag(ac));
+
+			// Don't descend when we reach the max level
+			if (entry.level == maxDepth) {
+				continue;
+			}
+			List<CachedNavigationChild> children = getNavigationChildren(ac, entry.node, branchUuid, type);
+			// Push the children in reverse order so that they are handled in their original order
+			for (ListIterator<CachedNavigationChild> it = children.listIterator(children.size()); it.hasPrevious();) {
+				CachedNavigationChild child = it.previous();
+				if (child.isContainer()) {
+					pending.push(new NavigationEtagEntry(loadNavigationChild(child), entry.level + 1));
+				} else if (includeAll) {
+					pending.push(new NavigationEtagEntry(loadNavigationChild(child), entry.level));
+				}
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Node which still needs to be added to the navigation etag key.
+	 */
+	private static class NavigationEtagEntry {
 
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
+		private final Node node;
 
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			return builder.toString();
+		private final int level;
+
+		NavigationEtagEntry(Node node, int level) {
+			this.node = node;
+			this.level = level;
 		}
-		for (Node child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type));
-			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type));
+	}
+
+	/**
+	 * Return the children of the node which are visible to the user. The structure of the tree is read from the navigation tree cache when possible and
+	 * only the permissions of the children are checked for each request.
+	 *
+	 * @param ac
+	 * @param node
+	 *            Node for which the children should be loaded
+	 * @param branchUuid
+	 *            Branch uuid used to extract selected tree structure
+	 * @param type
+	 *            Container type which is used to determine the needed permission
+	 * @return Ordered list of the permitted children
+	 */
+	private List<CachedNavigationChild> getNavigationChildren(InternalActionContext ac, Node node, String branchUuid, ContainerType type) {
+		NavigationTreeCache cache = mesh().navigationTreeCache();
+		// The cache is only used for read only transactions since changes of the current transaction are not yet reflected by the cache
+		Tx tx = Tx.get();
+		boolean useCache = !cache.isDisabled() && tx != null && tx.isReadOnly();
+		List<CachedNavigationChild> children = useCache ? cache.getChildren(branchUuid, node.getUuid()) : null;
+		if (children == null) {
+			children = node.getChildren(branchUuid).stream()
+				.map(child -> new CachedNavigationChild(child.id(), child.getUuid(), child.getSchemaContainer().getLatestVersion().getSchema()
+					.getContainer()))
+				.collect(Collectors.toList());
+			if (useCache) {
+				cache.store(node.getProject().getUuid(), branchUuid, node.getUuid(), children);
 			}
 		}
-		return builder.toString();
+		MeshAuthUser user = ac.getUser();
+		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+		return children.stream()
+			.filter(child -> user.hasPermissionForId(child.getId(), perm))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Load the node of the navigation child.
+	 *
+	 * @param child
+	 * @return
+	 */
+	private Node loadNavigationChild(CachedNavigationChild child) {
+		return graph.frameElementExplicit(getGraph().getVertex(child.getId()), NodeImpl.class);
 	}
 
 	/**
@@ -1064,7 +1359,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 */
 	private Single<NavigationResponse> buildNavigationResponse(InternalActionContext ac, Node node, int maxDepth, int level,
 		NavigationResponse navigation, NavigationElement currentElement, String branchUuid, ContainerType type) {
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
+		List<CachedNavigationChild> children = getNavigationChildren(ac, node, branchUuid, type);
 		List<Single<NavigationResponse>> obsResponses = new ArrayList<>();
 
 		obsResponses.add(node.transformToRest(ac, 0).map(response -> {
@@ -1076,23 +1371,24 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Abort recursion when we reach the max level or when no more children
 		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
+		if (level == maxDepth || children.isEmpty()) {
 			List<Observable<NavigationResponse>> obsList = obsResponses.stream().map(ele -> ele.toObservable()).collect(Collectors.toList());
 			return Observable.merge(obsList).lastOrError();
 		}
 		NavigationParameters parameters = new NavigationParametersImpl(ac);
 		// Add children
-		for (Node child : nodes) {
+		for (CachedNavigationChild child : children) {
 			// TODO assure that the schema version is correct?
 			// TODO also allow navigations over containers
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
+			if (child.isContainer()) {
 				NavigationElement childElement = new NavigationElement();
 				// We found at least one child so lets create the array
 				if (currentElement.getChildren() == null) {
 					currentElement.setChildren(new ArrayList<>());
 				}
 				currentElement.getChildren().add(childElement);
-				obsResponses.add(buildNavigationResponse(ac, child, maxDepth, level + 1, navigation, childElement, branchUuid, type));
+				obsResponses.add(buildNavigationResponse(ac, loadNavigationChild(child), maxDepth, level + 1, navigation, childElement, branchUuid,
+					type));
 			} else if (parameters.isIncludeAll()) {
 				// We found at least one child so lets create the array
 				if (currentElement.getChildren() == null) {
@@ -1100,7 +1396,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				}
 				NavigationElement childElement = new NavigationElement();
 				currentElement.getChildren().add(childElement);
-				obsResponses.add(buildNavigationResponse(ac, child, maxDepth, level, navigation, childElement, branchUuid, type));
+				obsResponses.add(buildNavigationResponse(ac, loadNavigationChild(child), maxDepth, level, navigation, childElement, branchUuid,
+					type));
 			}
 		}
 		List<Observable<NavigationResponse>> obsList = obsResponses.stream().map(ele -> ele.toObservable()).collect(Collectors.toList());
@@ -1248,6 +1545,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				content.purge(bac);
 			}
 		});
+		incrementRevision(branchUuid);
 
 		assertPublishConsistency(ac, branch);
 
@@ -1323,6 +1621,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		incrementRevision(branchUuid);
 		assertPublishConsistency(ac, branch);
 
 		bac.process();
@@ -1360,6 +1659,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
 		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+		incrementRevision(branchUuid);
 	}
 
 	@Override
@@ -1449,6 +1749,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		addReferenceUpdates(bac);
+		// The parents lose a child in all branches
+		incrementParentRevisions();
 
 		bac.add(onDeleted(getUuid(), getSchemaContainer(), null, null, null));
 		getElement().remove();
@@ -1541,6 +1843,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				property(BRANCH_PARENTS_KEY_PROPERTY, newParents);
 
 				String removedParent = BranchParentEntry.fromString(removedParents.iterator().next()).getParentUuid();
+				incrementRevisionOnCommit(removedParent, branchUuid);
 				// If the removed parent is not parent of any other branch, remove it from the common parent set.
 				boolean parentStillExists = newParents.stream().anyMatch(parent -> BranchParentEntry.fromString(parent).getParentUuid().equals(removedParent));
 				if (!parentStillExists) {
@@ -1554,20 +1857,54 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Stream<? extends Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
-		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
-
-		Predicate<Node> languageFilter = languageTags == null || languageTags.isEmpty()
-			? item -> true
-			: item -> languageTags.stream().anyMatch(languageTag -> item.getGraphFieldContainer(languageTag, branchUuid, type) != null);
-
 		return getChildren(branchUuid).stream()
-			.filter(languageFilter.and(item -> requestUser.hasPermission(item, perm)));
+			.filter(createChildFilter(requestUser, branchUuid, languageTags, type));
 	}
 
 	@Override
 	public TransformablePage<? extends Node> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
 		PagingParameters pagingInfo) {
-		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		DynamicTransformableStreamPageImpl<Node> page;
+		if (AbstractDynamicPage.getSortKey(pagingInfo) != null) {
+			Predicate<Node> filter = createChildFilter(ac.getUser(), branchUuid, languageTags, type);
+			page = createSortedPage(ac, db().index(), BRANCH_PARENTS_SORT_INDEX, branchParentEntry(branchUuid, getUuid()).encode(), pagingInfo,
+				vertices -> vertices.map(vertex -> (Node) graph.frameElementExplicit(vertex, NodeImpl.class)).filter(filter),
+				() -> toStream(getUnframedChildren(branchUuid)));
+			if (page != null) {
+				page.setEstimator(() -> db().index().count(BRANCH_PARENTS_INDEX, branchParentEntry(branchUuid, getUuid()).encode()));
+				return page;
+			}
+		}
+		Stream<Vertex> children = getOrderedUnframedChildren(branchUuid, AbstractDynamicPage.decodeCursor(pagingInfo));
+		if (children == null) {
+			page = new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		} else {
+			// The ordered index returns the children by uuid and starts after the uuid of the cursor
+			Stream<Node> nodes = children.map(vertex -> graph.frameElementExplicit(vertex, NodeImpl.class));
+			page = new DynamicTransformableStreamPageImpl<>(nodes, pagingInfo, createChildFilter(ac.getUser(), branchUuid, languageTags, type),
+				Node::getUuid);
+		}
+		page.setEstimator(() -> db().index().count(BRANCH_PARENTS_INDEX, branchParentEntry(branchUuid, getUuid()).encode()));
+		return page;
+	}
+
+	/**
+	 * Create the filter for the children of the node which are visible to the user and available in one of the given languages.
+	 *
+	 * @param requestUser
+	 * @param branchUuid
+	 * @param languageTags
+	 * @param type
+	 * @return
+	 */
+	private Predicate<Node> createChildFilter(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
+		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+
+		Predicate<Node> languageFilter = languageTags == null || languageTags.isEmpty()
+			? item -> true
+			: item -> languageTags.stream().anyMatch(languageTag -> item.getGraphFieldContainer(languageTag, branchUuid, type) != null);
+
+		return languageFilter.and(item -> requestUser.hasPermission(item, perm));
 	}
 
 	@Override
@@ -1577,15 +1914,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	}
 
 	@Override
-	public void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
-		Set<GraphPermission> permissionsToRevoke) {
-		if (recursive) {
-			// We don't need to filter by branch. Branch nodes can't have dedicated perms
-			for (Node child : getChildren()) {
-				child.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
-			}
-		}
-		super.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
+	public Iterable<? extends Node> getPermissionChildren() {
+		// We don't need to filter by branch. Branch nodes can't have dedicated perms
+		return getChildren();
 	}
 
 	@Override
@@ -1864,6 +2195,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, bac);
+		incrementRevision(branch.getUuid());
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -1980,9 +2312,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 * <li>uuid of the node</li>
 	 * <li>parent node uuid (which is branch specific)</li>
 	 * <li>version and language specific etag of the field container</li>
-	 * <li>availableLanguages</li>
-	 * <li>breadcrumb</li>
-	 * <li>webroot path &amp; language paths</li>
+	 * <li>revision of the node (tags, children, publish state and availableLanguages)</li>
+	 * <li>uuids and container etags of the breadcrumb nodes</li>
+	 * <li>webroot path</li>
 	 * <li>permissions</li>
 	 * </ul>
 	 */
@@ -2046,68 +2378,48 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
-		// branch specific tags
-		for (Tag tag : getTags(branch)) {
-			// Tags can't be moved across branches thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
-		}
-
-		// branch specific children
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PUBLISHED_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
-
-		// Publish state & availableLanguages
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, PUBLISHED)) {
-			keyBuilder.append(c.getLanguageTag() + "published");
-		}
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, DRAFT)) {
-			keyBuilder.append(c.getLanguageTag() + "draft");
-		}
-
-		// breadcrumb
+		/**
+		 * Revision
+		 *
+		 * The revision is incremented whenever the tags, children, publish state or languages of the node change in the branch. The visible children
+		 * depend on the roles of the user.
+		 */
+		keyBuilder.append("-rev:");
+		keyBuilder.append(getRevision(branch.getUuid()));
 		keyBuilder.append("-");
-		Node current = getParentNode(branch.getUuid());
-		if (current != null) {
-			while (current != null) {
+		keyBuilder.append(ac.getUser().getRolesHash());
 
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = mesh().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, branch.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-						getProject().getName(), container.getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(branch.getUuid());
-
-			}
+		/**
+		 * Breadcrumb
+		 *
+		 * The breadcrumb contains the display names and paths of the ancestors. These are covered by the etags of the containers of the ancestors. The
+		 * revisions of the ancestors are not used since they change whenever any of their children change.
+		 */
+		keyBuilder.append("-");
+		List<String> languageTags = ac.getNodeParameters().getLanguageList(options());
+		Node current = parentNode;
+		while (current != null) {
+			keyBuilder.append(current.getUuid());
+			keyBuilder.append(":");
+			NodeGraphFieldContainer ancestorContainer = current.findVersion(languageTags, branch.getUuid(), versioiningParameters.getVersion());
+			keyBuilder.append(ancestorContainer == null ? "none" : ancestorContainer.getETag(ac));
+			current = current.getParentNode(branch.getUuid());
 		}
 
 		/**
 		 * webroot path & language paths
 		 *
 		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
+		 * segment of any parent node changes.
 		 */
 		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
 
+			// The segments of the node and its parents are covered by the revisions. The path of the node also covers changes of the project or
+			// branch (e.g. hostname) which affect all paths.
 			WebRootLinkReplacer linkReplacer = mesh().webRootLinkReplacer();
 			String path = linkReplacer.resolve(ac, branch.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
 				.getName(), container.getLanguageTag());
 			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(branch, forVersion(versioiningParameters.getVersion()))) {
-				String currLanguage = currentFieldContainer.getLanguageTag();
-				keyBuilder.append(currLanguage + "=" + linkReplacer.resolve(ac, branch.getUuid(), type, this, ac.getNodeParameters()
-					.getResolveLinks(), currLanguage));
-			}
-
 		}
 
 		if (log.isDebugEnabled()) {
@@ -2203,7 +2515,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Single<NodeResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -2218,6 +2530,14 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		return GraphFieldContainerEdgeImpl.matchesBranchAndType(getId(), branchUuid, ContainerType.DRAFT);
 	}
 
+	@Override
+	protected void applyVertexPermissions(EventQueueBatch batch, Role role, Set<GraphPermission> permissionsToGrant,
+		Set<GraphPermission> permissionsToRevoke) {
+		super.applyVertexPermissions(batch, role, permissionsToGrant, permissionsToRevoke);
+		// The children info of the parents depends on the permissions of the node
+		incrementParentRevisions();
+	}
+
 	@Override
 	public PermissionChangedProjectElementEventModel onPermissionChanged(Role role) {
 		PermissionChangedProjectElementEventModel model = new PermissionChangedProjectElementEventModel();
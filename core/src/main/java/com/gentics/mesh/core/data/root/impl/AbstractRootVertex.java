@@ -1,6 +1,5 @@
 package com.gentics.mesh.core.data.root.impl;
 
-import java.util.Set;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -10,7 +9,6 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.PermissionInfo;
 import com.gentics.mesh.core.rest.common.RestModel;
-import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 
 /**
@@ -39,14 +37,8 @@ public abstract class AbstractRootVertex<T extends MeshCoreVertex<? extends Rest
 	}
 
 	@Override
-	public void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
-		Set<GraphPermission> permissionsToRevoke) {
-		if (recursive) {
-			for (T t : findAll()) {
-				t.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
-			}
-		}
-		applyVertexPermissions(batch, role, permissionsToGrant, permissionsToRevoke);
+	public Iterable<? extends T> getPermissionChildren() {
+		return findAll();
 	}
 
 }
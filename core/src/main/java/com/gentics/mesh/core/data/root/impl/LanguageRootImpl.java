@@ -31,7 +31,7 @@ public class LanguageRootImpl extends AbstractRootVertex<Language> implements La
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(LanguageRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_LANGUAGE).withInOut());
+		index.createIndex(edgeIndex(HAS_LANGUAGE).withInOut().withOutIn());
 		// TODO add unique index
 	}
 
@@ -41,7 +41,7 @@ public class MicroschemaContainerRootImpl extends AbstractRootVertex<Microschema
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(MicroschemaContainerRootImpl.class, MeshVertexImpl.class);
 		type.createType(edgeType(HAS_SCHEMA_CONTAINER_ITEM));
-		index.createIndex(edgeIndex(HAS_SCHEMA_CONTAINER_ITEM).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_SCHEMA_CONTAINER_ITEM).withInOut().withOut().withOutIn());
 	}
 
 	@Override
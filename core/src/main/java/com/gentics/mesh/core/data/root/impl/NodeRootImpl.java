@@ -16,8 +16,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map.Entry;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -33,7 +34,6 @@ import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
-import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
@@ -41,6 +41,7 @@ import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.TransformablePage;
+import com.gentics.mesh.core.data.page.impl.AbstractDynamicPage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.NodeRoot;
@@ -68,7 +69,7 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(NodeRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_NODE).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_NODE).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -84,7 +85,25 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 	@Override
 	public TransformablePage<? extends Node> findAll(InternalActionContext ac, PagingParameters pagingInfo) {
 		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-		return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type), pagingInfo);
+		String projectUuid = ac.getProject().getUuid();
+		DynamicTransformableStreamPageImpl<Node> page;
+		if (AbstractDynamicPage.getSortKey(pagingInfo) != null) {
+			page = NodeImpl.createSortedPage(ac, db().index(), NodeImpl.PROJECT_SORT_INDEX, projectUuid, pagingInfo,
+				vertices -> findAllStream(ac, vertices, type), () -> findAll(projectUuid));
+			if (page != null) {
+				page.setEstimator(() -> db().index().count(NodeImpl.PROJECT_INDEX, projectUuid));
+				return page;
+			}
+		}
+		Stream<Vertex> vertices = findAllOrdered(projectUuid, AbstractDynamicPage.decodeCursor(pagingInfo));
+		if (vertices == null) {
+			page = new DynamicTransformableStreamPageImpl<>(findAllStream(ac, findAll(projectUuid), type), pagingInfo);
+		} else {
+			// The ordered index returns the nodes by uuid and starts after the uuid of the cursor
+			page = new DynamicTransformableStreamPageImpl<>(findAllStream(ac, vertices, type), pagingInfo, null, Node::getUuid);
+		}
+		page.setEstimator(() -> db().index().count(NodeImpl.PROJECT_INDEX, projectUuid));
+		return page;
 	}
 
 	@Override
@@ -99,10 +118,23 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	@Override
 	public Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission perm) {
+		return findAllStream(ac, findAll(ac.getProject().getUuid()));
+	}
+
+	@Override
+	public Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission permission, String after) {
+		Stream<Vertex> vertices = findAllOrdered(ac.getProject().getUuid(), after);
+		if (vertices == null) {
+			return null;
+		}
+		return findAllStream(ac, vertices);
+	}
+
+	private Stream<? extends Node> findAllStream(InternalActionContext ac, Stream<Vertex> vertices) {
 		MeshAuthUser user = ac.getUser();
 		String branchUuid = ac.getBranch().getUuid();
 
-		return findAll(ac.getProject().getUuid())
+		return vertices
 			.filter(item -> {
 				boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
 				if (hasRead) {
@@ -132,14 +164,31 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		));
 	}
 
-	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type) {
+	/**
+	 * Finds all nodes of a project ordered by uuid.
+	 *
+	 * @param projectUuid
+	 * @param after
+	 *            Uuid of the node after which the iteration should start or null
+	 * @return Stream of nodes or null if the ordered index can't be used
+	 */
+	private Stream<Vertex> findAllOrdered(String projectUuid, String after) {
+		Iterator<Entry<Object, Object>> entries = db().index().rangeLookup(NodeImpl.PROJECT_UUID_INDEX, projectUuid, after);
+		if (entries == null) {
+			return null;
+		}
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		return toStream(entries).map(entry -> graph.getVertex(entry.getValue()));
+	}
+
+	private Stream<? extends Node> findAllStream(InternalActionContext ac, Stream<Vertex> vertices, ContainerType type) {
 		MeshAuthUser user = ac.getUser();
 		FramedTransactionalGraph graph = Tx.get().getGraph();
 
 		Branch branch = ac.getBranch();
 		String branchUuid = branch.getUuid();
 
-		return findAll(ac.getProject().getUuid()).filter(item -> {
+		return vertices.filter(item -> {
 			// Check whether the node has at least one content of the type in the selected branch - Otherwise the node should be skipped
 			return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, type);
 		}).filter(item -> {
@@ -342,17 +391,10 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 	}
 
 	@Override
-	public void applyPermissions(EventQueueBatch batch, Role role, boolean recursive,
-			Set<GraphPermission> permissionsToGrant, Set<GraphPermission> permissionsToRevoke) {
-		if (recursive) {
-			for (Node node : findAll()) {
-				// We don't need to recursively handle the permissions for each node again since
-				// this call will already affect all nodes.
-				node.applyPermissions(batch, role, false, permissionsToGrant, permissionsToRevoke);
-			}
-		}
-
-		applyVertexPermissions(batch, role, permissionsToGrant, permissionsToRevoke);
+	public boolean isPermissionChildrenRecursive() {
+		// We don't need to recursively handle the permissions for each node again since
+		// the children of the root already contain all nodes.
+		return false;
 	}
 
 }
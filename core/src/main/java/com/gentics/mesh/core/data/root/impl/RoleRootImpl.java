@@ -34,9 +34,11 @@ public class RoleRootImpl extends AbstractRootVertex<Role> implements RoleRoot {
 
 	private static final Logger log = LoggerFactory.getLogger(RoleRootImpl.class);
 
+	public static final String NEXT_ORDINAL_PROPERTY_KEY = "nextRoleOrdinal";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(RoleRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_ROLE).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_ROLE).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -71,11 +73,20 @@ public class RoleRootImpl extends AbstractRootVertex<Role> implements RoleRoot {
 			role.setUuid(uuid);
 		}
 		role.setName(name);
+		role.setOrdinal(nextOrdinal());
 		role.setCreated(creator);
 		addRole(role);
 		return role;
 	}
 
+	@Override
+	public int nextOrdinal() {
+		Integer next = property(NEXT_ORDINAL_PROPERTY_KEY);
+		int ordinal = next == null ? 0 : next;
+		property(NEXT_ORDINAL_PROPERTY_KEY, ordinal + 1);
+		return ordinal;
+	}
+
 	public Role create(InternalActionContext ac, EventQueueBatch batch, String uuid) {
 		RoleCreateRequest requestModel = ac.fromJson(RoleCreateRequest.class);
 		String roleName = requestModel.getName();
@@ -51,7 +51,7 @@ public class SchemaContainerRootImpl extends AbstractRootVertex<SchemaContainer>
 		type.createVertexType(SchemaContainerRootImpl.class, MeshVertexImpl.class);
 		type.createType(edgeType(HAS_SCHEMA_ROOT));
 		type.createType(edgeType(HAS_SCHEMA_CONTAINER_ITEM));
-		index.createIndex(edgeIndex(HAS_SCHEMA_CONTAINER_ITEM).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_SCHEMA_CONTAINER_ITEM).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -64,6 +64,19 @@ public class SchemaContainerRootImpl extends AbstractRootVertex<SchemaContainer>
 		return HAS_SCHEMA_CONTAINER_ITEM;
 	}
 
+	@Override
+	public boolean hasSortIndices() {
+		return true;
+	}
+
+	@Override
+	public String getSortProperty(String sortBy) {
+		if ("name".equals(sortBy)) {
+			return "name";
+		}
+		return super.getSortProperty(sortBy);
+	}
+
 	@Override
 	public void addSchemaContainer(User user, SchemaContainer schema, EventQueueBatch batch) {
 		addItem(schema);
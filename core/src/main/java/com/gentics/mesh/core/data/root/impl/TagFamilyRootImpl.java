@@ -42,7 +42,7 @@ public class TagFamilyRootImpl extends AbstractRootVertex<TagFamily> implements
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(TagFamilyRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_TAG_FAMILY).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_TAG_FAMILY).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -35,7 +35,7 @@ public class TagRootImpl extends AbstractRootVertex<Tag> implements TagRoot {
 		type.createVertexType(TagRootImpl.class, MeshVertexImpl.class);
 		//TODO why was the branch key omitted? TagEdgeImpl.BRANCH_UUID_KEY
 		index.createIndex(edgeIndex(HAS_TAG));
-		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_TAG).withInOut().withOut().withOutIn());
 	}
 
 	private static final Logger log = LoggerFactory.getLogger(TagRootImpl.class);
@@ -50,6 +50,19 @@ public class TagRootImpl extends AbstractRootVertex<Tag> implements TagRoot {
 		return HAS_TAG;
 	}
 
+	@Override
+	public boolean hasSortIndices() {
+		return true;
+	}
+
+	@Override
+	public String getSortProperty(String sortBy) {
+		if ("name".equals(sortBy)) {
+			return TagImpl.TAG_VALUE_KEY;
+		}
+		return super.getSortProperty(sortBy);
+	}
+
 	@Override
 	public void addTag(Tag tag) {
 		addItem(tag);
@@ -45,7 +45,7 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(UserRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -58,6 +58,19 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 		return HAS_USER;
 	}
 
+	@Override
+	public boolean hasSortIndices() {
+		return true;
+	}
+
+	@Override
+	public String getSortProperty(String sortBy) {
+		if ("name".equals(sortBy)) {
+			return UserImpl.USERNAME_PROPERTY_KEY;
+		}
+		return super.getSortProperty(sortBy);
+	}
+
 	@Override
 	public void addUser(User user) {
 		addItem(user);
@@ -118,6 +131,11 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 		return null;
 	}
 
+	@Override
+	public MeshAuthUser frameMeshAuthUser(Object id, String userUuid) {
+		return MeshAuthUserImpl.create(id, userUuid);
+	}
+
 	@Override
 	public void delete(BulkActionContext context) {
 		throw new NotImplementedException("The user root should never be deleted");
@@ -50,6 +50,7 @@ public class SchemaContainerImpl extends
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(SchemaContainerImpl.class, MeshVertexImpl.class);
+		createSortIndices(index, SchemaContainerImpl.class, "name");
 	}
 
 	@Override
@@ -4,8 +4,10 @@ import static com.gentics.mesh.context.InternalActionContext.internalHandler;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_PROGRESS;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_PROGRESS;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_START;
@@ -32,6 +34,8 @@ import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoHandler;
 import com.gentics.mesh.core.endpoint.admin.plugin.PluginHandler;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.parameter.impl.BackupParametersImpl;
+import com.gentics.mesh.parameter.impl.ExportParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
 
@@ -234,10 +238,12 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		endpoint.path("/graphdb/export");
 		endpoint.method(POST);
 		endpoint.setMutating(false);
-		endpoint.description("Invoke a orientdb graph database export.");
+		endpoint.description(
+			"Invoke a orientdb graph database export. The clusters of the database will be exported in parallel to a new directory within the export directory.");
 		endpoint.produces(APPLICATION_JSON);
+		endpoint.addQueryParameters(ExportParametersImpl.class);
 		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Export process was invoked.");
-		endpoint.events(GRAPH_EXPORT_START, GRAPH_EXPORT_FINISHED);
+		endpoint.events(GRAPH_EXPORT_START, GRAPH_EXPORT_PROGRESS, GRAPH_EXPORT_FINISHED);
 		endpoint.blockingHandler(rc -> {
 			adminHandler.handleExport(wrap(rc));
 		});
@@ -248,10 +254,11 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		endpoint.path("/graphdb/import");
 		endpoint.method(POST);
 		endpoint.description(
-			"Invoke a orientdb graph database import. The latest import file from the import directory will be used for this operation.");
+			"Invoke a orientdb graph database import. The latest export from the export directory will be used for this operation. All vertices and edges will be replaced by the content of the export.");
 		endpoint.produces(APPLICATION_JSON);
+		endpoint.addQueryParameters(ExportParametersImpl.class);
 		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Database import command was invoked.");
-		endpoint.events(GRAPH_IMPORT_START, GRAPH_IMPORT_FINISHED);
+		endpoint.events(GRAPH_IMPORT_START, GRAPH_IMPORT_PROGRESS, GRAPH_IMPORT_FINISHED);
 		endpoint.blockingHandler(rc -> {
 			adminHandler.handleImport(wrap(rc));
 		});
@@ -265,6 +272,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Database restore command was invoked.");
 		endpoint.method(POST);
+		endpoint.addQueryParameters(BackupParametersImpl.class);
 		endpoint.events(GRAPH_RESTORE_START, GRAPH_RESTORE_FINISHED);
 		endpoint.blockingHandler(rc -> {
 			adminHandler.handleRestore(wrap(rc));
@@ -277,9 +285,10 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		endpoint.method(POST);
 		endpoint.setMutating(false);
 		endpoint.description(
-			"Invoke a graph database backup and dump the data to the configured backup location. Note that this operation will block all current operation.");
+			"Invoke a graph database backup and dump the data to the configured backup location. Incremental backups will only contain the changes since the last incremental backup. The backup is executed in the background. The end of the backup is reported via the mesh.graph.backup.finished event.");
 		endpoint.produces(APPLICATION_JSON);
-		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Incremental backup was invoked.");
+		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Backup was started.");
+		endpoint.addQueryParameters(BackupParametersImpl.class);
 		endpoint.events(GRAPH_BACKUP_START, GRAPH_BACKUP_FINISHED);
 		endpoint.blockingHandler(rc -> {
 			adminHandler.handleBackup(wrap(rc));
@@ -3,8 +3,10 @@ package com.gentics.mesh.core.endpoint.admin;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_PROGRESS;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_PROGRESS;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_START;
@@ -18,8 +20,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE
 import static java.util.Comparator.comparing;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -33,6 +35,7 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorConfig;
@@ -40,6 +43,7 @@ import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorMasterRes
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.distributed.coordinator.Coordinator;
 import com.gentics.mesh.distributed.coordinator.MasterServer;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -50,8 +54,10 @@ import com.gentics.mesh.search.SearchProvider;
 
 import io.reactivex.Completable;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.launcher.commands.VersionCommand;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -81,10 +87,17 @@ public class AdminHandler extends AbstractHandler {
 
 	private final Coordinator coordinator;
 
+	private final WriteLock writeLock;
+
+	/**
+	 * Flag which prevents concurrent backups.
+	 */
+	private final AtomicBoolean backupRunning = new AtomicBoolean(false);
+
 	@Inject
 	public AdminHandler(Vertx vertx, Database db, RouterStorage routerStorage, BootstrapInitializer boot, SearchProvider searchProvider,
 		HandlerUtilities utils,
-		MeshOptions options, RouterStorageRegistry routerStorageRegistry, Coordinator coordinator) {
+		MeshOptions options, RouterStorageRegistry routerStorageRegistry, Coordinator coordinator, WriteLock writeLock) {
 		this.vertx = vertx;
 		this.db = db;
 		this.routerStorage = routerStorage;
@@ -94,6 +107,7 @@ public class AdminHandler extends AbstractHandler {
 		this.options = options;
 		this.routerStorageRegistry = routerStorageRegistry;
 		this.coordinator = coordinator;
+		this.writeLock = writeLock;
 	}
 
 	public void handleMeshStatus(InternalActionContext ac) {
@@ -103,35 +117,72 @@ public class AdminHandler extends AbstractHandler {
 	}
 
 	/**
-	 * Invoke a database backup call to the current graph database provider.
+	 * Invoke a database backup call to the current graph database provider. The backup is executed in the background. The start and the end of the
+	 * backup are reported via the {@link MeshEvent#GRAPH_BACKUP_START} and {@link MeshEvent#GRAPH_BACKUP_FINISHED} events.
 	 * 
 	 * @param ac
 	 */
 	public void handleBackup(InternalActionContext ac) {
-		utils.syncTx(ac, tx -> {
+		db.tx((tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
-			backup();
-			return message(ac, "backup_finished");
-		}, model -> ac.send(model, OK));
+		});
+		if (options.getStorageOptions().getDirectory() == null) {
+			throw error(SERVICE_UNAVAILABLE, "backup_error_not_supported_in_memory_mode");
+		}
+		File backupDir = new File(options.getStorageOptions().getBackupDirectory());
+		backupDir.mkdirs();
+		if (!backupDir.isDirectory()) {
+			throw error(INTERNAL_SERVER_ERROR, "backup_failed");
+		}
+		if (!backupRunning.compareAndSet(false, true)) {
+			throw error(SERVICE_UNAVAILABLE, "backup_error_already_running");
+		}
+		boolean incremental = ac.getBackupParameters().isIncremental();
+		Completable.fromAction(() -> backup(incremental))
+			.subscribeOn(Schedulers.newThread())
+			.doFinally(() -> backupRunning.set(false))
+			// Failures have already been logged and are reported via the finished event
+			.onErrorComplete()
+			.subscribe();
+		ac.send(message(ac, "backup_started"), OK);
 	}
 
 	public String backup() {
+		return backup(false);
+	}
+
+	/**
+	 * Create a full or incremental backup of the graph database.
+	 * 
+	 * @param incremental
+	 *            Whether the backup should only contain the changes since the last incremental backup
+	 * @return Path of the created backup file
+	 */
+	public String backup(boolean incremental) {
 		Mesh mesh = boot.mesh();
 		MeshStatus oldStatus = mesh.getStatus();
+		JsonObject info = new JsonObject().put("incremental", incremental);
+		long start = System.currentTimeMillis();
 		try {
-			vertx.eventBus().publish(GRAPH_BACKUP_START.address, null);
+			vertx.eventBus().publish(GRAPH_BACKUP_START.address, info.copy());
 			mesh.setStatus(MeshStatus.BACKUP);
-			return db.backupGraph(options.getStorageOptions().getBackupDirectory());
+			String backupDir = options.getStorageOptions().getBackupDirectory();
+			String file = incremental ? db.incrementalBackupGraph(backupDir) : db.backupGraph(backupDir);
+			info.put("file", file);
+			return file;
 		} catch (GenericRestException e) {
+			info.put("error", e.getMessage());
 			throw e;
 		} catch (Throwable e) {
 			log.error("Backup process failed", e);
+			info.put("error", e.getMessage());
 			throw error(INTERNAL_SERVER_ERROR, "backup_failed", e);
 		} finally {
 			mesh.setStatus(oldStatus);
-			vertx.eventBus().publish(GRAPH_BACKUP_FINISHED.address, null);
+			info.put("duration", System.currentTimeMillis() - start);
+			vertx.eventBus().publish(GRAPH_BACKUP_FINISHED.address, info);
 		}
 	}
 
@@ -169,18 +220,34 @@ public class AdminHandler extends AbstractHandler {
 			}
 		});
 
-		// Find the file which was last modified
-		File latestFile = Arrays.asList(backupDir.listFiles()).stream().filter(file -> file.getName().endsWith(".zip"))
-			.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
-		if (latestFile == null) {
-			throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
+		boolean incremental = ac.getBackupParameters().isIncremental();
+		File latestFile;
+		if (incremental) {
+			// The whole chain of incremental backups will be replayed
+			File incrementalDir = new File(backupDir, Database.INCREMENTAL_BACKUP_DIRECTORY);
+			String[] backups = incrementalDir.list();
+			if (backups == null || backups.length == 0) {
+				throw error(INTERNAL_SERVER_ERROR, "error_backup", incrementalDir.getAbsolutePath());
+			}
+			latestFile = null;
+		} else {
+			// Find the file which was last modified
+			latestFile = Arrays.asList(backupDir.listFiles()).stream().filter(file -> file.getName().endsWith(".zip"))
+				.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
+			if (latestFile == null) {
+				throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
+			}
 		}
 		MeshStatus oldStatus = mesh.getStatus();
 		Completable.fromAction(() -> {
 			mesh.setStatus(MeshStatus.RESTORE);
 			vertx.eventBus().publish(GRAPH_RESTORE_START.address, null);
 			db.stop();
-			db.restoreGraph(latestFile.getAbsolutePath());
+			if (incremental) {
+				db.restoreIncrementalGraph(backupDir.getAbsolutePath());
+			} else {
+				db.restoreGraph(latestFile.getAbsolutePath());
+			}
 			db.setupConnectionPool();
 			boot.globalCacheClear();
 			boot.clearReferences();
@@ -222,7 +289,9 @@ public class AdminHandler extends AbstractHandler {
 			String exportDir = options.getStorageOptions().getExportDirectory();
 			log.debug("Exporting graph to {" + exportDir + "}");
 			vertx.eventBus().publish(GRAPH_EXPORT_START.address, null);
-			db.exportGraph(exportDir);
+			db.exportGraph(exportDir, ac.getExportParameters().isResume(), progress -> {
+				vertx.eventBus().publish(GRAPH_EXPORT_PROGRESS.address, progress);
+			});
 			vertx.eventBus().publish(GRAPH_EXPORT_FINISHED.address, null);
 			return message(ac, "export_finished");
 		}, model -> ac.send(model, OK));
@@ -240,21 +309,35 @@ public class AdminHandler extends AbstractHandler {
 			}
 		}
 		File importsDir = new File(options.getStorageOptions().getExportDirectory());
+		// Exports of previous versions are single files and are still supported
+		File[] exports = importsDir.listFiles(file -> new File(file, Database.EXPORT_MANIFEST_FILENAME).exists()
+			|| (file.isFile() && file.getName().endsWith(Database.LEGACY_EXPORT_EXTENSION)));
+		if (exports == null || exports.length == 0) {
+			throw error(INTERNAL_SERVER_ERROR, "error_export", importsDir.getAbsolutePath());
+		}
 
-		// Find the file which was last modified
-		File latestFile = Arrays.asList(importsDir.listFiles()).stream().filter(file -> file.getName().endsWith(".gz"))
+		// Find the export which was last modified
+		File latestExport = Arrays.asList(exports).stream()
 			.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
-		try {
-
-			vertx.eventBus().publish(GRAPH_IMPORT_START.address, null);
-			db.importGraph(latestFile.getAbsolutePath());
-			boot.globalCacheClear();
+		boolean resume = ac.getExportParameters().isResume();
+		Completable.fromAction(() -> {
+			// The import replaces the graph and thus must not run concurrently to other writes
+			try (WriteLock lock = writeLock.lock(ac)) {
+				vertx.eventBus().publish(GRAPH_IMPORT_START.address, null);
+				db.importGraph(latestExport.getAbsolutePath(), resume, progress -> {
+					vertx.eventBus().publish(GRAPH_IMPORT_PROGRESS.address, progress);
+				});
+				boot.globalCacheClear();
+				boot.clearReferences();
+				routerStorage.root().apiRouter().projectsRouter().getProjectRouters().clear();
+			}
+		}).andThen(db.asyncTx(() -> {
+			// Update the routes by loading the projects
+			initProjects();
+			return Single.just(message(ac, "import_finished"));
+		})).doFinally(() -> {
 			vertx.eventBus().publish(GRAPH_IMPORT_FINISHED.address, null);
-
-			Single.just(message(ac, "import_finished")).subscribe(model -> ac.send(model, OK), ac::fail);
-		} catch (IOException e) {
-			ac.fail(e);
-		}
+		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
 	public void handleClusterStatus(InternalActionContext ac) {
@@ -92,7 +92,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleGetSchemaVersions(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.asyncReadTx(() -> {
 			Branch branch = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
 			return Single.just(getSchemaVersionsInfo(branch));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
@@ -150,7 +150,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleGetMicroschemaVersions(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.asyncReadTx(() -> {
 			Branch branch = getRootVertex(ac).loadObjectByUuid(ac, uuid, GraphPermission.READ_PERM);
 			return Single.just(getMicroschemaVersions(branch));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
@@ -25,6 +25,7 @@ import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 
 import dagger.Lazy;
+import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -139,12 +140,12 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 	public void handleGroupUserList(InternalActionContext ac, String groupUuid) {
 		validateParameter(groupUuid, "groupUuid");
 
-		db.asyncTx(() -> {
+		db.asyncReadTx(() -> {
 			MeshAuthUser requestUser = ac.getUser();
 			PagingParametersImpl pagingInfo = new PagingParametersImpl(ac);
 			Group group = boot.get().groupRoot().loadObjectByUuid(ac, groupUuid, READ_PERM);
 			TransformablePage<? extends User> userPage = group.getVisibleUsers(requestUser, pagingInfo);
-			return userPage.transformToRest(ac, 0);
+			return Single.just(userPage.transformToRestSync(ac, 0));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
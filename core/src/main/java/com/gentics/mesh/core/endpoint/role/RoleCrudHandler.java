@@ -20,9 +20,11 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.role.RolePermissionRequest;
 import com.gentics.mesh.core.rest.role.RolePermissionResponse;
 import com.gentics.mesh.core.rest.role.RoleResponse;
@@ -126,31 +128,47 @@ public class RoleCrudHandler extends AbstractCrudHandler<Role, RoleResponse> {
 				throw error(NOT_FOUND, "error_element_for_path_not_found", pathToElement);
 			}
 			RolePermissionRequest requestModel = ac.fromJson(RolePermissionRequest.class);
-			String name = utils.eventAction(batch -> {
-				// Prepare the sets for revoke and grant actions
-				Set<GraphPermission> permissionsToGrant = new HashSet<>();
-				Set<GraphPermission> permissionsToRevoke = new HashSet<>();
-
-				for (GraphPermission permission : GraphPermission.values()) {
-					Boolean permValue = requestModel.getPermissions().getNullable(permission.getRestPerm());
-					if (permValue != null) {
-						if (permValue) {
-							permissionsToGrant.add(permission);
-						} else {
-							permissionsToRevoke.add(permission);
-						}
+			boolean recursive = BooleanUtils.isTrue(requestModel.getRecursive());
+
+			// Prepare the sets for revoke and grant actions
+			Set<GraphPermission> permissionsToGrant = new HashSet<>();
+			Set<GraphPermission> permissionsToRevoke = new HashSet<>();
+
+			for (GraphPermission permission : GraphPermission.values()) {
+				Boolean permValue = requestModel.getPermissions().getNullable(permission.getRestPerm());
+				if (permValue != null) {
+					if (permValue) {
+						permissionsToGrant.add(permission);
+					} else {
+						permissionsToRevoke.add(permission);
 					}
 				}
-				if (log.isDebugEnabled()) {
-					for (GraphPermission p : permissionsToGrant) {
-						log.debug("Granting permission: " + p);
-					}
-					for (GraphPermission p : permissionsToRevoke) {
-						log.debug("Revoking permission: " + p);
-					}
+			}
+			if (log.isDebugEnabled()) {
+				for (GraphPermission p : permissionsToGrant) {
+					log.debug("Granting permission: " + p);
+				}
+				for (GraphPermission p : permissionsToRevoke) {
+					log.debug("Revoking permission: " + p);
 				}
+			}
+
+			// Large recursive updates can be delegated to a job which commits the changes in chunks
+			if (recursive && BooleanUtils.isTrue(requestModel.getAsync())) {
+				Job job = db.tx(() -> {
+					return boot.jobRoot().enqueuePermissionUpdate(ac.getUser(), role, element, permissionsToGrant, permissionsToRevoke);
+				});
+				MeshEvent.triggerJobWorker(boot.mesh());
+				if (ac.getSecurityLogger().isInfoEnabled()) {
+					ac.getSecurityLogger().info(String.format("Permission update for role {%s} (%s) to {%s} enqueued with %s",
+						role.getName(), roleUuid, pathToElement, requestModel.toJson()));
+				}
+				return message(ac, "role_permission_update_enqueued", role.getName(), job.getUuid());
+			}
+
+			String name = utils.eventAction(batch -> {
 				// 3. Apply the permission actions
-				element.applyPermissions(batch, role, BooleanUtils.isTrue(requestModel.getRecursive()), permissionsToGrant, permissionsToRevoke);
+				element.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
 				return role.getName();
 			});
 			if (ac.getSecurityLogger().isInfoEnabled()) {
@@ -13,6 +13,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -46,11 +47,15 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 
 	private MeshJWTAuthProvider authProvider;
 
+	private PrincipalCache principalCache;
+
 	@Inject
-	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock) {
+	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock,
+		PrincipalCache principalCache) {
 		super(db, utils, writeLock);
 		this.boot = boot;
 		this.authProvider = authProvider;
+		this.principalCache = principalCache;
 	}
 
 	@Override
@@ -154,6 +159,8 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				response.setToken(apiToken);
 				return response;
 			});
+			// Authenticated principals of the previous API key must not be used anymore
+			principalCache.invalidateUser(userUuid);
 			return apiKeyRespose;
 		}, model -> ac.send(model, CREATED));
 	}
@@ -176,6 +183,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				user.resetAPIToken();
 				return message(ac, "api_key_invalidated");
 			});
+			principalCache.invalidateUser(userUuid);
 			return message;
 		}, model -> ac.send(model, CREATED));
 	}
@@ -9,7 +9,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpHeaders.CACHE_CONTROL;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -17,6 +19,8 @@ import javax.inject.Singleton;
 
 import org.apache.commons.lang3.math.NumberUtils;
 
+import com.gentics.mesh.cache.CachedResponse;
+import com.gentics.mesh.cache.ResponseCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
@@ -32,12 +36,12 @@ import com.gentics.mesh.core.endpoint.node.BinaryFieldResponseHandler;
 import com.gentics.mesh.core.endpoint.node.NodeCrudHandler;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.etc.config.AuthenticationOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.http.MeshHeaders;
-import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.util.ETag;
@@ -68,15 +72,18 @@ public class WebRootHandler {
 
 	private final MeshOptions options;
 
+	private final ResponseCache responseCache;
+
 	@Inject
 	public WebRootHandler(Database database, WebRootServiceImpl webrootService, BinaryFieldResponseHandler binaryFieldResponseHandler,
-		NodeCrudHandler nodeCrudHandler, BootstrapInitializer boot, MeshOptions options) {
+		NodeCrudHandler nodeCrudHandler, BootstrapInitializer boot, MeshOptions options, ResponseCache responseCache) {
 		this.db = database;
 		this.webrootService = webrootService;
 		this.binaryFieldResponseHandler = binaryFieldResponseHandler;
 		this.nodeCrudHandler = nodeCrudHandler;
 		this.boot = boot;
 		this.options = options;
+		this.responseCache = responseCache;
 	}
 
 	/**
@@ -89,7 +96,24 @@ public class WebRootHandler {
 		String path = rc.request().path().substring(
 			rc.mountPoint().length());
 		MeshAuthUser requestUser = ac.getUser();
-		db.asyncTx(() -> {
+		db.<Optional<CachedResponse>>asyncReadTx(() -> {
+
+			// Check whether the rendered response is already cached
+			String cacheKey = responseCache.isCacheable(ac) ? responseCache.createKey(ac, "webroot", path) : null;
+			if (cacheKey != null) {
+				CachedResponse cached = responseCache.get(cacheKey);
+				if (cached != null) {
+					for (Map.Entry<String, String> header : cached.getHeaders().entrySet()) {
+						rc.response().putHeader(header.getKey(), header.getValue());
+					}
+					ac.setEtag(cached.getEtag(), true);
+					if (ac.matches(cached.getEtag(), true)) {
+						return Single.error(new NotModifiedException());
+					}
+					return Single.just(Optional.of(cached));
+				}
+			}
+			long generation = cacheKey == null ? 0 : responseCache.getGeneration(ac);
 
 			String branchUuid = ac.getBranch().getUuid();
 			// Load all nodes for the given path
@@ -145,14 +169,27 @@ public class WebRootHandler {
 					languageTags.add(lastSegment.getLanguageTag());
 					languageTags.addAll(ac.getNodeParameters().getLanguageList(options));
 					ac.setWebrootResponseType("node");
-					return node.transformToRest(ac, 0, languageTags.toArray(new String[0])).map(model -> Optional.of(model));
+					NodeResponse model = node.transformToRestSync(ac, 0, languageTags.toArray(new String[0]));
+					Map<String, String> headers = new HashMap<>();
+					for (String name : new String[] { CACHE_CONTROL.toString(), MeshHeaders.WEBROOT_NODE_UUID, MeshHeaders.WEBROOT_RESPONSE_TYPE }) {
+						String value = rc.response().headers().get(name);
+						if (value != null) {
+							headers.put(name, value);
+						}
+					}
+					CachedResponse response = new CachedResponse(ac.toBuffer(model), ac.getResponseFormat().getContentType(), etag, headers);
+					if (cacheKey != null) {
+						responseCache.store(ac, cacheKey, generation, response);
+					}
+					return Single.just(Optional.of(response));
 				}
 			}
 
 		}).subscribe(result -> {
 			if (result.isPresent()) {
-				ac.send(JsonUtil.toJson(result.get()),
-					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
+				ac.send(result.get().getBody(),
+					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())),
+					result.get().getContentType());
 			}
 		}, ac::fail);
 
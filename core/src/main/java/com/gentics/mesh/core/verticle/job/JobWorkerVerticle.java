@@ -1,12 +1,17 @@
 package com.gentics.mesh.core.verticle.job;
 
 import static com.gentics.mesh.core.rest.MeshEvent.JOB_WORKER_ADDRESS;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.verticle.AbstractJobVerticle;
 
@@ -42,6 +47,26 @@ public class JobWorkerVerticle extends AbstractJobVerticle {
 		this.boot = boot;
 	}
 
+	@Override
+	public void start() throws Exception {
+		super.start();
+		// Permission updates which were interrupted by a shutdown are resumed since they are otherwise only processed when the next job gets enqueued
+		String nodeName = boot.get().mesh().getOptions().getNodeName();
+		boolean hasInterruptedJobs = db.tx(() -> {
+			for (Job job : boot.get().jobRoot().findAll()) {
+				JobStatus status = job.getStatus();
+				if (job.getType() == JobType.permission && (status == STARTING || status == RUNNING) && nodeName.equals(job.getNodeName())) {
+					return true;
+				}
+			}
+			return false;
+		});
+		if (hasInterruptedJobs) {
+			log.info("Resuming interrupted permission update jobs");
+			executeLocked(executeJob(null), null);
+		}
+	}
+
 	@Override
 	public String getJobAdress() {
 		return JOB_WORKER_ADDRESS + boot.get().mesh().getOptions().getNodeName();
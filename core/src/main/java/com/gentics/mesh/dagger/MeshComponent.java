@@ -8,9 +8,15 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.LinkCache;
+import com.gentics.mesh.cache.NavigationTreeCache;
 import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.ResponseCache;
+import com.gentics.mesh.cache.UuidRecordIdCache;
+import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.binary.Binaries;
@@ -144,6 +150,18 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	PrincipalCache principalCache();
+
+	WebrootPathCache pathCache();
+
+	ResponseCache responseCache();
+
+	LinkCache linkCache();
+
+	NavigationTreeCache navigationTreeCache();
+
+	UuidRecordIdCache uuidRecordIdCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
@@ -4,12 +4,22 @@ import com.gentics.mesh.auth.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.LinkCache;
+import com.gentics.mesh.cache.LinkCacheImpl;
+import com.gentics.mesh.cache.NavigationTreeCache;
+import com.gentics.mesh.cache.NavigationTreeCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
+import com.gentics.mesh.cache.PrincipalCache;
+import com.gentics.mesh.cache.PrincipalCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectBranchNameCacheImpl;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cache.ProjectNameCacheImpl;
+import com.gentics.mesh.cache.ResponseCache;
+import com.gentics.mesh.cache.ResponseCacheImpl;
+import com.gentics.mesh.cache.UuidRecordIdCache;
+import com.gentics.mesh.cache.UuidRecordIdCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cache.WebrootPathCacheImpl;
 import com.gentics.mesh.cli.BootstrapInitializer;
@@ -85,6 +95,21 @@ public abstract class BindModule {
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
+	@Binds
+	abstract PrincipalCache bindPrincipalCache(PrincipalCacheImpl e);
+
+	@Binds
+	abstract ResponseCache bindResponseCache(ResponseCacheImpl e);
+
+	@Binds
+	abstract LinkCache bindLinkCache(LinkCacheImpl e);
+
+	@Binds
+	abstract NavigationTreeCache bindNavigationTreeCache(NavigationTreeCacheImpl e);
+
+	@Binds
+	abstract UuidRecordIdCache bindUuidRecordIdCache(UuidRecordIdCacheImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
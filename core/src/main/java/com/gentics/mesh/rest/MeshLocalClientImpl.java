@@ -1506,25 +1506,25 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeBackup() {
+	public MeshRequest<GenericMessageResponse> invokeBackup(ParameterProvider... parameters) {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeExport() {
+	public MeshRequest<GenericMessageResponse> invokeExport(ParameterProvider... parameters) {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeRestore() {
+	public MeshRequest<GenericMessageResponse> invokeRestore(ParameterProvider... parameters) {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeImport() {
+	public MeshRequest<GenericMessageResponse> invokeImport(ParameterProvider... parameters) {
 		// TODO Auto-generated method stub
 		return null;
 	}
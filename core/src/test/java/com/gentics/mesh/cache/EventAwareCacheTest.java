@@ -8,6 +8,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheImpl;
@@ -58,4 +60,39 @@ public class EventAwareCacheTest extends AbstractMeshTest {
 		assertNull("The cache entry should have been invalidated.", USER_STATE_CACHE.get(userUuid()));
 		assertTrue("The other cache entry should be still in the cache.", USER_STATE_CACHE.get(uuid2));
 	}
+
+	@Test
+	public void testInvalidateDependents() {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(false);
+		EventAwareCache<String, String> cache = new EventAwareCacheImpl.Builder<String, String>()
+			.maxSize(100)
+			.events(USER_UPDATED)
+			.setMetricsService(mock(MetricsService.class))
+			.meshOptions(options)
+			.name("testcache")
+			.vertx(vertx())
+			.build();
+
+		cache.put("a", "a", Arrays.asList("node1", "branch"));
+		cache.put("b", "b", Arrays.asList("node2", "branch"));
+		cache.put("c", "c");
+
+		assertEquals("Only the entry which depends on the node should be invalidated.", 1, cache.invalidateDependents("node1"));
+		assertNull(cache.get("a"));
+		assertEquals("b", cache.get("b"));
+		assertEquals(0, cache.invalidateDependents("node1"));
+
+		// Replacing the entry also replaces its dependencies
+		cache.put("b", "b2", Arrays.asList("node3"));
+		assertEquals(0, cache.invalidateDependents("node2"));
+		assertEquals("b2", cache.get("b"));
+
+		// Removed entries are no longer listed as dependents
+		cache.invalidate("b");
+		cache.put("b", "b3");
+		assertEquals(0, cache.invalidateDependents("node3"));
+		assertEquals("b3", cache.get("b"));
+		assertEquals("c", cache.get("c"));
+	}
 }
@@ -0,0 +1,85 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class LinkCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private LinkCache cache() {
+		return mesh().linkCache();
+	}
+
+	private String resolve(String uuid) {
+		return call(() -> client().resolveLinks("{{mesh.link('" + uuid + "')}}", new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+	}
+
+	@Test
+	public void testAncestorUpdate() {
+		String contentUuid = contentUuid();
+		String dealsUuid = tx(() -> folder("deals").getUuid());
+		assertEquals("/News/News%20Overview.en.html", resolve(contentUuid));
+		assertEquals("/Deals", resolve(dealsUuid));
+		assertEquals(2, cache().size());
+
+		// The cached link should be used
+		assertEquals("/News/News%20Overview.en.html", resolve(contentUuid));
+		assertEquals(2, cache().size());
+
+		// Update the segment of the parent folder
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("slug", FieldUtil.createStringField("Updated"));
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(PROJECT_NAME, tx(() -> folder("news").getUuid()), request));
+		});
+		// Event is processed async and thus the cache invalidation is also done async
+		sleep(100);
+		assertEquals("Only the link to the content of the updated folder should have been invalidated", 1, cache().size());
+		assertEquals("/Updated/News%20Overview.en.html", resolve(contentUuid));
+	}
+
+	@Test
+	public void testOutdatedLinkIsNotStored() {
+		long generation = cache().getGeneration();
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("slug", FieldUtil.createStringField("Updated"));
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(PROJECT_NAME, tx(() -> folder("news").getUuid()), request));
+		});
+		sleep(100);
+
+		CachedLink link = new CachedLink("/News", projectUuid(), initialBranchUuid(), Collections.singleton(tx(() -> folder("news").getUuid())));
+		cache().store("outdated", generation, link);
+		assertNull("The link which was rendered before the event must not be stored", cache().getLink("outdated"));
+
+		cache().store("current", cache().getGeneration(), link);
+		assertEquals("/News", cache().getLink("current"));
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.NavigationParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NavigationTreeCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private NavigationTreeCache cache() {
+		return mesh().navigationTreeCache();
+	}
+
+	private NavigationResponse loadNavigation(String uuid) {
+		return call(() -> client().loadNavigation(PROJECT_NAME, uuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+	}
+
+	@Test
+	public void testNodeCreate() {
+		String newsUuid = tx(() -> folder("news").getUuid());
+		String dealsUuid = tx(() -> folder("deals").getUuid());
+		loadNavigation(newsUuid);
+		NavigationResponse response = loadNavigation(dealsUuid);
+		int childCount = response.getChildren() == null ? 0 : response.getChildren().size();
+		List<CachedNavigationChild> cachedChildren = cache().getChildren(initialBranchUuid(), dealsUuid);
+		assertNotNull("The children of the folder should have been cached", cachedChildren);
+		assertEquals(childCount, cachedChildren.size());
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.setParentNodeUuid(dealsUuid);
+		request.getFields().put("slug", FieldUtil.createStringField("New Folder"));
+		request.getFields().put("name", FieldUtil.createStringField("New Folder"));
+		waitForEvent(NODE_CONTENT_CREATED, () -> {
+			call(() -> client().createNode(PROJECT_NAME, request));
+		});
+		// Event is processed async and thus the cache invalidation is also done async
+		sleep(100);
+		assertNull("The children of the parent should have been invalidated", cache().getChildren(initialBranchUuid(), dealsUuid));
+		assertNotNull("The children of other folders should still be cached", cache().getChildren(initialBranchUuid(), newsUuid));
+
+		response = loadNavigation(dealsUuid);
+		assertEquals("The created node should be part of the navigation", childCount + 1, response.getChildren().size());
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.rest.user.UserResponse;
+import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class PrincipalCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private PrincipalCache cache() {
+		return mesh().principalCache();
+	}
+
+	@Test
+	public void testLookup() {
+		UserResponse me = call(() -> client().me());
+		assertEquals("The principal of the token should have been cached", 1, cache().size());
+
+		// The second request uses the cached principal
+		UserResponse me2 = call(() -> client().me());
+		assertEquals(me.getUuid(), me2.getUuid());
+		assertEquals(1, cache().size());
+		assertEquals(tx(() -> user().getRolesHash()), me2.getRolesHash());
+	}
+
+	@Test
+	public void testUserUpdate() {
+		call(() -> client().me());
+		assertEquals(1, cache().size());
+
+		UserUpdateRequest request = new UserUpdateRequest();
+		request.setFirstname("Joe");
+		waitForEvent(USER_UPDATED, () -> {
+			call(() -> client().updateUser(userUuid(), request));
+		});
+		// Event is processed async and thus the cache invalidation is also done async
+		sleep(100);
+		assertEquals("The principal should have been invalidated by the update event", 0, cache().size());
+	}
+
+	@Test
+	public void testGroupUnassign() {
+		String extraUserUuid = tx(() -> {
+			User extraUser = boot().userRoot().create("extraUser", user(), null);
+			group().addUser(extraUser);
+			return extraUser.getUuid();
+		});
+		call(() -> client().me());
+		cache().store(extraUserUuid, "token", new CachedPrincipal(tx(() -> boot().userRoot().findByUuid(extraUserUuid).id())));
+		assertEquals(2, cache().size());
+
+		waitForEvent(GROUP_USER_UNASSIGNED, () -> {
+			call(() -> client().removeUserFromGroup(groupUuid(), extraUserUuid));
+		});
+		sleep(100);
+		assertNull("The principal should have been invalidated by the unassign event", cache().getPrincipal(extraUserUuid, "token"));
+		assertEquals("Only the principal of the affected user should have been invalidated", 1, cache().size());
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.RESPONSE_CACHE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.buffer.Buffer;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = RESPONSE_CACHE)
+public class ResponseCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private ResponseCache cache() {
+		return mesh().responseCache();
+	}
+
+	@Test
+	public void testReadNode() {
+		String uuid = contentUuid();
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals("The response should have been cached", 1, cache().size());
+
+		NodeResponse response2 = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals(response.toJson(), response2.toJson());
+		assertEquals(1, cache().size());
+
+		// Different parameters must not use the cached response
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new NodeParametersImpl().setLanguages("de")));
+		assertEquals(2, cache().size());
+	}
+
+	@Test
+	public void testNodeUpdate() {
+		String uuid = contentUuid();
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		call(() -> client().webroot(PROJECT_NAME, "/News"));
+		assertEquals(2, cache().size());
+
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("teaser", FieldUtil.createStringField("Updated teaser"));
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+		});
+		// Event is processed async and thus the cache invalidation is also done async
+		sleep(100);
+		assertEquals("The responses of the project should have been invalidated", 0, cache().size());
+
+		NodeResponse updated = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertNotEquals(response.getVersion(), updated.getVersion());
+	}
+
+	@Test
+	public void testOutdatedResponseIsNotStored() {
+		String uuid = contentUuid();
+		try (Tx tx = tx()) {
+			InternalActionContext ac = mockActionContext();
+			long generation = cache().getGeneration(ac);
+
+			// Changes which are received while the response is rendered must prevent the response from being stored
+			NodeUpdateRequest request = new NodeUpdateRequest();
+			request.setLanguage("en");
+			request.setVersion("draft");
+			request.getFields().put("teaser", FieldUtil.createStringField("Updated teaser"));
+			waitForEvent(NODE_UPDATED, () -> {
+				call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+			});
+			sleep(100);
+
+			CachedResponse response = new CachedResponse(Buffer.buffer("{}"), "application/json", "etag");
+			cache().store(ac, "outdated", generation, response);
+			assertNull("The outdated response must not be stored", cache().get("outdated"));
+
+			cache().store(ac, "current", cache().getGeneration(ac), response);
+			assertNotNull(cache().get("current"));
+		}
+	}
+
+}
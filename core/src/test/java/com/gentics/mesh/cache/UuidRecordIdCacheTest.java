@@ -0,0 +1,80 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.impl.UserImpl;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.user.UserCreateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class UuidRecordIdCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private UuidRecordIdCache cache() {
+		return mesh().uuidRecordIdCache();
+	}
+
+	@Test
+	public void testLookup() {
+		String uuid = userUuid();
+		assertNull("Initially the cache should not contain the user", cache().get(uuid));
+
+		Object id = tx(() -> db().index().findByUuid(UserImpl.class, uuid).id());
+		assertEquals("The record id of the user should now be cached", id, cache().get(uuid));
+
+		// The cached record id should be used for the second lookup
+		try (Tx tx = tx()) {
+			User user = db().index().findByUuid(UserImpl.class, uuid);
+			assertNotNull(user);
+			assertEquals(uuid, user.getUuid());
+		}
+	}
+
+	@Test
+	public void testDelete() {
+		UserCreateRequest request = new UserCreateRequest().setUsername("cacheduser").setPassword("test1234");
+		String uuid = call(() -> client().createUser(request)).getUuid();
+		tx(() -> db().index().findByUuid(UserImpl.class, uuid));
+		assertNotNull(cache().get(uuid));
+
+		waitForEvent(MeshEvent.USER_DELETED, () -> {
+			call(() -> client().deleteUser(uuid));
+		});
+		// Event is processed async and thus the cache invalidation is also done async
+		sleep(100);
+
+		assertNull("The entry should have been removed due to the delete event", cache().get(uuid));
+		assertNull(tx(() -> db().index().findByUuid(UserImpl.class, uuid)));
+	}
+
+	@Test
+	public void testStaleEntry() {
+		String uuid = userUuid();
+		// Store an invalid record id for the uuid
+		Object groupId = tx(() -> group().id());
+		cache().store(uuid, groupId);
+
+		try (Tx tx = tx()) {
+			User user = db().index().findByUuid(UserImpl.class, uuid);
+			assertEquals("The stale entry must not be used", uuid, user.getUuid());
+		}
+		assertEquals(tx(() -> user().id()), cache().get(uuid));
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.branch.BranchUpdateRequest;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class WebrootPathCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private WebrootPathCache cache() {
+		return mesh().pathCache();
+	}
+
+	private void resolvePaths() {
+		call(() -> client().webroot(PROJECT_NAME, "/News"));
+		call(() -> client().webroot(PROJECT_NAME, "/Deals"));
+		call(() -> client().webroot(PROJECT_NAME, "/Unknown"), NOT_FOUND, "node_not_found_for_path", "/Unknown");
+		assertEquals(3, cache().size());
+	}
+
+	@Test
+	public void testNodeUpdate() {
+		resolvePaths();
+
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("name", FieldUtil.createStringField("Updated Deals"));
+		String dealsUuid = tx(() -> folder("deals").getUuid());
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(PROJECT_NAME, dealsUuid, request));
+		});
+		// Event is processed async and thus the cache invalidation is also done async
+		sleep(100);
+		assertEquals("Only the path of the updated node and the unresolved path should have been invalidated", 1, cache().size());
+	}
+
+	@Test
+	public void testBranchUpdate() {
+		resolvePaths();
+
+		BranchUpdateRequest request = new BranchUpdateRequest().setName("New Branch Name");
+		waitForEvent(BRANCH_UPDATED, () -> {
+			call(() -> client().updateBranch(PROJECT_NAME, initialBranchUuid(), request));
+		});
+		sleep(100);
+		assertEquals("All paths of the branch should have been invalidated", 0, cache().size());
+	}
+
+}
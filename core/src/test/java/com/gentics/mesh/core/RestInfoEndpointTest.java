@@ -1,14 +1,21 @@
 package com.gentics.mesh.core;
 
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
 
 import org.junit.Test;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.orientechnologies.orient.core.OConstants;
@@ -37,4 +44,14 @@ public class RestInfoEndpointTest extends AbstractMeshTest {
 		String raml = call(() -> client().getRAML());
 		assertNotNull(raml);
 	}
+
+	@Test
+	public void testPrettyPrint() throws IOException {
+		String minified = httpGetNow(CURRENT_API_BASE_PATH + "/");
+		assertFalse("By default the response should not contain any whitespace", minified.contains("\n"));
+
+		String pretty = httpGetNow(CURRENT_API_BASE_PATH + "/", new GenericParametersImpl().setPretty(true));
+		assertTrue("The response should have been pretty printed", pretty.contains("\n"));
+		assertEquals(JsonUtil.readValue(minified, MeshServerInfoModel.class).toJson(), JsonUtil.readValue(pretty, MeshServerInfoModel.class).toJson());
+	}
 }
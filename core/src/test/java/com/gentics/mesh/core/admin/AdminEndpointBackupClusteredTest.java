@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.admin;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
@@ -36,8 +37,10 @@ public class AdminEndpointBackupClusteredTest extends AbstractMeshTest {
 
 		assertFilesInDir(backupDir, 0);
 		grantAdminRole();
+		expect(GRAPH_BACKUP_FINISHED).one();
 		GenericMessageResponse message = call(() -> client().invokeBackup());
-		assertThat(message).matches("backup_finished");
+		awaitEvents();
+		assertThat(message).matches("backup_started");
 		assertFilesInDir(backupDir, 1);
 
 		// Now create a project which is not in the backup. The routes and data must vanish when inserting the backup
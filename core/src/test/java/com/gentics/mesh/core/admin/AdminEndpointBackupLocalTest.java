@@ -3,6 +3,10 @@ package com.gentics.mesh.core.admin;
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_START;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_EXPORT_START;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_IMPORT_START;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_RESTORE_START;
 import static com.gentics.mesh.test.ClientHelper.call;
@@ -10,15 +14,19 @@ import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 
-import org.junit.Ignore;
 import org.junit.Test;
 
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.parameter.client.BackupParametersImpl;
+import com.gentics.mesh.parameter.client.ExportParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
@@ -37,7 +45,7 @@ public class AdminEndpointBackupLocalTest extends AbstractMeshTest {
 		GenericMessageResponse message = call(() -> client().invokeBackup());
 		awaitEvents();
 
-		assertThat(message).matches("backup_finished");
+		assertThat(message).matches("backup_started");
 		assertFilesInDir(backupDir, 1);
 
 		// Now create a project which is not in the backup. The routes and data must vanish when inserting the backup
@@ -59,14 +67,63 @@ public class AdminEndpointBackupLocalTest extends AbstractMeshTest {
 	}
 
 	@Test
-	@Ignore("Endpoint disabled")
+	public void testIncrementalBackupRestore() throws IOException {
+		final String NEW_PROJECT_NAME = "incremental";
+		final String backupDir = testContext.getOptions().getStorageOptions().getBackupDirectory();
+		grantAdminRole();
+
+		expect(GRAPH_BACKUP_START).one();
+		expect(GRAPH_BACKUP_FINISHED).one();
+		GenericMessageResponse message = call(() -> client().invokeBackup(new BackupParametersImpl().setIncremental(true)));
+		awaitEvents();
+		assertThat(message).matches("backup_started");
+		File incrementalDir = new File(backupDir, Database.INCREMENTAL_BACKUP_DIRECTORY);
+		assertThat(incrementalDir).isDirectory();
+		int initialBackups = incrementalDir.list().length;
+		assertTrue("The initial incremental backup should have been created", initialBackups > 0);
+
+		// Create a project which is only part of the second incremental backup
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName(NEW_PROJECT_NAME);
+		request.setSchemaRef("folder");
+		ProjectResponse projectResponse = call(() -> client().createProject(request));
+		String baseNodeUuid = projectResponse.getRootNode().getUuid();
+		expect(GRAPH_BACKUP_FINISHED).one();
+		call(() -> client().invokeBackup(new BackupParametersImpl().setIncremental(true)));
+		awaitEvents();
+		assertTrue("A second incremental backup should have been added", incrementalDir.list().length > initialBackups);
+
+		// The full backup is not affected by incremental backups
+		assertThat(new File(backupDir).list((dir, name) -> name.endsWith(".zip"))).isEmpty();
+
+		expect(GRAPH_RESTORE_START).one();
+		expect(GRAPH_RESTORE_FINISHED).one();
+		message = call(() -> client().invokeRestore(new BackupParametersImpl().setIncremental(true)));
+		awaitEvents();
+		assertThat(message).matches("restore_finished");
+
+		// Replaying the chain restores the changes of both backups
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		call(() -> client().findNodeByUuid(NEW_PROJECT_NAME, baseNodeUuid));
+	}
+
+	@Test
 	public void testExportImport() {
 		grantAdminRole();
+		expect(GRAPH_EXPORT_START).one();
+		expect(GRAPH_EXPORT_FINISHED).one();
 		GenericMessageResponse message = call(() -> client().invokeExport());
+		awaitEvents();
 		assertThat(message).matches("export_finished");
 
-		message = call(() -> client().invokeImport());
+		expect(GRAPH_IMPORT_START).one();
+		expect(GRAPH_IMPORT_FINISHED).one();
+		message = call(() -> client().invokeImport(new ExportParametersImpl().setResume(true)));
+		awaitEvents();
 		assertThat(message).matches("import_finished");
+
+		// The imported content must be accessible via the project routes
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
 	}
 
 }
@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.admin;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
@@ -25,8 +26,10 @@ public class AdminEndpointBackupServerTest extends AbstractMeshTest {
 		grantAdminRole();
 
 		assertFilesInDir(backupDir, 0);
+		expect(GRAPH_BACKUP_FINISHED).one();
 		GenericMessageResponse message = call(() -> client().invokeBackup());
-		assertThat(message).matches("backup_finished");
+		awaitEvents();
+		assertThat(message).matches("backup_started");
 		assertFilesInDir(backupDir, 1);
 
 		// Now create a project which is not in the backup. The routes and data must vanish when inserting the backup
@@ -6,6 +6,7 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.util.TestUtils.size;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -13,6 +14,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +25,7 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -154,6 +158,80 @@ public class NodeChildrenEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testReadNodeChildrenWithCursor() throws Exception {
+		String uuid = tx(() -> folder("news").getUuid());
+		NodeListResponse allChildren = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		List<String> expectedUuids = allChildren.getData().stream().map(NodeResponse::getUuid).sorted().collect(Collectors.toList());
+		assertTrue("The folder should contain multiple children", expectedUuids.size() > 2);
+		assertNull("The unpaged listing must not provide a cursor", allChildren.getMetainfo().getNextCursor());
+
+		// Walk through the children by following the cursors
+		List<String> uuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 2L);
+			if (cursor != null) {
+				paging.setAfter(cursor);
+			}
+			NodeListResponse page = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, paging, new VersioningParametersImpl().draft()));
+			assertEquals(1, page.getMetainfo().getCurrentPage());
+			page.getData().forEach(node -> uuids.add(node.getUuid()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals("The cursor based paging should return all children ordered by uuid", expectedUuids, uuids);
+
+		call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl().setAfter("*")), BAD_REQUEST,
+			"error_paging_cursor_invalid", "*");
+	}
+
+	@Test
+	public void testReadNodeChildrenSorted() throws Exception {
+		String uuid = tx(() -> folder("news").getUuid());
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.setLanguage("en");
+		request.setParentNodeUuid(uuid);
+		request.getFields().put("name", FieldUtil.createStringField("sorted"));
+		request.getFields().put("slug", FieldUtil.createStringField("sorted"));
+		String createdUuid = call(() -> client().createNode(PROJECT_NAME, request)).getUuid();
+		long childCount = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new VersioningParametersImpl().draft())).getData().size();
+
+		// The latest edited child should be returned first
+		PagingParametersImpl latest = new PagingParametersImpl(1, 1L, "edited", SortOrder.DESCENDING);
+		NodeListResponse page = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, latest, new VersioningParametersImpl().draft()));
+		assertEquals(createdUuid, page.getData().get(0).getUuid());
+
+		// Walk through the children by following the cursors of the sorted pages
+		List<String> uuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 2L, "created", SortOrder.ASCENDING);
+			if (cursor != null) {
+				paging.setAfter(cursor);
+			}
+			NodeListResponse sortedPage = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, paging, new VersioningParametersImpl().draft()));
+			sortedPage.getData().forEach(node -> uuids.add(node.getUuid()));
+			cursor = sortedPage.getMetainfo().getNextCursor();
+		} while (cursor != null);
+		assertEquals("All children should have been returned", childCount, uuids.size());
+		assertEquals("The created child should be the last child", createdUuid, uuids.get(uuids.size() - 1));
+
+		// Sort by the display name in memory
+		NodeListResponse byName = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 100L, "displayName",
+			SortOrder.ASCENDING), new VersioningParametersImpl().draft()));
+		List<String> names = byName.getData().stream().map(NodeResponse::getDisplayName).collect(Collectors.toList());
+		assertEquals(names.stream().sorted(Comparator.nullsFirst(Comparator.naturalOrder())).collect(Collectors.toList()), names);
+
+		// Unsupported sort keys are ignored
+		List<String> defaultOrder = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 100L),
+			new VersioningParametersImpl().draft())).getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+		List<String> unsupported = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 100L, "schema",
+			SortOrder.ASCENDING), new VersioningParametersImpl().draft())).getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+		assertEquals("The children should be returned in the default order", defaultOrder, unsupported);
+	}
+
 	@Test
 	public void testReadNodeChildrenWithoutChildPermission() throws Exception {
 		Node node = folder("news");
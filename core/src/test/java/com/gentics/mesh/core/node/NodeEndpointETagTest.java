@@ -20,6 +20,7 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.tag.TagUpdateRequest;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
@@ -174,4 +175,61 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testTagUpdate() {
+		String uuid = contentUuid();
+		String tagUuid = tx(() -> tag("red").getUuid());
+		String tagFamilyUuid = tx(() -> tag("red").getTagFamily().getUuid());
+		call(() -> client().addTagToNode(PROJECT_NAME, uuid, tagUuid));
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		// The tag reference of the node changes when the tag gets renamed
+		call(() -> client().updateTag(PROJECT_NAME, tagFamilyUuid, tagUuid, new TagUpdateRequest().setName("dark red")));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
+	@Test
+	public void testChildCreate() {
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid), etag, true, 304);
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(folderUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		call(() -> client().createNode(PROJECT_NAME, request));
+
+		// The children info of the folder has changed
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid), etag, true, 200);
+	}
+
+	@Test
+	public void testAncestorChange() {
+		String uuid = contentUuid();
+		String folderUuid = tx(() -> folder("news").getUuid());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		// New siblings don't affect the breadcrumb of the node
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(folderUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		call(() -> client().createNode(PROJECT_NAME, request));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		// The breadcrumb contains the display name of the parent folder
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion("draft");
+		update.getFields().put("name", FieldUtil.createStringField("Updated news"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, update));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
 }
@@ -0,0 +1,108 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_CBOR;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_SMILE;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.RESPONSE_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.cache.ResponseCache;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.json.JsonFormat;
+import com.gentics.mesh.rest.client.MeshResponse;
+import com.gentics.mesh.rest.client.MeshRestClient;
+import com.gentics.mesh.rest.client.MeshRestClientConfig;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = RESPONSE_CACHE)
+public class NodeEndpointFormatTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private ResponseCache cache() {
+		return mesh().responseCache();
+	}
+
+	/**
+	 * Create a client which encodes the request bodies in the given format and prefers the format for responses.
+	 *
+	 * @param format
+	 * @return
+	 */
+	private MeshRestClient client(JsonFormat format) {
+		MeshRestClient client = MeshRestClient.create(new MeshRestClientConfig.Builder()
+			.setHost("localhost")
+			.setPort(port())
+			.setBasePath(CURRENT_API_BASE_PATH)
+			.setFormat(format)
+			.build());
+		client.setLogin(db().tx(() -> user().getUsername()), data().getUserInfo().getPassword());
+		client.login().blockingGet();
+		return client;
+	}
+
+	@Test
+	public void testReadSmile() {
+		String uuid = contentUuid();
+		MeshResponse<NodeResponse> response = client(JsonFormat.SMILE).findNodeByUuid(PROJECT_NAME, uuid).getResponse().blockingGet();
+		assertThat(response.getHeader("Content-Type").orElse(null)).startsWith(APPLICATION_SMILE);
+		assertEquals(uuid, response.getBody().getUuid());
+
+		NodeResponse expected = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals(expected.toJson(), response.getBody().toJson());
+	}
+
+	@Test
+	public void testCreateCbor() {
+		// Node creation reads the body as string, which requires the body to be transcoded to JSON
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(folderUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		MeshResponse<NodeResponse> response = client(JsonFormat.CBOR).createNode(PROJECT_NAME, request).getResponse().blockingGet();
+		assertThat(response.getHeader("Content-Type").orElse(null)).startsWith(APPLICATION_CBOR);
+
+		NodeResponse created = call(() -> client().findNodeByUuid(PROJECT_NAME, response.getBody().getUuid()));
+		assertEquals("someSlug", created.getFields().getStringField("slug").getString());
+	}
+
+	@Test
+	public void testCachedResponsePerFormat() {
+		String uuid = contentUuid();
+		MeshResponse<NodeResponse> json = client().findNodeByUuid(PROJECT_NAME, uuid).getResponse().blockingGet();
+		assertThat(json.getHeader("Content-Type").orElse(null)).startsWith(APPLICATION_JSON);
+		assertEquals("The JSON response should have been cached", 1, cache().size());
+
+		MeshRestClient smileClient = client(JsonFormat.SMILE);
+		MeshResponse<NodeResponse> smile = smileClient.findNodeByUuid(PROJECT_NAME, uuid).getResponse().blockingGet();
+		assertThat(smile.getHeader("Content-Type").orElse(null)).startsWith(APPLICATION_SMILE);
+		assertEquals("The Smile response must not be served from the cached JSON response", 2, cache().size());
+
+		// The cached Smile response is served in the requested format
+		MeshResponse<NodeResponse> cachedSmile = smileClient.findNodeByUuid(PROJECT_NAME, uuid).getResponse().blockingGet();
+		assertThat(cachedSmile.getHeader("Content-Type").orElse(null)).startsWith(APPLICATION_SMILE);
+		assertEquals(2, cache().size());
+		assertEquals(json.getBody().toJson(), cachedSmile.getBody().toJson());
+	}
+
+}
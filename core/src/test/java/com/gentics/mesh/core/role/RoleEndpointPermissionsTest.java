@@ -23,6 +23,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -36,6 +38,9 @@ import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.common.Permission;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModelImpl;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
@@ -111,6 +116,37 @@ public class RoleEndpointPermissionsTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testRevokeAllPermissionFromProjectAsync() {
+		grantAdminRole();
+		try (Tx tx = tx()) {
+			assertTrue(role().hasPermission(GraphPermission.READ_PERM, tagFamily("colors")));
+			assertTrue(role().hasPermission(GraphPermission.READ_PERM, content()));
+		}
+
+		RolePermissionRequest request = new RolePermissionRequest();
+		request.setRecursive(true);
+		request.setAsync(true);
+		request.getPermissions().setOthers(false);
+		AtomicReference<GenericMessageResponse> message = new AtomicReference<>();
+		JobListResponse jobs = waitForJob(() -> {
+			message.set(call(() -> client().updateRolePermissions(roleUuid(), "projects/" + projectUuid(), request)));
+		});
+
+		JobResponse job = jobs.getData().get(0);
+		assertThat(message.get()).matches("role_permission_update_enqueued", tx(() -> role().getName()), job.getUuid());
+		assertEquals(JobType.permission, job.getType());
+		assertEquals(roleUuid(), job.getProperties().get("roleUuid"));
+		assertEquals(projectUuid(), job.getProperties().get("elementUuid"));
+		assertTrue("The job should have updated the elements of the project", job.getCompletionCount() > 0);
+
+		try (Tx tx = tx()) {
+			assertFalse(role().hasPermission(GraphPermission.READ_PERM, project()));
+			assertFalse(role().hasPermission(GraphPermission.READ_PERM, tagFamily("colors")));
+			assertFalse(role().hasPermission(GraphPermission.READ_PERM, content()));
+		}
+	}
+
 	@Test
 	public void testAddPermissionToProjectTagFamily() {
 		try (Tx tx = tx()) {
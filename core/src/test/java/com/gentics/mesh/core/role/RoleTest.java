@@ -21,11 +21,13 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.impl.MeshAuthUserImpl;
+import com.gentics.mesh.core.data.impl.UserImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.Page;
@@ -411,4 +413,81 @@ public class RoleTest extends AbstractMeshTest implements BasicObjectTestcases {
 			testPermission(GraphPermission.CREATE_PERM, role());
 		}
 	}
+
+	@Test
+	public void testPermissionBitmap() {
+		try (Tx tx = tx()) {
+			Role role = meshRoot().getRoleRoot().create("bitmapRole", user());
+			assertNotNull("The role should have been assigned an ordinal", role.getOrdinal());
+			Group group = meshRoot().getGroupRoot().create("bitmapGroup", user());
+			User user = meshRoot().getUserRoot().create("bitmapUser", user());
+			group.addUser(user);
+			group.addRole(role);
+			assertNotNull("The role bitmap of the user should have been updated", user.property(UserImpl.ROLE_BITMAP_PROPERTY_KEY));
+
+			Node node = folder("news");
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+			role.grantPermissions(node, UPDATE_PERM);
+			assertNotNull("The permission bitmap should have been stored", node.property(UPDATE_PERM.bitmapPropertyKey()));
+			assertTrue(user.hasPermission(node, UPDATE_PERM));
+
+			role.revokePermissions(node, UPDATE_PERM);
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+
+			role.grantPermissions(node, UPDATE_PERM);
+			assertTrue(user.hasPermission(node, UPDATE_PERM));
+			role.delete(createBulkContext());
+			assertFalse("The deleted role must no longer grant the permission", user.hasPermission(node, UPDATE_PERM));
+		}
+	}
+
+	@Test
+	public void testPermissionWithoutBitmap() {
+		try (Tx tx = tx()) {
+			Role role = meshRoot().getRoleRoot().create("legacyRole", user());
+			Group group = meshRoot().getGroupRoot().create("legacyGroup", user());
+			User user = meshRoot().getUserRoot().create("legacyUser", user());
+			group.addUser(user);
+			group.addRole(role);
+
+			Node node = folder("news");
+			role.grantPermissions(node, UPDATE_PERM);
+			// Elements which were created before the bitmaps were introduced are checked via the role uuids
+			node.removeProperty(UPDATE_PERM.bitmapPropertyKey());
+			mesh().permissionCache().clear();
+			assertTrue(user.hasPermission(node, UPDATE_PERM));
+
+			role.revokePermissions(node, UPDATE_PERM);
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+		}
+	}
+
+	@Test
+	public void testDeniedPermissionCache() {
+		try (Tx tx = tx()) {
+			Role role = meshRoot().getRoleRoot().create("cachedRole", user());
+			Group group = meshRoot().getGroupRoot().create("cachedGroup", user());
+			User user = meshRoot().getUserRoot().create("cachedUser", user());
+			group.addUser(user);
+			group.addRole(role);
+
+			Node node = folder("news");
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+			assertEquals("The denied permission should have been cached", Boolean.FALSE,
+				mesh().permissionCache().getPermission(user.id(), UPDATE_PERM, node.id()));
+
+			// Granting the permission must invalidate the denied entry
+			role.grantPermissions(node, UPDATE_PERM);
+			assertTrue(user.hasPermission(node, UPDATE_PERM));
+
+			// Changing the roles of the user must invalidate the granted entry
+			group.removeRole(role);
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+			group.addRole(role);
+			assertTrue(user.hasPermission(node, UPDATE_PERM));
+
+			role.revokePermissions(node, UPDATE_PERM);
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+		}
+	}
 }
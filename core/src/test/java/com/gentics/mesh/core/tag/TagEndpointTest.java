@@ -43,6 +43,7 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -138,6 +139,27 @@ public class TagEndpointTest extends AbstractMeshTest implements BasicRestTestca
 		}
 	}
 
+	@Test
+	public void testReadMultipleSorted() {
+		String colorsUuid = tx(() -> tagFamily("colors").getUuid());
+		List<String> expectedNames = call(() -> client().findTags(PROJECT_NAME, colorsUuid)).getData().stream().map(TagResponse::getName).sorted()
+			.collect(Collectors.toList());
+
+		// The sort index is scoped by the tag family and must thus only return the tags of the family
+		List<String> names = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 2L, "name", SortOrder.ASCENDING);
+			if (cursor != null) {
+				paging.setAfter(cursor);
+			}
+			TagListResponse page = call(() -> client().findTags(PROJECT_NAME, colorsUuid, paging));
+			page.getData().forEach(tag -> names.add(tag.getName()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+		assertEquals("The tags of the family should be sorted by name", expectedNames, names);
+	}
+
 	@Test
 	public void testReadMetaCountOnly() {
 		try (Tx tx = tx()) {
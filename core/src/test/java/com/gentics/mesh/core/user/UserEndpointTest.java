@@ -16,6 +16,7 @@ import static com.gentics.mesh.core.rest.common.Permission.READ;
 import static com.gentics.mesh.core.rest.common.Permission.UPDATE;
 import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
 import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.ClientHelper.validateDeletion;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.PROJECT_AND_NODE;
@@ -40,6 +41,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -56,6 +58,7 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.UserRoot;
+import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.common.Permission;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -69,6 +72,7 @@ import com.gentics.mesh.core.rest.user.UserPermissionResponse;
 import com.gentics.mesh.core.rest.user.UserResetTokenResponse;
 import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.parameter.CountType;
 import com.gentics.mesh.parameter.client.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -412,6 +416,106 @@ public class UserEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		call(() -> client().findUserByUuid(userUuid()), FORBIDDEN, "error_missing_perm", userUuid(), READ_PERM.getRestPerm().getName());
 	}
 
+	@Test
+	public void testReadMultipleWithCursor() throws Exception {
+		try (Tx tx = tx()) {
+			UserRoot root = meshRoot().getUserRoot();
+			for (int i = 0; i < 10; i++) {
+				User user = root.create("cursor_user_" + i, user());
+				role().grantPermissions(user, READ_PERM);
+			}
+			tx.success();
+		}
+		List<String> expectedUuids = call(() -> client().findUsers()).getData().stream().map(UserResponse::getUuid).collect(Collectors.toList());
+
+		// Walk through the users by following the cursors
+		List<String> uuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 3L);
+			if (cursor != null) {
+				paging.setAfter(cursor);
+			}
+			ListResponse<UserResponse> page = call(() -> client().findUsers(paging));
+			page.getData().forEach(user -> uuids.add(user.getUuid()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals("The cursor based paging should return the users in the same order as the page based paging", expectedUuids, uuids);
+	}
+
+	@Test
+	public void testReadMultipleSorted() throws Exception {
+		try (Tx tx = tx()) {
+			UserRoot root = meshRoot().getUserRoot();
+			for (int i = 0; i < 5; i++) {
+				User user = root.create("sorted_user_" + i, user());
+				role().grantPermissions(user, READ_PERM);
+			}
+			tx.success();
+		}
+		List<String> expectedNames = call(() -> client().findUsers()).getData().stream().map(UserResponse::getUsername)
+			.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+
+		// Walk through the users sorted by name by following the cursors
+		List<String> names = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 2L, "name", SortOrder.DESCENDING);
+			if (cursor != null) {
+				paging.setAfter(cursor);
+			}
+			ListResponse<UserResponse> page = call(() -> client().findUsers(paging));
+			page.getData().forEach(user -> names.add(user.getUsername()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+		assertEquals("The users should be sorted by name", expectedNames, names);
+
+		// Unsupported sort keys are ignored
+		List<String> defaultOrder = call(() -> client().findUsers(new PagingParametersImpl(1, 100L))).getData().stream().map(UserResponse::getUuid)
+			.collect(Collectors.toList());
+		List<String> unsupported = call(() -> client().findUsers(new PagingParametersImpl(1, 100L, "emailAddress", SortOrder.ASCENDING))).getData()
+			.stream().map(UserResponse::getUuid).collect(Collectors.toList());
+		assertEquals("The users should be returned in the default order", defaultOrder, unsupported);
+	}
+
+	@Test
+	public void testReadMultipleWithCountType() {
+		long exactCount = call(() -> client().findUsers(new PagingParametersImpl(1, 2L))).getMetainfo().getTotalCount();
+
+		PagingParametersImpl paging = new PagingParametersImpl(1, 2L);
+		paging.setCount(CountType.NONE);
+		ListResponse<UserResponse> page = call(() -> client().findUsers(paging));
+		assertEquals(2, page.getData().size());
+		assertEquals("No total count should have been computed", -1, page.getMetainfo().getTotalCount());
+		assertEquals("No page count should have been computed", -1, page.getMetainfo().getPageCount());
+
+		paging.setCount(CountType.ESTIMATE);
+		page = call(() -> client().findUsers(paging));
+		assertEquals(2, page.getData().size());
+		assertTrue("The estimate should not be lower than the exact count", page.getMetainfo().getTotalCount() >= exactCount);
+
+		PagingParametersImpl invalidPaging = new PagingParametersImpl();
+		invalidPaging.setParameter("count", "bogus");
+		call(() -> client().findUsers(invalidPaging), BAD_REQUEST, "error_invalid_paging_parameters");
+	}
+
+	@Test
+	public void testETagWithoutCount() {
+		long exactCount = call(() -> client().findUsers()).getMetainfo().getTotalCount();
+		PagingParametersImpl paging = new PagingParametersImpl(1, exactCount);
+		paging.setCount(CountType.NONE);
+		String etag = callETag(() -> client().findUsers(paging));
+		callETag(() -> client().findUsers(paging), etag, true, 304);
+
+		// The new user may only be listed on the next page. The etag must still change since the page now has a next page.
+		UserCreateRequest request = new UserCreateRequest();
+		request.setUsername("newuser");
+		request.setPassword("test1234");
+		call(() -> client().createUser(request));
+		callETag(() -> client().findUsers(paging), etag, true, 200);
+	}
+
 	@Test
 	@Override
 	public void testReadMultiple() throws Exception {
@@ -20,6 +20,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -218,6 +223,33 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFilterPermitted() {
+		try (Tx tx = tx()) {
+			Node content = content();
+			Node folder = folder("news");
+			role().revokePermissions(folder, READ_PERM);
+			List<Object> ids = Arrays.asList(folder.id(), content.id());
+			assertThat(user().filterPermitted(ids, READ_PERM)).containsExactly(content.id());
+
+			role().grantPermissions(folder, READ_PERM);
+			assertThat(user().filterPermitted(ids, READ_PERM)).containsExactly(folder.id(), content.id());
+		}
+	}
+
+	@Test
+	public void testGetPermissionsBulk() {
+		try (Tx tx = tx()) {
+			Node content = content();
+			Node folder = folder("news");
+			role().revokePermissions(folder, UPDATE_PERM, PUBLISH_PERM);
+			Map<Object, Set<GraphPermission>> permissions = user().getPermissionsBulk(Arrays.asList(content, folder));
+			assertThat(permissions.get(content.id())).containsOnly(GraphPermission.values());
+			assertThat(permissions.get(folder.id())).contains(READ_PERM, CREATE_PERM, DELETE_PERM).doesNotContain(UPDATE_PERM, PUBLISH_PERM);
+			assertEquals(user().getPermissions(folder), permissions.get(folder.id()));
+		}
+	}
+
 	@Test
 	public void testFindUsersOfGroup() throws InvalidArgumentException {
 		try (Tx tx = tx()) {
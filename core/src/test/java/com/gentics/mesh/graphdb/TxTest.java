@@ -4,6 +4,9 @@ import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +35,10 @@ import com.gentics.mesh.core.data.root.UserRoot;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.IdentityMap;
+import com.syncleus.ferma.TVertex;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Single;
 
@@ -75,6 +82,71 @@ public class TxTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testReadTx() {
+		String username = db().readTx(tx -> {
+			assertTrue(tx.isReadOnly());
+			return user().getUsername();
+		});
+		assertNotNull(username);
+	}
+
+	@Test
+	public void testWriteInReadTx() {
+		try {
+			db().readTx(() -> {
+				assertNotNull(meshRoot().getUserRoot().create("readonlyuser", user()));
+				return null;
+			});
+			fail("The read-only transaction should have failed due to the write");
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+		assertNull(db().tx(() -> boot().userRoot().findByUsername("readonlyuser")));
+	}
+
+	@Test
+	public void testNestedWriteInReadTx() {
+		try {
+			db().readTx(() -> {
+				db().tx(() -> {
+					meshRoot().getUserRoot().create("nestedreadonlyuser", user());
+				});
+				return null;
+			});
+			fail("The nested transaction should have failed due to the write");
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+		assertNull(db().tx(() -> boot().userRoot().findByUsername("nestedreadonlyuser")));
+	}
+
+	@Test
+	public void testIdentityMap() {
+		try (Tx tx = tx()) {
+			IdentityMap identityMap = ((DelegatingFramedGraph<?>) tx.getGraph()).getIdentityMap();
+			Object id = user().id();
+			Vertex vertex = tx.getGraph().getVertex(id);
+			long hits = identityMap.getHits();
+			assertSame(vertex, tx.getGraph().getVertex(id));
+			assertEquals(hits + 1, identityMap.getHits());
+
+			UserImpl frame = tx.getGraph().getFramedVertexExplicit(UserImpl.class, id);
+			assertSame(frame, tx.getGraph().getFramedVertexExplicit(UserImpl.class, id));
+		}
+	}
+
+	@Test
+	public void testIdentityMapWithRemovedVertex() {
+		try (Tx tx = tx()) {
+			TVertex created = tx.getGraph().addFramedVertex();
+			Object id = created.getId();
+			assertNotNull(tx.getGraph().getVertex(id));
+			created.remove();
+			assertNull("The removed vertex must not be returned by the identity map", tx.getGraph().getVertex(id));
+		}
+	}
+
 	@Test
 	public void testMultiThreadedModifications() throws InterruptedException {
 		User user = db().tx(() -> user());
@@ -12,6 +12,8 @@ public enum MeshOptionChanger {
 		options.getSearchOptions().setEventBufferSize(100);
 	}), NO_PATH_CACHE(options -> {
 		options.getCacheConfig().setPathCacheSize(0);
+	}), RESPONSE_CACHE(options -> {
+		options.getCacheConfig().setResponseCacheSize(1000);
 	}), NO_UPLOAD_PARSER(options -> {
 		options.getUploadOptions().setParser(false);
 	}), EXCLUDE_BINARY_SEARCH(options -> {
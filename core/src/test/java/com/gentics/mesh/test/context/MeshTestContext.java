@@ -451,6 +451,11 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		meshDagger.permissionCache().clear(false);
+		meshDagger.principalCache().clear();
+		meshDagger.pathCache().clear();
+		meshDagger.responseCache().clear();
+		meshDagger.linkCache().clear();
+		meshDagger.navigationTreeCache().clear();
 	}
 
 	public TestDataProvider getData() {
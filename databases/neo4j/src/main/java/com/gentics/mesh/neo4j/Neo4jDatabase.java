@@ -3,6 +3,7 @@ package com.gentics.mesh.neo4j;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -34,12 +35,12 @@ import com.tinkerpop.blueprints.Vertex;
 
 import dagger.Lazy;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import scala.NotImplementedError;
 
 @Singleton
 public class Neo4jDatabase extends AbstractDatabase {
 
-	private MetricsService metrics;
 	private Neo4jTypeHandler typeHandler;
 	private Neo4jIndexHandler indexHandler;
 	private Neo4jStorage txProvider;
@@ -49,8 +50,7 @@ public class Neo4jDatabase extends AbstractDatabase {
 	@Inject
 	public Neo4jDatabase(Lazy<Vertx> vertx, MetricsService metrics, Neo4jTypeHandler typeHandler, Neo4jIndexHandler indexHandler,
 		Neo4jClusterManager clusterManager) {
-		super(vertx);
-		this.metrics = metrics;
+		super(vertx, metrics);
 		this.typeHandler = typeHandler;
 		this.indexHandler = indexHandler;
 		this.clusterManager = clusterManager;
@@ -97,12 +97,22 @@ public class Neo4jDatabase extends AbstractDatabase {
 	}
 
 	@Override
-	public void exportGraph(String outputDirectory) throws IOException {
+	public String incrementalBackupGraph(String backupDirectory) throws IOException {
 		throw new NotImplementedError("Not yet supported for Neo4j");
 	}
 
 	@Override
-	public void importGraph(String importFile) throws IOException {
+	public void restoreIncrementalGraph(String backupDirectory) throws IOException {
+		throw new NotImplementedError("Not yet supported for Neo4j");
+	}
+
+	@Override
+	public String exportGraph(String outputDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException {
+		throw new NotImplementedError("Not yet supported for Neo4j");
+	}
+
+	@Override
+	public void importGraph(String exportDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException {
 		throw new NotImplementedError("Not yet supported for Neo4j");
 	}
 
@@ -152,6 +162,7 @@ public class Neo4jDatabase extends AbstractDatabase {
 			txProvider.close();
 		}
 		clusterManager.stop();
+		stopTxExecutor();
 		Tx.setActive(null);
 	}
 
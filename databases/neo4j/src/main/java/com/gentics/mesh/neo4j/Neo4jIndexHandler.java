@@ -1,6 +1,8 @@
 package com.gentics.mesh.neo4j;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -47,6 +49,24 @@ public class Neo4jIndexHandler implements IndexHandler {
 		return null;
 	}
 
+	@Override
+	public Iterator<Entry<Object, Object>> rangeLookup(String indexName, Object key, Object after) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public Iterator<Entry<List<Object>, Object>> sortedLookup(String indexName, Object key, List<Object> after, boolean descending) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public long count(String indexName, Object key) {
+		// TODO Auto-generated method stub
+		return -1;
+	}
+
 	@Override
 	public void addCustomEdgeIndex(String label, String indexPostfix, FieldMap fields, boolean unique) {
 
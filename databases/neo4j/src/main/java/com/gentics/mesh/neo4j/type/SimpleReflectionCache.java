@@ -9,38 +9,66 @@ import java.util.Set;
 
 import org.reflections.Reflections;
 
+import com.gentics.madl.GraphElementIndex;
 import com.gentics.madl.annotations.GraphElement;
 
+/**
+ * Cache for the graph element classes. The classes and their subtypes are resolved via the {@link GraphElementIndex} which was generated at build
+ * time. The base paths will only be scanned for classes which are not part of the index.
+ */
 public class SimpleReflectionCache extends Reflections {
 
-	private final Map<String, Set<String>> hierarchy;
+	private final GraphElementIndex index = GraphElementIndex.get();
+	private final Map<String, Set<String>> hierarchy = new HashMap<>();
 	private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
-	private final Map<String, Class> classStringCache = new HashMap<>();
+	private final String[] basePaths;
+	private Map<String, Class> classStringCache;
 
 	public SimpleReflectionCache() {
-		super();
-		this.hierarchy = new HashMap<>();
+		this(new String[0]);
 	}
 
 	public SimpleReflectionCache(String... basePaths) {
-		this();
-		for (String basePath : basePaths) {
-			Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
-			for (Class<?> clazz : graphTypeClasses) {
-				classStringCache.put(clazz.getSimpleName(), clazz);
+		super();
+		this.basePaths = basePaths;
+	}
+
+	/**
+	 * Scan the base paths for graph element classes. The scan is only done once the first class could not be found in the index.
+	 * 
+	 * @return
+	 */
+	private synchronized Map<String, Class> getScannedClasses() {
+		if (classStringCache == null) {
+			Map<String, Class> classes = new HashMap<>();
+			for (String basePath : basePaths) {
+				Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
+				for (Class<?> clazz : graphTypeClasses) {
+					classes.put(clazz.getSimpleName(), clazz);
+				}
 			}
+			classStringCache = classes;
 		}
+		return classStringCache;
 	}
 
 	public Set<? extends String> getSubTypeNames(final Class<?> type) {
-		Set<String> subtypes = this.hierarchy.get(type.getName());
+		Set<String> subtypes = index.getSubTypeNames(type.getSimpleName());
+		if (subtypes != null) {
+			return subtypes;
+		}
+		subtypes = this.hierarchy.get(type.getName());
 		if (subtypes == null)
 			subtypes = Collections.singleton(type.getName());
 		return Collections.unmodifiableSet(subtypes);
 	}
 
 	public Set<? extends String> getSubTypeNames(final String typeName) {
-		Set<String> subtypes = this.hierarchy.get(typeName);
+		Set<String> subtypes = index.getSubTypeNames(typeName);
+		if (subtypes != null) {
+			return subtypes;
+		}
+		subtypes = this.hierarchy.get(typeName);
 		if (subtypes == null)
 			subtypes = Collections.singleton(typeName);
 		return Collections.unmodifiableSet(subtypes);
@@ -62,7 +90,11 @@ public class SimpleReflectionCache extends Reflections {
 	}
 
 	public Class<?> forName(final String className) {
-		return this.classStringCache.get(className);
+		Class<?> clazz = index.forName(className);
+		if (clazz != null) {
+			return clazz;
+		}
+		return getScannedClasses().get(className);
 	}
 
 }
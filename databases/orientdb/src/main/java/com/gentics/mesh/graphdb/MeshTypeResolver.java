@@ -6,6 +6,7 @@ import com.syncleus.ferma.AbstractEdgeFrame;
 import com.syncleus.ferma.AbstractVertexFrame;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.VertexFrame;
+import com.syncleus.ferma.framefactories.FrameTypeRegistry;
 import com.syncleus.ferma.traversals.EdgeTraversal;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
@@ -13,11 +14,13 @@ import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.gremlin.Tokens;
 
 /**
- * This type resolver will use the Java class stored in the 'java_class' on the element.
+ * This type resolver will use the Java class stored in the 'java_class' on the element. The class is looked up via the type id table of the generated
+ * {@link FrameTypeRegistry}. The reflection cache is only used for types which are not part of the registry.
  */
 public class MeshTypeResolver implements TypeResolver {
 	public final static String TYPE_RESOLUTION_KEY = "ferma_type";
 
+	private final FrameTypeRegistry typeRegistry = FrameTypeRegistry.get();
 	private final SimpleReflectionCache reflectionCache;
 	private final String typeResolutionKey;
 
@@ -33,7 +36,7 @@ public class MeshTypeResolver implements TypeResolver {
 			return kind;
 		}
 
-		final Class<T> nodeKind = (Class<T>) this.reflectionCache.forName(nodeClazz);
+		final Class<T> nodeKind = (Class<T>) forName(nodeClazz);
 		if (nodeKind == null) {
 			throw new RuntimeException("Did not find class in cache {" + nodeClazz + "}");
 		}
@@ -51,7 +54,15 @@ public class MeshTypeResolver implements TypeResolver {
 		if (typeResolutionName == null)
 			return null;
 
-		return this.reflectionCache.forName(typeResolutionName);
+		return forName(typeResolutionName);
+	}
+
+	private Class<?> forName(String simpleName) {
+		int typeId = typeRegistry.getTypeId(simpleName);
+		if (typeId != FrameTypeRegistry.UNKNOWN_TYPE) {
+			return typeRegistry.getType(typeId);
+		}
+		return this.reflectionCache.forName(simpleName);
 	}
 
 	@Override
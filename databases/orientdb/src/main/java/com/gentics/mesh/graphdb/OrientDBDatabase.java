@@ -1,15 +1,22 @@
 package com.gentics.mesh.graphdb;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.TX_CONFLICT;
 import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
+import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY_EXCEEDED;
 import static com.gentics.mesh.metric.SimpleMetric.TX_TIME;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -49,8 +56,13 @@ import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration.ROLES;
@@ -59,6 +71,7 @@ import com.orientechnologies.orient.server.hazelcast.OHazelcastPlugin;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
+import com.syncleus.ferma.ext.orientdb3.OrientDBReadTx;
 import com.syncleus.ferma.ext.orientdb3.OrientDBTx;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.Edge;
@@ -76,6 +89,7 @@ import dagger.Lazy;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -93,12 +107,12 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private OrientStorage txProvider;
 
-	private MetricsService metrics;
-
 	private Timer txTimer;
 
 	private Counter txRetryCounter;
 
+	private final Map<Integer, String> clusterClassNames = new ConcurrentHashMap<>();
+
 	private OrientDBIndexHandler indexHandler;
 
 	private OrientDBTypeHandler typeHandler;
@@ -116,9 +130,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 		OrientDBIndexHandler indexHandler,
 		OrientDBClusterManager clusterManager,
 		TxCleanupTask txCleanupTask) {
-		super(vertx);
+		super(vertx, metrics);
 		this.boot = boot;
-		this.metrics = metrics;
 		if (metrics != null) {
 			txTimer = metrics.timer(TX_TIME);
 			txRetryCounter = metrics.counter(TX_RETRY);
@@ -152,6 +165,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 			txCleanupThread.interrupt();
 		}
 
+		stopTxExecutor();
+
 		Tx.setActive(null);
 	}
 
@@ -354,7 +369,36 @@ public class OrientDBDatabase extends AbstractDatabase {
 	@Override
 	@Deprecated
 	public Tx tx() {
-		return new OrientDBTx(this, boot.get(), txProvider, resolver);
+		return new OrientDBTx(this, boot.get(), txProvider, resolver, metrics);
+	}
+
+	@Override
+	public Tx readTx() {
+		return new OrientDBReadTx(this, boot.get(), txProvider, resolver, metrics);
+	}
+
+	@Override
+	public <T> T readTx(TxAction<T> txHandler) {
+		// Read-only transactions will not be committed and thus can't fail due to MVCC conflicts. No retry is needed.
+		Timer.Sample sample = Timer.start();
+		try (Tx tx = readTx()) {
+			return txHandler.handle(tx);
+		} catch (GenericRestException e) {
+			// Don't log. Just throw it along so that others can handle it
+			throw e;
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read-only transaction", e);
+			}
+			throw e;
+		} catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read-only transaction", e);
+			}
+			throw new RuntimeException("Transaction error", e);
+		} finally {
+			sample.stop(txTimer);
+		}
 	}
 
 	@Override
@@ -392,8 +436,12 @@ public class OrientDBDatabase extends AbstractDatabase {
 		 */
 		T handlerResult = null;
 		boolean handlerFinished = false;
-		int maxRetry = options.getStorageOptions().getTxRetryLimit();
-		for (int retry = 0; retry < maxRetry; retry++) {
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		int maxRetry = storageOptions.getTxRetryLimit();
+		long timeBudget = storageOptions.getTxRetryTimeBudget();
+		long start = System.currentTimeMillis();
+		int retry = 0;
+		while (true) {
 			Timer.Sample sample = Timer.start();
 			try (Tx tx = tx()) {
 				handlerResult = txHandler.handle(tx);
@@ -408,13 +456,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				int delay = options.getStorageOptions().getTxRetryDelay();
-				if (retry > 0 && delay > 0) {
-					try {
-						Thread.sleep(delay);
-					} catch (InterruptedException e1) {
-						e1.printStackTrace();
-					}
+				if (e instanceof ONeedRetryException) {
+					recordConflict((ONeedRetryException) e);
 				}
 				// Reset previous result
 				handlerFinished = false;
@@ -438,19 +481,112 @@ public class OrientDBDatabase extends AbstractDatabase {
 			} finally {
 				sample.stop(txTimer);
 			}
-			if (!handlerFinished && log.isDebugEnabled()) {
-				log.debug("Retrying .. {" + retry + "}");
-				if (metrics.isEnabled()) {
-					txRetryCounter.increment();
-				}
-			}
 			if (handlerFinished) {
 				return handlerResult;
 			}
+			if (metrics.isEnabled()) {
+				txRetryCounter.increment();
+			}
+
+			// Check whether we are still allowed to retry. The retry limit and the optional time budget both apply. The first one that is hit wins.
+			long elapsed = System.currentTimeMillis() - start;
+			retry++;
+			if (retry >= maxRetry || (timeBudget > 0 && elapsed >= timeBudget)) {
+				break;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Retrying .. {" + retry + "}");
+			}
+			long delay = retryDelay(retry, storageOptions.getTxRetryDelay(), storageOptions.getTxRetryMaxDelay());
+			if (timeBudget > 0) {
+				delay = Math.min(delay, timeBudget - elapsed);
+			}
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e1) {
+					log.error("Interrupted while waiting for transaction retry.", e1);
+				}
+			}
+		}
+		if (metrics.isEnabled()) {
+			metrics.counter(TX_RETRY_EXCEEDED).increment();
+		}
+		if (retry < maxRetry) {
+			throw new RuntimeException("Retry time budget {" + timeBudget + "ms} for trx exceeded after {" + retry + "} attempts");
 		}
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
+	/**
+	 * Compute the delay before the next transaction retry. The delay grows exponentially with each retry up to the given max delay. A random value
+	 * between zero and this upper bound will be returned (full jitter) so that conflicting transactions don't collide again.
+	 * 
+	 * @param retry
+	 *            Number of the upcoming retry (starting with 1)
+	 * @param baseDelay
+	 *            Base delay in milliseconds
+	 * @param maxDelay
+	 *            Max delay in milliseconds
+	 * @return Delay in milliseconds
+	 */
+	public static long retryDelay(int retry, int baseDelay, int maxDelay) {
+		if (baseDelay <= 0) {
+			return 0;
+		}
+		int exponent = Math.min(Math.max(retry - 1, 0), 20);
+		long upperBound = Math.min(Math.max(maxDelay, baseDelay), (long) baseDelay << exponent);
+		return ThreadLocalRandom.current().nextLong(upperBound + 1);
+	}
+
+	/**
+	 * Record the conflict in the per vertex class conflict metric.
+	 * 
+	 * @param e
+	 */
+	private void recordConflict(ONeedRetryException e) {
+		if (!metrics.isEnabled()) {
+			return;
+		}
+		String type = "unknown";
+		if (e instanceof OConcurrentModificationException) {
+			ORID rid = ((OConcurrentModificationException) e).getRid();
+			if (rid != null) {
+				type = clusterClassNames.get(rid.getClusterId());
+				if (type == null) {
+					type = loadClassNameForCluster(rid.getClusterId());
+				}
+			}
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Transaction conflict detected for type {" + type + "}");
+		}
+		metrics.counter(TX_CONFLICT, "type", type).increment();
+	}
+
+	/**
+	 * Load the name of the class which uses the cluster with the given id. The schema of the database which is bound to the current thread will be used
+	 * since opening a new database would change the thread binding of the failed transaction. The cluster id will be returned if no database is bound.
+	 * 
+	 * @param clusterId
+	 * @return
+	 */
+	private String loadClassNameForCluster(int clusterId) {
+		ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+		if (db == null || db.isClosed()) {
+			return "cluster-" + clusterId;
+		}
+		try {
+			OClass clazz = db.getMetadata().getSchema().getClassByClusterId(clusterId);
+			String name = clazz == null ? "unknown" : clazz.getName();
+			clusterClassNames.put(clusterId, name);
+			return name;
+		} catch (Exception e) {
+			log.warn("Could not load class for cluster {" + clusterId + "}", e);
+			return "cluster-" + clusterId;
+		}
+	}
+
 	@Override
 	public String backupGraph(String backupDirectory) throws IOException {
 		return txProvider.backup(backupDirectory);
@@ -462,13 +598,23 @@ public class OrientDBDatabase extends AbstractDatabase {
 	}
 
 	@Override
-	public void exportGraph(String outputDirectory) throws IOException {
-		txProvider.exportGraph(outputDirectory);
+	public String incrementalBackupGraph(String backupDirectory) throws IOException {
+		return txProvider.incrementalBackup(new File(backupDirectory, INCREMENTAL_BACKUP_DIRECTORY).getAbsolutePath());
+	}
+
+	@Override
+	public void restoreIncrementalGraph(String backupDirectory) throws IOException {
+		txProvider.restoreIncremental(new File(backupDirectory, INCREMENTAL_BACKUP_DIRECTORY).getAbsolutePath());
+	}
+
+	@Override
+	public String exportGraph(String outputDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException {
+		return txProvider.exportGraph(outputDirectory, resume, progressHandler);
 	}
 
 	@Override
-	public void importGraph(String importFile) throws IOException {
-		txProvider.importGraph(importFile);
+	public void importGraph(String exportDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException {
+		txProvider.importGraph(exportDirectory, resume, progressHandler);
 	}
 
 	@Override
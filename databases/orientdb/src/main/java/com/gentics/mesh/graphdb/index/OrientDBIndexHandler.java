@@ -3,9 +3,13 @@ package com.gentics.mesh.graphdb.index;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,6 +18,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.cache.UuidRecordIdCache;
 import com.gentics.mesh.core.data.PersistenceClassMap;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.madl.field.FieldMap;
@@ -22,9 +27,12 @@ import com.gentics.mesh.madl.index.EdgeIndexDefinition;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
 import com.gentics.mesh.madl.index.VertexIndexDefinition;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexManager;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
@@ -36,6 +44,7 @@ import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
 import com.tinkerpop.blueprints.impls.orient.OrientElementType;
@@ -56,10 +65,13 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 	private final PersistenceClassMap persistenceClassMap;
 
+	private final Lazy<UuidRecordIdCache> uuidCache;
+
 	@Inject
-	public OrientDBIndexHandler(Lazy<OrientDBDatabase> db, PersistenceClassMap persistenceClassMap) {
+	public OrientDBIndexHandler(Lazy<OrientDBDatabase> db, PersistenceClassMap persistenceClassMap, Lazy<UuidRecordIdCache> uuidCache) {
 		this.db = db;
 		this.persistenceClassMap = persistenceClassMap;
+		this.uuidCache = uuidCache;
 	}
 
 	@Override
@@ -149,6 +161,144 @@ public class OrientDBIndexHandler implements IndexHandler {
 		return ids;
 	}
 
+	@Override
+	public Iterator<Entry<Object, Object>> rangeLookup(String indexName, Object key, Object after) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OIndex<?> index = orientBaseGraph.getRawGraph().getMetadata().getIndexManager().getIndex(indexName);
+		if (index == null || !index.supportsOrderedIterations()) {
+			return null;
+		}
+		OIndexDefinition definition = index.getDefinition();
+		if (definition == null || definition.getParamCount() != 2) {
+			return null;
+		}
+
+		OIndexCursor cursor;
+		if (after == null) {
+			cursor = index.iterateEntriesMajor(new OCompositeKey(key), true, true);
+		} else {
+			// Link values are passed in via their string representation
+			if (definition.getTypes()[1] == OType.LINK && !(after instanceof OIdentifiable)) {
+				after = new ORecordId(after.toString());
+			}
+			cursor = index.iterateEntriesMajor(new OCompositeKey(key, after), false, true);
+		}
+		if (cursor == null) {
+			return Collections.emptyIterator();
+		}
+
+		return new Iterator<Entry<Object, Object>>() {
+
+			private Entry<Object, Object> next = fetch();
+
+			private Entry<Object, Object> fetch() {
+				Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+				if (entry == null) {
+					return null;
+				}
+				List<Object> keys = ((OCompositeKey) entry.getKey()).getKeys();
+				// The cursor continues with the entries of the following keys. We thus need to stop manually.
+				if (keys.size() != 2 || !key.equals(keys.get(0))) {
+					return null;
+				}
+				return new SimpleImmutableEntry<>(keys.get(1), entry.getValue().getIdentity());
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Entry<Object, Object> next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				Entry<Object, Object> current = next;
+				next = fetch();
+				return current;
+			}
+		};
+	}
+
+	@Override
+	public Iterator<Entry<List<Object>, Object>> sortedLookup(String indexName, Object key, List<Object> after, boolean descending) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OIndex<?> index = orientBaseGraph.getRawGraph().getMetadata().getIndexManager().getIndex(indexName);
+		if (index == null || !index.supportsOrderedIterations()) {
+			return null;
+		}
+		OIndexDefinition definition = index.getDefinition();
+		if (definition == null || definition.getParamCount() < 2) {
+			return null;
+		}
+
+		List<Object> from = new ArrayList<>();
+		if (key != null) {
+			from.add(key);
+		}
+		if (after != null) {
+			from.addAll(after);
+		}
+
+		OIndexCursor cursor;
+		if (from.isEmpty()) {
+			cursor = descending ? index.descCursor() : index.cursor();
+		} else {
+			// Partial keys are included in order to start with the first entry of the key. Complete keys of a previous entry are excluded.
+			boolean inclusive = after == null;
+			OCompositeKey fromKey = new OCompositeKey(from);
+			cursor = descending ? index.iterateEntriesMinor(fromKey, inclusive, false) : index.iterateEntriesMajor(fromKey, inclusive, true);
+		}
+		if (cursor == null) {
+			return Collections.emptyIterator();
+		}
+
+		int offset = key == null ? 0 : 1;
+		return new Iterator<Entry<List<Object>, Object>>() {
+
+			private Entry<List<Object>, Object> next = fetch();
+
+			private Entry<List<Object>, Object> fetch() {
+				Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+				if (entry == null || !(entry.getKey() instanceof OCompositeKey)) {
+					return null;
+				}
+				List<Object> keys = ((OCompositeKey) entry.getKey()).getKeys();
+				// The cursor continues with the entries of the following keys. We thus need to stop manually.
+				if (key != null && !key.equals(keys.get(0))) {
+					return null;
+				}
+				return new SimpleImmutableEntry<>(new ArrayList<>(keys.subList(offset, keys.size())), entry.getValue().getIdentity());
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Entry<List<Object>, Object> next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				Entry<List<Object>, Object> current = next;
+				next = fetch();
+				return current;
+			}
+		};
+	}
+
+	@Override
+	public long count(String indexName, Object key) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OIndex<?> index = orientBaseGraph.getRawGraph().getMetadata().getIndexManager().getIndex(indexName);
+		if (index == null) {
+			return -1;
+		}
+		return index.count(key);
+	}
+
 	@Override
 	public void removeVertexIndex(String indexName, Class<? extends VertexFrame> clazz) {
 		if (log.isDebugEnabled()) {
@@ -262,6 +412,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		boolean includeIn = def.isIncludeIn();
 		boolean includeOut = def.isIncludeOut();
 		boolean includeInOut = def.isIncludeInOut();
+		boolean includeOutIn = def.isIncludeOutIn();
 		String[] extraFields = {};
 
 		OrientGraphNoTx noTx = db.get().getTxProvider().rawNoTx();
@@ -288,10 +439,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 				}
 			}
 
-			if ((includeIn || includeInOut) && e.getProperty("in") == null) {
+			if ((includeIn || includeInOut || includeOutIn) && e.getProperty("in") == null) {
 				e.createProperty("in", OType.LINK);
 			}
-			if ((includeOut || includeInOut) && e.getProperty("out") == null) {
+			if ((includeOut || includeInOut || includeOutIn) && e.getProperty("out") == null) {
 				e.createProperty("out", OType.LINK);
 			}
 			for (String key : extraFields) {
@@ -306,6 +457,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 			if (includeInOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "in", "out" });
 			}
+			name = indexName + "_outin";
+			if (includeOutIn && e.getClassIndex(name) == null) {
+				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "out", "in" });
+			}
 			name = indexName + "_out";
 			if (includeOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX, new String[] { "out" });
@@ -377,8 +532,13 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 			if (fields != null && fields.size() != 0 && v.getClassIndex(indexName) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				v.createIndex(indexName, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString(),
-					null, new ODocument().fields("ignoreNullValues", true), fieldArray);
+				String indexType;
+				if (def.isOrdered()) {
+					indexType = unique ? OClass.INDEX_TYPE.UNIQUE.toString() : OClass.INDEX_TYPE.NOTUNIQUE.toString();
+				} else {
+					indexType = unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
+				}
+				v.createIndex(indexName, indexType, null, new ODocument().fields("ignoreNullValues", true), fieldArray);
 			}
 		} finally {
 			noTx.shutdown();
@@ -395,6 +555,17 @@ public class OrientDBIndexHandler implements IndexHandler {
 		}
 
 		FramedGraph graph = Tx.get().getGraph();
+		UuidRecordIdCache cache = uuidCache.get();
+		Object cachedId = uuid == null ? null : cache.get(uuid);
+		if (cachedId != null) {
+			// The cached record id is validated since the vertex may have been deleted in this transaction or on another instance
+			Vertex vertex = graph.getVertex(cachedId);
+			if (vertex != null && uuid.equals(vertex.getProperty("uuid"))) {
+				return (T) graph.getFramedVertexExplicit(classOfT, cachedId);
+			}
+			cache.invalidate(uuid);
+		}
+
 		Graph baseGraph = ((DelegatingFramedOrientGraph) graph).getBaseGraph();
 		OrientBaseGraph orientBaseGraph = ((OrientBaseGraph) baseGraph);
 		String type = "MeshVertexImpl";
@@ -405,6 +576,11 @@ public class OrientDBIndexHandler implements IndexHandler {
 			if (index != null) {
 				Object recordId = index.get(uuid);
 				if (recordId != null) {
+					ORID rid = ((OIdentifiable) recordId).getIdentity();
+					// Record ids of vertices which were created in the current transaction are only temporary
+					if (rid.isPersistent()) {
+						cache.store(uuid, rid.copy());
+					}
 					return (T) graph.getFramedVertexExplicit(classOfT, recordId);
 				}
 			}
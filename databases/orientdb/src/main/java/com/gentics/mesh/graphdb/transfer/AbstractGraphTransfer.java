@@ -0,0 +1,151 @@
+package com.gentics.mesh.graphdb.transfer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Common code of the parallel graph export and import. The records of each cluster are stored in a separate gzip compressed file. Each line of the
+ * file contains the record id of the exported record and the JSON representation of the record:
+ *
+ * <pre>
+ * #25:0	{"@type":"d","@class":"UserImpl","uuid":"..."}
+ * </pre>
+ *
+ * The clusters are processed in parallel. Each worker thread uses its own database session.
+ */
+public abstract class AbstractGraphTransfer {
+
+	public static final String FILE_EXTENSION = ".jsonl.gz";
+
+	/**
+	 * Format of the exported records. The record id is stored separately since the imported records will get new ids.
+	 */
+	static final String JSON_FORMAT = "type,class,attribSameRow,keepTypes,alwaysFetchEmbedded,dateAsLong";
+
+	/**
+	 * Amount of records after which a progress event will be emitted.
+	 */
+	static final int PROGRESS_INTERVAL = 10_000;
+
+	protected final Supplier<ODatabaseSession> sessions;
+
+	protected final int threads;
+
+	private final Consumer<JsonObject> progressHandler;
+
+	/**
+	 * Create a new transfer.
+	 *
+	 * @param sessions
+	 *            Supplier for new database sessions. The sessions will be closed after usage.
+	 * @param threads
+	 *            Amount of clusters which will be processed in parallel
+	 * @param progressHandler
+	 *            Handler which will be invoked with the progress information. The handler may be invoked from multiple threads.
+	 */
+	protected AbstractGraphTransfer(Supplier<ODatabaseSession> sessions, int threads, Consumer<JsonObject> progressHandler) {
+		this.sessions = sessions;
+		this.threads = Math.max(1, threads);
+		this.progressHandler = progressHandler;
+	}
+
+	/**
+	 * Check whether the records of the class are part of the graph.
+	 *
+	 * @param clazz
+	 * @return
+	 */
+	protected static boolean isGraphClass(OClass clazz) {
+		return clazz.isSubClassOf("V") || clazz.isSubClassOf("E");
+	}
+
+	/**
+	 * Emit a progress event.
+	 *
+	 * @param phase
+	 *            Name of the current phase
+	 * @param cluster
+	 *            Processed cluster
+	 * @param records
+	 *            Amount of processed records of the cluster
+	 * @param completedClusters
+	 *            Amount of clusters for which the phase has been completed
+	 * @param totalClusters
+	 */
+	protected void progress(String phase, String cluster, long records, int completedClusters, int totalClusters) {
+		if (progressHandler == null) {
+			return;
+		}
+		progressHandler.accept(new JsonObject()
+			.put("phase", phase)
+			.put("cluster", cluster)
+			.put("records", records)
+			.put("completedClusters", completedClusters)
+			.put("totalClusters", totalClusters));
+	}
+
+	/**
+	 * Run the task for each of the given clusters using the configured amount of threads. The first failure will cancel all remaining tasks.
+	 *
+	 * @param name
+	 *            Name prefix of the worker threads
+	 * @param clusters
+	 * @param task
+	 * @throws IOException
+	 */
+	protected void runParallel(String name, List<String> clusters, ClusterTask task) throws IOException {
+		if (clusters.isEmpty()) {
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, clusters.size()),
+			new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build());
+		try {
+			List<Future<Void>> futures = new ArrayList<>();
+			for (String cluster : clusters) {
+				futures.add(executor.submit(() -> {
+					task.run(cluster);
+					return null;
+				}));
+			}
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("The graph transfer has been interrupted");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new IOException("The graph transfer failed", cause);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Task which processes a single cluster.
+	 */
+	@FunctionalInterface
+	protected interface ClusterTask {
+
+		void run(String cluster) throws Exception;
+
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.gentics.mesh.graphdb.transfer;
+
+import static com.gentics.mesh.graphdb.transfer.TransferManifest.EXPORT_FILENAME;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Exporter which writes the records of all vertex and edge clusters in parallel. Each cluster is written to a separate file. Clusters which have
+ * already been written will be skipped when an interrupted export is continued.
+ */
+public class ParallelGraphExporter extends AbstractGraphTransfer {
+
+	private static final Logger log = LoggerFactory.getLogger(ParallelGraphExporter.class);
+
+	public static final String PHASE = "export";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	public ParallelGraphExporter(Supplier<ODatabaseSession> sessions, int threads, Consumer<JsonObject> progressHandler) {
+		super(sessions, threads, progressHandler);
+	}
+
+	/**
+	 * Export the graph to the given directory. Clusters which are already listed as exported in the manifest of the directory will be skipped.
+	 *
+	 * @param exportDirectory
+	 * @throws IOException
+	 */
+	public void export(File exportDirectory) throws IOException {
+		exportDirectory.mkdirs();
+		TransferManifest manifest = TransferManifest.load(new File(exportDirectory, EXPORT_FILENAME));
+		if (manifest.getClusterNames().isEmpty()) {
+			collectClusters(manifest);
+			manifest.save();
+		}
+		List<String> clusters = manifest.getClusterNames();
+		List<String> pending = clusters.stream().filter(cluster -> !manifest.isDone(cluster, PHASE)).collect(Collectors.toList());
+		log.info("Exporting {" + pending.size() + "} of {" + clusters.size() + "} clusters to {" + exportDirectory.getAbsolutePath() + "} using {"
+			+ threads + "} threads");
+		AtomicInteger completed = new AtomicInteger(clusters.size() - pending.size());
+		runParallel("mesh-graph-export", pending, cluster -> {
+			long records = exportCluster(exportDirectory, cluster, completed.get(), clusters.size());
+			manifest.setDone(cluster, PHASE, records);
+			progress(PHASE, cluster, records, completed.incrementAndGet(), clusters.size());
+		});
+		manifest.setCompleted();
+		log.info("Export to {" + exportDirectory.getAbsolutePath() + "} completed");
+	}
+
+	private void collectClusters(TransferManifest manifest) {
+		ODatabaseSession db = sessions.get();
+		try {
+			for (OClass clazz : db.getMetadata().getSchema().getClasses()) {
+				if (!isGraphClass(clazz)) {
+					continue;
+				}
+				for (int clusterId : clazz.getClusterIds()) {
+					// Abstract classes have no clusters
+					if (clusterId >= 0) {
+						manifest.addCluster(db.getClusterNameById(clusterId), clusterId, clazz.getName());
+					}
+				}
+			}
+		} finally {
+			db.close();
+		}
+	}
+
+	/**
+	 * Write all records of the cluster. The data is first written to a temporary file which will be renamed once all records have been written.
+	 *
+	 * @param exportDirectory
+	 * @param cluster
+	 * @param completedClusters
+	 * @param totalClusters
+	 * @return Amount of written records
+	 * @throws IOException
+	 */
+	private long exportCluster(File exportDirectory, String cluster, int completedClusters, int totalClusters) throws IOException {
+		File file = new File(exportDirectory, cluster + FILE_EXTENSION);
+		File tmp = new File(exportDirectory, cluster + FILE_EXTENSION + ".tmp");
+		long records = 0;
+		ODatabaseSession db = sessions.get();
+		try (Writer writer = new BufferedWriter(
+			new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(tmp), BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+			ORecordIteratorCluster<ORecord> it = db.browseCluster(cluster);
+			while (it.hasNext()) {
+				ORecord record = it.next();
+				if (!(record instanceof ODocument)) {
+					continue;
+				}
+				writer.write(record.getIdentity().toString());
+				writer.write('\t');
+				writer.write(record.toJSON(JSON_FORMAT));
+				writer.write('\n');
+				records++;
+				if (records % PROGRESS_INTERVAL == 0) {
+					progress(PHASE, cluster, records, completedClusters, totalClusters);
+				}
+			}
+		} finally {
+			db.close();
+		}
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		if (log.isDebugEnabled()) {
+			log.debug("Exported {" + records + "} records of cluster {" + cluster + "}");
+		}
+		return records;
+	}
+
+}
@@ -0,0 +1,484 @@
+package com.gentics.mesh.graphdb.transfer;
+
+import static com.gentics.mesh.graphdb.transfer.TransferManifest.EXPORT_FILENAME;
+import static com.gentics.mesh.graphdb.transfer.TransferManifest.IMPORT_FILENAME;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Importer for exports which were written by the {@link ParallelGraphExporter}. The import is done in two phases which both process the clusters in
+ * parallel:
+ *
+ * <ol>
+ * <li>The records are created without their link fields. The ids of the created records are stored in a {@link RecordIdMap}.</li>
+ * <li>The link fields are restored using the ids of the created records.</li>
+ * </ol>
+ *
+ * The id mapping of each cluster is appended to a file in the export directory. An interrupted import can thus be continued without creating the
+ * already imported records again. The mapping is only flushed periodically. Records of the target clusters which are missing in the mapping were
+ * created by the interrupted import after the last flush. They are removed before the import is continued and will be created again.
+ */
+public class ParallelGraphImporter extends AbstractGraphTransfer {
+
+	private static final Logger log = LoggerFactory.getLogger(ParallelGraphImporter.class);
+
+	public static final String IMPORT_PHASE = "import";
+
+	public static final String LINK_PHASE = "link";
+
+	public static final String ID_MAP_EXTENSION = ".ridmap";
+
+	/**
+	 * Amount of records after which the id mapping will be flushed to disk.
+	 */
+	private static final int FLUSH_INTERVAL = 100;
+
+	/**
+	 * Size of an entry of the id mapping file (exported cluster position and encoded id of the imported record).
+	 */
+	private static final int ID_MAP_ENTRY_SIZE = 16;
+
+	private final RecordIdMap ids = new RecordIdMap();
+
+	public ParallelGraphImporter(Supplier<ODatabaseSession> sessions, int threads, Consumer<JsonObject> progressHandler) {
+		super(sessions, threads, progressHandler);
+	}
+
+	/**
+	 * Import the export of the given directory. All vertices and edges of the database will be removed unless an interrupted import is resumed.
+	 *
+	 * @param exportDirectory
+	 * @param resume
+	 *            Whether a previously interrupted import should be continued
+	 * @throws IOException
+	 */
+	public void importGraph(File exportDirectory, boolean resume) throws IOException {
+		TransferManifest manifest = TransferManifest.load(new File(exportDirectory, EXPORT_FILENAME));
+		if (!manifest.isCompleted()) {
+			throw new IOException("The export in {" + exportDirectory.getAbsolutePath() + "} is incomplete");
+		}
+		File stateFile = new File(exportDirectory, IMPORT_FILENAME);
+		if (!resume || !stateFile.exists()) {
+			reset(exportDirectory, manifest, stateFile);
+		}
+		TransferManifest state = TransferManifest.load(stateFile);
+		List<String> clusters = manifest.getClusterNames();
+
+		// Load the id mapping of a previous run
+		Map<String, Long> loaded = new HashMap<>();
+		Map<Integer, BitSet> mappedTargets = new HashMap<>();
+		for (String cluster : clusters) {
+			File idMapFile = new File(exportDirectory, cluster + ID_MAP_EXTENSION);
+			loaded.put(cluster, loadIdMap(idMapFile, manifest.getClusterId(cluster), mappedTargets));
+		}
+		removeUnmappedRecords(manifest, state, mappedTargets);
+
+		log.info("Importing {" + clusters.size() + "} clusters from {" + exportDirectory.getAbsolutePath() + "} using {" + threads + "} threads");
+		AtomicInteger imported = new AtomicInteger();
+		runParallel("mesh-graph-import", clusters, cluster -> {
+			long records = importRecords(exportDirectory, manifest, state, cluster, loaded.get(cluster), imported.get(), clusters.size());
+			progress(IMPORT_PHASE, cluster, records, imported.incrementAndGet(), clusters.size());
+		});
+
+		// All records have been created and the id mapping is complete
+		AtomicInteger linked = new AtomicInteger();
+		runParallel("mesh-graph-link", clusters, cluster -> {
+			long records = 0;
+			if (!state.isDone(cluster, LINK_PHASE)) {
+				records = linkRecords(exportDirectory, cluster, linked.get(), clusters.size());
+				state.setDone(cluster, LINK_PHASE, records);
+			}
+			progress(LINK_PHASE, cluster, records, linked.incrementAndGet(), clusters.size());
+		});
+		state.setCompleted();
+		log.info("Import from {" + exportDirectory.getAbsolutePath() + "} completed");
+	}
+
+	/**
+	 * Remove all vertices and edges from the database and delete the state of a previous import.
+	 *
+	 * @param exportDirectory
+	 * @param manifest
+	 * @param stateFile
+	 * @throws IOException
+	 */
+	private void reset(File exportDirectory, TransferManifest manifest, File stateFile) throws IOException {
+		ODatabaseSession db = sessions.get();
+		try {
+			for (OClass clazz : db.getMetadata().getSchema().getClasses()) {
+				if (isGraphClass(clazz)) {
+					// Truncating the class will also clear the indices of the class
+					clazz.truncate();
+				}
+			}
+		} finally {
+			db.close();
+		}
+		for (String cluster : manifest.getClusterNames()) {
+			new File(exportDirectory, cluster + ID_MAP_EXTENSION).delete();
+		}
+		stateFile.delete();
+	}
+
+	/**
+	 * Remove the records of the clusters which are written by unfinished imports and which are not part of the loaded id mapping. After a reset
+	 * all records of the graph clusters are created by the import. The remaining records were thus created by an interrupted import after the last
+	 * flush of the mapping.
+	 *
+	 * @param manifest
+	 * @param state
+	 * @param mappedTargets
+	 *            Cluster positions of the imported records per cluster
+	 * @throws IOException
+	 */
+	private void removeUnmappedRecords(TransferManifest manifest, TransferManifest state, Map<Integer, BitSet> mappedTargets) throws IOException {
+		ODatabaseSession db = sessions.get();
+		try {
+			Set<Integer> targetClusters = new TreeSet<>();
+			for (String cluster : manifest.getClusterNames()) {
+				if (state.isDone(cluster, IMPORT_PHASE)) {
+					continue;
+				}
+				String className = manifest.getClassName(cluster);
+				String targetCluster = targetCluster(db, className, cluster);
+				if (targetCluster != null) {
+					targetClusters.add(db.getClusterIdByName(targetCluster));
+				} else {
+					// The storage selects one of the clusters of the class
+					for (int id : db.getMetadata().getSchema().getClass(className).getClusterIds()) {
+						targetClusters.add(id);
+					}
+				}
+			}
+			for (int clusterId : targetClusters) {
+				BitSet mapped = mappedTargets.getOrDefault(clusterId, new BitSet());
+				String clusterName = db.getClusterNameById(clusterId);
+				List<ORID> unmapped = new ArrayList<>();
+				for (ORecord record : db.<ORecord>browseCluster(clusterName)) {
+					ORID rid = record.getIdentity();
+					if (!mapped.get((int) rid.getClusterPosition())) {
+						unmapped.add(rid.copy());
+					}
+				}
+				for (ORID rid : unmapped) {
+					db.delete(rid);
+				}
+				if (!unmapped.isEmpty()) {
+					log.info("Removed {" + unmapped.size() + "} records of cluster {" + clusterName + "} which were created by the interrupted import");
+				}
+			}
+		} finally {
+			db.close();
+		}
+	}
+
+	/**
+	 * Create the records of the cluster without their link fields. Records which have already been imported by a previous run will be skipped.
+	 *
+	 * @param loaded
+	 *            Amount of records which were imported by a previous run
+	 * @return Amount of imported records
+	 */
+	private long importRecords(File exportDirectory, TransferManifest manifest, TransferManifest state, String cluster, long loaded,
+		int completedClusters, int totalClusters) throws IOException {
+		File idMapFile = new File(exportDirectory, cluster + ID_MAP_EXTENSION);
+		if (state.isDone(cluster, IMPORT_PHASE)) {
+			return loaded;
+		}
+		String className = manifest.getClassName(cluster);
+		long records = 0;
+		ODatabaseSession db = sessions.get();
+		try (BufferedReader reader = open(exportDirectory, cluster);
+			DataOutputStream idMap = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(idMapFile, true)))) {
+			db.declareIntent(new OIntentMassiveInsert());
+			String targetCluster = targetCluster(db, className, cluster);
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int sep = line.indexOf('\t');
+				ORID source = new ORecordId(line.substring(0, sep));
+				if (ids.contains(source)) {
+					continue;
+				}
+				ODocument doc = new ODocument();
+				doc.fromJSON(line.substring(sep + 1));
+				for (String field : linkFields(doc)) {
+					doc.removeField(field);
+				}
+				ORID target = save(db, doc, targetCluster);
+				ids.put(source, target);
+				idMap.writeLong(source.getClusterPosition());
+				idMap.writeLong(RecordIdMap.encode(target));
+				records++;
+				if (records % FLUSH_INTERVAL == 0) {
+					idMap.flush();
+				}
+				if (records % PROGRESS_INTERVAL == 0) {
+					progress(IMPORT_PHASE, cluster, records, completedClusters, totalClusters);
+				}
+			}
+		} finally {
+			db.declareIntent(null);
+			db.close();
+		}
+		state.setDone(cluster, IMPORT_PHASE, loaded + records);
+		if (log.isDebugEnabled()) {
+			log.debug("Imported {" + records + "} records of cluster {" + cluster + "}");
+		}
+		return loaded + records;
+	}
+
+	/**
+	 * Save the document. A record which already exists will be detected by the unique indices and reused.
+	 */
+	private ORID save(ODatabaseSession db, ODocument doc, String cluster) {
+		try {
+			if (cluster == null) {
+				db.save(doc);
+			} else {
+				db.save(doc, cluster);
+			}
+			return doc.getIdentity().copy();
+		} catch (ORecordDuplicatedException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Found already imported record {" + e.getRid() + "}");
+			}
+			return e.getRid().getIdentity().copy();
+		}
+	}
+
+	/**
+	 * Determine the cluster in which the records will be stored. The clusters of a class depend on the environment of the database. Records of
+	 * clusters which do not exist for the class will be stored in the default cluster of the class.
+	 *
+	 * @return Name of the cluster or null if the default cluster of the class should be used
+	 */
+	private String targetCluster(ODatabaseSession db, String className, String cluster) throws IOException {
+		OClass clazz = db.getMetadata().getSchema().getClass(className);
+		if (clazz == null) {
+			throw new IOException("The class {" + className + "} of cluster {" + cluster + "} does not exist in the database");
+		}
+		int clusterId = db.getClusterIdByName(cluster);
+		for (int id : clazz.getClusterIds()) {
+			if (id == clusterId) {
+				return cluster;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Restore the link fields of the imported records of the cluster.
+	 *
+	 * @return Amount of updated records
+	 */
+	private long linkRecords(File exportDirectory, String cluster, int completedClusters, int totalClusters) throws IOException {
+		long records = 0;
+		AtomicLong missing = new AtomicLong();
+		ODatabaseSession db = sessions.get();
+		try (BufferedReader reader = open(exportDirectory, cluster)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int sep = line.indexOf('\t');
+				ORID target = ids.get(new ORecordId(line.substring(0, sep)));
+				ODocument source = new ODocument();
+				source.fromJSON(line.substring(sep + 1));
+				List<String> fields = linkFields(source);
+				if (target == null || fields.isEmpty()) {
+					continue;
+				}
+				ODocument doc = db.load(target);
+				for (String field : fields) {
+					doc.field(field, remap(source.field(field), missing), fieldType(source, field));
+				}
+				db.save(doc);
+				records++;
+				if (records % PROGRESS_INTERVAL == 0) {
+					progress(LINK_PHASE, cluster, records, completedClusters, totalClusters);
+				}
+			}
+		} finally {
+			db.close();
+		}
+		if (missing.get() > 0) {
+			log.warn("Skipped {" + missing.get() + "} links of cluster {" + cluster + "} which point to records that are not part of the export");
+		}
+		return records;
+	}
+
+	/**
+	 * Replace the ids of the exported records with the ids of the imported records.
+	 *
+	 * @param value
+	 * @param missing
+	 *            Counter for links to records which have not been imported
+	 * @return
+	 */
+	private Object remap(Object value, AtomicLong missing) {
+		if (value instanceof OIdentifiable) {
+			ORID target = ids.get(((OIdentifiable) value).getIdentity());
+			if (target == null) {
+				missing.incrementAndGet();
+			}
+			return target;
+		}
+		if (value instanceof ORidBag) {
+			ORidBag bag = new ORidBag();
+			for (OIdentifiable id : (ORidBag) value) {
+				ORID target = ids.get(id.getIdentity());
+				if (target == null) {
+					missing.incrementAndGet();
+				} else {
+					bag.add(target);
+				}
+			}
+			return bag;
+		}
+		if (value instanceof Map) {
+			Map<Object, Object> map = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				Object target = remap(entry.getValue(), missing);
+				if (target != null) {
+					map.put(entry.getKey(), target);
+				}
+			}
+			return map;
+		}
+		if (value instanceof Collection) {
+			Collection<Object> collection = value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+			for (Object element : (Collection<?>) value) {
+				Object target = remap(element, missing);
+				if (target != null) {
+					collection.add(target);
+				}
+			}
+			return collection;
+		}
+		return value;
+	}
+
+	/**
+	 * Load the id mapping of a previous import run.
+	 *
+	 * @param file
+	 * @param clusterId
+	 *            Id of the cluster in the exported database
+	 * @param mappedTargets
+	 *            Cluster positions of the imported records per cluster. The positions of the loaded records will be added.
+	 * @return Amount of loaded entries
+	 * @throws IOException
+	 */
+	private long loadIdMap(File file, int clusterId, Map<Integer, BitSet> mappedTargets) throws IOException {
+		if (!file.exists()) {
+			return 0;
+		}
+		long entries = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			while (true) {
+				long position = in.readLong();
+				long target = in.readLong();
+				ids.put(clusterId, position, target);
+				ORID rid = RecordIdMap.decode(target);
+				mappedTargets.computeIfAbsent(rid.getClusterId(), id -> new BitSet()).set((int) rid.getClusterPosition());
+				entries++;
+			}
+		} catch (EOFException e) {
+			// Reached the end of the mapping. A partially written entry will be ignored.
+		}
+		// Remove a partially written entry so that new entries can be appended
+		if (file.length() != entries * ID_MAP_ENTRY_SIZE) {
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+				raf.setLength(entries * ID_MAP_ENTRY_SIZE);
+			}
+		}
+		return entries;
+	}
+
+	private BufferedReader open(File exportDirectory, String cluster) throws IOException {
+		File file = new File(exportDirectory, cluster + FILE_EXTENSION);
+		return new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(file), 64 * 1024), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Return the names of all fields of the document which contain links to other records.
+	 *
+	 * @param doc
+	 * @return
+	 */
+	private static List<String> linkFields(ODocument doc) {
+		List<String> fields = new ArrayList<>();
+		for (String field : doc.fieldNames()) {
+			if (isLink(fieldType(doc, field))) {
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
+	private static OType fieldType(ODocument doc, String field) {
+		OType type = doc.fieldType(field);
+		if (type == null) {
+			type = OType.getTypeByValue(doc.field(field));
+		}
+		return type;
+	}
+
+	private static boolean isLink(OType type) {
+		if (type == null) {
+			return false;
+		}
+		switch (type) {
+		case LINK:
+		case LINKLIST:
+		case LINKSET:
+		case LINKMAP:
+		case LINKBAG:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.gentics.mesh.graphdb.transfer;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+/**
+ * Map of the record ids of the exported records to the record ids of the imported records. The ids are stored in primitive arrays per cluster since
+ * the map needs to hold an entry for each imported record.
+ *
+ * Each cluster must only be written by a single thread. Lookups are only safe once all clusters have been written.
+ */
+public class RecordIdMap {
+
+	private static final int POSITION_BITS = 48;
+
+	private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+
+	private final Map<Integer, ClusterMap> clusters = new ConcurrentHashMap<>();
+
+	/**
+	 * Store the mapping for the given exported record id.
+	 *
+	 * @param source
+	 *            Id of the exported record
+	 * @param target
+	 *            Id of the imported record
+	 */
+	public void put(ORID source, ORID target) {
+		put(source.getClusterId(), source.getClusterPosition(), encode(target));
+	}
+
+	/**
+	 * Store the mapping for the exported record with the given cluster position.
+	 *
+	 * @param clusterId
+	 * @param position
+	 * @param target
+	 *            Encoded id of the imported record
+	 */
+	void put(int clusterId, long position, long target) {
+		clusters.computeIfAbsent(clusterId, id -> new ClusterMap()).put(position, target);
+	}
+
+	/**
+	 * Return the id of the imported record for the given exported record id.
+	 *
+	 * @param source
+	 * @return Id of the imported record or null if the record has not been imported
+	 */
+	public ORID get(ORID source) {
+		ClusterMap map = clusters.get(source.getClusterId());
+		if (map == null) {
+			return null;
+		}
+		long target = map.get(source.getClusterPosition());
+		return target == 0 ? null : decode(target);
+	}
+
+	/**
+	 * Check whether the exported record has already been imported.
+	 *
+	 * @param source
+	 * @return
+	 */
+	public boolean contains(ORID source) {
+		return get(source) != null;
+	}
+
+	/**
+	 * Encode the record id into a single value. The value is offset by one so that zero can be used to mark missing entries.
+	 *
+	 * @param rid
+	 * @return
+	 */
+	static long encode(ORID rid) {
+		return (((long) rid.getClusterId() << POSITION_BITS) | (rid.getClusterPosition() & POSITION_MASK)) + 1;
+	}
+
+	static ORID decode(long value) {
+		long raw = value - 1;
+		return new ORecordId((int) (raw >>> POSITION_BITS), raw & POSITION_MASK);
+	}
+
+	/**
+	 * Mapping of a single cluster. The array is indexed by the cluster position of the exported record.
+	 */
+	private static class ClusterMap {
+
+		private long[] targets = new long[1024];
+
+		void put(long position, long target) {
+			if (position < 0 || position >= Integer.MAX_VALUE - 8) {
+				throw new IllegalArgumentException("The cluster position {" + position + "} exceeds the supported range");
+			}
+			int index = (int) position;
+			if (index >= targets.length) {
+				int size = targets.length;
+				while (size <= index) {
+					size = (int) Math.min(Integer.MAX_VALUE - 8, size * 2L);
+				}
+				targets = Arrays.copyOf(targets, size);
+			}
+			targets[index] = target;
+		}
+
+		long get(long position) {
+			if (position < 0 || position >= targets.length) {
+				return 0;
+			}
+			return targets[(int) position];
+		}
+	}
+
+}
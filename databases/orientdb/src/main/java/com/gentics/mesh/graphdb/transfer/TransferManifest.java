@@ -0,0 +1,176 @@
+package com.gentics.mesh.graphdb.transfer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Manifest which tracks the clusters of a graph export and the steps which have been completed for each cluster. The manifest is written after each
+ * completed step so that an interrupted export or import can be resumed.
+ */
+public class TransferManifest {
+
+	public static final String EXPORT_FILENAME = Database.EXPORT_MANIFEST_FILENAME;
+
+	public static final String IMPORT_FILENAME = "import.json";
+
+	private static final String CLUSTERS_KEY = "clusters";
+
+	private static final String COMPLETED_KEY = "completed";
+
+	private final File file;
+
+	private final JsonObject json;
+
+	private TransferManifest(File file, JsonObject json) {
+		this.file = file;
+		this.json = json;
+	}
+
+	/**
+	 * Load the manifest from the given file or create a new manifest if the file does not exist.
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static TransferManifest load(File file) throws IOException {
+		if (!file.exists()) {
+			return new TransferManifest(file, new JsonObject().put(CLUSTERS_KEY, new JsonObject()).put(COMPLETED_KEY, false));
+		}
+		String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		return new TransferManifest(file, new JsonObject(content));
+	}
+
+	/**
+	 * Add the cluster to the manifest.
+	 *
+	 * @param name
+	 *            Name of the cluster
+	 * @param id
+	 *            Id of the cluster in the exported database
+	 * @param className
+	 *            Name of the class which owns the cluster
+	 */
+	public synchronized void addCluster(String name, int id, String className) {
+		clusters().put(name, new JsonObject().put("id", id).put("class", className));
+	}
+
+	/**
+	 * Return the names of all clusters of the manifest.
+	 *
+	 * @return
+	 */
+	public synchronized List<String> getClusterNames() {
+		return new ArrayList<>(clusters().fieldNames());
+	}
+
+	/**
+	 * Return the id of the cluster in the exported database.
+	 *
+	 * @param name
+	 * @return
+	 */
+	public synchronized int getClusterId(String name) {
+		return cluster(name).getInteger("id");
+	}
+
+	/**
+	 * Return the name of the class which owns the cluster.
+	 *
+	 * @param name
+	 * @return
+	 */
+	public synchronized String getClassName(String name) {
+		return cluster(name).getString("class");
+	}
+
+	/**
+	 * Check whether the step has been completed for the cluster.
+	 *
+	 * @param name
+	 * @param step
+	 * @return
+	 */
+	public synchronized boolean isDone(String name, String step) {
+		JsonObject cluster = clusters().getJsonObject(name);
+		return cluster != null && cluster.getBoolean(step, false);
+	}
+
+	/**
+	 * Mark the step as completed for the cluster and persist the manifest.
+	 *
+	 * @param name
+	 * @param step
+	 * @param records
+	 *            Amount of processed records
+	 * @throws IOException
+	 */
+	public synchronized void setDone(String name, String step, long records) throws IOException {
+		JsonObject cluster = clusters().getJsonObject(name);
+		if (cluster == null) {
+			cluster = new JsonObject();
+			clusters().put(name, cluster);
+		}
+		cluster.put(step, true).put(step + "Records", records);
+		save();
+	}
+
+	/**
+	 * Return the amount of records which were processed by the step for the cluster.
+	 *
+	 * @param name
+	 * @param step
+	 * @return
+	 */
+	public synchronized long getRecords(String name, String step) {
+		JsonObject cluster = clusters().getJsonObject(name);
+		return cluster == null ? 0 : cluster.getLong(step + "Records", 0L);
+	}
+
+	public synchronized boolean isCompleted() {
+		return json.getBoolean(COMPLETED_KEY, false);
+	}
+
+	/**
+	 * Mark the whole transfer as completed and persist the manifest.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void setCompleted() throws IOException {
+		json.put(COMPLETED_KEY, true);
+		save();
+	}
+
+	/**
+	 * Write the manifest. The content is first written to a temporary file to never leave a partially written manifest behind.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void save() throws IOException {
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		Files.write(tmp.toPath(), json.encodePrettily().getBytes(StandardCharsets.UTF_8));
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private JsonObject clusters() {
+		return json.getJsonObject(CLUSTERS_KEY);
+	}
+
+	private JsonObject cluster(String name) {
+		JsonObject cluster = clusters().getJsonObject(name);
+		if (cluster == null) {
+			throw new IllegalArgumentException("The cluster {" + name + "} is not part of the manifest {" + file.getAbsolutePath() + "}");
+		}
+		return cluster;
+	}
+
+}
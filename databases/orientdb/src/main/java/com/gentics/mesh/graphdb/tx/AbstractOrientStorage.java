@@ -18,7 +18,10 @@ import java.util.Date;
 
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.util.ThrottledOutputStream;
+import com.google.common.util.concurrent.RateLimiter;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
@@ -41,6 +44,11 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 
 	protected final Counter noTxCounter;
 
+	/**
+	 * Limiter which is shared by all backups of the storage. Null if the backup rate is not limited.
+	 */
+	private RateLimiter backupLimiter;
+
 	public AbstractOrientStorage(MeshOptions options, MetricsService metrics) {
 		this.options = options;
 		this.metrics = metrics;
@@ -92,7 +100,7 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 			String backupFile = "backup_" + dateString + ".zip";
 			new File(backupDirectory).mkdirs();
 			String absolutePath = new File(backupDirectory, backupFile).getAbsolutePath();
-			try (OutputStream out = new FileOutputStream(absolutePath)) {
+			try (OutputStream out = ThrottledOutputStream.wrap(new FileOutputStream(absolutePath), getBackupLimiter())) {
 				db.backup(out, null, null, listener, 1, 2048);
 			}
 			return absolutePath;
@@ -123,6 +131,62 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		}
 	}
 
+	@Override
+	public String incrementalBackup(String backupDirectory) throws IOException {
+		if (log.isDebugEnabled()) {
+			log.debug("Running incremental backup to backup directory {" + backupDirectory + "}.");
+		}
+		boolean isMemoryMode = options.getStorageOptions().getDirectory() == null;
+		if (isMemoryMode) {
+			throw error(SERVICE_UNAVAILABLE, "backup_error_not_supported_in_memory_mode");
+		}
+		File directory = new File(backupDirectory);
+		directory.mkdirs();
+		ODatabaseSession db = createSession();
+		try {
+			// The storage determines the changed records via the LSN of the last backup in the directory. The storage writes the backup itself. The
+			// backup rate limit can thus only be applied to full backups.
+			String backupFile = db.incrementalBackup(directory.getAbsolutePath());
+			File file = new File(backupFile);
+			if (!file.isAbsolute()) {
+				file = new File(directory, backupFile);
+			}
+			return file.getAbsolutePath();
+		} finally {
+			db.close();
+		}
+	}
+
+	/**
+	 * Return the limiter which is used by full backups.
+	 * 
+	 * @return Limiter or null if the backup rate is not limited
+	 */
+	protected synchronized RateLimiter getBackupLimiter() {
+		long rateLimit = options.getStorageOptions().getBackupRateLimit();
+		if (rateLimit <= 0) {
+			return null;
+		}
+		if (backupLimiter == null || backupLimiter.getRate() != rateLimit) {
+			backupLimiter = ThrottledOutputStream.createLimiter(rateLimit);
+		}
+		return backupLimiter;
+	}
+
+	@Override
+	public void restoreIncremental(String backupDirectory) throws IOException {
+		if (log.isDebugEnabled()) {
+			log.debug("Running restore of the incremental backups in {" + backupDirectory + "}.");
+		}
+		ODatabaseSession db = createSession();
+		try {
+			// Replays all backups of the directory in the order of their creation
+			((ODatabaseDocumentInternal) db).getStorage().restoreFromIncrementalBackup(backupDirectory);
+		} finally {
+			db.close();
+		}
+	}
+
 	/**
 	 * Create a new session to access the database. Remember to close the session after usage.
 	 * 
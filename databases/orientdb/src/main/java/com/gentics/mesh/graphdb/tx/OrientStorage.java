@@ -2,11 +2,14 @@ package com.gentics.mesh.graphdb.tx;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.function.Consumer;
 
 import com.gentics.mesh.graphdb.spi.GraphStorage;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
 
+import io.vertx.core.json.JsonObject;
+
 /**
  * Representation of an orientdb graph storage.
  */
@@ -19,6 +22,15 @@ public interface OrientStorage extends GraphStorage {
 	 */
 	OrientGraph rawTx();
 
+	/**
+	 * Get a raw tinkerpop transaction which will only be used for reading. The transaction may be acquired from a separate connection pool.
+	 * 
+	 * @return
+	 */
+	default OrientGraph rawReadTx() {
+		return rawTx();
+	}
+
 	/**
 	 * Get a raw noTx tinkerpop transaction.
 	 * 
@@ -54,19 +66,44 @@ public interface OrientStorage extends GraphStorage {
 	void restore(String backupFile) throws IOException;
 
 	/**
-	 * Export the graph database to the given location.
+	 * Create an incremental backup in the given directory. The backup will only contain the records which were changed since the last backup in the
+	 * directory.
+	 * 
+	 * @param backupDirectory
+	 * @return Path of the created backup file
+	 * @throws IOException
+	 */
+	String incrementalBackup(String backupDirectory) throws IOException;
+
+	/**
+	 * Restore the database by replaying all incremental backups of the given directory.
+	 * 
+	 * @param backupDirectory
+	 * @throws IOException
+	 */
+	void restoreIncremental(String backupDirectory) throws IOException;
+
+	/**
+	 * Export the graph database to a new directory within the given location.
 	 * 
 	 * @param outputDirectory
+	 * @param resume
+	 *            Whether the latest incomplete export in the location should be continued
+	 * @param progressHandler
+	 * @return Path of the export directory
 	 * @throws IOException
 	 */
-	void exportGraph(String outputDirectory) throws IOException;
+	String exportGraph(String outputDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException;
 
 	/**
-	 * Import the graph database to the given location.
+	 * Import the graph database export of the given directory.
 	 * 
-	 * @param importFile
+	 * @param exportDirectory
+	 * @param resume
+	 *            Whether an interrupted import should be continued
+	 * @param progressHandler
 	 * @throws IOException
 	 */
-	void importGraph(String importFile) throws IOException;
+	void importGraph(String exportDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException;
 
 }
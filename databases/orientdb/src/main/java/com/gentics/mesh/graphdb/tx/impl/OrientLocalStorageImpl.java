@@ -1,23 +1,34 @@
 package com.gentics.mesh.graphdb.tx.impl;
 
+import static com.gentics.mesh.metric.SimpleMetric.GRAPH_POOL_ACQUIRE_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPH_POOL_ACTIVE;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPH_POOL_IDLE;
+
 import java.io.File;
 import java.io.IOException;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.transfer.ParallelGraphExporter;
+import com.gentics.mesh.graphdb.transfer.ParallelGraphImporter;
+import com.gentics.mesh.graphdb.transfer.TransferManifest;
 import com.gentics.mesh.graphdb.tx.AbstractOrientStorage;
 import com.gentics.mesh.metric.MetricsService;
-import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
-import com.orientechnologies.orient.core.db.tool.ODatabaseExport;
 import com.orientechnologies.orient.core.db.tool.ODatabaseImport;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
 
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -25,26 +36,104 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 
 	private static final Logger log = LoggerFactory.getLogger(OrientLocalStorageImpl.class);
 
+	private static final String EXPORT_DIRECTORY_PREFIX = "export_";
+
 	private OrientGraphFactory factory;
 
+	/**
+	 * Factory with a dedicated connection pool for read-only transactions.
+	 */
+	private OrientGraphFactory readFactory;
+
+	private Timer acquireTimer;
+
+	private Timer readAcquireTimer;
+
 	public OrientLocalStorageImpl(MeshOptions options, MetricsService metrics) {
 		super(options, metrics);
+		if (metrics.isEnabled()) {
+			acquireTimer = metrics.timer(GRAPH_POOL_ACQUIRE_TIME, "pool", "write");
+			readAcquireTimer = metrics.timer(GRAPH_POOL_ACQUIRE_TIME, "pool", "read");
+			// The gauges read the pools of the storage since the factories will be replaced when the storage is re-opened
+			metrics.gauge(GRAPH_POOL_ACTIVE, this, s -> activeConnections(s.factory), "pool", "write");
+			metrics.gauge(GRAPH_POOL_IDLE, this, s -> idleConnections(s.factory), "pool", "write");
+			metrics.gauge(GRAPH_POOL_ACTIVE, this, s -> activeConnections(s.readFactory), "pool", "read");
+			metrics.gauge(GRAPH_POOL_IDLE, this, s -> idleConnections(s.readFactory), "pool", "read");
+		}
 	}
 
 	@Override
 	public void open(String name) {
 		GraphStorageOptions storageOptions = options.getStorageOptions();
+		String url;
 		if (storageOptions == null || storageOptions.getDirectory() == null) {
 			log.info("No graph database settings found. Fallback to in memory mode.");
-			factory = new OrientGraphFactory("memory:tinkerpop" +  System.currentTimeMillis()).setupPool(16, 100);
+			url = "memory:tinkerpop" + System.currentTimeMillis();
 		} else {
-			factory = new OrientGraphFactory("plocal:" + new File(storageOptions.getDirectory(), DB_NAME).getAbsolutePath()).setupPool(16, 100);
+			url = "plocal:" + new File(storageOptions.getDirectory(), DB_NAME).getAbsolutePath();
+		}
+		if (storageOptions == null) {
+			storageOptions = new GraphStorageOptions();
+		}
+		factory = createFactory(url, storageOptions.getPoolMinSize(), storageOptions.getPoolMaxSize());
+		readFactory = createFactory(url, storageOptions.getReadPoolMinSize(), storageOptions.getReadPoolMaxSize());
+		if (log.isDebugEnabled()) {
+			log.debug("Using database connection pools with {" + storageOptions.getPoolMinSize() + "-" + storageOptions.getPoolMaxSize()
+				+ "} write and {" + storageOptions.getReadPoolMinSize() + "-" + storageOptions.getReadPoolMaxSize() + "} read connections");
+		}
+	}
+
+	/**
+	 * Create a graph factory with a connection pool of the given size.
+	 * 
+	 * @param url
+	 * @param minSize
+	 * @param maxSize
+	 * @return
+	 */
+	protected OrientGraphFactory createFactory(String url, int minSize, int maxSize) {
+		return new OrientGraphFactory(url).setupPool(minSize, maxSize);
+	}
+
+	private static double activeConnections(OrientGraphFactory poolFactory) {
+		if (poolFactory == null) {
+			return 0;
+		}
+		return poolFactory.getCreatedInstancesInPool() - poolFactory.getAvailableInstancesInPool();
+	}
+
+	private static double idleConnections(OrientGraphFactory poolFactory) {
+		if (poolFactory == null) {
+			return 0;
+		}
+		return poolFactory.getAvailableInstancesInPool();
+	}
+
+	/**
+	 * Acquire the graph from the pool and record the time which was spent waiting for the connection.
+	 * 
+	 * @param timer
+	 * @param acquire
+	 * @return
+	 */
+	private <T> T acquire(Timer timer, Supplier<T> acquire) {
+		if (timer == null) {
+			return acquire.get();
+		}
+		long start = System.nanoTime();
+		try {
+			return acquire.get();
+		} finally {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 		}
 	}
 
 	@Override
 	public void close() {
 		factory.close();
+		if (readFactory != null) {
+			readFactory.close();
+		}
 	}
 
 	@Override
@@ -52,7 +141,15 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 		if (metrics.isEnabled()) {
 			txCounter.increment();
 		}
-		return factory.getTx();
+		return acquire(acquireTimer, factory::getTx);
+	}
+
+	@Override
+	public OrientGraph rawReadTx() {
+		if (metrics.isEnabled()) {
+			txCounter.increment();
+		}
+		return acquire(readAcquireTimer, readFactory::getTx);
 	}
 
 	@Override
@@ -60,7 +157,7 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 		if (metrics.isEnabled()) {
 			noTxCounter.increment();
 		}
-		return factory.getNoTx();
+		return acquire(acquireTimer, factory::getNoTx);
 	}
 
 	@Override
@@ -68,6 +165,9 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 		if (factory != null) {
 			factory.declareIntent(new OIntentMassiveInsert());
 		}
+		if (readFactory != null) {
+			readFactory.declareIntent(new OIntentMassiveInsert());
+		}
 	}
 
 	@Override
@@ -75,51 +175,80 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 		if (factory != null) {
 			factory.declareIntent(null);
 		}
+		if (readFactory != null) {
+			readFactory.declareIntent(null);
+		}
 	}
 
 	@Override
-	public void exportGraph(String outputDirectory) throws IOException {
-		if (log.isDebugEnabled()) {
-			log.debug("Running export to {" + outputDirectory + "} directory.");
+	public String exportGraph(String outputDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException {
+		File exportDirectory = resume ? findIncompleteExport(outputDirectory) : null;
+		if (exportDirectory == null) {
+			exportDirectory = new File(outputDirectory, EXPORT_DIRECTORY_PREFIX + formatter.format(new Date()));
 		}
-		ODatabaseDocumentTx db = factory.getDatabase();
-		try {
-			OCommandOutputListener listener = new OCommandOutputListener() {
-				@Override
-				public void onMessage(String iText) {
-					System.out.println(iText);
-				}
-			};
-
-			String dateString = formatter.format(new Date());
-			String exportFile = "export_" + dateString;
-			new File(outputDirectory).mkdirs();
-			ODatabaseExport export = new ODatabaseExport(db, new File(outputDirectory, exportFile).getAbsolutePath(), listener);
-			export.exportDatabase();
-			export.close();
-		} finally {
-			db.close();
+		if (log.isDebugEnabled()) {
+			log.debug("Running export to {" + exportDirectory + "} directory.");
 		}
+		new ParallelGraphExporter(this::createSession, exportThreads(), progressHandler).export(exportDirectory);
+		return exportDirectory.getAbsolutePath();
+	}
 
+	/**
+	 * Find the latest export of the directory which has not been completed.
+	 * 
+	 * @param outputDirectory
+	 * @return Found export directory or null if no incomplete export exists
+	 * @throws IOException
+	 */
+	private File findIncompleteExport(String outputDirectory) throws IOException {
+		File[] exports = new File(outputDirectory).listFiles(file -> file.isDirectory() && file.getName().startsWith(EXPORT_DIRECTORY_PREFIX));
+		if (exports == null) {
+			return null;
+		}
+		File latest = null;
+		for (File export : exports) {
+			File manifest = new File(export, TransferManifest.EXPORT_FILENAME);
+			if (!manifest.exists() || TransferManifest.load(manifest).isCompleted()) {
+				continue;
+			}
+			if (latest == null || export.lastModified() > latest.lastModified()) {
+				latest = export;
+			}
+		}
+		return latest;
 	}
 
 	@Override
-	public void importGraph(String importFile) throws IOException {
+	public void importGraph(String exportDirectory, boolean resume, Consumer<JsonObject> progressHandler) throws IOException {
+		File export = new File(exportDirectory);
+		if (export.isFile() && export.getName().endsWith(Database.LEGACY_EXPORT_EXTENSION)) {
+			importLegacyExport(export);
+			return;
+		}
+		new ParallelGraphImporter(this::createSession, exportThreads(), progressHandler).importGraph(export, resume);
+	}
+
+	/**
+	 * Import an export file which was created by the {@link ODatabaseExport} of previous versions. The legacy import runs single threaded and can
+	 * neither be resumed nor report its progress.
+	 * 
+	 * @param exportFile
+	 * @throws IOException
+	 */
+	private void importLegacyExport(File exportFile) throws IOException {
+		log.info("Importing legacy export file {" + exportFile.getAbsolutePath() + "}");
 		ODatabaseDocumentTx db = factory.getDatabase();
 		try {
-			OCommandOutputListener listener = new OCommandOutputListener() {
-				@Override
-				public void onMessage(String iText) {
-					System.out.println(iText);
-				}
-			};
-			ODatabaseImport databaseImport = new ODatabaseImport(db, importFile, listener);
+			ODatabaseImport databaseImport = new ODatabaseImport(db, exportFile.getAbsolutePath(), log::info);
 			databaseImport.importDatabase();
 			databaseImport.close();
 		} finally {
 			db.close();
 		}
+	}
 
+	private int exportThreads() {
+		return options.getStorageOptions().getExportThreads();
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package com.gentics.mesh.graphdb.tx.impl;
 
 import java.io.IOException;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.NotImplementedException;
 
@@ -15,6 +16,8 @@ import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
 
+import io.vertx.core.json.JsonObject;
+
 /**
  * Storage implementation which utilizes the server context to access the database.
  */
@@ -73,12 +76,12 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 	}
 
 	@Override
-	public void importGraph(String importFile) {
+	public void importGraph(String exportDirectory, boolean resume, Consumer<JsonObject> progressHandler) {
 		throw new NotImplementedException("Not supported in server mode");
 	}
 
 	@Override
-	public void exportGraph(String outputDirectory) {
+	public String exportGraph(String outputDirectory, boolean resume, Consumer<JsonObject> progressHandler) {
 		throw new NotImplementedException("Not supported in server mode");
 	}
 
@@ -87,6 +90,16 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 		throw new NotImplementedException("Not supported in server mode");
 	}
 
+	@Override
+	public String incrementalBackup(String backupDirectory) throws IOException {
+		throw new NotImplementedException("Not supported in server mode");
+	}
+
+	@Override
+	public void restoreIncremental(String backupDirectory) throws IOException {
+		throw new NotImplementedException("Not supported in server mode");
+	}
+
 	public ODatabaseSession createSession() {
 		return context.open(DB_NAME, "admin", "admin");
 	}
@@ -0,0 +1,36 @@
+package com.syncleus.ferma.ext.orientdb3;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.gentics.mesh.metric.MetricsService;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+
+/**
+ * Read-only flavour of the {@link OrientDBTx}. The transaction will never be committed and will fail when it is closed and contains changes. A
+ * read-only transaction which is nested in a regular transaction will leave the handling of the outer transaction untouched.
+ */
+public class OrientDBReadTx extends OrientDBTx {
+
+	public OrientDBReadTx(Database db, BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver, MetricsService metrics) {
+		super(db, boot, provider, typeResolver, metrics, true);
+		if (!isWrapped) {
+			setReadOnly(true);
+		}
+	}
+
+	@Override
+	public void success() {
+		// Read-only transactions will never be committed
+	}
+
+	@Override
+	public void close() {
+		if (isWrapped && !isReadOnly()) {
+			// The outer regular transaction will handle the commit or rollback
+			return;
+		}
+		closeReadOnly();
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.syncleus.ferma.ext.orientdb3;
 
 import static com.gentics.mesh.core.graph.GraphAttribute.MESH_COMPONENT;
+import static com.gentics.mesh.metric.SimpleMetric.TX_IDENTITY_MAP_HIT;
+import static com.gentics.mesh.metric.SimpleMetric.TX_IDENTITY_MAP_MISS;
 
 import java.util.function.Function;
 
@@ -16,10 +18,13 @@ import com.gentics.mesh.graphdb.tx.OrientStorage;
 import com.gentics.mesh.madl.tp3.mock.Element;
 import com.gentics.mesh.madl.tp3.mock.GraphTraversal;
 import com.gentics.mesh.madl.tp3.mock.GraphTraversalSource;
+import com.gentics.mesh.metric.MetricsService;
 import com.orientechnologies.common.concur.ONeedRetryException;
 import com.syncleus.ferma.FramedTransactionalGraph;
+import com.syncleus.ferma.IdentityMap;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 
@@ -32,18 +37,23 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	boolean isWrapped = false;
 
+	private boolean readOnly = false;
+
 	private final TypeResolver typeResolver;
 	private final Database db;
 	private final BootstrapInitializer boot;
+	private final MetricsService metrics;
 
 	public OrientDBTx(Database db, BootstrapInitializer boot, OrientGraphFactory factory, TypeResolver typeResolver) {
 		this.db = db;
 		this.boot = boot;
 		this.typeResolver = typeResolver;
+		this.metrics = null;
 		// Check if an active transaction already exists.
 		Tx activeTx = Tx.get();
 		if (activeTx != null) {
 			isWrapped = true;
+			readOnly = activeTx.isReadOnly();
 			init(activeTx.getGraph());
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph(factory.getTx(), typeResolver);
@@ -51,23 +61,61 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		}
 	}
 
-	public OrientDBTx(Database db, BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver) {
+	public OrientDBTx(Database db, BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver, MetricsService metrics) {
+		this(db, boot, provider, typeResolver, metrics, false);
+	}
+
+	/**
+	 * Create a new transaction.
+	 * 
+	 * @param db
+	 * @param boot
+	 * @param provider
+	 * @param typeResolver
+	 * @param metrics
+	 * @param read
+	 *            Whether the graph should be acquired from the read connection pool of the provider
+	 */
+	protected OrientDBTx(Database db, BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver, MetricsService metrics,
+		boolean read) {
 		this.db = db;
 		this.boot = boot;
 		this.typeResolver = typeResolver;
+		this.metrics = metrics;
 		// Check if an active transaction already exists.
 		Tx activeTx = Tx.get();
 		if (activeTx != null) {
 			isWrapped = true;
+			// Transactions which are nested in a read-only transaction must not commit
+			readOnly = activeTx.isReadOnly();
 			init(activeTx.getGraph());
 		} else {
-			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), typeResolver);
+			OrientGraph graph = read ? provider.rawReadTx() : provider.rawTx();
+			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph(graph, typeResolver);
 			init(transaction);
 		}
 	}
 
+	@Override
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * Set the read-only flag of the transaction.
+	 * 
+	 * @param readOnly
+	 */
+	protected void setReadOnly(boolean readOnly) {
+		this.readOnly = readOnly;
+	}
+
 	@Override
 	public void close() {
+		if (isReadOnly()) {
+			closeReadOnly();
+			return;
+		}
 		try {
 			if (isSuccess()) {
 				try {
@@ -91,6 +139,7 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 			throw e;
 		} finally {
 			if (!isWrapped) {
+				recordIdentityMapStats();
 				// Restore the old graph that was previously swapped with the current graph
 				getGraph().shutdown();
 				Tx.setActive(null);
@@ -98,6 +147,41 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		}
 	}
 
+	/**
+	 * Close the transaction without committing it. An {@link IllegalStateException} will be thrown if the transaction contains changes.
+	 */
+	protected void closeReadOnly() {
+		try {
+			int changes = ((OrientBaseGraph) ((DelegatingFramedOrientGraph) getGraph()).getBaseGraph()).getRawGraph().getTransaction().getEntryCount();
+			if (changes > 0) {
+				throw new IllegalStateException("Found {" + changes + "} changes within read-only transaction. Writes must be done in a regular transaction.");
+			}
+		} finally {
+			if (!isWrapped) {
+				recordIdentityMapStats();
+				rollback();
+				getGraph().shutdown();
+				Tx.setActive(null);
+			}
+		}
+	}
+
+	/**
+	 * Add the hit and miss counts of the identity map of the transaction to the metrics.
+	 */
+	private void recordIdentityMapStats() {
+		if (metrics == null || !metrics.isEnabled()) {
+			return;
+		}
+		IdentityMap identityMap = ((DelegatingFramedOrientGraph) getGraph()).getIdentityMap();
+		if (identityMap.getHits() > 0) {
+			metrics.counter(TX_IDENTITY_MAP_HIT).increment(identityMap.getHits());
+		}
+		if (identityMap.getMisses() > 0) {
+			metrics.counter(TX_IDENTITY_MAP_MISS).increment(identityMap.getMisses());
+		}
+	}
+
 	@Override
 	public <T extends RawTraversalResult<?>> T traversal(Function<GraphTraversalSource, GraphTraversal<?, ?>> traverser) {
 		return (T) new RawTraversalResultImpl(traverser.apply(rawTraverse()), typeResolver);
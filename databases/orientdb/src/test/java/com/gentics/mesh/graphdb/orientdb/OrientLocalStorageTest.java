@@ -0,0 +1,71 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static com.gentics.mesh.metric.SimpleMetric.GRAPH_POOL_ACQUIRE_TIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.tx.impl.OrientLocalStorageImpl;
+import com.gentics.mesh.metric.MetricsService;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+
+public class OrientLocalStorageTest {
+
+	@Test
+	public void testConfiguredPools() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setDirectory(null).setPoolMinSize(2).setPoolMaxSize(7).setReadPoolMinSize(3).setReadPoolMaxSize(11);
+
+		MetricsService metrics = mock(MetricsService.class);
+		Timer writeTimer = mock(Timer.class);
+		Timer readTimer = mock(Timer.class);
+		when(metrics.isEnabled()).thenReturn(true);
+		when(metrics.counter(any())).thenReturn(mock(Counter.class));
+		when(metrics.timer(eq(GRAPH_POOL_ACQUIRE_TIME), eq("pool"), eq("write"))).thenReturn(writeTimer);
+		when(metrics.timer(eq(GRAPH_POOL_ACQUIRE_TIME), eq("pool"), eq("read"))).thenReturn(readTimer);
+
+		List<int[]> pools = new ArrayList<>();
+		OrientLocalStorageImpl storage = new OrientLocalStorageImpl(options, metrics) {
+			@Override
+			protected OrientGraphFactory createFactory(String url, int minSize, int maxSize) {
+				pools.add(new int[] { minSize, maxSize });
+				return super.createFactory(url, minSize, maxSize);
+			}
+		};
+		storage.open("storage");
+		try {
+			assertThat(pools).hasSize(2);
+			assertThat(pools.get(0)).as("Write pool").containsExactly(2, 7);
+			assertThat(pools.get(1)).as("Read pool").containsExactly(3, 11);
+
+			OrientGraph graph = storage.rawReadTx();
+			graph.shutdown();
+			verify(readTimer, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+			verify(writeTimer, never()).record(anyLong(), any(TimeUnit.class));
+
+			graph = storage.rawTx();
+			graph.shutdown();
+			verify(writeTimer, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+		} finally {
+			storage.close();
+		}
+	}
+
+}
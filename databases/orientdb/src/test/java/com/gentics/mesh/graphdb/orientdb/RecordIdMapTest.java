@@ -0,0 +1,39 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.gentics.mesh.graphdb.transfer.RecordIdMap;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+public class RecordIdMapTest {
+
+	@Test
+	public void testMapping() {
+		RecordIdMap map = new RecordIdMap();
+		map.put(new ORecordId(25, 0), new ORecordId(31, 7));
+		map.put(new ORecordId(26, 5000), new ORecordId(0, 0));
+
+		assertThat(map.get(new ORecordId(25, 0))).isEqualTo(new ORecordId(31, 7));
+		assertThat(map.get(new ORecordId(26, 5000))).isEqualTo(new ORecordId(0, 0));
+		assertThat(map.contains(new ORecordId(26, 5000))).isTrue();
+	}
+
+	@Test
+	public void testMissingEntries() {
+		RecordIdMap map = new RecordIdMap();
+		map.put(new ORecordId(25, 10), new ORecordId(31, 7));
+
+		assertThat(map.get(new ORecordId(25, 9))).isNull();
+		assertThat(map.get(new ORecordId(25, 100_000))).isNull();
+		assertThat(map.get(new ORecordId(27, 10))).isNull();
+		assertThat(map.contains(new ORecordId(25, 9))).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPosition() {
+		new RecordIdMap().put(new ORecordId(25, -1), new ORecordId(31, 7));
+	}
+
+}
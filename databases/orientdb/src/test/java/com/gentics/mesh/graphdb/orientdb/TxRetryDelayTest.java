@@ -0,0 +1,35 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static com.gentics.mesh.graphdb.OrientDBDatabase.retryDelay;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class TxRetryDelayTest {
+
+	@Test
+	public void testDelayBounds() {
+		for (int i = 0; i < 1000; i++) {
+			assertThat(retryDelay(1, 10, 1000)).isBetween(0L, 10L);
+			assertThat(retryDelay(3, 10, 1000)).isBetween(0L, 40L);
+			assertThat(retryDelay(20, 10, 1000)).isBetween(0L, 1000L);
+			assertThat(retryDelay(Integer.MAX_VALUE, 10, 1000)).isBetween(0L, 1000L);
+		}
+	}
+
+	@Test
+	public void testNoDelay() {
+		assertThat(retryDelay(5, 0, 1000)).isEqualTo(0L);
+	}
+
+	@Test
+	public void testDelayIsRandomized() {
+		long first = retryDelay(10, 10, 1000);
+		boolean differs = false;
+		for (int i = 0; i < 100 && !differs; i++) {
+			differs = retryDelay(10, 10, 1000) != first;
+		}
+		assertThat(differs).as("Delay should be randomized").isTrue();
+	}
+
+}
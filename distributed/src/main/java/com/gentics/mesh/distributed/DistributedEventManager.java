@@ -1,6 +1,5 @@
 package com.gentics.mesh.distributed;
 
-import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_LEFT;
@@ -70,11 +69,7 @@ public class DistributedEventManager {
 			handleClusterTopologyUpdate(handler);
 		});
 
-		// Register for events which are send whenever the permission store must be invalidated.
-		eb.consumer(CLEAR_PERMISSION_STORE.address, handler -> {
-			log.debug("Received permissionstore clear event");
-			permCache.get().clear(false);
-		});
+		// Events which invalidate the permission store are handled by the permission cache itself.
 
 		// React on project creates
 		eb.consumer(Project.TYPE_INFO.getOnCreated().getAddress(), (Message<JsonObject> handler) -> {
@@ -79,7 +79,7 @@ public class AdminIndexHandler {
 	}
 
 	public void handleSync(InternalActionContext ac) {
-		db.asyncTx(() -> Single.just(ac.getUser().hasAdminRole()))
+		db.asyncReadTx(() -> Single.just(ac.getUser().hasAdminRole()))
 			.subscribe(hasAdminRole -> {
 				if (hasAdminRole) {
 					SyncEventHandler.invokeSync(vertx);
@@ -91,7 +91,7 @@ public class AdminIndexHandler {
 	}
 
 	public void handleClear(InternalActionContext ac) {
-		db.asyncTx(() -> Single.just(ac.getUser().hasAdminRole())).flatMapCompletable(hasAdminRole -> {
+		db.asyncReadTx(() -> Single.just(ac.getUser().hasAdminRole())).flatMapCompletable(hasAdminRole -> {
 			if (hasAdminRole) {
 				return searchProvider.clear()
 					.andThen(Observable.fromIterable(registry.getHandlers())
@@ -50,6 +50,7 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 	private final TypeResolver untypedResolver;
 	private final FrameFactory builder;
 	private final Map<String, Object> attributes = new HashMap<>();
+	private final IdentityMap identityMap = new IdentityMap();
 
 	/**
 	 * Construct a framed graph.
@@ -94,6 +95,39 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 		this.getBaseGraph().shutdown();
 	}
 
+	/**
+	 * Return the vertex with the given id. Vertices are cached in the identity map of the graph.
+	 */
+	@Override
+	public Vertex getVertex(final Object id) {
+		return identityMap.getVertex(id, super::getVertex, this::isRemoved);
+	}
+
+	@Override
+	public void removeVertex(final Vertex vertex) {
+		identityMap.evict(vertex.getId());
+		super.removeVertex(vertex);
+	}
+
+	/**
+	 * Check whether the given cached vertex has been removed from the graph. Removed vertices will be evicted from the identity map.
+	 *
+	 * @param vertex
+	 * @return
+	 */
+	protected boolean isRemoved(final Vertex vertex) {
+		return false;
+	}
+
+	/**
+	 * Return the identity map which caches the vertices and frames of the graph.
+	 *
+	 * @return
+	 */
+	public IdentityMap getIdentityMap() {
+		return identityMap;
+	}
+
 	@Override
 	public <T> T frameElement(final Element e, final Class<T> kind) {
 		if (e == null) {
@@ -102,8 +136,15 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 
 		final Class<? extends T> frameType = (kind == TVertex.class || kind == TEdge.class) ? kind : defaultResolver.resolve(e, kind);
 
+		if (e instanceof Vertex) {
+			return identityMap.getFrame(e.getId(), frameType, () -> createFrame(e, e.getId(), frameType));
+		}
+		return createFrame(e, e.getId(), frameType);
+	}
+
+	private <T> T createFrame(final Element e, final Object id, final Class<T> frameType) {
 		final T frame = builder.create(e, frameType);
-		((AbstractElementFrame) frame).init(this, e, e.getId());
+		((AbstractElementFrame) frame).init(this, e, id);
 		return frame;
 	}
 
@@ -141,9 +182,10 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 
 		final Class<? extends T> frameType = this.untypedResolver.resolve(e, kind);
 
-		final T frame = builder.create(e, frameType);
-		((AbstractElementFrame) frame).init(this, e, e.getId());
-		return frame;
+		if (e instanceof Vertex) {
+			return identityMap.getFrame(e.getId(), frameType, () -> createFrame(e, e.getId(), frameType));
+		}
+		return createFrame(e, e.getId(), frameType);
 	}
 
 	@Override
@@ -154,9 +196,7 @@ public class DelegatingFramedGraph<G extends Graph> extends WrappedGraph<G> impl
 
 		final Class<? extends T> frameType = this.untypedResolver.resolve(null, kind);
 
-		final T frame = builder.create(null, frameType);
-		((AbstractElementFrame) frame).init(this, null, id);
-		return frame;
+		return identityMap.getFrame(id, frameType, () -> createFrame(null, id, frameType));
 	}
 
 	@Override
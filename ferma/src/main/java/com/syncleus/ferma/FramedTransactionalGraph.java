@@ -18,4 +18,27 @@ package com.syncleus.ferma;
 import com.tinkerpop.blueprints.TransactionalGraph;
 
 public interface FramedTransactionalGraph extends FramedGraph, TransactionalGraph {
+
+	/**
+	 * Register an action which will be invoked once the current transaction has been committed or rolled back. Graphs which don't track their
+	 * transactions invoke the action immediately.
+	 *
+	 * @param action
+	 */
+	default void afterCompletion(Runnable action) {
+		action.run();
+	}
+
+	/**
+	 * Register an action which will be invoked right before the current transaction gets committed. Only the first action which is registered for a key
+	 * will be invoked. The actions are discarded when the transaction is rolled back. Graphs which don't track their transactions invoke the action
+	 * immediately.
+	 *
+	 * @param key
+	 *            Key which is used to invoke the action only once per transaction
+	 * @param action
+	 */
+	default void beforeCommit(Object key, Runnable action) {
+		action.run();
+	}
 }
@@ -0,0 +1,181 @@
+package com.syncleus.ferma;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.tinkerpop.blueprints.Vertex;
+
+/**
+ * First level cache which deduplicates vertex lookups and framed instances by the id of the element. The map is bound to a single transactional graph
+ * and thus not thread-safe. It will be cleared when the transaction is committed or rolled back. The map will also be cleared once it reaches the
+ * configured maximum size to limit the memory usage of long running transactions.
+ */
+public class IdentityMap {
+
+	public static final int DEFAULT_MAX_SIZE = 10_000;
+
+	private final Map<Object, Vertex> vertices = new HashMap<>();
+
+	/**
+	 * Frames grouped by the id of the framed element and the frame type. Grouping by id allows to evict all frames of an element without scanning the
+	 * whole map.
+	 */
+	private final Map<Object, Map<Class<?>, Object>> frames = new HashMap<>();
+
+	private int frameCount;
+
+	private int maxSize;
+
+	private long hits;
+
+	private long misses;
+
+	public IdentityMap() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create a new identity map.
+	 *
+	 * @param maxSize
+	 *            Maximum amount of vertices and frames which will be kept. The map is disabled when set to 0.
+	 */
+	public IdentityMap(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Return the cached vertex for the id or load and cache the vertex via the loader.
+	 *
+	 * @param id
+	 *            Id of the vertex
+	 * @param loader
+	 *            Loader which will be invoked if the vertex is not cached
+	 * @param stale
+	 *            Check which is used to identify cached vertices which must no longer be used (e.g. removed vertices)
+	 * @return Found vertex or null if the loader could not find the vertex
+	 */
+	public Vertex getVertex(Object id, Function<Object, Vertex> loader, Predicate<Vertex> stale) {
+		if (maxSize <= 0 || id == null) {
+			return loader.apply(id);
+		}
+		Vertex vertex = vertices.get(id);
+		if (vertex != null) {
+			if (!stale.test(vertex)) {
+				hits++;
+				return vertex;
+			}
+			evict(id);
+		}
+		misses++;
+		vertex = loader.apply(id);
+		if (vertex != null) {
+			ensureCapacity();
+			vertices.put(id, vertex);
+		}
+		return vertex;
+	}
+
+	/**
+	 * Return the cached frame of the given type for the id or create and cache a new frame.
+	 *
+	 * @param id
+	 *            Id of the framed element
+	 * @param kind
+	 *            Type of the frame
+	 * @param factory
+	 *            Factory which will be invoked if the frame is not cached
+	 * @return
+	 */
+	public <T> T getFrame(Object id, Class<?> kind, Supplier<T> factory) {
+		if (maxSize <= 0 || id == null) {
+			return factory.get();
+		}
+		Map<Class<?>, Object> framesOfId = frames.get(id);
+		if (framesOfId != null) {
+			@SuppressWarnings("unchecked")
+			T frame = (T) framesOfId.get(kind);
+			if (frame != null) {
+				hits++;
+				return frame;
+			}
+		}
+		misses++;
+		T frame = factory.get();
+		ensureCapacity();
+		frames.computeIfAbsent(id, key -> new HashMap<>(4)).put(kind, frame);
+		frameCount++;
+		return frame;
+	}
+
+	/**
+	 * Remove the vertex and all frames for the given id from the map.
+	 *
+	 * @param id
+	 */
+	public void evict(Object id) {
+		vertices.remove(id);
+		Map<Class<?>, Object> framesOfId = frames.remove(id);
+		if (framesOfId != null) {
+			frameCount -= framesOfId.size();
+		}
+	}
+
+	/**
+	 * Remove all entries from the map. The hit and miss counters will not be reset.
+	 */
+	public void clear() {
+		vertices.clear();
+		frames.clear();
+		frameCount = 0;
+	}
+
+	private void ensureCapacity() {
+		if (size() >= maxSize) {
+			clear();
+		}
+	}
+
+	/**
+	 * Set the maximum amount of entries. The map is disabled when set to 0.
+	 *
+	 * @param maxSize
+	 * @return Fluent API
+	 */
+	public IdentityMap setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		clear();
+		return this;
+	}
+
+	/**
+	 * Return the amount of lookups which could be answered by the map.
+	 *
+	 * @return
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Return the amount of lookups which had to be delegated to the graph.
+	 *
+	 * @return
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Return the amount of cached vertices and frames.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return vertices.size() + frameCount;
+	}
+
+}
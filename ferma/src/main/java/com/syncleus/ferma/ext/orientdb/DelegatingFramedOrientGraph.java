@@ -25,17 +25,32 @@
  */
 package com.syncleus.ferma.ext.orientdb;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.id.ORID;
+
 import com.syncleus.ferma.ClassInitializer;
 import com.syncleus.ferma.DefaultClassInitializer;
 import com.syncleus.ferma.DelegatingFramedTransactionalGraph;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.WrapperFramedTransactionalGraph;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+import com.tinkerpop.blueprints.util.wrappers.wrapped.WrappedVertex;
 
 public class DelegatingFramedOrientGraph extends DelegatingFramedTransactionalGraph<OrientGraph>
 		implements WrapperFramedTransactionalGraph<OrientGraph> {
 
+	private Map<Object, Runnable> commitActions;
+
+	private List<Runnable> completionActions;
+
 	public DelegatingFramedOrientGraph(OrientGraph delegate, TypeResolver typeResolver) {
 		super(delegate, typeResolver);
 	}
@@ -62,17 +77,101 @@ public class DelegatingFramedOrientGraph extends DelegatingFramedTransactionalGr
 
 	@Override
 	public void stopTransaction(Conclusion conclusion) {
-		getBaseGraph().stopTransaction(conclusion);
+		if (conclusion == Conclusion.SUCCESS) {
+			runCommitActions();
+		} else {
+			commitActions = null;
+		}
+		getIdentityMap().clear();
+		try {
+			getBaseGraph().stopTransaction(conclusion);
+		} finally {
+			runCompletionActions();
+		}
 	}
 
 	@Override
 	public void commit() {
-		getBaseGraph().commit();
+		runCommitActions();
+		// Record ids of new elements change during the commit
+		getIdentityMap().clear();
+		try {
+			getBaseGraph().commit();
+		} finally {
+			runCompletionActions();
+		}
 	}
 
 	@Override
 	public void rollback() {
-		getBaseGraph().rollback();
+		commitActions = null;
+		getIdentityMap().clear();
+		try {
+			getBaseGraph().rollback();
+		} finally {
+			runCompletionActions();
+		}
+	}
+
+	@Override
+	public void beforeCommit(Object key, Runnable action) {
+		if (commitActions == null) {
+			commitActions = new LinkedHashMap<>();
+		}
+		commitActions.putIfAbsent(key, action);
+	}
+
+	/**
+	 * Invoke and remove the actions which were registered for the commit of the transaction.
+	 */
+	private void runCommitActions() {
+		while (commitActions != null) {
+			// Actions may register further actions
+			Map<Object, Runnable> actions = commitActions;
+			commitActions = null;
+			for (Runnable action : actions.values()) {
+				action.run();
+			}
+		}
+	}
+
+	@Override
+	public void afterCompletion(Runnable action) {
+		if (completionActions == null) {
+			completionActions = new ArrayList<>();
+		}
+		completionActions.add(action);
+	}
+
+	/**
+	 * Invoke and remove the actions which were registered for the completion of the transaction.
+	 */
+	private void runCompletionActions() {
+		if (completionActions == null) {
+			return;
+		}
+		List<Runnable> actions = completionActions;
+		completionActions = null;
+		for (Runnable action : actions) {
+			action.run();
+		}
+	}
+
+	@Override
+	protected boolean isRemoved(Vertex vertex) {
+		if (vertex instanceof WrappedVertex) {
+			vertex = (Vertex) ((WrappedVertex) vertex).getBaseElement();
+		}
+		if (vertex instanceof OrientVertex) {
+			ORID rid = ((OrientVertex) vertex).getIdentity();
+			ORecordOperation operation = getBaseGraph().getRawGraph().getTransaction().getRecordEntry(rid);
+			if (operation == null) {
+				// Records which were created and removed within the transaction are no longer part of the transaction
+				return rid.isNew();
+			}
+			return operation.type == ORecordOperation.DELETED;
+		}
+		return false;
 	}
 
 }
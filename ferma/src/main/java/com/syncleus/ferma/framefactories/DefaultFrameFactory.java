@@ -18,12 +18,19 @@ package com.syncleus.ferma.framefactories;
 import com.tinkerpop.blueprints.Element;
 
 /**
- * Creates the frame using reflection.
+ * Creates the frame using the generated frame factories of the {@link FrameTypeRegistry}. Reflection will only be used for classes which are not part
+ * of the registry.
  */
 public class DefaultFrameFactory implements FrameFactory {
 
+    private final FrameTypeRegistry registry = FrameTypeRegistry.get();
+
     @Override
     public <T> T create(final Element e, final Class<T> kind) {
+        int typeId = registry.getTypeId(kind);
+        if (typeId != FrameTypeRegistry.UNKNOWN_TYPE) {
+            return (T) registry.create(typeId);
+        }
         try {
             return kind.newInstance();
         }
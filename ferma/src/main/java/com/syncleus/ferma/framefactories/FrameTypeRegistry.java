@@ -0,0 +1,146 @@
+package com.syncleus.ferma.framefactories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry for all frame types which are provided by the {@link GeneratedFrameFactory} implementations found on the classpath. Each type is assigned a
+ * global type id which can be used to resolve the class and to create new frame instances without reflection.
+ */
+public final class FrameTypeRegistry {
+
+	/**
+	 * Type id which is returned for classes which are not part of the registry.
+	 */
+	public static final int UNKNOWN_TYPE = -1;
+
+	private static final FrameTypeRegistry INSTANCE = new FrameTypeRegistry(ServiceLoader.load(GeneratedFrameFactory.class,
+		FrameTypeRegistry.class.getClassLoader()));
+
+	private final Class<?>[] types;
+
+	private final GeneratedFrameFactory[] factories;
+
+	private final int[] localIds;
+
+	private final Map<String, Integer> idsBySimpleName;
+
+	private final ClassValue<Integer> idsByClass = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			Integer id = idsBySimpleName.get(type.getSimpleName());
+			if (id != null && types[id] == type) {
+				return id;
+			}
+			return UNKNOWN_TYPE;
+		}
+	};
+
+	FrameTypeRegistry(Iterable<GeneratedFrameFactory> generatedFactories) {
+		List<Class<?>> typeList = new ArrayList<>();
+		List<GeneratedFrameFactory> factoryList = new ArrayList<>();
+		List<Integer> localIdList = new ArrayList<>();
+		Map<String, Integer> nameMap = new HashMap<>();
+		for (GeneratedFrameFactory factory : generatedFactories) {
+			Class<?>[] factoryTypes = factory.getTypes();
+			for (int i = 0; i < factoryTypes.length; i++) {
+				Class<?> type = factoryTypes[i];
+				// The simple name is stored in the type property of the element and thus needs to be unique
+				Integer existing = nameMap.get(type.getSimpleName());
+				if (existing != null) {
+					if (typeList.get(existing) == type) {
+						continue;
+					}
+					throw new IllegalStateException("The frame types {" + typeList.get(existing).getName() + "} and {" + type.getName()
+						+ "} share the simple name {" + type.getSimpleName() + "}");
+				}
+				nameMap.put(type.getSimpleName(), typeList.size());
+				typeList.add(type);
+				factoryList.add(factory);
+				localIdList.add(i);
+			}
+		}
+		this.types = typeList.toArray(new Class<?>[typeList.size()]);
+		this.factories = factoryList.toArray(new GeneratedFrameFactory[factoryList.size()]);
+		this.localIds = new int[localIdList.size()];
+		for (int i = 0; i < localIds.length; i++) {
+			localIds[i] = localIdList.get(i);
+		}
+		this.idsBySimpleName = Collections.unmodifiableMap(nameMap);
+	}
+
+	/**
+	 * Return the registry which contains the types of all generated frame factories.
+	 * 
+	 * @return
+	 */
+	public static FrameTypeRegistry get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Return the global type id for the type with the given simple name.
+	 * 
+	 * @param simpleName
+	 * @return Type id or {@link #UNKNOWN_TYPE}
+	 */
+	public int getTypeId(String simpleName) {
+		Integer id = idsBySimpleName.get(simpleName);
+		return id == null ? UNKNOWN_TYPE : id;
+	}
+
+	/**
+	 * Return the global type id for the given class.
+	 * 
+	 * @param type
+	 * @return Type id or {@link #UNKNOWN_TYPE}
+	 */
+	public int getTypeId(Class<?> type) {
+		return idsByClass.get(type);
+	}
+
+	/**
+	 * Return the class for the given type id.
+	 * 
+	 * @param typeId
+	 * @return
+	 */
+	public Class<?> getType(int typeId) {
+		return types[typeId];
+	}
+
+	/**
+	 * Return the class with the given simple name.
+	 * 
+	 * @param simpleName
+	 * @return Found class or null if the type is not part of the registry
+	 */
+	public Class<?> forName(String simpleName) {
+		int id = getTypeId(simpleName);
+		return id == UNKNOWN_TYPE ? null : types[id];
+	}
+
+	/**
+	 * Create a new frame for the type with the given id.
+	 * 
+	 * @param typeId
+	 * @return
+	 */
+	public Object create(int typeId) {
+		return factories[typeId].create(localIds[typeId]);
+	}
+
+	/**
+	 * Return the amount of registered types.
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return types.length;
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.syncleus.ferma.framefactories;
+
+/**
+ * Factory which creates frames by directly invoking the constructor of the frame class. Implementations are generated at build time by the graph
+ * element annotation processor and are loaded via the {@link java.util.ServiceLoader}.
+ */
+public interface GeneratedFrameFactory {
+
+	/**
+	 * Return the frame classes which can be created by this factory. The position of the class within the array is the local type id of the class.
+	 * 
+	 * @return
+	 */
+	Class<?>[] getTypes();
+
+	/**
+	 * Create a new frame instance for the type with the given local type id.
+	 * 
+	 * @param typeId
+	 * @return
+	 */
+	Object create(int typeId);
+}
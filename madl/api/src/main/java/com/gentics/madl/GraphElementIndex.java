@@ -0,0 +1,165 @@
+package com.gentics.madl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of all graph element classes. The index is generated at build time by the madl annotation processor and stored in the
+ * {@value #RESOURCE} resource of each module. Each line of the index contains the binary name of a graph element class and the simple names of all
+ * non-abstract graph element classes which are assignable to it:
+ *
+ * <pre>
+ * com.gentics.mesh.core.data.impl.ProjectImpl=ProjectImpl
+ * </pre>
+ *
+ * The classes will only be loaded once they are requested.
+ */
+public final class GraphElementIndex {
+
+	public static final String RESOURCE = "META-INF/madl/graph-elements";
+
+	private static final GraphElementIndex INSTANCE = load(GraphElementIndex.class.getClassLoader());
+
+	private final ClassLoader classLoader;
+
+	private final Map<String, String> binaryNames = new HashMap<>();
+
+	private final Map<String, Set<String>> subTypeNames = new HashMap<>();
+
+	private final Map<String, Class<?>> classCache = new ConcurrentHashMap<>();
+
+	GraphElementIndex(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Return the index which contains the entries of all index resources on the classpath.
+	 *
+	 * @return
+	 */
+	public static GraphElementIndex get() {
+		return INSTANCE;
+	}
+
+	private static GraphElementIndex load(ClassLoader classLoader) {
+		GraphElementIndex index = new GraphElementIndex(classLoader);
+		try {
+			Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+			while (resources.hasMoreElements()) {
+				URL url = resources.nextElement();
+				try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+					index.read(reader);
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not load the graph element index {" + RESOURCE + "}", e);
+		}
+		return index;
+	}
+
+	/**
+	 * Add the entries of the given index to this index. Subtype sets of classes which are listed in multiple indices will be merged.
+	 *
+	 * @param reader
+	 * @throws IOException
+	 */
+	void read(Reader reader) throws IOException {
+		BufferedReader lines = new BufferedReader(reader);
+		String line;
+		while ((line = lines.readLine()) != null) {
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			int sep = line.indexOf('=');
+			String binaryName = sep == -1 ? line : line.substring(0, sep);
+			String simpleName = simpleName(binaryName);
+			binaryNames.putIfAbsent(simpleName, binaryName);
+			Set<String> subTypes = subTypeNames.computeIfAbsent(simpleName, key -> new HashSet<>());
+			subTypes.add(simpleName);
+			if (sep != -1) {
+				for (String subType : line.substring(sep + 1).split(",")) {
+					if (!subType.isEmpty()) {
+						subTypes.add(subType);
+					}
+				}
+			}
+		}
+	}
+
+	private static String simpleName(String binaryName) {
+		int start = Math.max(binaryName.lastIndexOf('.'), binaryName.lastIndexOf('$'));
+		return binaryName.substring(start + 1);
+	}
+
+	/**
+	 * Check whether the index contains the class with the given simple name.
+	 *
+	 * @param simpleName
+	 * @return
+	 */
+	public boolean contains(String simpleName) {
+		return binaryNames.containsKey(simpleName);
+	}
+
+	/**
+	 * Load the graph element class with the given simple name.
+	 *
+	 * @param simpleName
+	 * @return Loaded class or null if the class is not part of the index
+	 */
+	public Class<?> forName(String simpleName) {
+		String binaryName = binaryNames.get(simpleName);
+		if (binaryName == null) {
+			return null;
+		}
+		return classCache.computeIfAbsent(simpleName, key -> {
+			try {
+				return Class.forName(binaryName, true, classLoader);
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException("The indexed graph element class {" + binaryName + "} could not be loaded", e);
+			}
+		});
+	}
+
+	/**
+	 * Return the simple names of the given graph element class and all of its non-abstract subclasses.
+	 *
+	 * @param simpleName
+	 * @return Set of names or null if the class is not part of the index
+	 */
+	public Set<String> getSubTypeNames(String simpleName) {
+		Set<String> subTypes = subTypeNames.get(simpleName);
+		return subTypes == null ? null : Collections.unmodifiableSet(subTypes);
+	}
+
+	/**
+	 * Return the amount of indexed classes.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return binaryNames.size();
+	}
+
+	/**
+	 * Check whether the index contains any classes.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return binaryNames.isEmpty();
+	}
+
+}
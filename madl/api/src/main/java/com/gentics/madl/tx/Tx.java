@@ -63,6 +63,15 @@ public interface Tx extends BaseTransaction {
 	// @Override
 	// void close();
 
+	/**
+	 * Check whether the transaction is read-only. Read-only transactions will never be committed.
+	 * 
+	 * @return
+	 */
+	default boolean isReadOnly() {
+		return false;
+	}
+
 	/**
 	 * Add new isolated vertex to the graph.
 	 * 
@@ -32,4 +32,11 @@ public interface ElementIndexDefinition {
 	 */
 	String getPostfix();
 
+	/**
+	 * Whether the index should keep its entries ordered by key. Ordered indices can be used to resume an iteration at a specific key.
+	 * 
+	 * @return
+	 */
+	boolean isOrdered();
+
 }
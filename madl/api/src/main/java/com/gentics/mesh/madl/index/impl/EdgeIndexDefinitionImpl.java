@@ -12,6 +12,8 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 
 	private boolean includeInOut = false;
 
+	private boolean includeOutIn = false;
+
 	private EdgeIndexDefinitionImpl() {
 	}
 
@@ -23,6 +25,8 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 
 		private boolean includeInOut = false;
 
+		private boolean includeOutIn = false;
+
 		public EdgeIndexDefinitonBuilder(String label) {
 			this.name = label;
 		}
@@ -32,10 +36,12 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 			def.name = name;
 			def.postfix = postfix;
 			def.unique = unique;
+			def.ordered = ordered;
 			def.fields = fields;
 			def.includeIn = includeIn;
 			def.includeOut = includeOut;
 			def.includeInOut = includeInOut;
+			def.includeOutIn = includeOutIn;
 			return def;
 		}
 
@@ -68,6 +74,17 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 			this.includeInOut = true;
 			return this;
 		}
+
+		/**
+		 * Whether to include a dedicated ordered index for out and in bound vertices. The index can be used to iterate over the in-bound vertices of an
+		 * out-bound vertex and to resume the iteration after a specific in-bound vertex.
+		 * 
+		 * @return Fluent API
+		 */
+		public EdgeIndexDefinitonBuilder withOutIn() {
+			this.includeOutIn = true;
+			return this;
+		}
 	}
 
 	@Override
@@ -80,6 +97,11 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 		return includeInOut;
 	}
 
+	@Override
+	public boolean isIncludeOutIn() {
+		return includeOutIn;
+	}
+
 	@Override
 	public boolean isIncludeOut() {
 		return includeOut;
@@ -0,0 +1,42 @@
+package com.gentics.madl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+public class GraphElementIndexTest {
+
+	@Test
+	public void testRead() throws IOException {
+		GraphElementIndex index = new GraphElementIndex(getClass().getClassLoader());
+		index.read(new StringReader("# Comment\n"
+			+ "com.gentics.madl.GraphElementIndexTest=GraphElementIndexTest,Inner\n"
+			+ "com.gentics.madl.GraphElementIndexTest$Inner=Inner\n"
+			+ "com.gentics.madl.Abstract=\n"));
+
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.forName("GraphElementIndexTest")).isEqualTo(GraphElementIndexTest.class);
+		assertThat(index.forName("Inner")).isEqualTo(Inner.class);
+		assertThat(index.forName("Unknown")).isNull();
+		assertThat(index.getSubTypeNames("GraphElementIndexTest")).containsOnly("GraphElementIndexTest", "Inner");
+		assertThat(index.getSubTypeNames("Abstract")).containsOnly("Abstract");
+		assertThat(index.getSubTypeNames("Unknown")).isNull();
+	}
+
+	@Test
+	public void testMerge() throws IOException {
+		GraphElementIndex index = new GraphElementIndex(getClass().getClassLoader());
+		index.read(new StringReader("com.gentics.madl.GraphElementIndexTest=Inner\n"));
+		index.read(new StringReader("com.gentics.madl.GraphElementIndexTest=Other\n"));
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.getSubTypeNames("GraphElementIndexTest")).containsOnly("GraphElementIndexTest", "Inner", "Other");
+	}
+
+	public static class Inner {
+	}
+
+}
@@ -31,7 +31,7 @@ public abstract class AbstractVertexFrame extends com.syncleus.ferma.AbstractVer
 
 	@Override
 	public Vertex getElement() {
-		// TODO FIXME We should store the element reference in a thread local map that is bound to the transaction. The references should be removed once the
+		// The graph of the transaction caches the vertices in its identity map. Repeated lookups of the same vertex will thus not hit the database.
 		FramedGraph fg = Tx.get().getGraph();
 		if (fg == null) {
 			throw new RuntimeException(
@@ -1,6 +1,8 @@
 package com.gentics.madl.index;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
@@ -52,6 +54,52 @@ public interface IndexHandler {
 	 */
 	List<Object> edgeLookup(String edgeLabel, String indexPostfix, Object key);
 
+	/**
+	 * Perform a range lookup on an ordered composed index (e.g. the out/in edge index or an ordered vertex index with two fields). The returned iterator
+	 * lazily walks the index entries which match the given first key component in index order. Each entry contains the second key component and the id of
+	 * the indexed element. The iteration starts after the given second key component and thus does not need to touch earlier entries.
+	 * 
+	 * @param indexName
+	 *            Name of the ordered index
+	 * @param key
+	 *            First key component which all returned entries share
+	 * @param after
+	 *            Second key component after which the iteration should start or null to start at the first entry
+	 * @return Iterator over the entries or null if the index can't be used for range lookups
+	 * @throws IllegalArgumentException
+	 *             if the after value is not valid for the index
+	 */
+	Iterator<Entry<Object, Object>> rangeLookup(String indexName, Object key, Object after);
+
+	/**
+	 * Perform a sorted range lookup on an ordered composed index (e.g. a sort index which contains the sort value and the uuid of the elements). The returned
+	 * iterator lazily walks the index entries in ascending or descending index order. Each entry contains the remaining key components (all components
+	 * except the given first key component) and the id of the indexed element.
+	 * 
+	 * @param indexName
+	 *            Name of the ordered index
+	 * @param key
+	 *            First key component which all returned entries share or null if all entries of the index should be returned
+	 * @param after
+	 *            Remaining key components after which the iteration should start or null to start at the first entry
+	 * @param descending
+	 *            Whether the entries should be returned in descending order
+	 * @return Iterator over the entries or null if the index can't be used for sorted lookups
+	 */
+	Iterator<Entry<List<Object>, Object>> sortedLookup(String indexName, Object key, List<Object> after, boolean descending);
+
+	/**
+	 * Return the amount of entries which the index contains for the given key. The count is taken from the index and can thus be used to estimate the size
+	 * of a listing without loading the elements.
+	 * 
+	 * @param indexName
+	 *            Name of the index
+	 * @param key
+	 *            Key of the entries
+	 * @return Amount of entries or -1 if the index could not be found
+	 */
+	long count(String indexName, Object key);
+
 	/**
 	 * Add edge index for the given fields.
 	 * 
@@ -10,7 +10,8 @@ import org.reflections.Reflections;
 import com.gentics.madl.annotations.GraphElement;
 
 /**
- * Type cache which also provides resolving methods which cache the result.
+ * Type cache which also provides resolving methods which cache the result. Types which are part of the {@link GraphElementIndex} will be resolved
+ * without scanning the classpath.
  */
 public class ElementTypeClassCache {
 
@@ -23,6 +24,10 @@ public class ElementTypeClassCache {
 
 	public Class forName(final String className) {
 		return this.classStringCache.computeIfAbsent(className, (key) -> {
+			Class<?> indexedType = GraphElementIndex.get().forName(key);
+			if (indexedType != null) {
+				return indexedType;
+			}
 			for (String basePath : basePaths) {
 				Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
 				for (Class<?> clazz : graphTypeClasses) {
@@ -0,0 +1,357 @@
+package com.gentics.madl.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which generates a frame factory for all graph element classes of the compilation unit. A class is a graph element when it or
+ * one of its super classes is annotated with {@code @GraphElement}. The generated factory creates the frames by directly invoking the constructor and
+ * thus replaces the reflective instantiation of frames at runtime.
+ *
+ * Additionally the processor writes the {@value #INDEX_RESOURCE} index which lists all graph element classes together with the simple names of their
+ * non-abstract subclasses. The index is used to resolve the element types without scanning the classpath.
+ *
+ * The index of a previous compilation is read from the class output. Its classes are added again so that an incremental compilation which only
+ * covers some of the classes still generates a complete factory and index. The simple name of a graph element is stored in the graph and thus needs
+ * to be unique. The compilation fails if two graph element classes share the same simple name.
+ *
+ * The processor accepts the option {@code madl.factoryPackage} which can be used to specify the package of the generated factory. By default the
+ * common package of all found graph element classes will be used.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(GraphElementProcessor.PACKAGE_OPTION)
+public class GraphElementProcessor extends AbstractProcessor {
+
+	public static final String PACKAGE_OPTION = "madl.factoryPackage";
+
+	public static final String GRAPH_ELEMENT_ANNOTATION = "com.gentics.madl.annotations.GraphElement";
+
+	public static final String FACTORY_INTERFACE = "com.syncleus.ferma.framefactories.GeneratedFrameFactory";
+
+	public static final String FACTORY_NAME = "GraphElementFrameFactory";
+
+	public static final String INDEX_RESOURCE = "META-INF/madl/graph-elements";
+
+	/**
+	 * Found graph element classes, sorted by their qualified name to keep the generated type ids stable.
+	 */
+	private final Map<String, TypeElement> graphElements = new TreeMap<>();
+
+	/**
+	 * Binary names of all graph element classes (including abstract classes) and the simple names of their non-abstract subclasses.
+	 */
+	private final Map<String, Set<String>> subTypes = new TreeMap<>();
+
+	/**
+	 * Binary names of the graph element classes which were listed in the index of a previous compilation.
+	 */
+	private final List<String> previousTypes = new ArrayList<>();
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		readPreviousIndex();
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			restorePreviousTypes();
+			if (!checkUniqueNames()) {
+				return false;
+			}
+			if (!graphElements.isEmpty()) {
+				generate();
+			}
+			if (!subTypes.isEmpty()) {
+				writeIndex();
+			}
+			return false;
+		}
+		for (Element element : roundEnv.getRootElements()) {
+			collect(element);
+		}
+		// Other processors should still be able to handle the annotations
+		return false;
+	}
+
+	private void collect(Element element) {
+		if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		if (type.getKind() == ElementKind.CLASS && isGraphElement(type)) {
+			index(type);
+		}
+		if (isInstantiableGraphElement(type)) {
+			graphElements.put(type.getQualifiedName().toString(), type);
+		}
+		for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+			collect(nested);
+		}
+	}
+
+	/**
+	 * Add the class to the index and register it as subtype of all its graph element super classes.
+	 *
+	 * @param type
+	 */
+	private void index(TypeElement type) {
+		String simpleName = type.getSimpleName().toString();
+		boolean concrete = !type.getModifiers().contains(Modifier.ABSTRACT);
+		TypeElement current = type;
+		while (current != null && isGraphElement(current)) {
+			Set<String> names = subTypes.computeIfAbsent(binaryName(current), key -> new TreeSet<>());
+			if (concrete) {
+				names.add(simpleName);
+			}
+			current = superclass(current);
+		}
+	}
+
+	/**
+	 * Read the class names of the index which was written by a previous compilation into the class output.
+	 */
+	private void readPreviousIndex() {
+		try {
+			FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+			try (Reader reader = index.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+				String line;
+				while ((line = lines.readLine()) != null) {
+					line = line.trim();
+					int idx = line.indexOf('=');
+					if (line.isEmpty() || line.startsWith("#") || idx <= 0) {
+						continue;
+					}
+					previousTypes.add(line.substring(0, idx));
+				}
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			// No previous index available
+		}
+	}
+
+	/**
+	 * Add the graph element classes of the previous index which are still present but were not part of this compilation.
+	 */
+	private void restorePreviousTypes() {
+		for (String name : previousTypes) {
+			TypeElement type = processingEnv.getElementUtils().getTypeElement(name.replace('$', '.'));
+			if (type == null || type.getKind() != ElementKind.CLASS || !isGraphElement(type)) {
+				continue;
+			}
+			index(type);
+			if (isInstantiableGraphElement(type)) {
+				graphElements.put(type.getQualifiedName().toString(), type);
+			}
+		}
+	}
+
+	/**
+	 * Check that the simple names of all non-abstract graph element classes are unique.
+	 *
+	 * @return false if a duplicate name was found
+	 */
+	private boolean checkUniqueNames() {
+		Map<String, String> names = new HashMap<>();
+		boolean unique = true;
+		for (Map.Entry<String, Set<String>> entry : subTypes.entrySet()) {
+			TypeElement type = processingEnv.getElementUtils().getTypeElement(entry.getKey().replace('$', '.'));
+			if (type == null || type.getModifiers().contains(Modifier.ABSTRACT)) {
+				continue;
+			}
+			String simpleName = type.getSimpleName().toString();
+			String other = names.putIfAbsent(simpleName, entry.getKey());
+			if (other != null) {
+				processingEnv.getMessager().printMessage(Kind.ERROR, "The graph element classes {" + other + "} and {" + entry.getKey()
+					+ "} share the simple name {" + simpleName + "}. Graph element names need to be unique.", type);
+				unique = false;
+			}
+		}
+		return unique;
+	}
+
+	private String binaryName(TypeElement type) {
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private TypeElement superclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+
+	private boolean isInstantiableGraphElement(TypeElement type) {
+		if (type.getKind() != ElementKind.CLASS) {
+			return false;
+		}
+		Set<Modifier> modifiers = type.getModifiers();
+		if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		if (type.getNestingKind() != NestingKind.TOP_LEVEL && !modifiers.contains(Modifier.STATIC)) {
+			return false;
+		}
+		return hasPublicDefaultConstructor(type) && isGraphElement(type);
+	}
+
+	private boolean hasPublicDefaultConstructor(TypeElement type) {
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isGraphElement(TypeElement type) {
+		TypeElement current = type;
+		while (current != null) {
+			for (AnnotationMirror mirror : current.getAnnotationMirrors()) {
+				TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+				if (GRAPH_ELEMENT_ANNOTATION.contentEquals(annotationType.getQualifiedName())) {
+					return true;
+				}
+			}
+			current = superclass(current);
+		}
+		return false;
+	}
+
+	private void generate() {
+		String packageName = processingEnv.getOptions().get(PACKAGE_OPTION);
+		if (packageName == null) {
+			packageName = commonPackage();
+		}
+		String qualifiedName = packageName.isEmpty() ? FACTORY_NAME : packageName + "." + FACTORY_NAME;
+		List<String> types = new ArrayList<>(graphElements.keySet());
+		try {
+			JavaFileObject source = processingEnv.getFiler().createSourceFile(qualifiedName,
+				graphElements.values().toArray(new Element[graphElements.size()]));
+			try (Writer writer = source.openWriter()) {
+				writer.write(factorySource(packageName, types));
+			}
+			FileObject services = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + FACTORY_INTERFACE);
+			try (Writer writer = services.openWriter()) {
+				writer.write(qualifiedName + "\n");
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not generate frame factory {" + qualifiedName + "}: " + e.getMessage());
+		}
+	}
+
+	private void writeIndex() {
+		try {
+			FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+			try (Writer writer = index.openWriter()) {
+				writer.write("# Generated by " + GraphElementProcessor.class.getName() + "\n");
+				for (Map.Entry<String, Set<String>> entry : subTypes.entrySet()) {
+					writer.write(entry.getKey() + "=" + String.join(",", entry.getValue()) + "\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write graph element index {" + INDEX_RESOURCE + "}: " + e.getMessage());
+		}
+	}
+
+	private String factorySource(String packageName, List<String> types) {
+		StringBuilder builder = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			builder.append("package ").append(packageName).append(";\n\n");
+		}
+		builder.append("/**\n");
+		builder.append(" * Frame factory for the graph elements of this module. Generated by {@code ").append(GraphElementProcessor.class.getName())
+			.append("}.\n");
+		builder.append(" */\n");
+		builder.append("public final class ").append(FACTORY_NAME).append(" implements ").append(FACTORY_INTERFACE).append(" {\n\n");
+
+		builder.append("\tprivate static final Class<?>[] TYPES = {\n");
+		for (String type : types) {
+			builder.append("\t\t").append(type).append(".class,\n");
+		}
+		builder.append("\t};\n\n");
+
+		builder.append("\t@Override\n");
+		builder.append("\tpublic Class<?>[] getTypes() {\n");
+		builder.append("\t\treturn TYPES.clone();\n");
+		builder.append("\t}\n\n");
+
+		builder.append("\t@Override\n");
+		builder.append("\tpublic Object create(int typeId) {\n");
+		builder.append("\t\tswitch (typeId) {\n");
+		for (int i = 0; i < types.size(); i++) {
+			builder.append("\t\tcase ").append(i).append(":\n");
+			builder.append("\t\t\treturn new ").append(types.get(i)).append("();\n");
+		}
+		builder.append("\t\tdefault:\n");
+		builder.append("\t\t\tthrow new IllegalArgumentException(\"Unknown type id {\" + typeId + \"}\");\n");
+		builder.append("\t\t}\n");
+		builder.append("\t}\n\n");
+		builder.append("}\n");
+		return builder.toString();
+	}
+
+	/**
+	 * Determine the longest common package of all found graph element classes.
+	 *
+	 * @return
+	 */
+	private String commonPackage() {
+		List<String> common = null;
+		for (TypeElement type : graphElements.values()) {
+			String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+			List<String> segments = packageName.isEmpty() ? Collections.emptyList() : Arrays.asList(packageName.split("\\."));
+			if (common == null) {
+				common = new ArrayList<>(segments);
+				continue;
+			}
+			int i = 0;
+			while (i < common.size() && i < segments.size() && common.get(i).equals(segments.get(i))) {
+				i++;
+			}
+			common = new ArrayList<>(common.subList(0, i));
+		}
+		return common == null ? "" : String.join(".", common);
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.gentics.madl.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GraphElementProcessorTest {
+
+	private static final String ANNOTATION = "package com.gentics.madl.annotations;\n"
+		+ "public @interface GraphElement {\n"
+		+ "}\n";
+
+	private static final String FACTORY_INTERFACE = "package com.syncleus.ferma.framefactories;\n"
+		+ "public interface GeneratedFrameFactory {\n"
+		+ "	Class<?>[] getTypes();\n"
+		+ "	Object create(int typeId);\n"
+		+ "}\n";
+
+	private static final String BASE = "package test.model;\n"
+		+ "@com.gentics.madl.annotations.GraphElement\n"
+		+ "public abstract class AbstractElement {\n"
+		+ "}\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testGenerate() throws IOException {
+		File src = folder.newFolder("src");
+		File out = folder.newFolder("out");
+		List<Diagnostic<? extends JavaFileObject>> errors = compile(out, source(src, "com/gentics/madl/annotations/GraphElement.java", ANNOTATION),
+			source(src, "com/syncleus/ferma/framefactories/GeneratedFrameFactory.java", FACTORY_INTERFACE),
+			source(src, "test/model/AbstractElement.java", BASE),
+			source(src, "test/model/UserImpl.java", element("UserImpl")),
+			source(src, "test/model/GroupImpl.java", element("GroupImpl")));
+		assertThat(errors).isEmpty();
+
+		assertThat(read(out, "test/model/GraphElementFrameFactory.class")).isNotNull();
+		assertThat(new String(read(out, "META-INF/services/com.syncleus.ferma.framefactories.GeneratedFrameFactory"), StandardCharsets.UTF_8)).contains(
+			"test.model.GraphElementFrameFactory");
+		assertThat(indexLines(out)).containsExactly(
+			"test.model.AbstractElement=GroupImpl,UserImpl",
+			"test.model.GroupImpl=GroupImpl",
+			"test.model.UserImpl=UserImpl");
+	}
+
+	@Test
+	public void testIncrementalCompilation() throws IOException {
+		File src = folder.newFolder("src");
+		File out = folder.newFolder("out");
+		List<Diagnostic<? extends JavaFileObject>> errors = compile(out, source(src, "com/gentics/madl/annotations/GraphElement.java", ANNOTATION),
+			source(src, "com/syncleus/ferma/framefactories/GeneratedFrameFactory.java", FACTORY_INTERFACE),
+			source(src, "test/model/AbstractElement.java", BASE),
+			source(src, "test/model/UserImpl.java", element("UserImpl")),
+			source(src, "test/model/GroupImpl.java", element("GroupImpl")));
+		assertThat(errors).isEmpty();
+
+		// Only compile a single changed class and a new class. The classes of the first compilation are only available via the class output.
+		errors = compile(out, source(src, "test/model/UserImpl.java", element("UserImpl")),
+			source(src, "test/model/RoleImpl.java", element("RoleImpl")));
+		assertThat(errors).isEmpty();
+
+		assertThat(indexLines(out)).containsExactly(
+			"test.model.AbstractElement=GroupImpl,RoleImpl,UserImpl",
+			"test.model.GroupImpl=GroupImpl",
+			"test.model.RoleImpl=RoleImpl",
+			"test.model.UserImpl=UserImpl");
+		String factory = new String(read(out, "test/model/GraphElementFrameFactory.class"), StandardCharsets.ISO_8859_1);
+		assertThat(factory).contains("test/model/GroupImpl", "test/model/RoleImpl", "test/model/UserImpl");
+	}
+
+	@Test
+	public void testDuplicateSimpleName() throws IOException {
+		File src = folder.newFolder("src");
+		File out = folder.newFolder("out");
+		List<Diagnostic<? extends JavaFileObject>> errors = compile(out, source(src, "com/gentics/madl/annotations/GraphElement.java", ANNOTATION),
+			source(src, "com/syncleus/ferma/framefactories/GeneratedFrameFactory.java", FACTORY_INTERFACE),
+			source(src, "test/model/AbstractElement.java", BASE),
+			source(src, "test/model/UserImpl.java", element("UserImpl")),
+			source(src, "test/other/UserImpl.java", element("UserImpl").replace("package test.model;", "package test.other;")
+				.replace("extends AbstractElement", "extends test.model.AbstractElement")));
+		assertThat(errors).hasSize(1);
+		assertThat(errors.get(0).getMessage(Locale.ENGLISH)).contains("test.model.UserImpl", "test.other.UserImpl", "{UserImpl}");
+	}
+
+	private String element(String name) {
+		return "package test.model;\n"
+			+ "public class " + name + " extends AbstractElement {\n"
+			+ "}\n";
+	}
+
+	private File source(File root, String path, String content) throws IOException {
+		File file = new File(root, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private byte[] read(File out, String path) throws IOException {
+		return Files.readAllBytes(new File(out, path).toPath());
+	}
+
+	private List<String> indexLines(File out) throws IOException {
+		return Files.readAllLines(new File(out, GraphElementProcessor.INDEX_RESOURCE).toPath()).stream()
+			.filter(line -> !line.startsWith("#"))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Compile the given sources into the output directory, which is also used as classpath, and return the errors.
+	 */
+	private List<Diagnostic<? extends JavaFileObject>> compile(File out, File... sources) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ENGLISH, StandardCharsets.UTF_8)) {
+			List<String> options = Arrays.asList("-d", out.getAbsolutePath(), "-classpath", out.getAbsolutePath(), "-implicit:none");
+			CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjects(sources));
+			task.setProcessors(Arrays.asList(new GraphElementProcessor()));
+			task.call();
+		}
+		return diagnostics.getDiagnostics().stream()
+			.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+			.collect(Collectors.toList());
+	}
+
+}
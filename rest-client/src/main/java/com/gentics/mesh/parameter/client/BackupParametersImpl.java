@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.BackupParameters;
+
+public class BackupParametersImpl extends AbstractParameters implements BackupParameters {
+
+}
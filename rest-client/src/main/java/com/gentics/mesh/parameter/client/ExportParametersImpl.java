@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.ExportParameters;
+
+public class ExportParametersImpl extends AbstractParameters implements ExportParameters {
+
+}
@@ -10,6 +10,8 @@ import java.util.Set;
 
 import org.apache.commons.io.IOUtils;
 
+import com.gentics.mesh.json.JsonFormat;
+
 public class MeshRestClientConfig {
 	private final String host;
 	private final String basePath;
@@ -21,6 +23,7 @@ public class MeshRestClientConfig {
 	private final byte[] clientCert;
 	private final byte[] clientKey;
 	private final boolean hostnameVerification;
+	private final JsonFormat format;
 
 	public MeshRestClientConfig(Builder builder) {
 		this.host = Objects.requireNonNull(builder.host);
@@ -33,6 +36,7 @@ public class MeshRestClientConfig {
 		this.trustedCAs = builder.trustedCAs;
 		this.clientCert = builder.clientCert;
 		this.clientKey = builder.clientKey;
+		this.format = builder.format;
 	}
 
 	public String getHost() {
@@ -81,6 +85,10 @@ public class MeshRestClientConfig {
 		return trustedCAs;
 	}
 
+	public JsonFormat getFormat() {
+		return format;
+	}
+
 	public static Builder newConfig() {
 		return new Builder();
 	}
@@ -96,6 +104,7 @@ public class MeshRestClientConfig {
 		private Set<byte[]> trustedCAs = new HashSet<>();
 		private byte[] clientCert;
 		private byte[] clientKey;
+		private JsonFormat format = JsonFormat.JSON;
 
 		public MeshRestClientConfig build() {
 			return new MeshRestClientConfig(this);
@@ -196,6 +205,22 @@ public class MeshRestClientConfig {
 			return this;
 		}
 
+		/**
+		 * Sets the format which is used to encode request bodies. Responses will be requested in the same format. JSON is still accepted as response
+		 * format, since not all responses can be encoded in the binary formats.
+		 *
+		 * <p>
+		 * Default: {@link JsonFormat#JSON}
+		 * </p>
+		 *
+		 * @param format
+		 * @return
+		 */
+		public Builder setFormat(JsonFormat format) {
+			this.format = Objects.requireNonNull(format);
+			return this;
+		}
+
 		/**
 		 * Set the filesystem path to the client SSL key which is formatted in PEM format.
 		 * 
@@ -11,6 +11,7 @@ import org.apache.commons.lang.StringUtils;
 
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.json.JsonFormat;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.rest.client.MeshBinaryResponse;
 import com.gentics.mesh.rest.client.MeshRequest;
@@ -73,6 +74,11 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 		return new MeshOkHttpRequestImpl<>(client, classOfT, method, url, headers, RequestBody.create(MediaType.get("application/json"), json));
 	}
 
+	public static <T> MeshOkHttpRequestImpl<T> EncodedRequest(OkHttpClient client, String method, String url, Map<String, String> headers,
+		Class<? extends T> classOfT, byte[] data, String contentType) {
+		return new MeshOkHttpRequestImpl<>(client, classOfT, method, url, headers, RequestBody.create(MediaType.get(contentType), data));
+	}
+
 	public static <T> MeshOkHttpRequestImpl<T> TextRequest(OkHttpClient client, String method, String url, Map<String, String> headers,
 		Class<? extends T> classOfT, String text) {
 		return new MeshOkHttpRequestImpl<>(client, classOfT, method, url, headers, RequestBody.create(MediaType.get("text/plain"), text));
@@ -137,6 +143,7 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 		throwOnError(response);
 
 		String contentType = response.header("Content-Type");
+		JsonFormat format = JsonFormat.fromContentType(contentType);
 		if (!response.isSuccessful()) {
 			return null;
 		} else if  (resultClass.isAssignableFrom(EmptyResponse.class)) {
@@ -147,6 +154,8 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 			return (T) new OkHttpWebrootResponse(response);
 		} else if (contentType != null && contentType.startsWith("application/json")) {
 			return JsonUtil.readValue(response.body().string(), resultClass);
+		} else if (format != null && format.isBinary()) {
+			return JsonUtil.readValue(response.body().bytes(), resultClass, format);
 		} else if (resultClass.isAssignableFrom(String.class)) {
 			return (T) response.body().string();
 		} else {
@@ -1008,23 +1008,23 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeBackup() {
-		return prepareRequest(POST, "/admin/graphdb/backup", GenericMessageResponse.class);
+	public MeshRequest<GenericMessageResponse> invokeBackup(ParameterProvider... parameters) {
+		return prepareRequest(POST, "/admin/graphdb/backup" + getQuery(parameters), GenericMessageResponse.class);
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeExport() {
-		return prepareRequest(POST, "/admin/graphdb/export", GenericMessageResponse.class);
+	public MeshRequest<GenericMessageResponse> invokeExport(ParameterProvider... parameters) {
+		return prepareRequest(POST, "/admin/graphdb/export" + getQuery(parameters), GenericMessageResponse.class);
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeImport() {
-		return prepareRequest(POST, "/admin/graphdb/import", GenericMessageResponse.class);
+	public MeshRequest<GenericMessageResponse> invokeImport(ParameterProvider... parameters) {
+		return prepareRequest(POST, "/admin/graphdb/import" + getQuery(parameters), GenericMessageResponse.class);
 	}
 
 	@Override
-	public MeshRequest<GenericMessageResponse> invokeRestore() {
-		return prepareRequest(POST, "/admin/graphdb/restore", GenericMessageResponse.class);
+	public MeshRequest<GenericMessageResponse> invokeRestore(ParameterProvider... parameters) {
+		return prepareRequest(POST, "/admin/graphdb/restore" + getQuery(parameters), GenericMessageResponse.class);
 	}
 
 	@Override
@@ -6,6 +6,8 @@ import java.util.Map;
 
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.http.MeshHeaders;
+import com.gentics.mesh.json.JsonFormat;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.client.MeshRestClientConfig;
 import com.gentics.mesh.rest.client.MeshWebsocket;
@@ -37,6 +39,11 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 
 	@Override
 	public <T> MeshRequest<T> prepareRequest(HttpMethod method, String path, Class<? extends T> classOfT, RestModel restModel) {
+		JsonFormat format = config.getFormat();
+		if (format.isBinary()) {
+			byte[] data = JsonUtil.toBuffer(restModel, format, true).getBytes();
+			return MeshOkHttpRequestImpl.EncodedRequest(client, method.name(), getUrl(path), createHeaders(), classOfT, data, format.getMediaType());
+		}
 		return handleRequest(method, path, classOfT, restModel.toJson());
 	}
 
@@ -65,7 +72,12 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 		if (disableAnonymousAccess) {
 			headers.put(MeshHeaders.ANONYMOUS_AUTHENTICATION, "disable");
 		}
-		headers.put("Accept", "application/json");
+		JsonFormat format = config.getFormat();
+		if (format.isBinary()) {
+			headers.put("Accept", format.getMediaType() + ", application/json;q=0.9");
+		} else {
+			headers.put("Accept", "application/json");
+		}
 		headers.putAll(authentication.getHeaders());
 		return headers;
 	}
@@ -6,6 +6,7 @@ import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.client.MeshBinaryResponse;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.monitoring.MonitoringRestClient;
@@ -52,34 +53,34 @@ public interface AdminClientMethods {
 	/**
 	 * Invoke a graph database backup.
 	 * 
+	 * @param parameters
 	 * @return
 	 */
-	MeshRequest<GenericMessageResponse> invokeBackup();
+	MeshRequest<GenericMessageResponse> invokeBackup(ParameterProvider... parameters);
 
 	/**
 	 * Invoke a graph database export.
 	 * 
+	 * @param parameters
 	 * @return
-	 * @deprecated Endpoint currently not supported
 	 */
-	@Deprecated
-	MeshRequest<GenericMessageResponse> invokeExport();
+	MeshRequest<GenericMessageResponse> invokeExport(ParameterProvider... parameters);
 
 	/**
 	 * Invoke a graph database restore.
 	 * 
+	 * @param parameters
 	 * @return
 	 */
-	MeshRequest<GenericMessageResponse> invokeRestore();
+	MeshRequest<GenericMessageResponse> invokeRestore(ParameterProvider... parameters);
 
 	/**
 	 * Invoke a graph database import.
 	 * 
+	 * @param parameters
 	 * @return
-	 * @deprecated Endpoint currently not supported
 	 */
-	@Deprecated
-	MeshRequest<GenericMessageResponse> invokeImport();
+	MeshRequest<GenericMessageResponse> invokeImport(ParameterProvider... parameters);
 
 	/**
 	 * Invoke a consistency check of the graph database.
@@ -186,7 +186,7 @@ public enum MeshEvent {
 	 */
 	CLEAR_PERMISSION_STORE("mesh.clear-permission-store",
 		null,
-		"Event which will clear the permission stores."),
+		"Event which will invalidate the permission stores. The event contains the generation stripes of the affected users and elements or no body if the stores should be cleared completely."),
 
 	/**
 	 * Event which is send to update the webroot path stores.
@@ -195,6 +195,13 @@ public enum MeshEvent {
 		null,
 		"Event which will clear the path stores."),
 
+	/**
+	 * Event which is send to update the principal stores.
+	 */
+	CLEAR_PRINCIPAL_STORE("mesh.clear-principal-store",
+		null,
+		"Event which will invalidate the principal stores. The event contains the uuid of the affected user or no body if the stores should be cleared completely."),
+
 	/* User */
 
 	USER_CREATED("mesh.user.created",
@@ -538,7 +545,7 @@ public enum MeshEvent {
 
 	GRAPH_BACKUP_FINISHED("mesh.graph.backup.finished",
 		null,
-		"Emitted once the backup process finishes."),
+		"Emitted once the backup process finishes. The event contains the error message if the backup failed."),
 
 	GRAPH_RESTORE_START("mesh.graph.restore.start",
 		null,
@@ -556,6 +563,10 @@ public enum MeshEvent {
 		null,
 		"Emitted once the graph database export process finishes"),
 
+	GRAPH_EXPORT_PROGRESS("mesh.graph.export.progress",
+		null,
+		"Emitted periodically during the graph database export. The event contains the processed cluster and the amount of completed clusters."),
+
 	GRAPH_IMPORT_START("mesh.graph.import.start",
 		null,
 		"Emitted once the graph database import process starts."),
@@ -564,6 +575,10 @@ public enum MeshEvent {
 		null,
 		"Emitted once the graph database import process finishes."),
 
+	GRAPH_IMPORT_PROGRESS("mesh.graph.import.progress",
+		null,
+		"Emitted periodically during the graph database import. The event contains the current phase, the processed cluster and the amount of completed clusters."),
+
 	REPAIR_START("mesh.graph.repair.start",
 		null,
 		"Emitted once the repair operation is started."),
@@ -27,6 +27,10 @@ public class NodeMeshEventModel extends AbstractProjectEventModel {
 	@JsonDeserialize(as = SchemaReferenceImpl.class)
 	private SchemaReference schema;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the parent node in the branch.")
+	private String parentNodeUuid;
+
 	public NodeMeshEventModel() {
 	}
 
@@ -71,4 +75,17 @@ public class NodeMeshEventModel extends AbstractProjectEventModel {
 	public void setSchema(SchemaReference schema) {
 		this.schema = schema;
 	}
+
+	/**
+	 * Return the uuid of the parent node of the node in the branch of the event.
+	 * 
+	 * @return Parent node uuid or null if unknown
+	 */
+	public String getParentNodeUuid() {
+		return parentNodeUuid;
+	}
+
+	public void setParentNodeUuid(String parentNodeUuid) {
+		this.parentNodeUuid = parentNodeUuid;
+	}
 }
@@ -7,6 +7,8 @@ public enum JobType {
 
 	branch,
 
-	versionpurge
+	versionpurge,
+
+	permission
 
 }
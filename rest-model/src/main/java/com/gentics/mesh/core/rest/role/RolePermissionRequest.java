@@ -20,6 +20,10 @@ public class RolePermissionRequest implements RestModel {
 	@JsonPropertyDescription("Flag which indicates whether the permission update should be applied recursively.")
 	private Boolean recursive = false;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether a recursive permission update should be executed in the background. The update will be processed by a job which can be inspected via the jobs endpoint.")
+	private Boolean async = false;
+
 	public RolePermissionRequest() {
 	}
 
@@ -53,6 +57,27 @@ public class RolePermissionRequest implements RestModel {
 		return this;
 	}
 
+	/**
+	 * Flag that indicates that a recursive request should be executed by a job.
+	 * 
+	 * @return Flag value
+	 */
+	public Boolean getAsync() {
+		return async;
+	}
+
+	/**
+	 * Set the flag which indicates whether a recursive permission update should be executed by a job.
+	 * 
+	 * @param async
+	 *            Async flag value
+	 * @return Fluent API
+	 */
+	public RolePermissionRequest setAsync(Boolean async) {
+		this.async = async;
+		return this;
+	}
+
 	/**
 	 * Creates a {@link RolePermissionRequest} that is non-recursive and only has the given permissions set to true.
 	 * All other permissions are set to false.
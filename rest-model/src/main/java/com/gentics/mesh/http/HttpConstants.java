@@ -19,6 +19,10 @@ public final class HttpConstants {
 
 	public static final String APPLICATION_JSON_UTF8 = APPLICATION_JSON + "; charset=utf-8";
 
+	public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+	public static final String APPLICATION_CBOR = "application/cbor";
+
 	public static final String APPLICATION_YAML = "application/x-yaml";
 
 	public static final String APPLICATION_YAML_UTF8 = APPLICATION_YAML + "; charset=utf-8";
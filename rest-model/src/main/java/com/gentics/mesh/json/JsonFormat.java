@@ -0,0 +1,116 @@
+package com.gentics.mesh.json;
+
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_CBOR;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_SMILE;
+
+/**
+ * Formats which can be used to encode REST models. Next to the text JSON format the binary Smile and CBOR formats are supported, which encode the same
+ * data model but are cheaper to parse.
+ */
+public enum JsonFormat {
+
+	JSON(APPLICATION_JSON, APPLICATION_JSON_UTF8),
+
+	SMILE(APPLICATION_SMILE, APPLICATION_SMILE),
+
+	CBOR(APPLICATION_CBOR, APPLICATION_CBOR);
+
+	private final String mediaType;
+
+	private final String contentType;
+
+	private JsonFormat(String mediaType, String contentType) {
+		this.mediaType = mediaType;
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Return the media type of the format (e.g. application/json).
+	 * 
+	 * @return
+	 */
+	public String getMediaType() {
+		return mediaType;
+	}
+
+	/**
+	 * Return the value of the content type header which should be used when sending data in this format.
+	 * 
+	 * @return
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Check whether the format is a binary format.
+	 * 
+	 * @return
+	 */
+	public boolean isBinary() {
+		return this != JSON;
+	}
+
+	/**
+	 * Return the format for the given content type header value.
+	 * 
+	 * @param contentType
+	 *            Content type header value (e.g. application/json; charset=utf-8)
+	 * @return Matching format or null if the content type does not match any format
+	 */
+	public static JsonFormat fromContentType(String contentType) {
+		if (contentType == null) {
+			return null;
+		}
+		String mediaType = contentType.split(";")[0].trim();
+		for (JsonFormat format : values()) {
+			if (format.mediaType.equalsIgnoreCase(mediaType)) {
+				return format;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Determine the format which should be used for responses by examining the given <code>Accept</code> header. The supported format with the highest
+	 * q-value will be selected.
+	 * 
+	 * @param header
+	 *            Accept header value
+	 * @return Best matching format or {@link #JSON} if no other format was accepted
+	 */
+	public static JsonFormat fromAcceptHeader(String header) {
+		if (header == null) {
+			return JSON;
+		}
+		JsonFormat bestMatch = JSON;
+		double highestQ = 0;
+		for (String entry : header.split(",")) {
+			String[] parts = entry.split(";");
+			JsonFormat format = fromContentType(parts[0]);
+			if (format == null) {
+				continue;
+			}
+			double q = 1.0;
+			for (String part : parts) {
+				part = part.trim();
+				if (part.startsWith("q=")) {
+					try {
+						q = Double.parseDouble(part.substring(2).trim());
+					} catch (NumberFormatException e) {
+						q = 0;
+					}
+					break;
+				}
+			}
+			if (q > highestQ) {
+				highestQ = q;
+				bestMatch = format;
+			}
+		}
+		return bestMatch;
+	}
+
+}
@@ -4,11 +4,16 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
 
 import org.codehaus.jettison.json.JSONObject;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -17,9 +22,12 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchemaGenerator;
 import com.gentics.mesh.core.rest.error.AbstractRestException;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -60,6 +68,10 @@ import com.gentics.mesh.json.serializer.FieldListSerializer;
 import com.gentics.mesh.json.serializer.JsonArraySerializer;
 import com.gentics.mesh.json.serializer.JsonObjectSerializer;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -71,22 +83,29 @@ import io.vertx.core.logging.LoggerFactory;
 public final class JsonUtil {
 
 	protected static ObjectMapper defaultMapper;
+	protected static Map<JsonFormat, ObjectMapper> binaryMappers = new EnumMap<>(JsonFormat.class);
 	protected static JsonSchemaGenerator schemaGen;
 
 	private static final Logger log = LoggerFactory.getLogger(JsonUtil.class);
 
 	static {
-		initDefaultMapper();
+		defaultMapper = createMapper(new JsonFactory());
+		binaryMappers.put(JsonFormat.SMILE, createMapper(new SmileFactory()));
+		binaryMappers.put(JsonFormat.CBOR, createMapper(new CBORFactory()));
 		initSchemaMapper();
 	}
 
 	/**
-	 * Initialize the default mapper.
+	 * Create a mapper for the given factory. All mappers share the same modules, serializers and deserializers.
+	 * 
+	 * @param factory
+	 *            Factory which determines the format of the mapper
+	 * @return
 	 */
-	private static void initDefaultMapper() {
-		defaultMapper = new ObjectMapper();
-		defaultMapper.setDefaultPropertyInclusion(JsonInclude.Value.construct(Include.NON_NULL, Include.ALWAYS));
-		defaultMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private static ObjectMapper createMapper(JsonFactory factory) {
+		ObjectMapper mapper = new ObjectMapper(factory);
+		mapper.setDefaultPropertyInclusion(JsonInclude.Value.construct(Include.NON_NULL, Include.ALWAYS));
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
 		SimpleModule module = new SimpleModule();
 		module.addDeserializer(AbstractRestException.class, new RestExceptionDeserializer());
@@ -116,8 +135,8 @@ public final class JsonUtil {
 		module.addDeserializer(EventCauseInfo.class, new EventCauseInfoDeserializer());
 		module.addDeserializer(PermissionChangedEventModel.class, new PermissionChangedEventModelDeserializer());
 
-		defaultMapper.registerModule(module);
-		defaultMapper.registerModule(new SimpleModule("interfaceMapping") {
+		mapper.registerModule(module);
+		mapper.registerModule(new SimpleModule("interfaceMapping") {
 			private static final long serialVersionUID = -4667167382238425197L;
 
 			@Override
@@ -128,7 +147,7 @@ public final class JsonUtil {
 				addAbstractMapping(context, MicroschemaReference.class, MicroschemaReferenceImpl.class);
 			}
 		});
-
+		return mapper;
 	}
 
 	/**
@@ -153,18 +172,31 @@ public final class JsonUtil {
 	}
 
 	/**
-	 * Transform the given object into a JSON string.
+	 * Transform the given object into a pretty printed JSON string.
 	 * 
 	 * @param obj
 	 * @return
 	 * @throws GenericRestException
 	 */
 	public static <T> String toJson(T obj) throws GenericRestException {
+		return toJson(obj, false);
+	}
+
+	/**
+	 * Transform the given object into a JSON string.
+	 * 
+	 * @param obj
+	 * @param minify
+	 *            Whether the JSON should be written without any whitespace
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> String toJson(T obj, boolean minify) throws GenericRestException {
 		if (obj instanceof JSONObject) {
 			return ((JSONObject) obj).toString();
 		}
 		try {
-			return defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return writer(minify).writeValueAsString(obj);
 		} catch (IOException e) {
 			// TODO i18n
 			String message = "Could not generate json from object";
@@ -173,6 +205,62 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Serialize the given object into a buffer. The JSON is directly written into the buffer without creating an intermediate string.
+	 * 
+	 * @param obj
+	 * @param minify
+	 *            Whether the JSON should be written without any whitespace
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> Buffer toBuffer(T obj, boolean minify) throws GenericRestException {
+		if (obj instanceof JSONObject) {
+			return Buffer.buffer(((JSONObject) obj).toString());
+		}
+		ByteBuf byteBuf = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(byteBuf)) {
+			writer(minify).writeValue(out, obj);
+		} catch (IOException e) {
+			byteBuf.release();
+			// TODO i18n
+			String message = "Could not generate json from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+		return Buffer.buffer(byteBuf);
+	}
+
+	/**
+	 * Serialize the given object into a buffer using the given format.
+	 * 
+	 * @param obj
+	 * @param format
+	 *            Format of the serialized data
+	 * @param minify
+	 *            Whether JSON should be written without any whitespace. This flag is ignored for binary formats.
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> Buffer toBuffer(T obj, JsonFormat format, boolean minify) throws GenericRestException {
+		if (!format.isBinary()) {
+			return toBuffer(obj, minify);
+		}
+		ByteBuf byteBuf = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(byteBuf)) {
+			getMapper(format).writeValue(out, obj);
+		} catch (IOException e) {
+			byteBuf.release();
+			// TODO i18n
+			String message = "Could not generate " + format.name() + " data from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+		return Buffer.buffer(byteBuf);
+	}
+
+	private static ObjectWriter writer(boolean minify) {
+		return minify ? defaultMapper.writer() : defaultMapper.writerWithDefaultPrettyPrinter();
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
@@ -187,8 +275,62 @@ public final class JsonUtil {
 	public static <T> T readValue(String content, Class<T> valueType) throws GenericRestException {
 		try {
 			return defaultMapper.readValue(content, valueType);
-		} catch (JsonMappingException e) {
-			log.error("Could not deserialize json {" + content + "} into {" + valueType.getName() + "}", e);
+		} catch (Exception e) {
+			if (e instanceof JsonMappingException) {
+				log.error("Could not deserialize json {" + content + "} into {" + valueType.getName() + "}", e);
+			}
+			throw toParseError(e);
+		}
+	}
+
+	/**
+	 * Transform the given encoded content back into a POJO.
+	 * 
+	 * @param content
+	 *            Encoded data
+	 * @param valueType
+	 *            Class of the POJO
+	 * @param format
+	 *            Format of the data
+	 * @return POJO instance
+	 * @throws GenericRestException
+	 *             Exception which contains information about the parse error
+	 */
+	public static <T> T readValue(byte[] content, Class<T> valueType, JsonFormat format) throws GenericRestException {
+		try {
+			return getMapper(format).readValue(content, valueType);
+		} catch (Exception e) {
+			if (e instanceof JsonMappingException) {
+				log.error("Could not deserialize " + format.name() + " data into {" + valueType.getName() + "}", e);
+			}
+			throw toParseError(e);
+		}
+	}
+
+	/**
+	 * Transcode the given encoded content into a JSON string.
+	 * 
+	 * @param content
+	 *            Encoded data
+	 * @param format
+	 *            Format of the data
+	 * @return JSON string
+	 * @throws GenericRestException
+	 */
+	public static String toJson(byte[] content, JsonFormat format) throws GenericRestException {
+		if (!format.isBinary()) {
+			return new String(content, StandardCharsets.UTF_8);
+		}
+		try {
+			return defaultMapper.writeValueAsString(getMapper(format).readTree(content));
+		} catch (Exception e) {
+			throw toParseError(e);
+		}
+	}
+
+	private static GenericRestException toParseError(Exception error) {
+		if (error instanceof JsonMappingException) {
+			JsonMappingException e = (JsonMappingException) error;
 			String line = "unknown";
 			String column = "unknown";
 			if (e.getLocation() != null) {
@@ -199,8 +341,9 @@ public final class JsonUtil {
 			if (e.getPath() != null && e.getPath().size() >= 1) {
 				field = e.getPath().get(0).getFieldName();
 			}
-			throw new GenericRestException(BAD_REQUEST, "error_json_structure_invalid", line, column, field, e.getOriginalMessage());
-		} catch (JsonParseException e) {
+			return new GenericRestException(BAD_REQUEST, "error_json_structure_invalid", line, column, field, e.getOriginalMessage());
+		} else if (error instanceof JsonParseException) {
+			JsonParseException e = (JsonParseException) error;
 			String msg = e.getOriginalMessage();
 			String line = "unknown";
 			String column = "unknown";
@@ -208,9 +351,9 @@ public final class JsonUtil {
 				line = String.valueOf(e.getLocation().getLineNr());
 				column = String.valueOf(e.getLocation().getColumnNr());
 			}
-			throw new GenericRestException(BAD_REQUEST, "error_json_malformed", line, column, msg);
-		} catch (Exception e) {
-			throw new GenericRestException(BAD_REQUEST, "error_json_parse", e);
+			return new GenericRestException(BAD_REQUEST, "error_json_malformed", line, column, msg);
+		} else {
+			return new GenericRestException(BAD_REQUEST, "error_json_parse", error);
 		}
 	}
 
@@ -239,4 +382,14 @@ public final class JsonUtil {
 		return defaultMapper;
 	}
 
+	/**
+	 * Return the object mapper for the given format.
+	 * 
+	 * @param format
+	 * @return
+	 */
+	public static ObjectMapper getMapper(JsonFormat format) {
+		return format.isBinary() ? binaryMappers.get(format) : defaultMapper;
+	}
+
 }
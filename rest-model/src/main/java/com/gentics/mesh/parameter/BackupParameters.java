@@ -0,0 +1,29 @@
+package com.gentics.mesh.parameter;
+
+import org.apache.commons.lang.BooleanUtils;
+
+public interface BackupParameters extends ParameterProvider {
+
+	public static final String INCREMENTAL_PARAMETER_KEY = "incremental";
+
+	/**
+	 * Set the incremental flag. When enabled the backup will only contain the changes since the last incremental backup and the restore will replay
+	 * the chain of incremental backups.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default BackupParameters setIncremental(boolean flag) {
+		setParameter(INCREMENTAL_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the incremental flag is enabled.
+	 * 
+	 * @return
+	 */
+	default boolean isIncremental() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(INCREMENTAL_PARAMETER_KEY)), false);
+	}
+}
@@ -0,0 +1,24 @@
+package com.gentics.mesh.parameter;
+
+/**
+ * Type of the total count which should be computed for paged list responses.
+ */
+public enum CountType {
+
+	/**
+	 * Don't compute the total count. The page will only load the elements which are needed to determine the page and whether a next page exists.
+	 */
+	NONE,
+
+	/**
+	 * Compute the exact total count. This requires all elements of the listing to be loaded.
+	 */
+	EXACT,
+
+	/**
+	 * Estimate the total count via index statistics. The estimate does not consider permissions or filters. The exact count will be computed if no
+	 * statistics are available.
+	 */
+	ESTIMATE
+
+}
@@ -0,0 +1,28 @@
+package com.gentics.mesh.parameter;
+
+import org.apache.commons.lang.BooleanUtils;
+
+public interface ExportParameters extends ParameterProvider {
+
+	public static final String RESUME_PARAMETER_KEY = "resume";
+
+	/**
+	 * Set the resume flag. When enabled an interrupted export or import will be continued instead of being started from scratch.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default ExportParameters setResume(boolean flag) {
+		setParameter(RESUME_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the resume flag is enabled.
+	 * 
+	 * @return
+	 */
+	default boolean isResume() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(RESUME_PARAMETER_KEY)), false);
+	}
+}
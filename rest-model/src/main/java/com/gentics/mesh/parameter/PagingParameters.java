@@ -9,6 +9,8 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
+	public static final String COUNT_PARAMETER_KEY = "count";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -57,12 +59,60 @@ public interface PagingParameters extends ParameterProvider {
 	}
 
 	/**
-	 * Return the sort by parameter value.
+	 * Return the cursor after which the page should start. The cursor can be taken from the <code>nextCursor</code> property of the paging information of
+	 * a previous page.
 	 * 
-	 * @return Field to be sorted by
-	 * @deprecated not yet implemented
+	 * @return Cursor or null if page based paging should be used
+	 */
+	default String getAfter() {
+		return getParameter(AFTER_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor after which the page should start.
+	 * 
+	 * @param after
+	 *            Cursor
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String after) {
+		setParameter(AFTER_PARAMETER_KEY, after);
+		return this;
+	}
+
+	/**
+	 * Return the type of the total count which should be computed for the page.
+	 * 
+	 * @return Count type. Default: {@link CountType#EXACT}
+	 */
+	default CountType getCount() {
+		String value = getParameter(COUNT_PARAMETER_KEY);
+		if (value != null) {
+			return CountType.valueOf(value.toUpperCase());
+		}
+		return CountType.EXACT;
+	}
+
+	/**
+	 * Set the type of the total count which should be computed for the page.
+	 * 
+	 * @param count
+	 *            Count type
+	 * @return Fluent API
+	 */
+	default PagingParameters setCount(CountType count) {
+		if (count != null) {
+			setParameter(COUNT_PARAMETER_KEY, count.name().toLowerCase());
+		}
+		return this;
+	}
+
+	/**
+	 * Return the sort by parameter value. Graph listings can be sorted by <code>created</code> and <code>edited</code>. Users, tags and schemas can
+	 * additionally be sorted by <code>name</code> and nodes by <code>displayName</code>. The value <code>uuid</code> selects the default order.
+	 * 
+	 * @return Key to be sorted by
 	 */
-	@Deprecated
 	default String getSortBy() {
 		return getParameter(SORT_BY_PARAMETER_KEY);
 	}
@@ -70,10 +120,8 @@ public interface PagingParameters extends ParameterProvider {
 	/**
 	 * Return the sortorder.
 	 * 
-	 * @return
-	 * @deprecated not yet implemented
+	 * @return Sort order or null if no valid order was set
 	 */
-	@Deprecated
 	default SortOrder getOrder() {
 		return SortOrder.valueOfName(getParameter(SORT_ORDER_PARAMETER_KEY));
 
@@ -83,10 +131,9 @@ public interface PagingParameters extends ParameterProvider {
 	 * Set the order by parameter.
 	 * 
 	 * @param orderBy
-	 * @return
-	 * @deprecated not yet implemented
+	 *            Key to be sorted by
+	 * @return Fluent API
 	 */
-	@Deprecated
 	default PagingParameters setOrderBy(String orderBy) {
 		setParameter(SORT_BY_PARAMETER_KEY, orderBy);
 		return this;
@@ -95,15 +142,12 @@ public interface PagingParameters extends ParameterProvider {
 	/**
 	 * Set the used sort order.
 	 * 
-	 * @param sortBy
-	 *            Sort order
+	 * @param sortOrder
+	 *            Sort order (e.g. <code>asc</code> or <code>desc</code>)
 	 * @return Fluent API
-	 * @deprecated not yet implemented
-	 * 
 	 */
-	@Deprecated
-	default PagingParameters setSortOrder(String sortBy) {
-		setParameter(SORT_BY_PARAMETER_KEY, sortBy);
+	default PagingParameters setSortOrder(String sortOrder) {
+		setParameter(SORT_ORDER_PARAMETER_KEY, sortOrder);
 		return this;
 	}
 
@@ -0,0 +1,46 @@
+package com.gentics.mesh.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.impl.NumberFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+
+public class JsonFormatTest {
+
+	@Test
+	public void testAcceptHeader() {
+		assertEquals(JsonFormat.JSON, JsonFormat.fromAcceptHeader(null));
+		assertEquals(JsonFormat.JSON, JsonFormat.fromAcceptHeader("*/*"));
+		assertEquals(JsonFormat.JSON, JsonFormat.fromAcceptHeader("application/json"));
+		assertEquals(JsonFormat.SMILE, JsonFormat.fromAcceptHeader("application/x-jackson-smile, application/json;q=0.9"));
+		assertEquals(JsonFormat.JSON, JsonFormat.fromAcceptHeader("application/x-jackson-smile;q=0.5, application/json"));
+		assertEquals(JsonFormat.CBOR, JsonFormat.fromAcceptHeader("text/html, application/cbor"));
+	}
+
+	@Test
+	public void testContentType() {
+		assertEquals(JsonFormat.JSON, JsonFormat.fromContentType("application/json; charset=utf-8"));
+		assertEquals(JsonFormat.SMILE, JsonFormat.fromContentType("application/x-jackson-smile"));
+		assertNull(JsonFormat.fromContentType("text/plain"));
+	}
+
+	@Test
+	public void testBinaryRoundtrip() {
+		NodeResponse response = new NodeResponse();
+		response.setUuid("a9a8c9d2c42c4a2ea8c9d2c42c9a2e61");
+		response.getFields().put("name", new StringFieldImpl().setString("Some name"));
+		response.getFields().put("count", new NumberFieldImpl().setNumber(42));
+
+		for (JsonFormat format : JsonFormat.values()) {
+			byte[] data = JsonUtil.toBuffer(response, format, true).getBytes();
+			NodeResponse parsed = JsonUtil.readValue(data, NodeResponse.class, format);
+			assertEquals("The " + format + " roundtrip did not preserve the model", response.toJson(), parsed.toJson());
+			assertEquals(response.toJson(true), JsonUtil.toJson(data, format));
+		}
+	}
+
+}
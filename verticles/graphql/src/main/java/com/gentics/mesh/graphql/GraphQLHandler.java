@@ -61,7 +61,7 @@ public class GraphQLHandler {
 	 */
 	public void handleQuery(GraphQLContext gc, String body) {
 		waitUtil.awaitSync(gc).andThen(vertx.rxExecuteBlocking(promise -> {
-			try (Tx tx = db.tx()) {
+			try (Tx tx = db.readTx()) {
 				JsonObject queryJson = new JsonObject(body);
 				String query = queryJson.getString("query");
 				GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
@@ -23,8 +23,10 @@ import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.impl.AbstractDynamicPage;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
@@ -36,6 +38,7 @@ import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.NodeFilter;
+import com.gentics.mesh.parameter.CountType;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -54,6 +57,8 @@ public abstract class AbstractTypeProvider {
 
 	public static final String LINK_TYPE_NAME = "LinkType";
 
+	public static final String COUNT_TYPE_NAME = "CountType";
+
 	private final MeshOptions options;
 
 	public AbstractTypeProvider(MeshOptions options) {
@@ -82,6 +87,12 @@ public abstract class AbstractTypeProvider {
 
 		// #perPage
 		arguments.add(newArgument().name("perPage").description("Max count of elements per page").type(GraphQLLong).build());
+
+		// #after
+		arguments.add(newArgument().name("after").description("Cursor of the element after which the page should start. The page argument will be ignored when a cursor is specified.").type(GraphQLString).build());
+
+		// #count
+		arguments.add(newArgument().name("count").defaultValue(CountType.EXACT).description("Type of the total count which should be computed for the page.").type(new GraphQLTypeReference(COUNT_TYPE_NAME)).build());
 		return arguments;
 	}
 
@@ -238,6 +249,13 @@ public abstract class AbstractTypeProvider {
 		return linkTypeEnum;
 	}
 
+	public GraphQLEnumType createCountEnumType() {
+		return newEnum().name(COUNT_TYPE_NAME).description("Type of the total count of a page")
+			.value(CountType.EXACT.name(), CountType.EXACT, "Compute the exact total count")
+			.value(CountType.ESTIMATE.name(), CountType.ESTIMATE, "Estimate the total count via index statistics")
+			.value(CountType.NONE.name(), CountType.NONE, "Don't compute the total count").build();
+	}
+
 	public GraphQLArgument createLinkTypeArg() {
 
 		return newArgument().name("linkType").type(new GraphQLTypeReference(LINK_TYPE_NAME)).defaultValue(LinkType.OFF).description(
@@ -473,6 +491,14 @@ public abstract class AbstractTypeProvider {
 		if (perPage != null) {
 			parameters.setPerPage(perPage);
 		}
+		String after = env.getArgument("after");
+		if (after != null) {
+			parameters.setAfter(after);
+		}
+		CountType count = env.getArgument("count");
+		if (count != null) {
+			parameters.setCount(count);
+		}
 		parameters.validate();
 		return parameters;
 	}
@@ -490,13 +516,20 @@ public abstract class AbstractTypeProvider {
 
 		List<String> languageTags = getLanguageArgument(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM)
+		// Use the ordered stream so that the page can be resumed via a cursor
+		Stream<? extends Node> nodes = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM, AbstractDynamicPage.decodeCursor(getPagingInfo(env)));
+		boolean ordered = nodes != null;
+		if (!ordered) {
+			nodes = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM);
+		}
+
+		Stream<NodeContent> contents = nodes
 			// Now lets try to load the containers for those found nodes - apply the language fallback
 			.map(node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags))
 			// Filter nodes without a container
 			.filter(content -> content.getContainer() != null);
 
-		return applyNodeFilter(env, contents);
+		return ordered ? applyNodeFilter(env, contents, content -> content.getNode().getUuid()) : applyNodeFilter(env, contents);
 	}
 
 	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream) {
@@ -510,4 +543,29 @@ public abstract class AbstractTypeProvider {
 			return new DynamicStreamPageImpl<>(stream, pagingInfo);
 		}
 	}
+
+	/**
+	 * Apply the node filter to the stream and return a page which supports cursors. The stream must be ordered and already start after the cursor of the
+	 * paging arguments.
+	 *
+	 * @param env
+	 *            the environment of the request
+	 * @param stream
+	 *            ordered stream of node contents
+	 * @param cursorFunction
+	 *            function which returns the cursor key of a node content
+	 * @return the filtered page
+	 */
+	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream,
+		Function<NodeContent, String> cursorFunction) {
+		Map<String, ?> filterArgument = env.getArgument("filter");
+		PagingParameters pagingInfo = getPagingInfo(env);
+		GraphQLContext gc = env.getContext();
+
+		if (filterArgument != null) {
+			return new DynamicStreamPageImpl<>(stream, pagingInfo, NodeFilter.filter(gc).createPredicate(filterArgument), cursorFunction);
+		} else {
+			return new DynamicStreamPageImpl<>(stream, pagingInfo, null, cursorFunction);
+		}
+	}
 }
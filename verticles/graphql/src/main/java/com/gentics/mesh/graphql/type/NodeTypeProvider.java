@@ -39,6 +39,7 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.impl.AbstractDynamicPage;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -298,11 +299,18 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 
 				List<String> languageTags = getLanguageArgument(env, content);
 
-				Stream<NodeContent> nodes = content.getNode().getChildrenStream(gc)
+				// Use the ordered stream so that the page can be resumed via a cursor
+				Stream<Node> children = content.getNode().getChildrenStream(gc, AbstractDynamicPage.decodeCursor(getPagingInfo(env)));
+				boolean ordered = children != null;
+				if (!ordered) {
+					children = content.getNode().getChildrenStream(gc);
+				}
+
+				Stream<NodeContent> nodes = children
 					.map(item -> new NodeContent(item, item.findVersion(gc, languageTags), languageTags))
 					.filter(item -> item.getContainer() != null);
 
-				return applyNodeFilter(env, nodes);
+				return ordered ? applyNodeFilter(env, nodes, item -> item.getNode().getUuid()) : applyNodeFilter(env, nodes);
 			}, NODE_PAGE_TYPE_NAME)
 				.argument(createLanguageTagArg(false))
 				.argument(NodeFilter.filter(context).createFilterArgument()).build(),
@@ -29,6 +29,7 @@ import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_PAGE_TYPE_NAME
 import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_TYPE_NAME;
 import static graphql.Scalars.GraphQLBoolean;
 import static graphql.Scalars.GraphQLLong;
+import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 
@@ -485,10 +486,12 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			return env.getSource();
 		}));
 
-		type.field(newFieldDefinition().name("totalCount").description("Return the total item count which the resource could provide.")
+		type.field(newFieldDefinition().name("totalCount")
+			.description("Return the total item count which the resource could provide. The count is null if it was not computed and an estimate if the count argument was set to ESTIMATE.")
 			.dataFetcher(env -> {
 				Page<?> page = env.getSource();
-				return page.getTotalElements();
+				long totalCount = page.getTotalElements();
+				return totalCount < 0 ? null : totalCount;
 			}).type(GraphQLLong));
 
 		type.field(newFieldDefinition().name("currentPage").description("Return the current page number.").dataFetcher(env -> {
@@ -496,10 +499,12 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			return page.getNumber();
 		}).type(GraphQLLong));
 
-		type.field(newFieldDefinition().name("pageCount").description("Return the total amount of pages which the resource can provide.")
+		type.field(newFieldDefinition().name("pageCount")
+			.description("Return the total amount of pages which the resource can provide. The count is null if the total count was not computed.")
 			.dataFetcher(env -> {
 				Page<?> page = env.getSource();
-				return page.getPageCount();
+				long pageCount = page.getPageCount();
+				return pageCount < 0 ? null : pageCount;
 			}).type(GraphQLLong));
 
 		type.field(newFieldDefinition().name("perPage").description("Return the per page parameter value that was used to load the page.")
@@ -521,6 +526,13 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 				return page.hasNextPage();
 			}));
 
+		type.field(newFieldDefinition().name("nextCursor")
+			.description("Return the cursor which can be passed via the after argument in order to load the next page. The cursor is only set if a next page exists and the resource supports cursors.")
+			.type(GraphQLString).dataFetcher(env -> {
+				Page<?> page = env.getSource();
+				return page.getNextCursor();
+			}));
+
 		type.field(newFieldDefinition().name("hasPreviousPage").description("Check whether the current page has a previous page.")
 			.type(GraphQLBoolean).dataFetcher(env -> {
 				Page<?> page = env.getSource();
@@ -588,6 +600,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		additionalTypes.add(fieldDefProvider.createBinaryFieldType());
 
 		additionalTypes.add(createLinkEnumType());
+		additionalTypes.add(createCountEnumType());
 
 		Versioned.doSince(2, context, () -> {
 			additionalTypes.addAll(nodeTypeProvider.generateSchemaFieldTypes(context).forVersion(context));